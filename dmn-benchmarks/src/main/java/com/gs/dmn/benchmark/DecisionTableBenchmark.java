@@ -0,0 +1,101 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.benchmark;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.log.BuildLogger;
+import com.gs.dmn.log.Slf4jBuildLogger;
+import com.gs.dmn.runtime.interpreter.DMNInterpreter;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironment;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironmentFactory;
+import com.gs.dmn.runtime.listener.NopEventListener;
+import com.gs.dmn.serialization.DMNReader;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Interpreter on a synthetic UNIQUE decision table with a numeric range column and a string column
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecisionTableBenchmark {
+    private static final BuildLogger LOGGER = new Slf4jBuildLogger(LoggerFactory.getLogger(DecisionTableBenchmark.class));
+    private static final int CATEGORIES = 5;
+    private static final int INPUTS = 1024;
+
+    @Param({"10", "100", "1000"})
+    private int rules;
+
+    private DMNInterpreter interpreter;
+    private final NopEventListener eventListener = new NopEventListener();
+    private RuntimeEnvironment[] inputEnvironments;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        DMNModelRepository repository = new DMNReader(LOGGER, false).read(new StringReader(makeModel(rules)));
+        this.interpreter = new StandardDMNDialectDefinition().createDMNInterpreter(repository);
+
+        Random random = new Random(1234);
+        this.inputEnvironments = new RuntimeEnvironment[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            int rule = random.nextInt(rules);
+            RuntimeEnvironment environment = RuntimeEnvironmentFactory.instance().makeEnvironment();
+            environment.bind("Score", BigDecimal.valueOf(rule * 10L + random.nextInt(10)));
+            environment.bind("Category", "c" + (rule % CATEGORIES));
+            this.inputEnvironments[i] = environment;
+        }
+    }
+
+    @Benchmark
+    public Object interpreter() {
+        RuntimeEnvironment inputEnvironment = inputEnvironments[index++ & (INPUTS - 1)];
+        return interpreter.evaluate("Result", RuntimeEnvironmentFactory.instance().makeEnvironment(inputEnvironment), eventListener);
+    }
+
+    // Rule i matches Score in [10 * i..10 * i + 10) and Category "c<i % 5>"
+    static String makeModel(int rules) {
+        StringBuilder builder = new StringBuilder();
+        builder.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        builder.append("<definitions id=\"synthetic\" name=\"synthetic\" namespace=\"http://www.gs.com/synthetic\" xmlns=\"http://www.omg.org/spec/DMN/20151101/dmn.xsd\" xmlns:feel=\"http://www.omg.org/spec/FEEL/20140401\">\n");
+        builder.append("    <inputData id=\"i_Score\" name=\"Score\"><variable name=\"Score\" typeRef=\"feel:number\"/></inputData>\n");
+        builder.append("    <inputData id=\"i_Category\" name=\"Category\"><variable name=\"Category\" typeRef=\"feel:string\"/></inputData>\n");
+        builder.append("    <decision id=\"d_Result\" name=\"Result\">\n");
+        builder.append("        <variable name=\"Result\" typeRef=\"feel:number\"/>\n");
+        builder.append("        <informationRequirement><requiredInput href=\"#i_Score\"/></informationRequirement>\n");
+        builder.append("        <informationRequirement><requiredInput href=\"#i_Category\"/></informationRequirement>\n");
+        builder.append("        <decisionTable hitPolicy=\"UNIQUE\">\n");
+        builder.append("            <input id=\"dt_i1\" label=\"Score\"><inputExpression typeRef=\"feel:number\"><text>Score</text></inputExpression></input>\n");
+        builder.append("            <input id=\"dt_i2\" label=\"Category\"><inputExpression typeRef=\"feel:string\"><text>Category</text></inputExpression></input>\n");
+        builder.append("            <output id=\"dt_o\" label=\"Result\"/>\n");
+        for (int i = 0; i < rules; i++) {
+            builder.append(String.format("            <rule id=\"r%d\">", i));
+            builder.append(String.format("<inputEntry id=\"r%d_i1\"><text>[%d..%d)</text></inputEntry>", i, i * 10, i * 10 + 10));
+            builder.append(String.format("<inputEntry id=\"r%d_i2\"><text>\"c%d\"</text></inputEntry>", i, i % CATEGORIES));
+            builder.append(String.format("<outputEntry id=\"r%d_o1\"><text>%d</text></outputEntry>", i, i));
+            builder.append("</rule>\n");
+        }
+        builder.append("        </decisionTable>\n");
+        builder.append("    </decision>\n");
+        builder.append("</definitions>\n");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.benchmark;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.feel.analysis.FEELAnalyzerImpl;
+import com.gs.dmn.feel.analysis.semantics.environment.DefaultDMNEnvironmentFactory;
+import com.gs.dmn.feel.analysis.semantics.environment.Environment;
+import com.gs.dmn.feel.analysis.syntax.ast.FEELContext;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironmentFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Parse and semantic analysis of FEEL text, the cost paid by the interpreter for every uncached expression
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FEELAnalyzerBenchmark {
+    @Param({
+            "1 + 2 * 3 - 4 / 5",
+            "if 10 > 5 then \"high\" else \"low\"",
+            "for i in [1, 2, 3, 4, 5] return i * i",
+            "sum([1, 2, 3]) + count([\"a\", \"b\"])",
+            "date(\"2018-01-01\") > date(\"2017-01-01\")",
+            "{a: 1, b: a + 1, c: [a, b]}.c"
+    })
+    private String expression;
+
+    @Param({"< 10, [10..20], > 100"})
+    private String unaryTests;
+
+    private FEELAnalyzerImpl feelAnalyzer;
+    private FEELContext context;
+    private FEELContext unaryTestsContext;
+
+    @Setup
+    public void setUp() {
+        this.feelAnalyzer = new FEELAnalyzerImpl(new StandardDMNDialectDefinition().createDMNInterpreter(new DMNModelRepository()).getBasicDMNTransformer());
+        Environment environment = DefaultDMNEnvironmentFactory.instance().makeEnvironment();
+        this.context = FEELContext.makeContext(environment, RuntimeEnvironmentFactory.instance().makeEnvironment());
+        // Unary tests are analyzed against the type of the input expression
+        Expression inputExpression = feelAnalyzer.analyzeSimpleExpressions("0", context);
+        Environment inputEntryEnvironment = DefaultDMNEnvironmentFactory.instance().makeEnvironment(environment, inputExpression);
+        this.unaryTestsContext = FEELContext.makeContext(inputEntryEnvironment, RuntimeEnvironmentFactory.instance().makeEnvironment());
+    }
+
+    @Benchmark
+    public Object parseExpression() {
+        return feelAnalyzer.parseExpression(expression);
+    }
+
+    @Benchmark
+    public Object analyzeExpression() {
+        return feelAnalyzer.analyzeExpression(expression, context);
+    }
+
+    @Benchmark
+    public Object analyzeUnaryTests() {
+        return feelAnalyzer.analyzeUnaryTests(unaryTests, unaryTestsContext);
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.benchmark;
+
+import com.gs.dmn.feel.lib.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Period;
+import java.util.concurrent.TimeUnit;
+
+// Arithmetic and date operations for each FEEL library (dialect)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("unchecked")
+public class FEELLibBenchmark {
+    @Param({"default", "mixed", "pure", "doubleMixed", "uniform"})
+    private String dialect;
+
+    private StandardFEELLib lib;
+    private Object number1;
+    private Object number2;
+    private Object date1;
+    private Object date2;
+    private Object duration;
+
+    @Setup
+    public void setUp() {
+        this.lib = makeLib(dialect);
+        this.number1 = lib.number("1234.5678");
+        this.number2 = lib.number("3.14");
+        this.date1 = lib.date("2018-01-01");
+        this.date2 = lib.date("2019-06-15");
+        // PureJavaTimeFEELLib does not parse durations yet
+        this.duration = "pure".equals(dialect) ? Period.ofDays(10) : lib.duration("P10D");
+    }
+
+    @Benchmark
+    public Object numericAdd() {
+        return lib.numericAdd(number1, number2);
+    }
+
+    @Benchmark
+    public Object numericMultiply() {
+        return lib.numericMultiply(number1, number2);
+    }
+
+    @Benchmark
+    public Object numericDivide() {
+        return lib.numericDivide(number1, number2);
+    }
+
+    @Benchmark
+    public Object numericGreaterThan() {
+        return lib.numericGreaterThan(number1, number2);
+    }
+
+    @Benchmark
+    public Object number() {
+        return lib.number("1234.5678");
+    }
+
+    @Benchmark
+    public Object date() {
+        return lib.date("2018-01-01");
+    }
+
+    @Benchmark
+    public Object dateAddDuration() {
+        return lib.dateAddDuration(date1, duration);
+    }
+
+    @Benchmark
+    public Object dateSubtract() {
+        return lib.dateSubtract(date2, date1);
+    }
+
+    @Benchmark
+    public Object dateGreaterThan() {
+        return lib.dateGreaterThan(date2, date1);
+    }
+
+    private static StandardFEELLib makeLib(String dialect) {
+        switch (dialect) {
+            case "default":
+                return new DefaultFEELLib();
+            case "mixed":
+                return new MixedJavaTimeFEELLib();
+            case "pure":
+                return new PureJavaTimeFEELLib();
+            case "doubleMixed":
+                return new DoubleMixedJavaTimeFEELLib();
+            case "uniform":
+                return new UniformJavaTimeFEELLib();
+            default:
+                throw new IllegalArgumentException(String.format("Unknown dialect '%s'", dialect));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.benchmark;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.feel.lib.StandardFEELLib;
+import com.gs.dmn.log.BuildLogger;
+import com.gs.dmn.log.Slf4jBuildLogger;
+import com.gs.dmn.runtime.Pair;
+import com.gs.dmn.runtime.annotation.AnnotationSet;
+import com.gs.dmn.runtime.cache.DefaultCache;
+import com.gs.dmn.runtime.external.DefaultExternalFunctionExecutor;
+import com.gs.dmn.runtime.interpreter.DMNInterpreter;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironment;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironmentFactory;
+import com.gs.dmn.runtime.listener.NopEventListener;
+import com.gs.dmn.serialization.DMNReader;
+import com.gs.dmn.tck.TCKUtil;
+import com.gs.dmn.tck.TestCasesReader;
+import com.gs.dmn.tck.cl3_0020_vacation_days.TotalVacationDays;
+import com.gs.dmn.transformation.DMNTransformer;
+import com.gs.dmn.transformation.ToSimpleNameTransformer;
+import org.omg.dmn.tck.marshaller._20160719.TestCases;
+import org.omg.dmn.tck.marshaller._20160719.TestCases.TestCase;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Interpreter vs generated code on the TCK model 0020-vacation-days, one operation evaluates all the test cases
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TCKModelBenchmark {
+    private static final BuildLogger LOGGER = new Slf4jBuildLogger(LoggerFactory.getLogger(TCKModelBenchmark.class));
+    private static final String MODEL = "tck/cl3/0020-vacation-days";
+
+    private DMNInterpreter interpreter;
+    private String decisionName;
+    // Bindings of the inputs, each evaluation binds the decisions in a child environment
+    private final List<RuntimeEnvironment> inputEnvironments = new ArrayList<>();
+    private final List<BigDecimal[]> inputValues = new ArrayList<>();
+
+    private final TotalVacationDays totalVacationDays = new TotalVacationDays();
+    private final NopEventListener eventListener = new NopEventListener();
+    private final DefaultExternalFunctionExecutor externalExecutor = new DefaultExternalFunctionExecutor();
+
+    @Setup
+    public void setUp() {
+        DMNReader reader = new DMNReader(LOGGER, false);
+        DMNTransformer<TestCases> dmnTransformer = new ToSimpleNameTransformer(LOGGER);
+        DMNModelRepository repository = dmnTransformer.transform(reader.read(getClass().getClassLoader().getResource(MODEL + ".dmn")));
+        TestCases testCases = new TestCasesReader(LOGGER).read(getClass().getClassLoader().getResource(MODEL + "-test-01.xml"));
+        Pair<DMNModelRepository, TestCases> pair = dmnTransformer.transform(repository, testCases);
+
+        this.interpreter = new StandardDMNDialectDefinition().createDMNInterpreter(pair.getLeft());
+        this.decisionName = pair.getRight().getTestCase().get(0).getResultNode().get(0).getName();
+        TCKUtil tckUtil = new TCKUtil(interpreter.getBasicDMNTransformer(), (StandardFEELLib) interpreter.getFeelLib());
+        for (TestCase testCase : pair.getRight().getTestCase()) {
+            RuntimeEnvironment environment = tckUtil.makeEnvironment(testCase);
+            inputEnvironments.add(environment);
+            inputValues.add(new BigDecimal[] {
+                    (BigDecimal) environment.lookupBinding(testCase.getInputNode().get(0).getName()),
+                    (BigDecimal) environment.lookupBinding(testCase.getInputNode().get(1).getName())
+            });
+        }
+    }
+
+    @Benchmark
+    public void interpreter(Blackhole blackhole) {
+        for (RuntimeEnvironment inputEnvironment : inputEnvironments) {
+            RuntimeEnvironment runtimeEnvironment = RuntimeEnvironmentFactory.instance().makeEnvironment(inputEnvironment);
+            blackhole.consume(interpreter.evaluate(decisionName, runtimeEnvironment, eventListener));
+        }
+    }
+
+    @Benchmark
+    public void generatedCode(Blackhole blackhole) {
+        for (BigDecimal[] values : inputValues) {
+            blackhole.consume(totalVacationDays.apply(values[0], values[1], new AnnotationSet(), eventListener, externalExecutor, new DefaultCache()));
+        }
+    }
+}
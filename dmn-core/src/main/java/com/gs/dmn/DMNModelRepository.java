@@ -36,6 +36,8 @@ public class DMNModelRepository {
 
     private final PrefixNamespaceMappings prefixNamespaceMappings;
 
+    private volatile ElementIndex elementIndex;
+
     public DMNModelRepository() {
         this(OBJECT_FACTORY.createTDefinitions(), new PrefixNamespaceMappings() );
     }
@@ -44,6 +46,7 @@ public class DMNModelRepository {
         this.definitions = definitions;
         this.prefixNamespaceMappings = prefixNamespaceMappings;
         normalize(definitions);
+        this.elementIndex = new ElementIndex(definitions);
     }
 
     private void normalize(TDefinitions definitions) {
@@ -111,54 +114,33 @@ public class DMNModelRepository {
     }
 
     public List<TDRGElement> drgElements() {
-        List<TDRGElement> result = new ArrayList<>();
-        for (JAXBElement<? extends TDRGElement> jaxbElement : definitions.getDrgElement()) {
-            TDRGElement element = jaxbElement.getValue();
-            result.add(element);
-        }
-        return result;
+        return elementIndex().drgElements;
     }
 
     public List<TDecision> decisions() {
-        List<TDecision> result = new ArrayList<>();
-        if (definitions == null) {
-            return result;
-        }
-        for (JAXBElement<? extends TDRGElement> jaxbElement : definitions.getDrgElement()) {
-            TDRGElement element = jaxbElement.getValue();
-            if (element instanceof TDecision) {
-                result.add((TDecision) element);
-            }
-        }
-        return result;
+        return elementIndex().decisions;
     }
 
     public List<TInputData> inputDatas() {
-        List<TInputData> result = new ArrayList<>();
-        if (definitions == null) {
-            return result;
-        }
-        for (JAXBElement<? extends TDRGElement> jaxbElement : definitions.getDrgElement()) {
-            TDRGElement element = jaxbElement.getValue();
-            if (element instanceof TInputData) {
-                result.add((TInputData) element);
-            }
-        }
-        return result;
+        return elementIndex().inputDatas;
     }
 
     public List<TBusinessKnowledgeModel> businessKnowledgeModels() {
-        List<TBusinessKnowledgeModel> result = new ArrayList<>();
-        if (definitions == null) {
-            return result;
-        }
-        for (JAXBElement<? extends TDRGElement> jaxbElement : definitions.getDrgElement()) {
-            TDRGElement element = jaxbElement.getValue();
-            if (element instanceof TBusinessKnowledgeModel) {
-                result.add((TBusinessKnowledgeModel) element);
-            }
+        return elementIndex().businessKnowledgeModels;
+    }
+
+    // Must be called when DRG elements are added, removed or renamed after the repository was created
+    public void clearCaches() {
+        this.elementIndex = null;
+    }
+
+    private ElementIndex elementIndex() {
+        ElementIndex index = this.elementIndex;
+        if (index == null) {
+            index = new ElementIndex(definitions);
+            this.elementIndex = index;
         }
-        return result;
+        return index;
     }
 
     public List<TItemDefinition> itemDefinitions() {
@@ -218,55 +200,54 @@ public class DMNModelRepository {
     }
 
     public TDecision findDecisionById(String href) {
-        for (TDecision decision : decisions()) {
-            if (sameId(decision, href)) {
-                return decision;
-            }
+        TDRGElement element = elementIndex().elementsById.get(removeHash(href));
+        if (element instanceof TDecision) {
+            return (TDecision) element;
         }
         throw new DMNRuntimeException(String.format("Cannot find decision for href='%s'", href));
     }
 
     public TInputData findInputDataById(String href) {
-        for (TInputData inputData : inputDatas()) {
-            if (sameId(inputData, href)) {
-                return inputData;
-            }
+        TDRGElement element = elementIndex().elementsById.get(removeHash(href));
+        if (element instanceof TInputData) {
+            return (TInputData) element;
         }
         throw new DMNRuntimeException(String.format("Cannot find input data for href='%s'", href));
     }
 
     public TBusinessKnowledgeModel findKnowledgeModelById(String href) {
-        for (TBusinessKnowledgeModel knowledgeModel : businessKnowledgeModels()) {
-            if (sameId(knowledgeModel, href)) {
-                return knowledgeModel;
-            }
+        TDRGElement element = elementIndex().elementsById.get(removeHash(href));
+        if (element instanceof TBusinessKnowledgeModel) {
+            return (TBusinessKnowledgeModel) element;
         }
         throw new DMNRuntimeException(String.format("Cannot find business knowledge model for href='%s'", href));
     }
 
     public TBusinessKnowledgeModel findKnowledgeModelByName(String name) {
-        for (TBusinessKnowledgeModel knowledgeModel : businessKnowledgeModels()) {
-            if (sameName(knowledgeModel, name)) {
-                return knowledgeModel;
-            }
+        TBusinessKnowledgeModel knowledgeModel = elementIndex().knowledgeModelsByName.get(name);
+        if (knowledgeModel != null) {
+            return knowledgeModel;
         }
         throw new DMNRuntimeException(String.format("Cannot find business knowledge model for href='%s'", name));
     }
 
     public TDRGElement findDRGElementByName(String href) {
-        for (TDRGElement element : drgElements()) {
-            if (sameName(element, href)) {
-                return element;
-            }
+        TDRGElement element = elementIndex().elementsByName.get(href);
+        if (element != null) {
+            return element;
         }
         throw new DMNRuntimeException(String.format("Cannot find element for href='%s'", href));
     }
 
     public boolean sameId(TDMNElement element, String href) {
-        if (href.startsWith("#")) {
+        return element.getId().equals(removeHash(href));
+    }
+
+    private String removeHash(String href) {
+        if (href != null && href.startsWith("#")) {
             href = href.substring(1);
         }
-        return element.getId().equals(href);
+        return href;
     }
 
     private boolean sameName(TNamedElement element, String href) {
@@ -300,14 +281,23 @@ public class DMNModelRepository {
         }
     }
 
+    public List<TDecision> topologicalSort() {
+        Set<TDecision> decisions = new LinkedHashSet<>();
+        for (TDecision decision : decisions()) {
+            topologicalSort(decision, decisions);
+        }
+        return new ArrayList<>(decisions);
+    }
+
     public List<TDecision> topologicalSort(TDRGElement decision) {
-        List<TDecision> decisions = new ArrayList<>();
+        Set<TDecision> decisions = new LinkedHashSet<>();
         topologicalSort((TDecision)decision, decisions);
         decisions.remove(decision);
-        return decisions;
+        return new ArrayList<>(decisions);
     }
 
-    private void topologicalSort(TDecision parent, List<TDecision> decisions) {
+    // The set keeps the insertion order and the lookups are in constant time
+    private void topologicalSort(TDecision parent, Set<TDecision> decisions) {
         if (!decisions.contains(parent)) {
             for(TInformationRequirement ir: parent.getInformationRequirement()) {
                 TDMNElementReference requiredDecision = ir.getRequiredDecision();
@@ -322,6 +312,24 @@ public class DMNModelRepository {
         }
     }
 
+    // Sub-decisions grouped by depth, the decisions in a group depend only on decisions in the previous groups
+    public List<List<TDecision>> topologicalSortLevels(TDRGElement decision) {
+        Map<TDecision, Integer> levels = new LinkedHashMap<>();
+        List<List<TDecision>> result = new ArrayList<>();
+        for (TDecision subDecision : topologicalSort(decision)) {
+            int level = 0;
+            for (TDecision child : directSubDecisions(subDecision)) {
+                level = Math.max(level, levels.get(child) + 1);
+            }
+            levels.put(subDecision, level);
+            while (result.size() <= level) {
+                result.add(new ArrayList<>());
+            }
+            result.get(level).add(subDecision);
+        }
+        return result;
+    }
+
     public List<Object> topologicalSortWithMarkers(TDRGElement decision) {
         List<Object> objects = new ArrayList<>();
         topologicalSortWithMarkers((TDecision)decision, objects);
@@ -700,4 +708,54 @@ public class DMNModelRepository {
         }
         return name;
     }
+
+    // Immutable snapshot of the DRG elements, in definition order. First element wins for duplicated ids / names.
+    private static class ElementIndex {
+        private final List<TDRGElement> drgElements;
+        private final List<TDecision> decisions;
+        private final List<TInputData> inputDatas;
+        private final List<TBusinessKnowledgeModel> businessKnowledgeModels;
+        private final Map<String, TDRGElement> elementsById;
+        private final Map<String, TDRGElement> elementsByName;
+        private final Map<String, TBusinessKnowledgeModel> knowledgeModelsByName;
+
+        private ElementIndex(TDefinitions definitions) {
+            List<TDRGElement> drgElements = new ArrayList<>();
+            List<TDecision> decisions = new ArrayList<>();
+            List<TInputData> inputDatas = new ArrayList<>();
+            List<TBusinessKnowledgeModel> businessKnowledgeModels = new ArrayList<>();
+            Map<String, TDRGElement> elementsById = new HashMap<>();
+            Map<String, TDRGElement> elementsByName = new HashMap<>();
+            Map<String, TBusinessKnowledgeModel> knowledgeModelsByName = new HashMap<>();
+            if (definitions != null) {
+                for (JAXBElement<? extends TDRGElement> jaxbElement : definitions.getDrgElement()) {
+                    TDRGElement element = jaxbElement.getValue();
+                    drgElements.add(element);
+                    if (element.getId() != null) {
+                        elementsById.putIfAbsent(element.getId(), element);
+                    }
+                    if (element.getName() != null) {
+                        elementsByName.putIfAbsent(element.getName(), element);
+                    }
+                    if (element instanceof TDecision) {
+                        decisions.add((TDecision) element);
+                    } else if (element instanceof TInputData) {
+                        inputDatas.add((TInputData) element);
+                    } else if (element instanceof TBusinessKnowledgeModel) {
+                        businessKnowledgeModels.add((TBusinessKnowledgeModel) element);
+                        if (element.getName() != null) {
+                            knowledgeModelsByName.putIfAbsent(element.getName(), (TBusinessKnowledgeModel) element);
+                        }
+                    }
+                }
+            }
+            this.drgElements = Collections.unmodifiableList(drgElements);
+            this.decisions = Collections.unmodifiableList(decisions);
+            this.inputDatas = Collections.unmodifiableList(inputDatas);
+            this.businessKnowledgeModels = Collections.unmodifiableList(businessKnowledgeModels);
+            this.elementsById = elementsById;
+            this.elementsByName = elementsByName;
+            this.knowledgeModelsByName = knowledgeModelsByName;
+        }
+    }
 }
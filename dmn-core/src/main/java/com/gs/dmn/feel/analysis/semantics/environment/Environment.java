@@ -110,11 +110,10 @@ public class Environment {
         }
     }
 
+    // Environments are memoized and shared between threads, the local declarations are copied
     public List<Declaration> lookupFunctionDeclaration(String name) {
-        List<Declaration> declarations = lookupLocalFunctionDeclaration(name);
-        if (declarations == null) {
-            declarations = new ArrayList<>();
-        }
+        List<Declaration> localDeclarations = lookupLocalFunctionDeclaration(name);
+        List<Declaration> declarations = localDeclarations == null ? new ArrayList<>() : new ArrayList<>(localDeclarations);
         Environment parent = getParent();
         while (parent != null) {
             List<Declaration> parentDeclarations = parent.lookupLocalFunctionDeclaration(name);
@@ -16,6 +16,8 @@ import java.util.List;
 import java.util.Set;
 
 public interface CompositeDataType {
+    Object[] NO_ALIASES = new Object[]{};
+
     CompositeDataType addMember(String name, List<String> aliases, Type type);
 
     Set<String> getMembers();
@@ -23,4 +25,6 @@ public interface CompositeDataType {
     Type getMemberType(String name);
 
     List<String> getAliases(String name);
+
+    Object[] getAliasArray(String name);
 }
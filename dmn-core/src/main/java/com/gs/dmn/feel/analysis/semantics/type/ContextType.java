@@ -51,6 +51,11 @@ public class ContextType extends Type implements CompositeDataType {
         return Arrays.asList();
     }
 
+    @Override
+    public Object[] getAliasArray(String name) {
+        return NO_ALIASES;
+    }
+
     @Override
     public boolean equivalentTo(Type other) {
         if (other instanceof ContextType) {
@@ -20,6 +20,8 @@ import static com.gs.dmn.feel.analysis.semantics.type.AnyType.ANY;
 public class ItemDefinitionType extends NamedType implements CompositeDataType {
     private final Map<String, Type> members = new LinkedHashMap<>();
     private final Map<String, List<String>> aliases = new LinkedHashMap<>();
+    // Aliases as arrays, precomputed for the varargs lookups in contexts
+    private final Map<String, Object[]> aliasArrays = new LinkedHashMap<>();
 
     public ItemDefinitionType(String name) {
         super(name);
@@ -29,6 +31,7 @@ public class ItemDefinitionType extends NamedType implements CompositeDataType {
     public ItemDefinitionType addMember(String name, List<String> aliases, Type type) {
         this.members.put(name, type);
         this.aliases.put(name, aliases);
+        this.aliasArrays.put(name, aliases == null ? NO_ALIASES : aliases.toArray());
         return this;
     }
 
@@ -48,6 +51,12 @@ public class ItemDefinitionType extends NamedType implements CompositeDataType {
         return aliases == null ? new ArrayList<>() : aliases;
     }
 
+    @Override
+    public Object[] getAliasArray(String name) {
+        Object[] aliases = this.aliasArrays.get(name);
+        return aliases == null ? NO_ALIASES : aliases;
+    }
+
     @Override
     public boolean equivalentTo(Type other) {
         if (other instanceof ContextType) {
@@ -44,6 +44,13 @@ public class FEELContext {
         return runtimeEnvironment.lookupBinding(variableName);
     }
 
+    public Object lookupRuntimeBinding(String variableName, int depth, int slot) {
+        if (runtimeEnvironment == null) {
+            throw new DMNRuntimeException("Missing runtime environment");
+        }
+        return runtimeEnvironment.lookupBinding(variableName, depth, slot);
+    }
+
     public void runtimeBind(String variableName, Object value) {
         if (runtimeEnvironment == null) {
             throw new DMNRuntimeException("Missing runtime environment");
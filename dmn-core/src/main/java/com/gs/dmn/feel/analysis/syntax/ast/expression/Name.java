@@ -17,6 +17,9 @@ import com.gs.dmn.feel.analysis.syntax.ast.Visitor;
 
 public class Name extends NamedExpression {
     private String name;
+    // Coordinates of the runtime binding set by LexicalAddressVisitor, -1 when looked up by name
+    private int depth = -1;
+    private int slot = -1;
 
     public Name(String name) {
         this.name = name;
@@ -31,6 +34,19 @@ public class Name extends NamedExpression {
         this.name = name;
     }
 
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    public void setAddress(int depth, int slot) {
+        this.depth = depth;
+        this.slot = slot;
+    }
+
     @Override
     public Object accept(Visitor visitor, FEELContext params) {
         return visitor.visit(this, params);
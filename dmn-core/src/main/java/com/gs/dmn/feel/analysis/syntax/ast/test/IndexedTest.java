@@ -0,0 +1,110 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel.analysis.syntax.ast.test;
+
+import com.gs.dmn.feel.analysis.semantics.type.Type;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.literal.BooleanLiteral;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.literal.DateTimeLiteral;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.literal.NumericLiteral;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.literal.StringLiteral;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.gs.dmn.feel.analysis.semantics.type.DateTimeType.DATE_AND_TIME;
+import static com.gs.dmn.feel.analysis.semantics.type.DateType.DATE;
+
+// An equality test, a comparison or a range of an input entry, on literals with the type of the input expression.
+// Decision tables index their rules by these tests, null bounds are unbounded.
+public class IndexedTest {
+    // Returns null when the entry is not made only of such tests
+    public static List<IndexedTest> indexedTests(UnaryTests unaryTests, Type inputExpressionType) {
+        List<? extends Expression> tests;
+        if (unaryTests instanceof SimplePositiveUnaryTests) {
+            tests = ((SimplePositiveUnaryTests) unaryTests).getSimplePositiveUnaryTests();
+        } else if (unaryTests instanceof PositiveUnaryTests) {
+            tests = ((PositiveUnaryTests) unaryTests).getPositiveUnaryTests();
+        } else {
+            // Any, negated tests and others match an unknown set of values
+            return null;
+        }
+        if (tests.isEmpty()) {
+            return null;
+        }
+
+        List<IndexedTest> result = new ArrayList<>();
+        for (Expression test : tests) {
+            if (test instanceof OperatorTest) {
+                String operator = ((OperatorTest) test).getOperator();
+                Expression endpoint = ((OperatorTest) test).getEndpoint();
+                if (!isLiteral(endpoint, inputExpressionType)) {
+                    return null;
+                }
+                if (operator == null || "=".equals(operator)) {
+                    result.add(new IndexedTest(endpoint, endpoint, true));
+                } else if (isOrdered(endpoint) && ("<".equals(operator) || "<=".equals(operator))) {
+                    result.add(new IndexedTest(null, endpoint, false));
+                } else if (isOrdered(endpoint) && (">".equals(operator) || ">=".equals(operator))) {
+                    result.add(new IndexedTest(endpoint, null, false));
+                } else {
+                    return null;
+                }
+            } else if (test instanceof RangeTest) {
+                // Bounds are kept inclusive, the rule is evaluated anyway
+                Expression start = ((RangeTest) test).getStart();
+                Expression end = ((RangeTest) test).getEnd();
+                if (!isLiteral(start, inputExpressionType) || !isLiteral(end, inputExpressionType) || !isOrdered(start)) {
+                    return null;
+                }
+                result.add(new IndexedTest(start, end, false));
+            } else {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    // Otherwise the test is not evaluated as a comparison of the input with the literal
+    private static boolean isLiteral(Expression endpoint, Type inputExpressionType) {
+        boolean literal = endpoint instanceof StringLiteral || endpoint instanceof NumericLiteral || endpoint instanceof BooleanLiteral
+                || endpoint instanceof DateTimeLiteral && (endpoint.getType() == DATE || endpoint.getType() == DATE_AND_TIME);
+        return literal && inputExpressionType != null && inputExpressionType.equivalentTo(endpoint.getType());
+    }
+
+    private static boolean isOrdered(Expression endpoint) {
+        return endpoint instanceof NumericLiteral || endpoint instanceof DateTimeLiteral;
+    }
+
+    private final Expression low;
+    private final Expression high;
+    private final boolean equality;
+
+    private IndexedTest(Expression low, Expression high, boolean equality) {
+        this.low = low;
+        this.high = high;
+        this.equality = equality;
+    }
+
+    public Expression getLow() {
+        return low;
+    }
+
+    public Expression getHigh() {
+        return high;
+    }
+
+    public boolean isEquality() {
+        return equality;
+    }
+}
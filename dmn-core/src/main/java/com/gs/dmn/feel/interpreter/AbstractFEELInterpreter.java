@@ -39,12 +39,12 @@ abstract class AbstractFEELInterpreter implements FEELInterpreter {
 
     @Override
     public UnaryTests analyzeUnaryTests(String text, FEELContext context) {
-        return feelAnalyzer.analyzeUnaryTests(text, context);
+        return LexicalAddressVisitor.resolve(feelAnalyzer.analyzeUnaryTests(text, context));
     }
 
     @Override
     public UnaryTests analyzeSimpleUnaryTests(String text, FEELContext context) {
-        return feelAnalyzer.analyzeSimpleUnaryTests(text, context);
+        return LexicalAddressVisitor.resolve(feelAnalyzer.analyzeSimpleUnaryTests(text, context));
     }
 
     @Override
@@ -69,22 +69,22 @@ abstract class AbstractFEELInterpreter implements FEELInterpreter {
 
     @Override
     public Expression analyzeExpression(String text, FEELContext context) {
-        return feelAnalyzer.analyzeExpression(text, context);
+        return LexicalAddressVisitor.resolve(feelAnalyzer.analyzeExpression(text, context));
     }
 
     @Override
     public Expression analyzeSimpleExpressions(String text, FEELContext context) {
-        return feelAnalyzer.analyzeSimpleExpressions(text, context);
+        return LexicalAddressVisitor.resolve(feelAnalyzer.analyzeSimpleExpressions(text, context));
     }
 
     @Override
     public Expression analyzeTextualExpressions(String text, FEELContext context) {
-        return feelAnalyzer.analyzeTextualExpressions(text, context);
+        return LexicalAddressVisitor.resolve(feelAnalyzer.analyzeTextualExpressions(text, context));
     }
 
     @Override
     public Expression analyzeBoxedExpression(String text, FEELContext context) {
-        return feelAnalyzer.analyzeBoxedExpression(text, context);
+        return LexicalAddressVisitor.resolve(feelAnalyzer.analyzeBoxedExpression(text, context));
     }
 
     @Override
@@ -47,6 +47,7 @@ import com.gs.dmn.runtime.Pair;
 import com.gs.dmn.runtime.compiler.ClassData;
 import com.gs.dmn.runtime.compiler.JavaCompiler;
 import com.gs.dmn.runtime.compiler.JavaxToolsCompiler;
+import com.gs.dmn.runtime.external.MethodDispatchCache;
 import com.gs.dmn.runtime.interpreter.Arguments;
 import com.gs.dmn.runtime.interpreter.DMNInterpreter;
 import com.gs.dmn.runtime.interpreter.NamedArguments;
@@ -58,25 +59,27 @@ import org.omg.spec.dmn._20180521.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 class FEELInterpreterVisitor extends AbstractFEELToJavaVisitor {
     private static final RuntimeEnvironmentFactory runtimeEnvironmentFactory = RuntimeEnvironmentFactory.instance();
     private static final Logger LOGGER = LoggerFactory.getLogger(FEELInterpreterVisitor.class);
+    private static final Set<String> FILTER_AGGREGATIONS = new HashSet<>(Arrays.asList("count", "sum", "min", "max"));
 
     private final DMNInterpreter dmnInterpreter;
     private final FEELLib lib;
     private final FEELTypeTranslator typeTranslator;
     private final FEELTranslator feelTranslator;
+    private final MemberAccessorCache memberAccessors;
+    private final MethodDispatchCache methodDispatchCache;
 
 //    private final static JavaCompiler JAVA_COMPILER = new JavaAssistCompiler();
-    private final static JavaCompiler JAVA_COMPILER = new JavaxToolsCompiler(new File("."));
+    private final static JavaCompiler JAVA_COMPILER = new JavaxToolsCompiler();
 
     FEELInterpreterVisitor(DMNInterpreter dmnInterpreter) {
         super(dmnInterpreter.getBasicDMNTransformer());
@@ -84,6 +87,8 @@ class FEELInterpreterVisitor extends AbstractFEELToJavaVisitor {
         this.feelTranslator = new FEELTranslatorForInterpreter(dmnInterpreter.getBasicDMNTransformer());
         this.lib = dmnInterpreter.getFeelLib();
         this.typeTranslator = dmnInterpreter.getBasicDMNTransformer().getFEELTypeTranslator();
+        this.memberAccessors = new MemberAccessorCache(dmnInterpreter.getBasicDMNTransformer()::getterName);
+        this.methodDispatchCache = dmnInterpreter.getMethodDispatchCache();
     }
 
     @Override
@@ -173,7 +178,7 @@ class FEELInterpreterVisitor extends AbstractFEELToJavaVisitor {
         return evaluateOperatorTest(element, operator, self, context.getEnvironment().getInputExpressionType(), endpointExpression.getType(), endpointValue);
     }
 
-    private Object evaluateOperatorTest(Expression element, String operator, Object self, Type inputExpressionType, Type endpointType, Object endpointValue) throws IllegalAccessException, InvocationTargetException {
+    private Object evaluateOperatorTest(Expression element, String operator, Object self, Type inputExpressionType, Type endpointType, Object endpointValue) throws Exception {
         JavaOperator javaOperator = javaOperator(operator, inputExpressionType, endpointType);
         if (javaOperator == null) {
             handleError(String.format("Cannot find method for '%s' '%s'", operator, element));
@@ -182,14 +187,14 @@ class FEELInterpreterVisitor extends AbstractFEELToJavaVisitor {
             String methodName = javaOperator.getName();
             if (javaOperator.getAssociativity() == JavaOperator.Associativity.LEFT_RIGHT) {
                 Class[] argumentTypes = {getClass(self), getClass(endpointValue)};
-                Method method = MethodUtils.resolveMethod(methodName, lib.getClass(), argumentTypes);
+                MethodDispatchCache.Invoker method = resolveMethod(methodName, lib.getClass(), argumentTypes);
                 if (method == null) {
                     throw new DMNRuntimeException(String.format("Cannot find method '%s' for arguments '%s' and '%s'", methodName, self, endpointValue));
                 }
                 return method.invoke(lib, self, endpointValue);
             } else {
                 Class[] argumentTypes = {getClass(endpointValue), getClass(null)};
-                Method method = MethodUtils.resolveMethod(methodName, lib.getClass(), argumentTypes);
+                MethodDispatchCache.Invoker method = resolveMethod(methodName, lib.getClass(), argumentTypes);
                 if (method == null) {
                     throw new DMNRuntimeException(String.format("Cannot find method '%s' for arguments '%s' and '%s'", methodName, self, endpointValue));
                 }
@@ -209,10 +214,10 @@ class FEELInterpreterVisitor extends AbstractFEELToJavaVisitor {
                 Object rightValue = rightOperand.accept(this, context);
                 if (javaOperator.getNotation() == JavaOperator.Notation.FUNCTIONAL) {
                     if (javaOperator.getAssociativity() == JavaOperator.Associativity.LEFT_RIGHT) {
-                        Method method = MethodUtils.resolveMethod(javaOperator.getName(), lib.getClass(), new Class[]{getClass(leftValue), getClass(rightValue)});
+                        MethodDispatchCache.Invoker method = resolveMethod(javaOperator.getName(), lib.getClass(), new Class[]{getClass(leftValue), getClass(rightValue)});
                         return method.invoke(lib, leftValue, rightValue);
                     } else {
-                        Method method = MethodUtils.resolveMethod(javaOperator.getName(), lib.getClass(), new Class[]{getClass(rightValue), getClass(leftValue)});
+                        MethodDispatchCache.Invoker method = resolveMethod(javaOperator.getName(), lib.getClass(), new Class[]{getClass(rightValue), getClass(leftValue)});
                         return method.invoke(lib, rightValue, leftValue);
                     }
                 } else {
@@ -303,18 +308,37 @@ class FEELInterpreterVisitor extends AbstractFEELToJavaVisitor {
     }
 
     private Object makeLambdaExpression(FunctionDefinition element, FEELContext context) {
-        try {
-            // Compile
-            ClassData classData = JAVA_COMPILER.makeClassData(element, context, dmnTransformer, feelTranslator, lib.getClass().getName());
-            Class<?> cls = JAVA_COMPILER.compile(classData);
+        if (dmnTransformer.isCompiledLambdas()) {
+            return makeCompiledLambdaExpression(element, context);
+        } else {
+            return makeInterpretedLambdaExpression(element, context);
+        }
+    }
 
-            // Create instance
+    // Closes over the context of the definition
+    private LambdaExpression<Object> makeInterpretedLambdaExpression(FunctionDefinition element, FEELContext context) {
+        return args -> evaluateFunctionDefinition(element, Arrays.asList(args), context);
+    }
+
+    // The compiled classes are cached per function definition
+    private Object makeCompiledLambdaExpression(FunctionDefinition element, FEELContext context) {
+        try {
+            Class<?> cls = dmnInterpreter.getAnalysisCache().lambdaClass(element, () -> compileLambdaExpression(element, context));
             return cls.newInstance();
         } catch (Exception e) {
             throw new DMNRuntimeException("Execution error", e);
         }
     }
 
+    private Class<?> compileLambdaExpression(FunctionDefinition element, FEELContext context) {
+        try {
+            ClassData classData = JAVA_COMPILER.makeClassData(element, context, dmnTransformer, feelTranslator, lib.getClass().getName());
+            return JAVA_COMPILER.compile(classData);
+        } catch (Exception e) {
+            throw new DMNRuntimeException(String.format("Cannot compile '%s'", element), e);
+        }
+    }
+
     @Override
     public Object visit(FormalParameter element, FEELContext context) {
         throw new UnsupportedOperationException("FEEL '" + element.getClass().getSimpleName() + "' is not supported yet");
@@ -346,45 +370,90 @@ class FEELInterpreterVisitor extends AbstractFEELToJavaVisitor {
 
     @Override
     public Object visit(ForExpression element, FEELContext context) {
-        // Transform into equivalent nested for expressions
-        int iteratorNo = element.getIterators().size();
-        if (iteratorNo > 1) {
-            element = element.toNestedForExpression();
+        // Loop over the nested domains and evaluate body, the results are collected in one flat list
+        FEELContext forContext = FEELContext.makeContext(context.getEnvironment(), runtimeEnvironmentFactory.makeEnvironment(context.getRuntimeEnvironment()));
+        List result = new ArrayList<>();
+        forContext.getRuntimeEnvironment().bind(ForExpression.PARTIAL_PARAMTER_NAME, result);
+        iterate(element.getIterators(), 0, forContext, iterationContext -> {
+            result.add(element.getBody().accept(this, iterationContext));
+            return true;
+        });
+        return result;
+    }
+
+    // Binds the iterator variables in nesting order and stops as soon as the action returns false
+    private boolean iterate(List<Iterator> iterators, int index, FEELContext context, Predicate<FEELContext> action) {
+        if (index == iterators.size()) {
+            return action.test(context);
         }
 
         // Evaluate domain
-        Iterator iterator = element.getIterators().get(0);
+        Iterator iterator = iterators.get(index);
         IteratorDomain expressionDomain = iterator.getDomain();
         Object domain = expressionDomain.accept(this, context);
 
-        // Loop over domain and evaluate body
-        FEELContext forContext = FEELContext.makeContext(context.getEnvironment(), runtimeEnvironmentFactory.makeEnvironment(context.getRuntimeEnvironment()));
-        List result = new ArrayList<>();
-        forContext.getRuntimeEnvironment().bind(ForExpression.PARTIAL_PARAMTER_NAME, result);
+        // Loop over domain
         if (expressionDomain instanceof ExpressionIteratorDomain) {
             for (Object value : (List) domain) {
-                forContext.runtimeBind(iterator.getName(), value);
-                result.add(element.getBody().accept(this, forContext));
+                context.runtimeBind(iterator.getName(), value);
+                if (!iterate(iterators, index + 1, context, action)) {
+                    return false;
+                }
             }
         } else {
             int start = toNumber(((Pair) domain).getLeft());
             int end = toNumber(((Pair) domain).getRight());
-            if (start <= end) {
-                for(int value = start; value <= end; value++) {
-                    forContext.runtimeBind(iterator.getName(), BigDecimal.valueOf(value));
-                    result.add(element.getBody().accept(this, forContext));
-                }
-            } else {
-                for(int value = start; value >= end; value--) {
-                    forContext.runtimeBind(iterator.getName(), BigDecimal.valueOf(value));
-                    result.add(element.getBody().accept(this, forContext));
+            int step = start <= end ? 1 : -1;
+            for (int value = start; value != end + step; value += step) {
+                context.runtimeBind(iterator.getName(), BigDecimal.valueOf(value));
+                if (!iterate(iterators, index + 1, context, action)) {
+                    return false;
                 }
             }
         }
-        for (int i = 1; i <= iteratorNo - 1; i++) {
-            result = lib.flattenFirstLevel(result);
+        return true;
+    }
+
+    // Returns the name of the built-in aggregation (count, sum, min or max) applied to a boolean filter, null otherwise
+    private String filterAggregation(FunctionInvocation element, FEELContext context) {
+        Expression function = element.getFunction();
+        if (!(function instanceof Name) || !FILTER_AGGREGATIONS.contains(((Name) function).getName()) || requiresConversion(element.getParameterConversions())) {
+            return null;
         }
-        return result;
+        if (!(element.getParameters() instanceof PositionalParameters)) {
+            return null;
+        }
+        List<Expression> parameters = ((PositionalParameters) element.getParameters()).getParameters();
+        if (parameters.size() != 1 || !(parameters.get(0) instanceof FilterExpression)) {
+            return null;
+        }
+        // Built-in function that is not shadowed by a binding with the same name
+        String name = ((Name) function).getName();
+        if (((FilterExpression) parameters.get(0)).getFilter().getType() == BooleanType.BOOLEAN
+                && context.lookupRuntimeBinding(name) == null) {
+            return name;
+        }
+        return null;
+    }
+
+    // Aggregates the items matching the filter without collecting them
+    private Object aggregateFilter(String aggregation, FilterExpression filterExpression, FEELContext context) {
+        List source = filterSource(filterExpression, context);
+        if ("count".equals(aggregation)) {
+            long[] count = new long[] { 0 };
+            filter(filterExpression, source, context, item -> count[0]++);
+            return lib.number(String.valueOf(count[0]));
+        }
+        FilterAccumulator accumulator;
+        if ("sum".equals(aggregation)) {
+            accumulator = new FilterAccumulator(lib::sum);
+        } else if ("min".equals(aggregation)) {
+            accumulator = new FilterAccumulator(lib::min);
+        } else {
+            accumulator = new FilterAccumulator(lib::max);
+        }
+        filter(filterExpression, source, context, accumulator);
+        return accumulator.getValue();
     }
 
     private int toNumber(Object number) {
@@ -446,51 +515,71 @@ class FEELInterpreterVisitor extends AbstractFEELToJavaVisitor {
 
     @Override
     public Object visit(QuantifiedExpression element, FEELContext context) {
-        // Transform into nested for expressions
-        ForExpression equivalentForExpression = element.toForExpression();
-        // Evaluate
-        List result = (List) equivalentForExpression.accept(this, context);
-        // Apply predicate
         String predicate = element.getPredicate();
+        Boolean decisiveValue;
         if ("some".equals(predicate)) {
-            return lib.or(result);
+            decisiveValue = Boolean.TRUE;
         } else if ("every".equals(predicate)) {
-            return lib.and(result);
+            decisiveValue = Boolean.FALSE;
         } else {
             throw new UnsupportedOperationException("Predicate '" + predicate + "' is not supported yet");
         }
+        Boolean otherValue = !decisiveValue;
+
+        // Stop at the first decisive value, same result as or() / and() applied to all values
+        FEELContext quantifiedContext = FEELContext.makeContext(context.getEnvironment(), runtimeEnvironmentFactory.makeEnvironment(context.getRuntimeEnvironment()));
+        boolean[] undecided = new boolean[] { false };
+        boolean completed = iterate(element.getIterators(), 0, quantifiedContext, iterationContext -> {
+            Object value = element.getBody().accept(this, iterationContext);
+            if (value == decisiveValue) {
+                return false;
+            } else if (value != otherValue) {
+                undecided[0] = true;
+            }
+            return true;
+        });
+        if (!completed) {
+            return decisiveValue;
+        } else {
+            return undecided[0] ? null : otherValue;
+        }
     }
 
     @Override
     public Object visit(FilterExpression element, FEELContext context) {
-        Type sourceType = element.getSource().getType();
         Type filterType = element.getFilter().getType();
-        Object source = element.getSource().accept(this, context);
-        if (!(sourceType instanceof ListType)) {
-            source = Arrays.asList(source);
-        }
+        List source = filterSource(element, context);
         if (filterType == BooleanType.BOOLEAN) {
             List<Object> result = new ArrayList<>();
-            for (Object item : (List) source) {
-                FEELContext filterContext = makeFilterContext(context, item, FilterExpression.FILTER_PARAMETER_NAME);
-                Boolean filterValue = (Boolean) element.getFilter().accept(this, filterContext);
-                if (filterValue != null && filterValue) {
-                    result.add(item);
-                }
-            }
+            filter(element, source, context, result::add);
             return result;
         } else if (filterType == NumberType.NUMBER) {
             Object filterValue = element.getFilter().accept(this, context);
-            return lib.elementAt((List) source, filterValue);
+            return lib.elementAt(source, filterValue);
         } else {
             throw new UnsupportedOperationException("FEEL '" + element.getClass().getSimpleName() + "' is not supported yet");
         }
     }
 
-    private FEELContext makeFilterContext(FEELContext context, Object item, String filterParameterName) {
-        RuntimeEnvironment runtimeEnvironment = runtimeEnvironmentFactory.makeEnvironment(context.getRuntimeEnvironment());
-        runtimeEnvironment.bind(filterParameterName, item);
-        return FEELContext.makeContext(context.getEnvironment(), runtimeEnvironment);
+    private List filterSource(FilterExpression element, FEELContext context) {
+        Type sourceType = element.getSource().getType();
+        Object source = element.getSource().accept(this, context);
+        if (!(sourceType instanceof ListType)) {
+            source = Arrays.asList(source);
+        }
+        return (List) source;
+    }
+
+    // Passes the items matching a boolean filter to the consumer, one filter context is used for all items
+    private void filter(FilterExpression element, List source, FEELContext context, Consumer<Object> consumer) {
+        FEELContext filterContext = FEELContext.makeContext(context.getEnvironment(), runtimeEnvironmentFactory.makeEnvironment(context.getRuntimeEnvironment()));
+        for (Object item : source) {
+            filterContext.runtimeBind(FilterExpression.FILTER_PARAMETER_NAME, item);
+            Boolean filterValue = (Boolean) element.getFilter().accept(this, filterContext);
+            if (filterValue != null && filterValue) {
+                consumer.accept(item);
+            }
+        }
     }
 
     @Override
@@ -649,6 +738,13 @@ class FEELInterpreterVisitor extends AbstractFEELToJavaVisitor {
 
     @Override
     public Object visit(FunctionInvocation element, FEELContext context) {
+        // count(), sum(), min() and max() of a boolean filter aggregate the matching items in one pass
+        String aggregation = filterAggregation(element, context);
+        if (aggregation != null) {
+            FilterExpression filterExpression = (FilterExpression) ((PositionalParameters) element.getParameters()).getParameters().get(0);
+            return aggregateFilter(aggregation, filterExpression, context);
+        }
+
         Arguments arguments = (Arguments) element.getParameters().accept(this, context);
         Expression function = element.getFunction();
         FunctionType functionType = (FunctionType) element.getFunction().getType();
@@ -852,8 +948,12 @@ class FEELInterpreterVisitor extends AbstractFEELToJavaVisitor {
     }
 
     private Object evaluateLambdaExpression(LambdaExpression binding, List<Object> argList, FEELContext context) {
-        String functionName = "apply";
-        return evaluateMethod(binding, binding.getClass(), functionName, argList);
+        try {
+            return binding.apply(argList.toArray());
+        } catch (Exception e) {
+            handleError("Cannot evaluate function 'apply'", e);
+            return null;
+        }
     }
 
     private Object evaluateBuiltInFunction(FEELLib lib, String functionName, List<Object> argList) {
@@ -868,41 +968,19 @@ class FEELInterpreterVisitor extends AbstractFEELToJavaVisitor {
             // Convert arguments
             List<Object> convertedArgList = info.convertArguments(argList);
 
-            // Prepare data for reflection
-            Class cls = Class.forName(className);
-
-            // Method declaredMethod = MethodUtils.resolveMethod(info.getMethodName(), cls, argTypes);
-            Method declaredMethod = null;
-            Method[] declaredMethods = cls.getDeclaredMethods();
-            for (Method m: declaredMethods) {
-                if (m.getName().equals(methodName)) {
-                    if (m.getParameterCount() == paramTypes.size()) {
-                        boolean typesMatch = true;
-                        for (int i=0; i<paramTypes.size(); i++) {
-                            Class javaClass = m.getParameterTypes()[i];
-                            if (! (paramTypes.get(i).equals(javaClass.getSimpleName()) || paramTypes.get(i).equals(javaClass.getName()))) {
-                                typesMatch = false;
-                                break;
-                            }
-                        }
-                        if (typesMatch) {
-                            declaredMethod = m;
-                            break;
-                        }
-                    }
-                }
-            }
-            if (declaredMethod == null) {
+            // Resolve method
+            MethodDispatchCache.Invoker invoker = methodDispatchCache.invoker(Arrays.asList(className, methodName, paramTypes), () -> Class.forName(className), cls -> resolveExternalJavaMethod(cls, methodName, paramTypes));
+            if (invoker == null) {
                 throw new DMNRuntimeException(String.format("Cannot resolve '%s.%s(%s)", className, methodName, paramTypes.stream().collect(Collectors.joining(", "))));
             }
-            Object[] args = makeArgs(declaredMethod, convertedArgList);
+            Object[] args = makeArgs(invoker.getMethod(), convertedArgList);
 
             // Try both static and instant calls
-            if ((declaredMethod.getModifiers() & Modifier.STATIC) != 0) {
-                return declaredMethod.invoke(null, args);
+            if (invoker.isStatic()) {
+                return invoker.invoke(null, args);
             } else {
-                Object obj = cls.newInstance();
-                return declaredMethod.invoke(obj, args);
+                Object obj = methodDispatchCache.receiver(invoker.getTargetClass());
+                return invoker.invoke(obj, args);
             }
         } catch (Exception e) {
             handleError(String.format("Cannot evaluate function '%s(%s)'", methodName, paramTypes.stream().collect(Collectors.joining(", "))), e);
@@ -910,14 +988,41 @@ class FEELInterpreterVisitor extends AbstractFEELToJavaVisitor {
         }
     }
 
+    private Method resolveExternalJavaMethod(Class<?> cls, String methodName, List<String> paramTypes) {
+        Method[] declaredMethods = cls.getDeclaredMethods();
+        for (Method m: declaredMethods) {
+            if (m.getName().equals(methodName)) {
+                if (m.getParameterCount() == paramTypes.size()) {
+                    boolean typesMatch = true;
+                    for (int i=0; i<paramTypes.size(); i++) {
+                        Class javaClass = m.getParameterTypes()[i];
+                        if (! (paramTypes.get(i).equals(javaClass.getSimpleName()) || paramTypes.get(i).equals(javaClass.getName()))) {
+                            typesMatch = false;
+                            break;
+                        }
+                    }
+                    if (typesMatch) {
+                        return m;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    // Built-in functions and operators are resolved once per receiver class, name and argument classes
+    private MethodDispatchCache.Invoker resolveMethod(String methodName, Class<?> cls, Class[] argumentTypes) throws Exception {
+        return methodDispatchCache.invoker(Arrays.asList(cls, methodName, Arrays.asList(argumentTypes)), () -> cls, c -> MethodUtils.resolveMethod(methodName, c, argumentTypes));
+    }
+
     private Object evaluateMethod(Object object, Class<?> cls, String functionName, List<Object> argList) {
         try {
             Class[] argTypes = new Class[argList.size()];
             for (int i = 0; i < argList.size(); i++) {
                 argTypes[i] = getClass(argList.get(i));
             }
-            Method declaredMethod = MethodUtils.resolveMethod(functionName, cls, argTypes);
-            Object[] args = makeArgs(declaredMethod, argList);
+            MethodDispatchCache.Invoker declaredMethod = resolveMethod(functionName, cls, argTypes);
+            Object[] args = makeArgs(declaredMethod.getMethod(), argList);
             return declaredMethod.invoke(object, args);
         } catch (Exception e) {
             handleError(String.format("Cannot evaluate function '%s'", functionName), e);
@@ -985,17 +1090,15 @@ class FEELInterpreterVisitor extends AbstractFEELToJavaVisitor {
     private Object navigate(PathExpression element, Type sourceType, Object source, String member) {
         try {
             if (sourceType instanceof ItemDefinitionType) {
-                List<String> aliases = ((ItemDefinitionType) sourceType).getAliases(member);
                 if (source instanceof com.gs.dmn.runtime.Context) {
-                    return ((com.gs.dmn.runtime.Context) source).get(member, aliases.toArray());
+                    Object[] aliases = ((ItemDefinitionType) sourceType).getAliasArray(member);
+                    return ((com.gs.dmn.runtime.Context) source).get(member, aliases);
                 } else {
-                    String getterName = dmnTransformer.getterName(member);
-                    Method method = MethodUtils.resolveMethod(getterName, source.getClass(), new Class[]{});
-                    return method.invoke(source);
+                    return memberAccessors.accessor(source.getClass(), member).apply(source);
                 }
             } else if (sourceType instanceof ContextType) {
-                List<String> aliases = ((ContextType) sourceType).getAliases(member);
-                return ((com.gs.dmn.runtime.Context) source).get(member, aliases.toArray());
+                Object[] aliases = ((ContextType) sourceType).getAliasArray(member);
+                return ((com.gs.dmn.runtime.Context) source).get(member, aliases);
             } else if (sourceType instanceof DateType) {
                 return evaluateDateTimeMember(source, member);
             } else if (sourceType instanceof TimeType) {
@@ -1106,6 +1209,11 @@ class FEELInterpreterVisitor extends AbstractFEELToJavaVisitor {
         if (element.getNames().size() == 1) {
             String name = element.getNames().get(0);
             if (name.equals(DMNToJavaTransformer.INPUT_ENTRY_PLACE_HOLDER)) {
+                // Input entries are evaluated in an environment binding the precomputed value of the input expression
+                RuntimeEnvironment runtimeEnvironment = context.getRuntimeEnvironment();
+                if (runtimeEnvironment != null && runtimeEnvironment.isBound(name)) {
+                    return runtimeEnvironment.lookupBinding(name);
+                }
                 return context.getEnvironment().getInputExpression().accept(this, context);
             } else {
                 return context.lookupRuntimeBinding(name);
@@ -1118,6 +1226,9 @@ class FEELInterpreterVisitor extends AbstractFEELToJavaVisitor {
     @Override
     public Object visit(Name element, FEELContext context) {
         String variableName = element.getName();
+        if (element.getSlot() != -1) {
+            return context.lookupRuntimeBinding(variableName, element.getDepth(), element.getSlot());
+        }
         return context.lookupRuntimeBinding(variableName);
     }
 
@@ -0,0 +1,51 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel.interpreter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Folds the items matching a filter with a list function of the lib (sum, min or max), one item at a time.
+// The function is applied to the accumulated value and the next item, so the lib decides the result and the null
+// semantics: empty lists are null, null or non-number items are errors. For non-empty lists the functions return null
+// only for errors, the remaining items are skipped.
+class FilterAccumulator implements Consumer<Object> {
+    private final Function<List, Object> function;
+    private final Object[] pair = new Object[2];
+    private final List pairList = Arrays.asList(pair);
+    private boolean empty = true;
+    private Object value;
+
+    FilterAccumulator(Function<List, Object> function) {
+        this.function = function;
+    }
+
+    @Override
+    public void accept(Object item) {
+        if (empty) {
+            empty = false;
+            value = function.apply(Collections.singletonList(item));
+        } else if (value != null) {
+            pair[0] = value;
+            pair[1] = item;
+            value = function.apply(pairList);
+        }
+    }
+
+    Object getValue() {
+        return value;
+    }
+}
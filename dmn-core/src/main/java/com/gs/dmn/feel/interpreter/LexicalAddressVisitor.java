@@ -0,0 +1,431 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel.interpreter;
+
+import com.gs.dmn.feel.analysis.semantics.type.NumberType;
+import com.gs.dmn.feel.analysis.syntax.ast.AbstractVisitor;
+import com.gs.dmn.feel.analysis.syntax.ast.Element;
+import com.gs.dmn.feel.analysis.syntax.ast.FEELContext;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.*;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.arithmetic.Addition;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.arithmetic.ArithmeticNegation;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.arithmetic.Exponentiation;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.arithmetic.Multiplication;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.comparison.BetweenExpression;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.comparison.InExpression;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.comparison.Relational;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.function.*;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.literal.*;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.logic.Conjunction;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.logic.Disjunction;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.logic.LogicNegation;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.textual.*;
+import com.gs.dmn.feel.analysis.syntax.ast.test.*;
+import com.gs.dmn.transformation.DMNToJavaTransformer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Assigns (depth, slot) coordinates to the names bound by the scopes of an expression (iterators, filter items,
+// context entries, function parameters). The scopes mirror the runtime environments created by FEELInterpreterVisitor,
+// slots are in binding order. Names bound outside the expression are looked up by name.
+// Function bodies are evaluated in the environment of the call, names are not resolved across a function definition.
+public class LexicalAddressVisitor extends AbstractVisitor {
+    private static class Scope {
+        private final List<String> names = new ArrayList<>();
+        private final boolean function;
+
+        private Scope(boolean function) {
+            this.function = function;
+        }
+
+        private void declare(String name) {
+            if (!names.contains(name)) {
+                names.add(name);
+            }
+        }
+    }
+
+    private final List<Scope> scopes = new ArrayList<>();
+
+    public static <T extends Element> T resolve(T element) {
+        if (element != null) {
+            element.accept(new LexicalAddressVisitor(), null);
+        }
+        return element;
+    }
+
+    //
+    // Tests
+    //
+    @Override
+    public Object visit(PositiveUnaryTests element, FEELContext context) {
+        element.getPositiveUnaryTests().forEach(t -> t.accept(this, context));
+        return element;
+    }
+
+    @Override
+    public Object visit(NegatedPositiveUnaryTests element, FEELContext context) {
+        element.getPositiveUnaryTests().accept(this, context);
+        return element;
+    }
+
+    @Override
+    public Object visit(SimplePositiveUnaryTests element, FEELContext context) {
+        element.getSimplePositiveUnaryTests().forEach(t -> t.accept(this, context));
+        return element;
+    }
+
+    @Override
+    public Object visit(NegatedSimplePositiveUnaryTests element, FEELContext context) {
+        element.getSimplePositiveUnaryTests().accept(this, context);
+        return element;
+    }
+
+    @Override
+    public Object visit(Any element, FEELContext context) {
+        return element;
+    }
+
+    @Override
+    public Object visit(NullTest element, FEELContext context) {
+        return element;
+    }
+
+    @Override
+    public Object visit(ExpressionTest element, FEELContext context) {
+        element.getExpression().accept(this, context);
+        return element;
+    }
+
+    @Override
+    public Object visit(OperatorTest element, FEELContext context) {
+        element.getEndpoint().accept(this, context);
+        return element;
+    }
+
+    @Override
+    public Object visit(RangeTest element, FEELContext context) {
+        element.getStart().accept(this, context);
+        element.getEnd().accept(this, context);
+        return element;
+    }
+
+    @Override
+    public Object visit(ListTest element, FEELContext context) {
+        element.getListLiteral().accept(this, context);
+        return element;
+    }
+
+    //
+    // Textual expressions
+    //
+    @Override
+    public Object visit(FunctionDefinition element, FEELContext context) {
+        Scope scope = enterScope(true);
+        element.getFormalParameters().forEach(p -> scope.declare(p.getName()));
+        if (element.getBody() != null && !element.isExternal()) {
+            element.getBody().accept(this, context);
+        }
+        exitScope();
+        return element;
+    }
+
+    @Override
+    public Object visit(FormalParameter element, FEELContext context) {
+        return element;
+    }
+
+    @Override
+    public Object visit(Context element, FEELContext context) {
+        // Entries are bound in order, the entry being evaluated is not bound yet
+        Scope scope = enterScope(false);
+        for (ContextEntry entry : element.getEntries()) {
+            entry.getExpression().accept(this, context);
+            scope.declare(entry.getKey().getKey());
+        }
+        exitScope();
+        return element;
+    }
+
+    @Override
+    public Object visit(ContextEntry element, FEELContext context) {
+        element.getExpression().accept(this, context);
+        return element;
+    }
+
+    @Override
+    public Object visit(ContextEntryKey element, FEELContext context) {
+        return element;
+    }
+
+    @Override
+    public Object visit(ForExpression element, FEELContext context) {
+        Scope scope = enterScope(false);
+        scope.declare(ForExpression.PARTIAL_PARAMTER_NAME);
+        visitIterators(element.getIterators(), scope, context);
+        element.getBody().accept(this, context);
+        exitScope();
+        return element;
+    }
+
+    // Each domain is evaluated after the previous iterators are bound
+    private void visitIterators(List<Iterator> iterators, Scope scope, FEELContext context) {
+        for (Iterator iterator : iterators) {
+            iterator.getDomain().accept(this, context);
+            scope.declare(iterator.getName());
+        }
+    }
+
+    @Override
+    public Object visit(Iterator element, FEELContext context) {
+        element.getDomain().accept(this, context);
+        return element;
+    }
+
+    @Override
+    public Object visit(ExpressionIteratorDomain element, FEELContext context) {
+        element.getExpression().accept(this, context);
+        return element;
+    }
+
+    @Override
+    public Object visit(RangeIteratorDomain element, FEELContext context) {
+        element.getStart().accept(this, context);
+        element.getEnd().accept(this, context);
+        return element;
+    }
+
+    @Override
+    public Object visit(IfExpression element, FEELContext context) {
+        element.getCondition().accept(this, context);
+        element.getThenExpression().accept(this, context);
+        element.getElseExpression().accept(this, context);
+        return element;
+    }
+
+    @Override
+    public Object visit(QuantifiedExpression element, FEELContext context) {
+        Scope scope = enterScope(false);
+        visitIterators(element.getIterators(), scope, context);
+        element.getBody().accept(this, context);
+        exitScope();
+        return element;
+    }
+
+    @Override
+    public Object visit(FilterExpression element, FEELContext context) {
+        element.getSource().accept(this, context);
+        // Numeric filters are evaluated in the environment of the filter expression
+        if (element.getFilter().getType() == NumberType.NUMBER) {
+            element.getFilter().accept(this, context);
+        } else {
+            Scope scope = enterScope(false);
+            scope.declare(FilterExpression.FILTER_PARAMETER_NAME);
+            element.getFilter().accept(this, context);
+            exitScope();
+        }
+        return element;
+    }
+
+    @Override
+    public Object visit(InstanceOfExpression element, FEELContext context) {
+        element.getValue().accept(this, context);
+        return element;
+    }
+
+    //
+    // Expressions
+    //
+    @Override
+    public Object visit(ExpressionList element, FEELContext context) {
+        element.getExpressionList().forEach(e -> e.accept(this, context));
+        return element;
+    }
+
+    //
+    // Logic expressions
+    //
+    @Override
+    public Object visit(Disjunction element, FEELContext context) {
+        element.getLeftOperand().accept(this, context);
+        element.getRightOperand().accept(this, context);
+        return element;
+    }
+
+    @Override
+    public Object visit(Conjunction element, FEELContext context) {
+        element.getLeftOperand().accept(this, context);
+        element.getRightOperand().accept(this, context);
+        return element;
+    }
+
+    @Override
+    public Object visit(LogicNegation element, FEELContext context) {
+        element.getLeftOperand().accept(this, context);
+        return element;
+    }
+
+    //
+    // Comparison expressions
+    //
+    @Override
+    public Object visit(Relational element, FEELContext context) {
+        element.getLeftOperand().accept(this, context);
+        element.getRightOperand().accept(this, context);
+        return element;
+    }
+
+    @Override
+    public Object visit(BetweenExpression element, FEELContext context) {
+        element.getValue().accept(this, context);
+        element.getLeftEndpoint().accept(this, context);
+        element.getRightEndpoint().accept(this, context);
+        return element;
+    }
+
+    @Override
+    public Object visit(InExpression element, FEELContext context) {
+        element.getValue().accept(this, context);
+        Scope scope = enterScope(false);
+        scope.declare(DMNToJavaTransformer.INPUT_ENTRY_PLACE_HOLDER);
+        element.getTests().forEach(t -> t.accept(this, context));
+        exitScope();
+        return element;
+    }
+
+    //
+    // Arithmetic expressions
+    //
+    @Override
+    public Object visit(Addition element, FEELContext context) {
+        element.getLeftOperand().accept(this, context);
+        element.getRightOperand().accept(this, context);
+        return element;
+    }
+
+    @Override
+    public Object visit(Multiplication element, FEELContext context) {
+        element.getLeftOperand().accept(this, context);
+        element.getRightOperand().accept(this, context);
+        return element;
+    }
+
+    @Override
+    public Object visit(Exponentiation element, FEELContext context) {
+        element.getLeftOperand().accept(this, context);
+        element.getRightOperand().accept(this, context);
+        return element;
+    }
+
+    @Override
+    public Object visit(ArithmeticNegation element, FEELContext context) {
+        element.getLeftOperand().accept(this, context);
+        return element;
+    }
+
+    //
+    // Postfix expressions
+    //
+    @Override
+    public Object visit(FunctionInvocation element, FEELContext context) {
+        element.getFunction().accept(this, context);
+        element.getParameters().accept(this, context);
+        return element;
+    }
+
+    @Override
+    public Object visit(NamedParameters element, FEELContext context) {
+        element.getParameters().values().forEach(p -> p.accept(this, context));
+        return element;
+    }
+
+    @Override
+    public Object visit(PositionalParameters element, FEELContext context) {
+        element.getParameters().forEach(p -> p.accept(this, context));
+        return element;
+    }
+
+    @Override
+    public Object visit(PathExpression element, FEELContext context) {
+        element.getSource().accept(this, context);
+        return element;
+    }
+
+    //
+    // Primary expressions
+    //
+    @Override
+    public Object visit(BooleanLiteral element, FEELContext context) {
+        return element;
+    }
+
+    @Override
+    public Object visit(DateTimeLiteral element, FEELContext context) {
+        return element;
+    }
+
+    @Override
+    public Object visit(NullLiteral element, FEELContext context) {
+        return element;
+    }
+
+    @Override
+    public Object visit(NumericLiteral element, FEELContext context) {
+        return element;
+    }
+
+    @Override
+    public Object visit(StringLiteral element, FEELContext context) {
+        return element;
+    }
+
+    @Override
+    public Object visit(ListLiteral element, FEELContext context) {
+        element.getExpressionList().forEach(e -> e.accept(this, context));
+        return element;
+    }
+
+    @Override
+    public Object visit(QualifiedName element, FEELContext context) {
+        return element;
+    }
+
+    @Override
+    public Object visit(Name element, FEELContext context) {
+        String name = element.getName();
+        for (int depth = 0; depth < scopes.size(); depth++) {
+            Scope scope = scopes.get(scopes.size() - 1 - depth);
+            int slot = scope.names.indexOf(name);
+            if (slot != -1) {
+                element.setAddress(depth, slot);
+                return element;
+            }
+            if (scope.function) {
+                break;
+            }
+        }
+        element.setAddress(-1, -1);
+        return element;
+    }
+
+    private Scope enterScope(boolean function) {
+        Scope scope = new Scope(function);
+        scopes.add(scope);
+        return scope;
+    }
+
+    private void exitScope() {
+        scopes.remove(scopes.size() - 1);
+    }
+}
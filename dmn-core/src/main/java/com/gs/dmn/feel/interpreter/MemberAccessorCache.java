@@ -0,0 +1,129 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel.interpreter;
+
+import com.gs.dmn.runtime.DMNRuntimeException;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+// Accessors for the members of item definitions implemented by Java classes, cached by class and member name.
+// Getters of public classes visible from this class loader are compiled into lambdas, the others are called via method handles.
+class MemberAccessorCache {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final Class[] NO_ARGUMENTS = new Class[]{};
+
+    private final Function<String, String> getterName;
+    private final ClassValue<ConcurrentMap<String, Function<Object, Object>>> accessors = new ClassValue<ConcurrentMap<String, Function<Object, Object>>>() {
+        @Override
+        protected ConcurrentMap<String, Function<Object, Object>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    MemberAccessorCache(Function<String, String> getterName) {
+        this.getterName = getterName;
+    }
+
+    Function<Object, Object> accessor(Class<?> cls, String member) {
+        ConcurrentMap<String, Function<Object, Object>> classAccessors = accessors.get(cls);
+        Function<Object, Object> accessor = classAccessors.get(member);
+        if (accessor == null) {
+            accessor = makeAccessor(cls, member);
+            Function<Object, Object> existing = classAccessors.putIfAbsent(member, accessor);
+            if (existing != null) {
+                accessor = existing;
+            }
+        }
+        return accessor;
+    }
+
+    private Function<Object, Object> makeAccessor(Class<?> cls, String member) {
+        String methodName = getterName.apply(member);
+        Method method = MethodUtils.resolveMethod(methodName, cls, NO_ARGUMENTS);
+        if (method == null) {
+            throw new DMNRuntimeException(String.format("Cannot find method '%s' in class '%s'", methodName, cls.getName()));
+        }
+        MethodHandle handle;
+        try {
+            handle = LOOKUP.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new DMNRuntimeException(String.format("Cannot access method '%s' in class '%s'", methodName, cls.getName()), e);
+        }
+
+        if (isCompilable(method)) {
+            try {
+                return compile(method, handle);
+            } catch (Throwable e) {
+                // Fall back to the method handle
+            }
+        }
+        MethodHandle genericHandle = handle.asType(MethodType.methodType(Object.class, Object.class));
+        return source -> {
+            try {
+                return genericHandle.invokeExact(source);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new DMNRuntimeException(String.format("Cannot invoke method '%s' in class '%s'", methodName, cls.getName()), e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private Function<Object, Object> compile(Method method, MethodHandle handle) throws Throwable {
+        MethodType instantiatedType = MethodType.methodType(method.getReturnType(), method.getDeclaringClass()).wrap();
+        CallSite site = LambdaMetafactory.metafactory(
+                LOOKUP,
+                "apply",
+                MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class),
+                handle,
+                instantiatedType);
+        return (Function<Object, Object>) site.getTarget().invokeExact();
+    }
+
+    // The generated lambda class is defined in this class loader and must be able to link against the getter
+    private boolean isCompilable(Method method) {
+        int modifiers = method.getModifiers();
+        if (!Modifier.isPublic(modifiers) || Modifier.isStatic(modifiers) || method.getReturnType() == void.class) {
+            return false;
+        }
+        return isVisible(method.getDeclaringClass()) && isVisible(method.getReturnType());
+    }
+
+    private boolean isVisible(Class<?> cls) {
+        while (cls.isArray()) {
+            cls = cls.getComponentType();
+        }
+        if (cls.isPrimitive()) {
+            return true;
+        }
+        if (!Modifier.isPublic(cls.getModifiers())) {
+            return false;
+        }
+        try {
+            return Class.forName(cls.getName(), false, MemberAccessorCache.class.getClassLoader()) == cls;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -18,6 +18,7 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 public abstract class BaseFEELLib<NUMBER, DATE, TIME, DATE_TIME, DURATION> implements FEELLib<NUMBER, DATE, TIME, DATE_TIME, DURATION> {
     protected final NumericType<NUMBER> numericType;
@@ -124,6 +125,14 @@ public abstract class BaseFEELLib<NUMBER, DATE, TIME, DATE_TIME, DURATION> imple
         return booleanType.binaryBooleanAnd(first, second);
     }
 
+    public Boolean booleanSome(Stream<?> operands) {
+        return booleanType.booleanSome(operands);
+    }
+
+    public Boolean booleanEvery(Stream<?> operands) {
+        return booleanType.booleanEvery(operands);
+    }
+
     public Boolean booleanEqual(Boolean first, Boolean second) {
         return booleanType.booleanEqual(first, second);
     }
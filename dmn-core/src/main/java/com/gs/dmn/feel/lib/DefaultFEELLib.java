@@ -19,25 +19,12 @@ import com.gs.dmn.feel.lib.type.numeric.DefaultNumericType;
 import com.gs.dmn.feel.lib.type.string.DefaultStringType;
 import com.gs.dmn.feel.lib.type.time.xml.*;
 import com.gs.dmn.runtime.LambdaExpression;
-import com.sun.org.apache.xerces.internal.jaxp.DocumentBuilderFactoryImpl;
-import net.sf.saxon.xpath.XPathFactoryImpl;
 import org.apache.commons.lang3.StringUtils;
-import org.w3c.dom.Document;
-import org.xml.sax.SAXException;
 
 import javax.xml.datatype.DatatypeConstants;
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.Duration;
 import javax.xml.datatype.XMLGregorianCalendar;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.LocalDate;
@@ -47,17 +34,19 @@ import java.util.*;
 public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar, XMLGregorianCalendar, XMLGregorianCalendar, Duration> implements StandardFEELLib<BigDecimal, XMLGregorianCalendar, XMLGregorianCalendar, XMLGregorianCalendar, Duration> {
     public static final DatatypeFactory DATA_TYPE_FACTORY = XMLDatataypeFactory.newInstance();
 
+    // The types are stateless, all the instances share them
+    private static final DefaultNumericType NUMERIC_TYPE = new DefaultNumericType(LOGGER);
+    private static final DefaultBooleanType BOOLEAN_TYPE = new DefaultBooleanType(LOGGER);
+    private static final DefaultStringType STRING_TYPE = new DefaultStringType(LOGGER);
+    private static final DefaultDateType DATE_TYPE = new DefaultDateType(LOGGER, DATA_TYPE_FACTORY);
+    private static final DefaultTimeType TIME_TYPE = new DefaultTimeType(LOGGER, DATA_TYPE_FACTORY);
+    private static final DefaultDateTimeType DATE_TIME_TYPE = new DefaultDateTimeType(LOGGER, DATA_TYPE_FACTORY);
+    private static final DefaultDurationType DURATION_TYPE = new DefaultDurationType(LOGGER);
+    private static final DefaultListType LIST_TYPE = new DefaultListType(LOGGER);
+    private static final DefaultContextType CONTEXT_TYPE = new DefaultContextType(LOGGER);
+
     public DefaultFEELLib() {
-        super(new DefaultNumericType(LOGGER),
-                new DefaultBooleanType(LOGGER),
-                new DefaultStringType(LOGGER),
-                new DefaultDateType(LOGGER, DATA_TYPE_FACTORY),
-                new DefaultTimeType(LOGGER, DATA_TYPE_FACTORY),
-                new DefaultDateTimeType(LOGGER, DATA_TYPE_FACTORY),
-                new DefaultDurationType(LOGGER),
-                new DefaultListType(LOGGER),
-                new DefaultContextType(LOGGER)
-        );
+        super(NUMERIC_TYPE, BOOLEAN_TYPE, STRING_TYPE, DATE_TYPE, TIME_TYPE, DATE_TIME_TYPE, DURATION_TYPE, LIST_TYPE, CONTEXT_TYPE);
     }
 
     //
@@ -73,8 +62,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return new BigDecimal(literal, DefaultNumericType.MATH_CONTEXT);
         } catch (Throwable e) {
-            String message = String.format("number(%s)", literal);
-            logError(message, e);
+            handleError(e, "number(%s)", literal);
             return null;
         }
     }
@@ -106,8 +94,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
             }
             return number(from);
         } catch (Throwable e) {
-            String message = String.format("number(%s, %s, %s)", from, groupingSeparator, decimalSeparator);
-            logError(message, e);
+            handleError(e, "number(%s, %s, %s)", from, groupingSeparator, decimalSeparator);
             return null;
         }
     }
@@ -209,8 +196,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
             }
             return xmlGregorianCalendar;
         } catch (Throwable e) {
-            String message = String.format("time(%s, %s, %s, %s)", hour, minute, second, offset);
-            logError(message, e);
+            handleError(e, "time(%s, %s, %s, %s)", hour, minute, second, offset);
             return null;
         }
     }
@@ -289,8 +275,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return DATA_TYPE_FACTORY.newDuration(from);
         } catch (Throwable e) {
-            String message = String.format("duration(%s)", from);
-            logError(message, e);
+            handleError(e, "duration(%s)", from);
             return null;
         }
     }
@@ -306,8 +291,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
             LocalDate fromLocalDate = LocalDate.of(from.getYear(), from.getMonth(), from.getDay());
             return DateTimeUtil.toYearsMonthDuration(DATA_TYPE_FACTORY, toLocalDate, fromLocalDate);
         } catch (Throwable e) {
-            String message = String.format("yearsAndMonthsDuration(%s, %s)", from, to);
-            logError(message, e);
+            handleError(e, "yearsAndMonthsDuration(%s, %s)", from, to);
             return null;
         }
     }
@@ -328,8 +312,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
                 return new FEELXMLGregorianCalendar(literal);
             }
         } catch (Throwable e) {
-            String message = String.format("makeXMLCalendar(%s)", literal);
-            logError(message, e);
+            handleError(e, "makeXMLCalendar(%s)", literal);
             return null;
         }
     }
@@ -343,8 +326,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
             literal = DateTimeUtil.fixDateTimeFormat(literal);
             return makeXMLCalendar(literal);
         } catch (Throwable e) {
-            String message = String.format("makeDateTime(%s)", literal);
-            logError(message, e);
+            handleError(e, "makeDateTime(%s)", literal);
             return null;
         }
     }
@@ -367,8 +349,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return BigDecimalUtil.decimal(n, scale);
         } catch (Throwable e) {
-            String message = String.format("decimal(%s, %s)", n, scale);
-            logError(message, e);
+            handleError(e, "decimal(%s, %s)", n, scale);
             return null;
         }
     }
@@ -378,8 +359,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return BigDecimalUtil.floor(number);
         } catch (Throwable e) {
-            String message = String.format("fllor(%s)", number);
-            logError(message, e);
+            handleError(e, "fllor(%s)", number);
             return null;
         }
     }
@@ -389,8 +369,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return BigDecimalUtil.ceiling(number);
         } catch (Throwable e) {
-            String message = String.format("ceiling(%s)", number);
-            logError(message, e);
+            handleError(e, "ceiling(%s)", number);
             return null;
         }
     }
@@ -400,8 +379,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return BigDecimalUtil.abs(number);
         } catch (Throwable e) {
-            String message = String.format("abs(%s)", number);
-            logError(message, e);
+            handleError(e, "abs(%s)", number);
             return null;
         }
     }
@@ -411,8 +389,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return BigDecimalUtil.modulo(divident, divisor);
         } catch (Throwable e) {
-            String message = String.format("modulo(%s, %s)", divident, divisor);
-            logError(message, e);
+            handleError(e, "modulo(%s, %s)", divident, divisor);
             return null;
         }
     }
@@ -422,8 +399,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return BigDecimalUtil.sqrt(number);
         } catch (Throwable e) {
-            String message = String.format("sqrt(%s)", number);
-            logError(message, e);
+            handleError(e, "sqrt(%s)", number);
             return null;
         }
     }
@@ -433,8 +409,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return BigDecimalUtil.log(number);
         } catch (Throwable e) {
-            String message = String.format("log(%s)", number);
-            logError(message, e);
+            handleError(e, "log(%s)", number);
             return null;
         }
     }
@@ -444,8 +419,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return BigDecimalUtil.exp(number);
         } catch (Throwable e) {
-            String message = String.format("exp(%s)", number);
-            logError(message, e);
+            handleError(e, "exp(%s)", number);
             return null;
         }
     }
@@ -455,8 +429,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return BigDecimalUtil.odd(number);
         } catch (Throwable e) {
-            String message = String.format("odd(%s)", number);
-            logError(message, e);
+            handleError(e, "odd(%s)", number);
             return null;
         }
     }
@@ -466,8 +439,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return BigDecimalUtil.even(number);
         } catch (Throwable e) {
-            String message = String.format("odd(%s)", number);
-            logError(message, e);
+            handleError(e, "odd(%s)", number);
             return null;
         }
     }
@@ -481,8 +453,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return min(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("min(%s)", args);
-            logError(message, e);
+            handleError(e, "min(%s)", args);
             return null;
         }
     }
@@ -496,8 +467,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return max(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("max(%s)", args);
-            logError(message, e);
+            handleError(e, "max(%s)", args);
             return null;
         }
     }
@@ -511,8 +481,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return sum(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("sum(%s)", args);
-            logError(message, e);
+            handleError(e, "sum(%s)", args);
             return null;
         }
     }
@@ -522,8 +491,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return BigDecimalUtil.mean(list);
         } catch (Throwable e) {
-            String message = String.format("mean(%s)", list);
-            logError(message, e);
+            handleError(e, "mean(%s)", list);
             return null;
         }
     }
@@ -537,8 +505,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return mean(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("mean(%s)", args);
-            logError(message, e);
+            handleError(e, "mean(%s)", args);
             return null;
         }
     }
@@ -639,11 +606,9 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         }
 
         try {
-            String expression = String.format("replace(/root, '%s', '%s', '%s')", pattern, replacement, flags);
-            return evaluateXPath(input, expression);
+            return RegexUtil.replace(input, pattern, replacement, flags);
         } catch (Throwable e) {
-            String message = String.format("replace(%s, %s, %s, %s)", input, pattern, replacement, flags);
-            logError(message, e);
+            handleError(e, "replace(%s, %s, %s, %s)", input, pattern, replacement, flags);
             return null;
         }
     }
@@ -663,12 +628,9 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         }
 
         try {
-            String expression = String.format("/root[matches(., '%s', '%s')]", pattern, flags);
-            String value = evaluateXPath(input, expression);
-            return input.equals(value);
+            return RegexUtil.matches(input, pattern, flags);
         } catch (Throwable e) {
-            String message = String.format("matches(%s, %s, %s)", input, pattern, flags);
-            logError(message, e);
+            handleError(e, "matches(%s, %s, %s)", input, pattern, flags);
             return null;
         }
     }
@@ -678,26 +640,11 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return StringUtil.split(string, delimiter);
         } catch (Throwable e) {
-            String message = String.format("split(%s, %s)", string, delimiter);
-            logError(message, e);
+            handleError(e, "split(%s, %s)", string, delimiter);
             return null;
         }
     }
 
-    private String evaluateXPath(String input, String expression) throws ParserConfigurationException, SAXException, IOException, XPathExpressionException {
-        // Read document
-        String xml = "<root>" + input + "</root>";
-        DocumentBuilderFactory documentBuilderFactory = new DocumentBuilderFactoryImpl();
-        DocumentBuilder docBuilder = documentBuilderFactory.newDocumentBuilder();
-        InputStream inputStream = new ByteArrayInputStream(xml.getBytes());
-        Document document = docBuilder.parse(inputStream);
-
-        // Evaluate xpath
-        XPathFactory xPathFactory = new XPathFactoryImpl();
-        XPath xPath = xPathFactory.newXPath();
-        return xPath.evaluate(expression, document.getDocumentElement());
-    }
-
     //
     // Boolean functions
     //
@@ -726,8 +673,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
                 return null;
             }
         } catch (Throwable e) {
-            String message = String.format("and(%s)", list);
-            logError(message, e);
+            handleError(e, "and(%s)", list);
             return null;
         }
     }
@@ -741,8 +687,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return all(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("and(%s)", args);
-            logError(message, e);
+            handleError(e, "and(%s)", args);
             return null;
         }
     }
@@ -772,8 +717,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
                 return null;
             }
         } catch (Throwable e) {
-            String message = String.format("or(%s)", list);
-            logError(message, e);
+            handleError(e, "or(%s)", list);
             return null;
         }
     }
@@ -787,8 +731,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return any(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("or(%s)", args);
-            logError(message, e);
+            handleError(e, "or(%s)", args);
             return null;
         }
     }
@@ -809,8 +752,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return BigDecimal.valueOf(date.getYear());
         } catch (Exception e) {
-            String message = String.format("year(%s)", date);
-            logError(message, e);
+            handleError(e, "year(%s)", date);
             return null;
         }
     }
@@ -823,8 +765,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return BigDecimal.valueOf(date.getMonth());
         } catch (Exception e) {
-            String message = String.format("month(%s)", date);
-            logError(message, e);
+            handleError(e, "month(%s)", date);
             return null;
         }
     }
@@ -837,8 +778,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return BigDecimal.valueOf(date.getDay());
         } catch (Exception e) {
-            String message = String.format("day(%s)", date);
-            logError(message, e);
+            handleError(e, "day(%s)", date);
             return null;
         }
     }
@@ -851,8 +791,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return BigDecimal.valueOf(date.toGregorianCalendar().get(Calendar.DAY_OF_WEEK) -1);
         } catch (Exception e) {
-            String message = String.format("day(%s)", date);
-            logError(message, e);
+            handleError(e, "day(%s)", date);
             return null;
         }
     }
@@ -947,8 +886,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return BigDecimalUtil.min(list);
         } catch (Throwable e) {
-            String message = String.format("min(%s)", list);
-            logError(message, e);
+            handleError(e, "min(%s)", list);
             return null;
         }
     }
@@ -958,8 +896,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return BigDecimalUtil.max(list);
         } catch (Throwable e) {
-            String message = String.format("max(%s)", list);
-            logError(message, e);
+            handleError(e, "max(%s)", list);
             return null;
         }
     }
@@ -969,8 +906,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return BigDecimalUtil.sum(list);
         } catch (Throwable e) {
-            String message = String.format("sum(%s)", list);
-            logError(message, e);
+            handleError(e, "sum(%s)", list);
             return null;
         }
     }
@@ -1144,8 +1080,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return BigDecimalUtil.product(list);
         } catch (Throwable e) {
-            String message = String.format("product(%s)", list);
-            logError(message, e);
+            handleError(e, "product(%s)", list);
             return null;
         }
     }
@@ -1159,8 +1094,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return product(Arrays.asList(numbers));
         } catch (Throwable e) {
-            String message = String.format("sum(%s)", numbers);
-            logError(message, e);
+            handleError(e, "sum(%s)", numbers);
             return null;
         }
     }
@@ -1170,8 +1104,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return BigDecimalUtil.median(list);
         } catch (Throwable e){
-            String message = String.format("median(%s)", list);
-            logError(message, e);
+            handleError(e, "median(%s)", list);
             return null;
         }
     }
@@ -1185,8 +1118,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return median(Arrays.asList(numbers));
         } catch (Throwable e) {
-            String message = String.format("median(%s)", numbers);
-            logError(message, e);
+            handleError(e, "median(%s)", numbers);
             return null;
         }
     }
@@ -1196,8 +1128,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return BigDecimalUtil.stddev(list);
         } catch (Throwable e) {
-            String message = String.format("stddev(%s)", list);
-            logError(message, e);
+            handleError(e, "stddev(%s)", list);
             return null;
         }
     }
@@ -1211,8 +1142,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return stddev(Arrays.asList(numbers));
         } catch (Throwable e) {
-            String message = String.format("stddev(%s)", numbers);
-            logError(message, e);
+            handleError(e, "stddev(%s)", numbers);
             return null;
         }
     }
@@ -1222,8 +1152,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return BigDecimalUtil.mode(list);
         } catch (Throwable e) {
-            String message = String.format("mode(%s)", list);
-            logError(message, e);
+            handleError(e, "mode(%s)", list);
             return null;
         }
     }
@@ -1237,8 +1166,7 @@ public class DefaultFEELLib extends BaseFEELLib<BigDecimal, XMLGregorianCalendar
         try {
             return mode(Arrays.asList(numbers));
         } catch (Throwable e) {
-            String message = String.format("mode(%s)", numbers);
-            logError(message, e);
+            handleError(e, "mode(%s)", numbers);
             return null;
         }
     }
@@ -22,23 +22,10 @@ import com.gs.dmn.feel.lib.type.time.mixed.OffsetTimeType;
 import com.gs.dmn.feel.lib.type.time.mixed.ZonedDateTimeType;
 import com.gs.dmn.feel.lib.type.time.xml.DoubleDefaultDurationType;
 import com.gs.dmn.runtime.LambdaExpression;
-import com.sun.org.apache.xerces.internal.jaxp.DocumentBuilderFactoryImpl;
-import net.sf.saxon.xpath.XPathFactoryImpl;
 import org.apache.commons.lang3.StringUtils;
-import org.w3c.dom.Document;
-import org.xml.sax.SAXException;
 
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.Duration;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.time.*;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -48,17 +35,19 @@ import java.util.List;
 public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, OffsetTime, ZonedDateTime, Duration> implements StandardFEELLib<Double, LocalDate, OffsetTime, ZonedDateTime, Duration> {
     private static final DatatypeFactory DATA_TYPE_FACTORY = XMLDatataypeFactory.newInstance();
 
+    // The types are stateless, all the instances share them
+    private static final DoubleNumericType NUMERIC_TYPE = new DoubleNumericType(LOGGER);
+    private static final DefaultBooleanType BOOLEAN_TYPE = new DefaultBooleanType(LOGGER);
+    private static final DefaultStringType STRING_TYPE = new DefaultStringType(LOGGER);
+    private static final LocalDateType DATE_TYPE = new LocalDateType(LOGGER, DATA_TYPE_FACTORY);
+    private static final OffsetTimeType TIME_TYPE = new OffsetTimeType(LOGGER, DATA_TYPE_FACTORY);
+    private static final ZonedDateTimeType DATE_TIME_TYPE = new ZonedDateTimeType(LOGGER, DATA_TYPE_FACTORY);
+    private static final DoubleDefaultDurationType DURATION_TYPE = new DoubleDefaultDurationType(LOGGER);
+    private static final DefaultListType LIST_TYPE = new DefaultListType(LOGGER);
+    private static final DefaultContextType CONTEXT_TYPE = new DefaultContextType(LOGGER);
+
     public DoubleMixedJavaTimeFEELLib() {
-        super(new DoubleNumericType(LOGGER),
-                new DefaultBooleanType(LOGGER),
-                new DefaultStringType(LOGGER),
-                new LocalDateType(LOGGER, DATA_TYPE_FACTORY),
-                new OffsetTimeType(LOGGER, DATA_TYPE_FACTORY),
-                new ZonedDateTimeType(LOGGER, DATA_TYPE_FACTORY),
-                new DoubleDefaultDurationType(LOGGER),
-                new DefaultListType(LOGGER),
-                new DefaultContextType(LOGGER)
-        );
+        super(NUMERIC_TYPE, BOOLEAN_TYPE, STRING_TYPE, DATE_TYPE, TIME_TYPE, DATE_TIME_TYPE, DURATION_TYPE, LIST_TYPE, CONTEXT_TYPE);
     }
 
     //
@@ -74,8 +63,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return Double.parseDouble(literal);
         } catch (Throwable e) {
-            String message = String.format("number(%s)", literal);
-            logError(message, e);
+            handleError(e, "number(%s)", literal);
             return null;
         }
     }
@@ -107,8 +95,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
             }
             return number(from);
         } catch (Throwable e) {
-            String message = String.format("number(%s, %s, %s)", from, groupingSeparator, decimalSeparator);
-            logError(message, e);
+            handleError(e, "number(%s, %s, %s)", from, groupingSeparator, decimalSeparator);
             return null;
         }
     }
@@ -126,15 +113,13 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
             }
 
             if (DateTimeUtil.hasTime(literal) || DateTimeUtil.hasZone(literal)) {
-                String message = String.format("date(%s)", literal);
-                logError(message);
+                handleError("date(%s)", literal);
                 return null;
             } else {
                 return DateTimeUtil.makeLocalDate(literal);
             }
         } catch (Exception e) {
-            String message = String.format("date(%s)", literal);
-            logError(message, e);
+            handleError(e, "date(%s)", literal);
             return null;
         }
     }
@@ -171,8 +156,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DateTimeUtil.makeOffsetTime(literal);
         } catch (Exception e) {
-            String message = String.format("time(%s)", literal);
-            logError(message, e);
+            handleError(e, "time(%s)", literal);
             return null;
         }
     }
@@ -205,8 +189,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
                 return offsetTime;
             }
         } catch (Throwable e) {
-            String message = String.format("time(%s, %s, %s, %s)", hour, minute, second, offset);
-            logError(message, e);
+            handleError(e, "time(%s, %s, %s, %s)", hour, minute, second, offset);
             return null;
         }
     }
@@ -257,8 +240,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
             LocalDateTime localDateTime = LocalDateTime.of(date, time.toLocalTime());
             return ZonedDateTime.ofInstant(localDateTime, offset, ZoneId.of(offset.getId()));
         } catch (Throwable e) {
-            String message = String.format("dateAndTime(%s, %s)", date, time);
-            logError(message, e);
+            handleError(e, "dateAndTime(%s, %s)", date, time);
             return null;
         }
     }
@@ -270,8 +252,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         if (date instanceof ZonedDateTime) {
             return dateAndTime(((ZonedDateTime) date).toLocalDate(), time);
         } else {
-            String message = String.format("dateAndTime(%s, %s)", date, time);
-            logError(message);
+            handleError("dateAndTime(%s, %s)", date, time);
             return null;
         }
     }
@@ -285,8 +266,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DATA_TYPE_FACTORY.newDuration(from);
         } catch (Throwable e) {
-            String message = String.format("duration(%s)", from);
-            logError(message, e);
+            handleError(e, "duration(%s)", from);
             return null;
         }
     }
@@ -300,8 +280,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DateTimeUtil.toYearsMonthDuration(DATA_TYPE_FACTORY, toDate(to), toDate(from));
         } catch (Throwable e) {
-            String message = String.format("yearsAndMonthsDuration(%s, %s)", from, to);
-            logError(message, e);
+            handleError(e, "yearsAndMonthsDuration(%s, %s)", from, to);
             return null;
         }
     }
@@ -314,8 +293,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DateTimeUtil.toYearsMonthDuration(DATA_TYPE_FACTORY, to, from);
         } catch (Throwable e) {
-            String message = String.format("yearsAndMonthsDuration(%s, %s)", from, to);
-            logError(message, e);
+            handleError(e, "yearsAndMonthsDuration(%s, %s)", from, to);
             return null;
         }
     }
@@ -328,8 +306,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DateTimeUtil.toYearsMonthDuration(DATA_TYPE_FACTORY, to, toDate(from));
         } catch (Throwable e) {
-            String message = String.format("yearsAndMonthsDuration(%s, %s)", from, to);
-            logError(message, e);
+            handleError(e, "yearsAndMonthsDuration(%s, %s)", from, to);
             return null;
         }
     }
@@ -342,8 +319,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DateTimeUtil.toYearsMonthDuration(DATA_TYPE_FACTORY, toDate(to), from);
         } catch (Throwable e) {
-            String message = String.format("yearsAndMonthsDuration(%s, %s)", from, to);
-            logError(message, e);
+            handleError(e, "yearsAndMonthsDuration(%s, %s)", from, to);
             return null;
         }
     }
@@ -356,8 +332,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DateTimeUtil.makeDateTime(literal);
         } catch (Throwable e) {
-            String message = String.format("makeDateTime(%s)", literal);
-            logError(message, e);
+            handleError(e, "makeDateTime(%s)", literal);
             return null;
         }
     }
@@ -386,8 +361,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DoubleUtil.decimal(n, scale);
         } catch (Throwable e) {
-            String message = String.format("decimal(%s, %s)", n, scale);
-            logError(message, e);
+            handleError(e, "decimal(%s, %s)", n, scale);
             return null;
         }
     }
@@ -397,8 +371,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DoubleUtil.floor(number);
         } catch (Throwable e) {
-            String message = String.format("fllor(%s)", number);
-            logError(message, e);
+            handleError(e, "fllor(%s)", number);
             return null;
         }
     }
@@ -408,8 +381,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DoubleUtil.ceiling(number);
         } catch (Throwable e) {
-            String message = String.format("ceiling(%s)", number);
-            logError(message, e);
+            handleError(e, "ceiling(%s)", number);
             return null;
         }
     }
@@ -419,8 +391,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DoubleUtil.abs(number);
         } catch (Throwable e) {
-            String message = String.format("abs(%s)", number);
-            logError(message, e);
+            handleError(e, "abs(%s)", number);
             return null;
         }
     }
@@ -430,8 +401,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DoubleUtil.modulo(divident, divisor);
         } catch (Throwable e) {
-            String message = String.format("modulo(%s, %s)", divident, divisor);
-            logError(message, e);
+            handleError(e, "modulo(%s, %s)", divident, divisor);
             return null;
         }
     }
@@ -441,8 +411,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DoubleUtil.sqrt(number);
         } catch (Throwable e) {
-            String message = String.format("sqrt(%s)", number);
-            logError(message, e);
+            handleError(e, "sqrt(%s)", number);
             return null;
         }
     }
@@ -452,8 +421,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DoubleUtil.log(number);
         } catch (Throwable e) {
-            String message = String.format("log(%s)", number);
-            logError(message, e);
+            handleError(e, "log(%s)", number);
             return null;
         }
     }
@@ -463,8 +431,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DoubleUtil.exp(number);
         } catch (Throwable e) {
-            String message = String.format("exp(%s)", number);
-            logError(message, e);
+            handleError(e, "exp(%s)", number);
             return null;
         }
     }
@@ -474,8 +441,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DoubleUtil.odd(number);
         } catch (Throwable e) {
-            String message = String.format("odd(%s)", number);
-            logError(message, e);
+            handleError(e, "odd(%s)", number);
             return null;
         }
     }
@@ -485,8 +451,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DoubleUtil.even(number);
         } catch (Throwable e) {
-            String message = String.format("odd(%s)", number);
-            logError(message, e);
+            handleError(e, "odd(%s)", number);
             return null;
         }
     }
@@ -500,8 +465,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return min(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("min(%s)", args);
-            logError(message, e);
+            handleError(e, "min(%s)", args);
             return null;
         }
     }
@@ -515,8 +479,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return max(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("max(%s)", args);
-            logError(message, e);
+            handleError(e, "max(%s)", args);
             return null;
         }
     }
@@ -530,8 +493,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return sum(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("sum(%s)", args);
-            logError(message, e);
+            handleError(e, "sum(%s)", args);
             return null;
         }
     }
@@ -545,8 +507,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DoubleUtil.mean(list);
         } catch (Throwable e) {
-            String message = String.format("mean(%s)", list);
-            logError(message, e);
+            handleError(e, "mean(%s)", list);
             return null;
         }
     }
@@ -560,8 +521,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return mean(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("mean(%s)", args);
-            logError(message, e);
+            handleError(e, "mean(%s)", args);
             return null;
         }
     }
@@ -662,11 +622,9 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         }
 
         try {
-            String expression = String.format("replace(/root, '%s', '%s', '%s')", pattern, replacement, flags);
-            return evaluateXPath(input, expression);
+            return RegexUtil.replace(input, pattern, replacement, flags);
         } catch (Throwable e) {
-            String message = String.format("replace(%s, %s, %s, %s)", input, pattern, replacement, flags);
-            logError(message, e);
+            handleError(e, "replace(%s, %s, %s, %s)", input, pattern, replacement, flags);
             return null;
         }
     }
@@ -686,12 +644,9 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         }
 
         try {
-            String expression = String.format("/root[matches(., '%s', '%s')]", pattern, flags);
-            String value = evaluateXPath(input, expression);
-            return input.equals(value);
+            return RegexUtil.matches(input, pattern, flags);
         } catch (Throwable e) {
-            String message = String.format("matches(%s, %s, %s)", input, pattern, flags);
-            logError(message, e);
+            handleError(e, "matches(%s, %s, %s)", input, pattern, flags);
             return null;
         }
     }
@@ -701,26 +656,11 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return StringUtil.split(string, delimiter);
         } catch (Throwable e) {
-            String message = String.format("split(%s, %s)", string, delimiter);
-            logError(message, e);
+            handleError(e, "split(%s, %s)", string, delimiter);
             return null;
         }
     }
 
-    private String evaluateXPath(String input, String expression) throws ParserConfigurationException, SAXException, IOException, XPathExpressionException {
-        // Read document
-        String xml = "<root>" + input + "</root>";
-        DocumentBuilderFactory documentBuilderFactory = new DocumentBuilderFactoryImpl();
-        DocumentBuilder docBuilder = documentBuilderFactory.newDocumentBuilder();
-        InputStream inputStream = new ByteArrayInputStream(xml.getBytes());
-        Document document = docBuilder.parse(inputStream);
-
-        // Evaluate xpath
-        XPathFactory xPathFactory = new XPathFactoryImpl();
-        XPath xPath = xPathFactory.newXPath();
-        return xPath.evaluate(expression, document.getDocumentElement());
-    }
-
     //
     // Boolean functions
     //
@@ -749,8 +689,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
                 return null;
             }
         } catch (Throwable e) {
-            String message = String.format("and(%s)", list);
-            logError(message, e);
+            handleError(e, "and(%s)", list);
             return null;
         }
     }
@@ -764,8 +703,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return all(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("and(%s)", args);
-            logError(message, e);
+            handleError(e, "and(%s)", args);
             return null;
         }
     }
@@ -795,8 +733,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
                 return null;
             }
         } catch (Throwable e) {
-            String message = String.format("or(%s)", list);
-            logError(message, e);
+            handleError(e, "or(%s)", list);
             return null;
         }
     }
@@ -810,8 +747,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return any(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("or(%s)", args);
-            logError(message, e);
+            handleError(e, "or(%s)", args);
             return null;
         }
     }
@@ -828,8 +764,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return Double.valueOf(date.getYear());
         } catch (Exception e) {
-            String message = String.format("year(%s)", date);
-            logError(message, e);
+            handleError(e, "year(%s)", date);
             return null;
         }
     }
@@ -837,8 +772,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return Double.valueOf(dateTime.getYear());
         } catch (Exception e) {
-            String message = String.format("year(%s)", dateTime);
-            logError(message, e);
+            handleError(e, "year(%s)", dateTime);
             return null;
         }
     }
@@ -847,8 +781,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return Double.valueOf(date.getMonth().getValue());
         } catch (Exception e) {
-            String message = String.format("month(%s)", date);
-            logError(message, e);
+            handleError(e, "month(%s)", date);
             return null;
         }
     }
@@ -856,8 +789,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return Double.valueOf(dateTime.getMonth().getValue());
         } catch (Exception e) {
-            String message = String.format("month(%s)", dateTime);
-            logError(message, e);
+            handleError(e, "month(%s)", dateTime);
             return null;
         }
     }
@@ -866,8 +798,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return Double.valueOf(date.getDayOfMonth());
         } catch (Exception e) {
-            String message = String.format("day(%s)", date);
-            logError(message, e);
+            handleError(e, "day(%s)", date);
             return null;
         }
     }
@@ -875,8 +806,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return Double.valueOf(dateTime.getDayOfMonth());
         } catch (Exception e) {
-            String message = String.format("day(%s)", dateTime);
-            logError(message, e);
+            handleError(e, "day(%s)", dateTime);
             return null;
         }
     }
@@ -884,8 +814,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return Double.valueOf(date.getDayOfWeek().getValue());
         } catch (Exception e) {
-            String message = String.format("day(%s)", date);
-            logError(message, e);
+            handleError(e, "day(%s)", date);
             return null;
         }
     }
@@ -893,8 +822,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return Double.valueOf(dateTime.getDayOfWeek().getValue());
         } catch (Exception e) {
-            String message = String.format("day(%s)", dateTime);
-            logError(message, e);
+            handleError(e, "day(%s)", dateTime);
             return null;
         }
     }
@@ -1010,8 +938,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DoubleUtil.min(list);
         } catch (Throwable e) {
-            String message = String.format("min(%s)", list);
-            logError(message, e);
+            handleError(e, "min(%s)", list);
             return null;
         }
     }
@@ -1025,8 +952,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DoubleUtil.max(list);
         } catch (Throwable e) {
-            String message = String.format("max(%s)", list);
-            logError(message, e);
+            handleError(e, "max(%s)", list);
             return null;
         }
     }
@@ -1036,8 +962,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DoubleUtil.sum(list);
         } catch (Throwable e) {
-            String message = String.format("sum(%s)", list);
-            logError(message, e);
+            handleError(e, "sum(%s)", list);
             return null;
         }
     }
@@ -1211,8 +1136,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DoubleUtil.product(list);
         } catch (Throwable e) {
-            String message = String.format("product(%s)", list);
-            logError(message, e);
+            handleError(e, "product(%s)", list);
             return null;
         }
     }
@@ -1226,8 +1150,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return product(Arrays.asList(numbers));
         } catch (Throwable e) {
-            String message = String.format("sum(%s)", numbers);
-            logError(message, e);
+            handleError(e, "sum(%s)", numbers);
             return null;
         }
     }
@@ -1237,8 +1160,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DoubleUtil.median(list);
         } catch (Throwable e){
-            String message = String.format("median(%s)", list);
-            logError(message, e);
+            handleError(e, "median(%s)", list);
             return null;
         }
     }
@@ -1252,8 +1174,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return median(Arrays.asList(numbers));
         } catch (Throwable e) {
-            String message = String.format("median(%s)", numbers);
-            logError(message, e);
+            handleError(e, "median(%s)", numbers);
             return null;
         }
     }
@@ -1263,8 +1184,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DoubleUtil.stddev(list);
         } catch (Throwable e) {
-            String message = String.format("stddev(%s)", list);
-            logError(message, e);
+            handleError(e, "stddev(%s)", list);
             return null;
         }
     }
@@ -1278,8 +1198,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return stddev(Arrays.asList(numbers));
         } catch (Throwable e) {
-            String message = String.format("stddev(%s)", numbers);
-            logError(message, e);
+            handleError(e, "stddev(%s)", numbers);
             return null;
         }
     }
@@ -1289,8 +1208,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return DoubleUtil.mode(list);
         } catch (Throwable e) {
-            String message = String.format("mode(%s)", list);
-            logError(message, e);
+            handleError(e, "mode(%s)", list);
             return null;
         }
     }
@@ -1304,8 +1222,7 @@ public class DoubleMixedJavaTimeFEELLib extends BaseFEELLib<Double, LocalDate, O
         try {
             return mode(Arrays.asList(numbers));
         } catch (Throwable e) {
-            String message = String.format("mode(%s)", numbers);
-            logError(message, e);
+            handleError(e, "mode(%s)", numbers);
             return null;
         }
     }
@@ -113,10 +113,10 @@ public class DoubleUtil {
             return null;
         }
 
-        Double result = (Double) list.get(0);
+        double result = (Double) list.get(0);
         for (int i = 1; i < list.size(); i++) {
-            Double x = (Double) list.get(i);
-            if (result.compareTo(x) > 0) {
+            double x = (Double) list.get(i);
+            if (Double.compare(result, x) > 0) {
                 result = x;
             }
         }
@@ -124,10 +124,14 @@ public class DoubleUtil {
     }
 
     public static Double max(List list) {
-        Double result = (Double) list.get(0);
+        if (list == null || list.isEmpty()) {
+            return null;
+        }
+
+        double result = (Double) list.get(0);
         for (int i = 1; i < list.size(); i++) {
-            Double x = (Double) list.get(i);
-            if (result.compareTo(x) < 0) {
+            double x = (Double) list.get(i);
+            if (Double.compare(result, x) < 0) {
                 result = x;
             }
         }
@@ -139,21 +143,15 @@ public class DoubleUtil {
             return null;
         }
 
-        Double result = Double.valueOf(0);
-        for (Object e : list) {
-            Double number = (Double) e;
-            result = result + number;
-        }
-        return result;
+        return primitiveSum(list);
     }
 
     public static Double mean(List list) {
-        if (list == null) {
+        if (list == null || list.isEmpty()) {
             return null;
         }
 
-        Double sum = sum(list);
-        return numericDivide(sum, Double.valueOf(list.size()));
+        return primitiveSum(list) / list.size();
     }
 
     public static Double product(List list) {
@@ -161,10 +159,9 @@ public class DoubleUtil {
             return null;
         }
 
-        Double result = 1.0;
+        double result = 1.0;
         for (Object e : list) {
-            Double number = (Double) e;
-            result = result * number;
+            result = result * (Double) e;
         }
         return result;
     }
@@ -192,18 +189,24 @@ public class DoubleUtil {
             return null;
         }
 
-        Double mean = mean(list);
         int length = list.size();
-        Double variance = 0.0;
+        double mean = primitiveSum(list) / length;
+        double variance = 0.0;
         for(Object e: list) {
-            Double number = (Double) e;
-            Double dm = number - mean;
-            Double dv = dm * dm;
-            variance = variance + dv;
+            double dm = (Double) e - mean;
+            variance = variance + dm * dm;
         }
         variance = variance / (length - 1);
-        Double stddev = sqrt(variance);
-        return stddev;
+        return Math.sqrt(variance);
+    }
+
+    // Accumulates in a primitive to avoid boxing every partial result
+    private static double primitiveSum(List list) {
+        double result = 0.0;
+        for (Object e : list) {
+            result = result + (Double) e;
+        }
+        return result;
     }
 
     public static List mode(List list) {
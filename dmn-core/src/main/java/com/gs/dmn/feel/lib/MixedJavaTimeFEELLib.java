@@ -22,23 +22,10 @@ import com.gs.dmn.feel.lib.type.time.mixed.OffsetTimeType;
 import com.gs.dmn.feel.lib.type.time.mixed.ZonedDateTimeType;
 import com.gs.dmn.feel.lib.type.time.xml.DefaultDurationType;
 import com.gs.dmn.runtime.LambdaExpression;
-import com.sun.org.apache.xerces.internal.jaxp.DocumentBuilderFactoryImpl;
-import net.sf.saxon.xpath.XPathFactoryImpl;
 import org.apache.commons.lang3.StringUtils;
-import org.w3c.dom.Document;
-import org.xml.sax.SAXException;
 
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.Duration;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.*;
 import java.util.ArrayList;
@@ -49,17 +36,19 @@ import java.util.List;
 public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, OffsetTime, ZonedDateTime, Duration> implements StandardFEELLib<BigDecimal, LocalDate, OffsetTime, ZonedDateTime, Duration> {
     private static final DatatypeFactory DATA_TYPE_FACTORY = XMLDatataypeFactory.newInstance();
 
+    // The types are stateless, all the instances share them
+    private static final DefaultNumericType NUMERIC_TYPE = new DefaultNumericType(LOGGER);
+    private static final DefaultBooleanType BOOLEAN_TYPE = new DefaultBooleanType(LOGGER);
+    private static final DefaultStringType STRING_TYPE = new DefaultStringType(LOGGER);
+    private static final LocalDateType DATE_TYPE = new LocalDateType(LOGGER, DATA_TYPE_FACTORY);
+    private static final OffsetTimeType TIME_TYPE = new OffsetTimeType(LOGGER, DATA_TYPE_FACTORY);
+    private static final ZonedDateTimeType DATE_TIME_TYPE = new ZonedDateTimeType(LOGGER, DATA_TYPE_FACTORY);
+    private static final DefaultDurationType DURATION_TYPE = new DefaultDurationType(LOGGER);
+    private static final DefaultListType LIST_TYPE = new DefaultListType(LOGGER);
+    private static final DefaultContextType CONTEXT_TYPE = new DefaultContextType(LOGGER);
+
     public MixedJavaTimeFEELLib() {
-        super(new DefaultNumericType(LOGGER),
-                new DefaultBooleanType(LOGGER),
-                new DefaultStringType(LOGGER),
-                new LocalDateType(LOGGER, DATA_TYPE_FACTORY),
-                new OffsetTimeType(LOGGER, DATA_TYPE_FACTORY),
-                new ZonedDateTimeType(LOGGER, DATA_TYPE_FACTORY),
-                new DefaultDurationType(LOGGER),
-                new DefaultListType(LOGGER),
-                new DefaultContextType(LOGGER)
-        );
+        super(NUMERIC_TYPE, BOOLEAN_TYPE, STRING_TYPE, DATE_TYPE, TIME_TYPE, DATE_TIME_TYPE, DURATION_TYPE, LIST_TYPE, CONTEXT_TYPE);
     }
 
     //
@@ -75,8 +64,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return new BigDecimal(literal, DefaultNumericType.MATH_CONTEXT);
         } catch (Throwable e) {
-            String message = String.format("number(%s)", literal);
-            logError(message, e);
+            handleError(e, "number(%s)", literal);
             return null;
         }
     }
@@ -108,8 +96,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
             }
             return number(from);
         } catch (Throwable e) {
-            String message = String.format("number(%s, %s, %s)", from, groupingSeparator, decimalSeparator);
-            logError(message, e);
+            handleError(e, "number(%s, %s, %s)", from, groupingSeparator, decimalSeparator);
             return null;
         }
     }
@@ -127,15 +114,13 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
             }
 
             if (DateTimeUtil.hasTime(literal) || DateTimeUtil.hasZone(literal)) {
-                String message = String.format("date(%s)", literal);
-                logError(message);
+                handleError("date(%s)", literal);
                 return null;
             } else {
                 return DateTimeUtil.makeLocalDate(literal);
             }
         } catch (Exception e) {
-            String message = String.format("date(%s)", literal);
-            logError(message, e);
+            handleError(e, "date(%s)", literal);
             return null;
         }
     }
@@ -172,8 +157,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return DateTimeUtil.makeOffsetTime(literal);
         } catch (Exception e) {
-            String message = String.format("time(%s)", literal);
-            logError(message, e);
+            handleError(e, "time(%s)", literal);
             return null;
         }
     }
@@ -206,8 +190,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
                 return offsetTime;
             }
         } catch (Throwable e) {
-            String message = String.format("time(%s, %s, %s, %s)", hour, minute, second, offset);
-            logError(message, e);
+            handleError(e, "time(%s, %s, %s, %s)", hour, minute, second, offset);
             return null;
         }
     }
@@ -258,8 +241,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
             LocalDateTime localDateTime = LocalDateTime.of(date, time.toLocalTime());
             return ZonedDateTime.ofInstant(localDateTime, offset, ZoneId.of(offset.getId()));
         } catch (Throwable e) {
-            String message = String.format("dateAndTime(%s, %s)", date, time);
-            logError(message, e);
+            handleError(e, "dateAndTime(%s, %s)", date, time);
             return null;
         }
     }
@@ -271,8 +253,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         if (date instanceof ZonedDateTime) {
             return dateAndTime(((ZonedDateTime) date).toLocalDate(), time);
         } else {
-            String message = String.format("dateAndTime(%s, %s)", date, time);
-            logError(message);
+            handleError("dateAndTime(%s, %s)", date, time);
             return null;
         }
     }
@@ -286,8 +267,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return DATA_TYPE_FACTORY.newDuration(from);
         } catch (Throwable e) {
-            String message = String.format("duration(%s)", from);
-            logError(message, e);
+            handleError(e, "duration(%s)", from);
             return null;
         }
     }
@@ -301,8 +281,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return DateTimeUtil.toYearsMonthDuration(DATA_TYPE_FACTORY, toDate(to), toDate(from));
         } catch (Throwable e) {
-            String message = String.format("yearsAndMonthsDuration(%s, %s)", from, to);
-            logError(message, e);
+            handleError(e, "yearsAndMonthsDuration(%s, %s)", from, to);
             return null;
         }
     }
@@ -315,8 +294,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return DateTimeUtil.toYearsMonthDuration(DATA_TYPE_FACTORY, to, from);
         } catch (Throwable e) {
-            String message = String.format("yearsAndMonthsDuration(%s, %s)", from, to);
-            logError(message, e);
+            handleError(e, "yearsAndMonthsDuration(%s, %s)", from, to);
             return null;
         }
     }
@@ -329,8 +307,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return DateTimeUtil.toYearsMonthDuration(DATA_TYPE_FACTORY, to, toDate(from));
         } catch (Throwable e) {
-            String message = String.format("yearsAndMonthsDuration(%s, %s)", from, to);
-            logError(message, e);
+            handleError(e, "yearsAndMonthsDuration(%s, %s)", from, to);
             return null;
         }
     }
@@ -343,8 +320,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return DateTimeUtil.toYearsMonthDuration(DATA_TYPE_FACTORY, toDate(to), from);
         } catch (Throwable e) {
-            String message = String.format("yearsAndMonthsDuration(%s, %s)", from, to);
-            logError(message, e);
+            handleError(e, "yearsAndMonthsDuration(%s, %s)", from, to);
             return null;
         }
     }
@@ -357,8 +333,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return DateTimeUtil.makeDateTime(literal);
         } catch (Throwable e) {
-            String message = String.format("makeDateTime(%s)", literal);
-            logError(message, e);
+            handleError(e, "makeDateTime(%s)", literal);
             return null;
         }
     }
@@ -387,8 +362,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimalUtil.decimal(n, scale);
         } catch (Throwable e) {
-            String message = String.format("decimal(%s, %s)", n, scale);
-            logError(message, e);
+            handleError(e, "decimal(%s, %s)", n, scale);
             return null;
         }
     }
@@ -398,8 +372,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimalUtil.floor(number);
         } catch (Throwable e) {
-            String message = String.format("fllor(%s)", number);
-            logError(message, e);
+            handleError(e, "fllor(%s)", number);
             return null;
         }
     }
@@ -409,8 +382,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimalUtil.ceiling(number);
         } catch (Throwable e) {
-            String message = String.format("ceiling(%s)", number);
-            logError(message, e);
+            handleError(e, "ceiling(%s)", number);
             return null;
         }
     }
@@ -420,8 +392,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimalUtil.abs(number);
         } catch (Throwable e) {
-            String message = String.format("abs(%s)", number);
-            logError(message, e);
+            handleError(e, "abs(%s)", number);
             return null;
         }
     }
@@ -431,8 +402,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimalUtil.modulo(divident, divisor);
         } catch (Throwable e) {
-            String message = String.format("modulo(%s, %s)", divident, divisor);
-            logError(message, e);
+            handleError(e, "modulo(%s, %s)", divident, divisor);
             return null;
         }
     }
@@ -442,8 +412,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimalUtil.sqrt(number);
         } catch (Throwable e) {
-            String message = String.format("sqrt(%s)", number);
-            logError(message, e);
+            handleError(e, "sqrt(%s)", number);
             return null;
         }
     }
@@ -453,8 +422,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimalUtil.log(number);
         } catch (Throwable e) {
-            String message = String.format("log(%s)", number);
-            logError(message, e);
+            handleError(e, "log(%s)", number);
             return null;
         }
     }
@@ -464,8 +432,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimalUtil.exp(number);
         } catch (Throwable e) {
-            String message = String.format("exp(%s)", number);
-            logError(message, e);
+            handleError(e, "exp(%s)", number);
             return null;
         }
     }
@@ -475,8 +442,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimalUtil.odd(number);
         } catch (Throwable e) {
-            String message = String.format("odd(%s)", number);
-            logError(message, e);
+            handleError(e, "odd(%s)", number);
             return null;
         }
     }
@@ -486,8 +452,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimalUtil.even(number);
         } catch (Throwable e) {
-            String message = String.format("odd(%s)", number);
-            logError(message, e);
+            handleError(e, "odd(%s)", number);
             return null;
         }
     }
@@ -501,8 +466,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return min(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("min(%s)", args);
-            logError(message, e);
+            handleError(e, "min(%s)", args);
             return null;
         }
     }
@@ -516,8 +480,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return max(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("max(%s)", args);
-            logError(message, e);
+            handleError(e, "max(%s)", args);
             return null;
         }
     }
@@ -531,8 +494,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return sum(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("sum(%s)", args);
-            logError(message, e);
+            handleError(e, "sum(%s)", args);
             return null;
         }
     }
@@ -547,8 +509,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
             BigDecimal sum = sum(list);
             return numericDivide(sum, BigDecimal.valueOf(list.size()));
         } catch (Throwable e) {
-            String message = String.format("mean(%s)", list);
-            logError(message, e);
+            handleError(e, "mean(%s)", list);
             return null;
         }
     }
@@ -562,8 +523,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return mean(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("mean(%s)", args);
-            logError(message, e);
+            handleError(e, "mean(%s)", args);
             return null;
         }
     }
@@ -664,11 +624,9 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         }
 
         try {
-            String expression = String.format("replace(/root, '%s', '%s', '%s')", pattern, replacement, flags);
-            return evaluateXPath(input, expression);
+            return RegexUtil.replace(input, pattern, replacement, flags);
         } catch (Throwable e) {
-            String message = String.format("replace(%s, %s, %s, %s)", input, pattern, replacement, flags);
-            logError(message, e);
+            handleError(e, "replace(%s, %s, %s, %s)", input, pattern, replacement, flags);
             return null;
         }
     }
@@ -688,12 +646,9 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         }
 
         try {
-            String expression = String.format("/root[matches(., '%s', '%s')]", pattern, flags);
-            String value = evaluateXPath(input, expression);
-            return input.equals(value);
+            return RegexUtil.matches(input, pattern, flags);
         } catch (Throwable e) {
-            String message = String.format("matches(%s, %s, %s)", input, pattern, flags);
-            logError(message, e);
+            handleError(e, "matches(%s, %s, %s)", input, pattern, flags);
             return null;
         }
     }
@@ -703,26 +658,11 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return StringUtil.split(string, delimiter);
         } catch (Throwable e) {
-            String message = String.format("split(%s, %s)", string, delimiter);
-            logError(message, e);
+            handleError(e, "split(%s, %s)", string, delimiter);
             return null;
         }
     }
 
-    private String evaluateXPath(String input, String expression) throws ParserConfigurationException, SAXException, IOException, XPathExpressionException {
-        // Read document
-        String xml = "<root>" + input + "</root>";
-        DocumentBuilderFactory documentBuilderFactory = new DocumentBuilderFactoryImpl();
-        DocumentBuilder docBuilder = documentBuilderFactory.newDocumentBuilder();
-        InputStream inputStream = new ByteArrayInputStream(xml.getBytes());
-        Document document = docBuilder.parse(inputStream);
-
-        // Evaluate xpath
-        XPathFactory xPathFactory = new XPathFactoryImpl();
-        XPath xPath = xPathFactory.newXPath();
-        return xPath.evaluate(expression, document.getDocumentElement());
-    }
-
     //
     // Boolean functions
     //
@@ -751,8 +691,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
                 return null;
             }
         } catch (Throwable e) {
-            String message = String.format("and(%s)", list);
-            logError(message, e);
+            handleError(e, "and(%s)", list);
             return null;
         }
     }
@@ -766,8 +705,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return all(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("and(%s)", args);
-            logError(message, e);
+            handleError(e, "and(%s)", args);
             return null;
         }
     }
@@ -797,8 +735,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
                 return null;
             }
         } catch (Throwable e) {
-            String message = String.format("or(%s)", list);
-            logError(message, e);
+            handleError(e, "or(%s)", list);
             return null;
         }
     }
@@ -812,8 +749,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return any(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("or(%s)", args);
-            logError(message, e);
+            handleError(e, "or(%s)", args);
             return null;
         }
     }
@@ -830,8 +766,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimal.valueOf(date.getYear());
         } catch (Exception e) {
-            String message = String.format("year(%s)", date);
-            logError(message, e);
+            handleError(e, "year(%s)", date);
             return null;
         }
     }
@@ -839,8 +774,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimal.valueOf(dateTime.getYear());
         } catch (Exception e) {
-            String message = String.format("year(%s)", dateTime);
-            logError(message, e);
+            handleError(e, "year(%s)", dateTime);
             return null;
         }
     }
@@ -849,8 +783,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimal.valueOf(date.getMonth().getValue());
         } catch (Exception e) {
-            String message = String.format("month(%s)", date);
-            logError(message, e);
+            handleError(e, "month(%s)", date);
             return null;
         }
     }
@@ -858,8 +791,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimal.valueOf(dateTime.getMonth().getValue());
         } catch (Exception e) {
-            String message = String.format("month(%s)", dateTime);
-            logError(message, e);
+            handleError(e, "month(%s)", dateTime);
             return null;
         }
     }
@@ -868,8 +800,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimal.valueOf(date.getDayOfMonth());
         } catch (Exception e) {
-            String message = String.format("day(%s)", date);
-            logError(message, e);
+            handleError(e, "day(%s)", date);
             return null;
         }
     }
@@ -877,8 +808,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimal.valueOf(dateTime.getDayOfMonth());
         } catch (Exception e) {
-            String message = String.format("day(%s)", dateTime);
-            logError(message, e);
+            handleError(e, "day(%s)", dateTime);
             return null;
         }
     }
@@ -886,8 +816,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimal.valueOf(date.getDayOfWeek().getValue());
         } catch (Exception e) {
-            String message = String.format("day(%s)", date);
-            logError(message, e);
+            handleError(e, "day(%s)", date);
             return null;
         }
     }
@@ -895,8 +824,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimal.valueOf(dateTime.getDayOfWeek().getValue());
         } catch (Exception e) {
-            String message = String.format("day(%s)", dateTime);
-            logError(message, e);
+            handleError(e, "day(%s)", dateTime);
             return null;
         }
     }
@@ -1012,8 +940,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimalUtil.min(list);
         } catch (Throwable e) {
-            String message = String.format("min(%s)", list);
-            logError(message, e);
+            handleError(e, "min(%s)", list);
             return null;
         }
     }
@@ -1023,8 +950,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimalUtil.max(list);
         } catch (Throwable e) {
-            String message = String.format("max(%s)", list);
-            logError(message, e);
+            handleError(e, "max(%s)", list);
             return null;
         }
     }
@@ -1034,8 +960,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimalUtil.sum(list);
         } catch (Throwable e) {
-            String message = String.format("sum(%s)", list);
-            logError(message, e);
+            handleError(e, "sum(%s)", list);
             return null;
         }
     }
@@ -1209,8 +1134,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimalUtil.product(list);
         } catch (Throwable e) {
-            String message = String.format("product(%s)", list);
-            logError(message, e);
+            handleError(e, "product(%s)", list);
             return null;
         }
     }
@@ -1224,8 +1148,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return product(Arrays.asList(numbers));
         } catch (Throwable e) {
-            String message = String.format("sum(%s)", numbers);
-            logError(message, e);
+            handleError(e, "sum(%s)", numbers);
             return null;
         }
     }
@@ -1235,8 +1158,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimalUtil.median(list);
         } catch (Throwable e){
-            String message = String.format("median(%s)", list);
-            logError(message, e);
+            handleError(e, "median(%s)", list);
             return null;
         }
     }
@@ -1250,8 +1172,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return median(Arrays.asList(numbers));
         } catch (Throwable e) {
-            String message = String.format("median(%s)", numbers);
-            logError(message, e);
+            handleError(e, "median(%s)", numbers);
             return null;
         }
     }
@@ -1261,8 +1182,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimalUtil.stddev(list);
         } catch (Throwable e) {
-            String message = String.format("stddev(%s)", list);
-            logError(message, e);
+            handleError(e, "stddev(%s)", list);
             return null;
         }
     }
@@ -1276,8 +1196,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return stddev(Arrays.asList(numbers));
         } catch (Throwable e) {
-            String message = String.format("stddev(%s)", numbers);
-            logError(message, e);
+            handleError(e, "stddev(%s)", numbers);
             return null;
         }
     }
@@ -1287,8 +1206,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return BigDecimalUtil.mode(list);
         } catch (Throwable e) {
-            String message = String.format("mode(%s)", list);
-            logError(message, e);
+            handleError(e, "mode(%s)", list);
             return null;
         }
     }
@@ -1302,8 +1220,7 @@ public class MixedJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Off
         try {
             return mode(Arrays.asList(numbers));
         } catch (Throwable e) {
-            String message = String.format("mode(%s)", numbers);
-            logError(message, e);
+            handleError(e, "mode(%s)", numbers);
             return null;
         }
     }
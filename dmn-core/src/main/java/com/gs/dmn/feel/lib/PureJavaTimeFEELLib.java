@@ -23,21 +23,8 @@ import com.gs.dmn.feel.lib.type.time.pure.TemporalAmountDurationType;
 import com.gs.dmn.feel.lib.type.time.pure.ZonedDateTimeType;
 import com.gs.dmn.runtime.DMNRuntimeException;
 import com.gs.dmn.runtime.LambdaExpression;
-import com.sun.org.apache.xerces.internal.jaxp.DocumentBuilderFactoryImpl;
-import net.sf.saxon.xpath.XPathFactoryImpl;
 import org.apache.commons.lang3.StringUtils;
-import org.w3c.dom.Document;
-import org.xml.sax.SAXException;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
+
 import java.math.BigDecimal;
 import java.time.*;
 import java.time.temporal.ChronoUnit;
@@ -48,17 +35,19 @@ import java.util.Comparator;
 import java.util.List;
 
 public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, OffsetTime, ZonedDateTime, TemporalAmount> implements StandardFEELLib<BigDecimal, LocalDate, OffsetTime, ZonedDateTime, TemporalAmount> {
+    // The types are stateless, all the instances share them
+    private static final DefaultNumericType NUMERIC_TYPE = new DefaultNumericType(LOGGER);
+    private static final DefaultBooleanType BOOLEAN_TYPE = new DefaultBooleanType(LOGGER);
+    private static final DefaultStringType STRING_TYPE = new DefaultStringType(LOGGER);
+    private static final LocalDateType DATE_TYPE = new LocalDateType(LOGGER);
+    private static final OffsetTimeType TIME_TYPE = new OffsetTimeType(LOGGER);
+    private static final ZonedDateTimeType DATE_TIME_TYPE = new ZonedDateTimeType(LOGGER);
+    private static final TemporalAmountDurationType DURATION_TYPE = new TemporalAmountDurationType(LOGGER);
+    private static final DefaultListType LIST_TYPE = new DefaultListType(LOGGER);
+    private static final DefaultContextType CONTEXT_TYPE = new DefaultContextType(LOGGER);
+
     public PureJavaTimeFEELLib() {
-        super(new DefaultNumericType(LOGGER),
-                new DefaultBooleanType(LOGGER),
-                new DefaultStringType(LOGGER),
-                new LocalDateType(LOGGER),
-                new OffsetTimeType(LOGGER),
-                new ZonedDateTimeType(LOGGER),
-                new TemporalAmountDurationType(LOGGER),
-                new DefaultListType(LOGGER),
-                new DefaultContextType(LOGGER)
-        );
+        super(NUMERIC_TYPE, BOOLEAN_TYPE, STRING_TYPE, DATE_TYPE, TIME_TYPE, DATE_TIME_TYPE, DURATION_TYPE, LIST_TYPE, CONTEXT_TYPE);
     }
 
     //
@@ -74,8 +63,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return new BigDecimal(literal, DefaultNumericType.MATH_CONTEXT);
         } catch (Throwable e) {
-            String message = String.format("number(%s)", literal);
-            logError(message, e);
+            handleError(e, "number(%s)", literal);
             return null;
         }
     }
@@ -107,8 +95,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
             }
             return number(from);
         } catch (Throwable e) {
-            String message = String.format("number(%s, %s, %s)", from, groupingSeparator, decimalSeparator);
-            logError(message, e);
+            handleError(e, "number(%s, %s, %s)", from, groupingSeparator, decimalSeparator);
             return null;
         }
     }
@@ -126,8 +113,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
             }
             return LocalDate.parse(literal, DateTimeUtil.FEEL_DATE_FORMAT);
         } catch (Exception e) {
-            String message = String.format("date(%s)", literal);
-            logError(message, e);
+            handleError(e, "date(%s)", literal);
             return null;
         }
     }
@@ -166,8 +152,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
                 return OffsetTime.parse(literal + "Z");
             }
         } catch (Exception e) {
-            String message = String.format("time(%s)", literal);
-            logError(message, e);
+            handleError(e, "time(%s)", literal);
             return null;
         }
     }
@@ -184,8 +169,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
             ZoneOffset zoneOffset = ZoneOffset.ofHoursMinutes((int)hours, (int)minutes);
             return OffsetTime.of(hour.intValue(), minute.intValue(), second.intValue(), 0, zoneOffset);
         } catch (Throwable e) {
-            String message = String.format("time(%s, %s, %s, %s)", hour, minute, second, offset);
-            logError(message, e);
+            handleError(e, "time(%s, %s, %s, %s)", hour, minute, second, offset);
             return null;
         }
     }
@@ -234,8 +218,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             throw new DMNRuntimeException("Not supported yet");
         } catch (Throwable e) {
-            String message = String.format("duration(%s)", from);
-            logError(message, e);
+            handleError(e, "duration(%s)", from);
             return null;
         }
     }
@@ -245,8 +228,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
             Duration.ofSeconds(milliseconds / 1000, (milliseconds % 1000) * 1000);
             throw new DMNRuntimeException("Not supported yet");
         } catch (Throwable e) {
-            String message = String.format("duration(%d)", milliseconds);
-            logError(message, e);
+            handleError(e, "duration(%d)", milliseconds);
             return null;
         }
     }
@@ -260,8 +242,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return Duration.between(from, to);
         } catch (Throwable e) {
-            String message = String.format("yearsAndMonthsDuration(%s, %s)", from, to);
-            logError(message, e);
+            handleError(e, "yearsAndMonthsDuration(%s, %s)", from, to);
             return null;
         }
     }
@@ -274,8 +255,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return ZonedDateTime.parse(literal, DateTimeUtil.FEEL_DATE_TIME_FORMAT);
         } catch (Throwable e) {
-            String message = String.format("makeXMLCalendar(%s)", literal);
-            logError(message, e);
+            handleError(e, "makeXMLCalendar(%s)", literal);
             return null;
         }
     }
@@ -295,8 +275,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
                 return makeZonedDateTime(literal + "Z");
             }
         } catch (Throwable e) {
-            String message = String.format("makeDateTime(%s)", literal);
-            logError(message, e);
+            handleError(e, "makeDateTime(%s)", literal);
             return null;
         }
     }
@@ -325,8 +304,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimalUtil.decimal(n, scale);
         } catch (Throwable e) {
-            String message = String.format("decimal(%s, %s)", n, scale);
-            logError(message, e);
+            handleError(e, "decimal(%s, %s)", n, scale);
             return null;
         }
     }
@@ -336,8 +314,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimalUtil.floor(number);
         } catch (Throwable e) {
-            String message = String.format("fllor(%s)", number);
-            logError(message, e);
+            handleError(e, "fllor(%s)", number);
             return null;
         }
     }
@@ -347,8 +324,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimalUtil.ceiling(number);
         } catch (Throwable e) {
-            String message = String.format("ceiling(%s)", number);
-            logError(message, e);
+            handleError(e, "ceiling(%s)", number);
             return null;
         }
     }
@@ -358,8 +334,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimalUtil.abs(number);
         } catch (Throwable e) {
-            String message = String.format("abs(%s)", number);
-            logError(message, e);
+            handleError(e, "abs(%s)", number);
             return null;
         }
     }
@@ -369,8 +344,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimalUtil.modulo(divident, divisor);
         } catch (Throwable e) {
-            String message = String.format("modulo(%s, %s)", divident, divisor);
-            logError(message, e);
+            handleError(e, "modulo(%s, %s)", divident, divisor);
             return null;
         }
     }
@@ -380,8 +354,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimalUtil.sqrt(number);
         } catch (Throwable e) {
-            String message = String.format("sqrt(%s)", number);
-            logError(message, e);
+            handleError(e, "sqrt(%s)", number);
             return null;
         }
     }
@@ -391,8 +364,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimalUtil.log(number);
         } catch (Throwable e) {
-            String message = String.format("log(%s)", number);
-            logError(message, e);
+            handleError(e, "log(%s)", number);
             return null;
         }
     }
@@ -402,8 +374,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimalUtil.exp(number);
         } catch (Throwable e) {
-            String message = String.format("exp(%s)", number);
-            logError(message, e);
+            handleError(e, "exp(%s)", number);
             return null;
         }
     }
@@ -413,8 +384,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimalUtil.odd(number);
         } catch (Throwable e) {
-            String message = String.format("odd(%s)", number);
-            logError(message, e);
+            handleError(e, "odd(%s)", number);
             return null;
         }
     }
@@ -424,8 +394,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimalUtil.even(number);
         } catch (Throwable e) {
-            String message = String.format("odd(%s)", number);
-            logError(message, e);
+            handleError(e, "odd(%s)", number);
             return null;
         }
     }
@@ -439,8 +408,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return min(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("min(%s)", args);
-            logError(message, e);
+            handleError(e, "min(%s)", args);
             return null;
         }
     }
@@ -454,8 +422,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return max(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("max(%s)", args);
-            logError(message, e);
+            handleError(e, "max(%s)", args);
             return null;
         }
     }
@@ -469,8 +436,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return sum(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("sum(%s)", args);
-            logError(message, e);
+            handleError(e, "sum(%s)", args);
             return null;
         }
     }
@@ -480,8 +446,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimalUtil.mean(list);
         } catch (Throwable e) {
-            String message = String.format("mean(%s)", list);
-            logError(message, e);
+            handleError(e, "mean(%s)", list);
             return null;
         }
     }
@@ -495,8 +460,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return mean(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("mean(%s)", args);
-            logError(message, e);
+            handleError(e, "mean(%s)", args);
             return null;
         }
     }
@@ -597,11 +561,9 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         }
 
         try {
-            String expression = String.format("replace(/root, '%s', '%s', '%s')", pattern, replacement, flags);
-            return evaluateXPath(input, expression);
+            return RegexUtil.replace(input, pattern, replacement, flags);
         } catch (Throwable e) {
-            String message = String.format("replace(%s, %s, %s, %s)", input, pattern, replacement, flags);
-            logError(message, e);
+            handleError(e, "replace(%s, %s, %s, %s)", input, pattern, replacement, flags);
             return null;
         }
     }
@@ -621,12 +583,9 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         }
 
         try {
-            String expression = String.format("/root[matches(., '%s', '%s')]", pattern, flags);
-            String value = evaluateXPath(input, expression);
-            return input.equals(value);
+            return RegexUtil.matches(input, pattern, flags);
         } catch (Throwable e) {
-            String message = String.format("matches(%s, %s, %s)", input, pattern, flags);
-            logError(message, e);
+            handleError(e, "matches(%s, %s, %s)", input, pattern, flags);
             return null;
         }
     }
@@ -636,26 +595,11 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return StringUtil.split(string, delimiter);
         } catch (Throwable e) {
-            String message = String.format("split(%s, %s)", string, delimiter);
-            logError(message, e);
+            handleError(e, "split(%s, %s)", string, delimiter);
             return null;
         }
     }
 
-    private String evaluateXPath(String input, String expression) throws ParserConfigurationException, SAXException, IOException, XPathExpressionException {
-        // Read document
-        String xml = "<root>" + input + "</root>";
-        DocumentBuilderFactory documentBuilderFactory = new DocumentBuilderFactoryImpl();
-        DocumentBuilder docBuilder = documentBuilderFactory.newDocumentBuilder();
-        InputStream inputStream = new ByteArrayInputStream(xml.getBytes());
-        Document document = docBuilder.parse(inputStream);
-
-        // Evaluate xpath
-        XPathFactory xPathFactory = new XPathFactoryImpl();
-        XPath xPath = xPathFactory.newXPath();
-        return xPath.evaluate(expression, document.getDocumentElement());
-    }
-
     //
     // Boolean functions
     //
@@ -684,8 +628,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
                 return null;
             }
         } catch (Throwable e) {
-            String message = String.format("and(%s)", list);
-            logError(message, e);
+            handleError(e, "and(%s)", list);
             return null;
         }
     }
@@ -699,8 +642,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return all(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("and(%s)", args);
-            logError(message, e);
+            handleError(e, "and(%s)", args);
             return null;
         }
     }
@@ -730,8 +672,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
                 return null;
             }
         } catch (Throwable e) {
-            String message = String.format("or(%s)", list);
-            logError(message, e);
+            handleError(e, "or(%s)", list);
             return null;
         }
     }
@@ -745,8 +686,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return any(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("or(%s)", args);
-            logError(message, e);
+            handleError(e, "or(%s)", args);
             return null;
         }
     }
@@ -763,8 +703,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimal.valueOf(date.getYear());
         } catch (Exception e) {
-            String message = String.format("year(%s)", date);
-            logError(message, e);
+            handleError(e, "year(%s)", date);
             return null;
         }
     }
@@ -772,8 +711,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimal.valueOf(dateTime.getYear());
         } catch (Exception e) {
-            String message = String.format("year(%s)", dateTime);
-            logError(message, e);
+            handleError(e, "year(%s)", dateTime);
             return null;
         }
     }
@@ -782,8 +720,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimal.valueOf(date.getMonth().getValue());
         } catch (Exception e) {
-            String message = String.format("month(%s)", date);
-            logError(message, e);
+            handleError(e, "month(%s)", date);
             return null;
         }
     }
@@ -791,8 +728,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimal.valueOf(dateTime.getMonth().getValue());
         } catch (Exception e) {
-            String message = String.format("month(%s)", dateTime);
-            logError(message, e);
+            handleError(e, "month(%s)", dateTime);
             return null;
         }
     }
@@ -801,8 +737,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimal.valueOf(date.getDayOfMonth());
         } catch (Exception e) {
-            String message = String.format("day(%s)", date);
-            logError(message, e);
+            handleError(e, "day(%s)", date);
             return null;
         }
     }
@@ -810,8 +745,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimal.valueOf(dateTime.getDayOfMonth());
         } catch (Exception e) {
-            String message = String.format("day(%s)", dateTime);
-            logError(message, e);
+            handleError(e, "day(%s)", dateTime);
             return null;
         }
     }
@@ -819,8 +753,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimal.valueOf(date.getDayOfWeek().getValue());
         } catch (Exception e) {
-            String message = String.format("day(%s)", date);
-            logError(message, e);
+            handleError(e, "day(%s)", date);
             return null;
         }
     }
@@ -828,8 +761,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimal.valueOf(dateTime.getDayOfWeek().getValue());
         } catch (Exception e) {
-            String message = String.format("day(%s)", dateTime);
-            logError(message, e);
+            handleError(e, "day(%s)", dateTime);
             return null;
         }
     }
@@ -941,8 +873,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimalUtil.min(list);
         } catch (Throwable e) {
-            String message = String.format("min(%s)", list);
-            logError(message, e);
+            handleError(e, "min(%s)", list);
             return null;
         }
     }
@@ -952,8 +883,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimalUtil.max(list);
         } catch (Throwable e) {
-            String message = String.format("max(%s)", list);
-            logError(message, e);
+            handleError(e, "max(%s)", list);
             return null;
         }
     }
@@ -963,8 +893,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimalUtil.sum(list);
         } catch (Throwable e) {
-            String message = String.format("sum(%s)", list);
-            logError(message, e);
+            handleError(e, "sum(%s)", list);
             return null;
         }
     }
@@ -1138,8 +1067,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimalUtil.product(list);
         } catch (Throwable e) {
-            String message = String.format("product(%s)", list);
-            logError(message, e);
+            handleError(e, "product(%s)", list);
             return null;
         }
     }
@@ -1153,8 +1081,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return product(Arrays.asList(numbers));
         } catch (Throwable e) {
-            String message = String.format("sum(%s)", numbers);
-            logError(message, e);
+            handleError(e, "sum(%s)", numbers);
             return null;
         }
     }
@@ -1164,8 +1091,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimalUtil.median(list);
         } catch (Throwable e){
-            String message = String.format("median(%s)", list);
-            logError(message, e);
+            handleError(e, "median(%s)", list);
             return null;
         }
     }
@@ -1179,8 +1105,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return median(Arrays.asList(numbers));
         } catch (Throwable e) {
-            String message = String.format("median(%s)", numbers);
-            logError(message, e);
+            handleError(e, "median(%s)", numbers);
             return null;
         }
     }
@@ -1190,8 +1115,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimalUtil.stddev(list);
         } catch (Throwable e) {
-            String message = String.format("stddev(%s)", list);
-            logError(message, e);
+            handleError(e, "stddev(%s)", list);
             return null;
         }
     }
@@ -1205,8 +1129,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return stddev(Arrays.asList(numbers));
         } catch (Throwable e) {
-            String message = String.format("stddev(%s)", numbers);
-            logError(message, e);
+            handleError(e, "stddev(%s)", numbers);
             return null;
         }
     }
@@ -1216,8 +1139,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return BigDecimalUtil.mode(list);
         } catch (Throwable e) {
-            String message = String.format("mode(%s)", list);
-            logError(message, e);
+            handleError(e, "mode(%s)", list);
             return null;
         }
     }
@@ -1231,8 +1153,7 @@ public class PureJavaTimeFEELLib extends BaseFEELLib<BigDecimal, LocalDate, Offs
         try {
             return mode(Arrays.asList(numbers));
         } catch (Throwable e) {
-            String message = String.format("mode(%s)", numbers);
-            logError(message, e);
+            handleError(e, "mode(%s)", numbers);
             return null;
         }
     }
@@ -0,0 +1,61 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel.lib;
+
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.runtime.cache.MemoizationCache;
+import net.sf.saxon.functions.Replace;
+import net.sf.saxon.regex.ARegularExpression;
+import net.sf.saxon.regex.RegularExpression;
+import net.sf.saxon.trans.XPathException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+// XPath 3.0 regular expressions (XSD syntax and the flags s, m, i, x and q) evaluated with the Saxon regex engine.
+// Compiled expressions are immutable and shared by all the threads.
+public class RegexUtil {
+    private static final int MAXIMUM_CACHE_SIZE = 1000;
+    private static final MemoizationCache CACHE = new MemoizationCache(MAXIMUM_CACHE_SIZE);
+
+    public static boolean matches(String input, String pattern, String flags) {
+        RegularExpression regex = compile(pattern, flags);
+        return regex.containsMatch(input);
+    }
+
+    public static String replace(String input, String pattern, String replacement, String flags) {
+        RegularExpression regex = compile(pattern, flags);
+        if (regex.matches("")) {
+            throw new DMNRuntimeException(String.format("Pattern '%s' matches a zero-length string", pattern));
+        }
+        String message = Replace.checkReplacement(replacement);
+        if (message != null) {
+            throw new DMNRuntimeException(String.format("Illegal replacement '%s': %s", replacement, message));
+        }
+        try {
+            return regex.replace(input, replacement).toString();
+        } catch (XPathException e) {
+            throw new DMNRuntimeException(String.format("Cannot replace '%s' with '%s' in '%s'", pattern, replacement, input), e);
+        }
+    }
+
+    private static RegularExpression compile(String pattern, String flags) {
+        return CACHE.computeIfAbsent("regex", Arrays.<Object>asList(pattern, flags), () -> {
+            try {
+                return new ARegularExpression(pattern, flags, "XP30", new ArrayList<>());
+            } catch (XPathException e) {
+                throw new DMNRuntimeException(String.format("Invalid regular expression '%s' with flags '%s'", pattern, flags), e);
+            }
+        });
+    }
+}
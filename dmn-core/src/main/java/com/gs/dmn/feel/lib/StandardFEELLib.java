@@ -12,6 +12,7 @@
  */
 package com.gs.dmn.feel.lib;
 
+import com.gs.dmn.feel.lib.error.FEELErrorHandlers;
 import com.gs.dmn.runtime.LambdaExpression;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,11 +23,20 @@ public interface StandardFEELLib<NUMBER, DATE, TIME, DATE_TIME, DURATION> extend
     static final Logger LOGGER = LoggerFactory.getLogger(StandardFEELLib.class);
 
     default void logError(String message) {
-        LOGGER.error(message);
+        FEELErrorHandlers.getErrorHandler().handleError(LOGGER, null, message);
     }
 
     default void logError(String message, Throwable e) {
-        LOGGER.error(message, e);
+        FEELErrorHandlers.getErrorHandler().handleError(LOGGER, e, message);
+    }
+
+    // The message is formatted by the error handler, only when needed
+    default void handleError(String format, Object... args) {
+        FEELErrorHandlers.getErrorHandler().handleError(LOGGER, null, format, args);
+    }
+
+    default void handleError(Throwable e, String format, Object... args) {
+        FEELErrorHandlers.getErrorHandler().handleError(LOGGER, e, format, args);
     }
 
     //
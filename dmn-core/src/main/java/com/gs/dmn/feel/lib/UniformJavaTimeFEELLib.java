@@ -22,23 +22,10 @@ import com.gs.dmn.feel.lib.type.time.uniform.ZonedDateType;
 import com.gs.dmn.feel.lib.type.time.uniform.ZonedTimeType;
 import com.gs.dmn.feel.lib.type.time.xml.DefaultDurationType;
 import com.gs.dmn.runtime.LambdaExpression;
-import com.sun.org.apache.xerces.internal.jaxp.DocumentBuilderFactoryImpl;
-import net.sf.saxon.xpath.XPathFactoryImpl;
 import org.apache.commons.lang3.StringUtils;
-import org.w3c.dom.Document;
-import org.xml.sax.SAXException;
 
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.Duration;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.*;
 import java.util.ArrayList;
@@ -49,17 +36,19 @@ import java.util.List;
 public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTime, ZonedDateTime, ZonedDateTime, Duration> implements StandardFEELLib<BigDecimal, ZonedDateTime, ZonedDateTime, ZonedDateTime, Duration> {
     private static final DatatypeFactory DATA_TYPE_FACTORY = XMLDatataypeFactory.newInstance();
 
+    // The types are stateless, all the instances share them
+    private static final DefaultNumericType NUMERIC_TYPE = new DefaultNumericType(LOGGER);
+    private static final DefaultBooleanType BOOLEAN_TYPE = new DefaultBooleanType(LOGGER);
+    private static final DefaultStringType STRING_TYPE = new DefaultStringType(LOGGER);
+    private static final ZonedDateType DATE_TYPE = new ZonedDateType(LOGGER, DATA_TYPE_FACTORY);
+    private static final ZonedTimeType TIME_TYPE = new ZonedTimeType(LOGGER, DATA_TYPE_FACTORY);
+    private static final ZonedDateTimeType DATE_TIME_TYPE = new ZonedDateTimeType(LOGGER, DATA_TYPE_FACTORY);
+    private static final DefaultDurationType DURATION_TYPE = new DefaultDurationType(LOGGER);
+    private static final DefaultListType LIST_TYPE = new DefaultListType(LOGGER);
+    private static final DefaultContextType CONTEXT_TYPE = new DefaultContextType(LOGGER);
+
     public UniformJavaTimeFEELLib() {
-        super(new DefaultNumericType(LOGGER),
-                new DefaultBooleanType(LOGGER),
-                new DefaultStringType(LOGGER),
-                new ZonedDateType(LOGGER, DATA_TYPE_FACTORY),
-                new ZonedTimeType(LOGGER, DATA_TYPE_FACTORY),
-                new ZonedDateTimeType(LOGGER, DATA_TYPE_FACTORY),
-                new DefaultDurationType(LOGGER),
-                new DefaultListType(LOGGER),
-                new DefaultContextType(LOGGER)
-        );
+        super(NUMERIC_TYPE, BOOLEAN_TYPE, STRING_TYPE, DATE_TYPE, TIME_TYPE, DATE_TIME_TYPE, DURATION_TYPE, LIST_TYPE, CONTEXT_TYPE);
     }
 
     //
@@ -75,8 +64,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return new BigDecimal(literal, DefaultNumericType.MATH_CONTEXT);
         } catch (Throwable e) {
-            String message = String.format("number(%s)", literal);
-            logError(message, e);
+            handleError(e, "number(%s)", literal);
             return null;
         }
     }
@@ -108,8 +96,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
             }
             return number(from);
         } catch (Throwable e) {
-            String message = String.format("number(%s, %s, %s)", from, groupingSeparator, decimalSeparator);
-            logError(message, e);
+            handleError(e, "number(%s, %s, %s)", from, groupingSeparator, decimalSeparator);
             return null;
         }
     }
@@ -127,15 +114,13 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
             }
 
             if (DateTimeUtil.hasTime(literal) || DateTimeUtil.hasZone(literal)) {
-                String message = String.format("date(%s)", literal);
-                logError(message);
+                handleError("date(%s)", literal);
                 return null;
             } else {
                 return DateTimeUtil.makeLocalDate(literal).atStartOfDay(DateTimeUtil.UTC);
             }
         } catch (Exception e) {
-            String message = String.format("date(%s)", literal);
-            logError(message, e);
+            handleError(e, "date(%s)", literal);
             return null;
         }
     }
@@ -170,8 +155,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
             // Make ZonedDateTime
             return ZonedDateTime.of(LocalDateTime.of(LocalDate.MIN, offsetTime.toLocalTime()), offset);
         } catch (Exception e) {
-            String message = String.format("time(%s)", literal);
-            logError(message, e);
+            handleError(e, "time(%s)", literal);
             return null;
         }
     }
@@ -209,8 +193,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
                 return ZonedDateTime.of(LocalDateTime.of(LocalDate.MIN, offsetTime.toLocalTime()), DateTimeUtil.UTC);
             }
         } catch (Throwable e) {
-            String message = String.format("time(%s, %s, %s, %s)", hour, minute, second, offset);
-            logError(message, e);
+            handleError(e, "time(%s, %s, %s, %s)", hour, minute, second, offset);
             return null;
         }
     }
@@ -251,8 +234,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
                     time.getHour(), time.getMinute(), time.getSecond(), time.getNano(), time.getZone()
             );
         } catch (Throwable e) {
-            String message = String.format("dateAndTime(%s, %s)", date, time);
-            logError(message, e);
+            handleError(e, "dateAndTime(%s, %s)", date, time);
             return null;
         }
     }
@@ -266,8 +248,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return DATA_TYPE_FACTORY.newDuration(from);
         } catch (Throwable e) {
-            String message = String.format("duration(%s)", from);
-            logError(message, e);
+            handleError(e, "duration(%s)", from);
             return null;
         }
     }
@@ -281,8 +262,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return DateTimeUtil.toYearsMonthDuration(DATA_TYPE_FACTORY, to.toLocalDate(), from.toLocalDate());
         } catch (Throwable e) {
-            String message = String.format("yearsAndMonthsDuration(%s, %s)", from, to);
-            logError(message, e);
+            handleError(e, "yearsAndMonthsDuration(%s, %s)", from, to);
             return null;
         }
     }
@@ -295,8 +275,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return ZonedDateTime.parse(literal, DateTimeUtil.FEEL_DATE_TIME_FORMAT);
         } catch (Throwable e) {
-            String message = String.format("makeXMLCalendar(%s)", literal);
-            logError(message, e);
+            handleError(e, "makeXMLCalendar(%s)", literal);
             return null;
         }
     }
@@ -309,8 +288,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return DateTimeUtil.makeDateTime(literal);
         } catch (Throwable e) {
-            String message = String.format("makeDateTime(%s)", literal);
-            logError(message, e);
+            handleError(e, "makeDateTime(%s)", literal);
             return null;
         }
     }
@@ -333,8 +311,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return BigDecimalUtil.decimal(n, scale);
         } catch (Throwable e) {
-            String message = String.format("decimal(%s, %s)", n, scale);
-            logError(message, e);
+            handleError(e, "decimal(%s, %s)", n, scale);
             return null;
         }
     }
@@ -344,8 +321,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return BigDecimalUtil.floor(number);
         } catch (Throwable e) {
-            String message = String.format("fllor(%s)", number);
-            logError(message, e);
+            handleError(e, "fllor(%s)", number);
             return null;
         }
     }
@@ -355,8 +331,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return BigDecimalUtil.ceiling(number);
         } catch (Throwable e) {
-            String message = String.format("ceiling(%s)", number);
-            logError(message, e);
+            handleError(e, "ceiling(%s)", number);
             return null;
         }
     }
@@ -366,8 +341,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return BigDecimalUtil.abs(number);
         } catch (Throwable e) {
-            String message = String.format("abs(%s)", number);
-            logError(message, e);
+            handleError(e, "abs(%s)", number);
             return null;
         }
     }
@@ -377,8 +351,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return BigDecimalUtil.modulo(divident, divisor);
         } catch (Throwable e) {
-            String message = String.format("modulo(%s, %s)", divident, divisor);
-            logError(message, e);
+            handleError(e, "modulo(%s, %s)", divident, divisor);
             return null;
         }
     }
@@ -388,8 +361,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return BigDecimalUtil.sqrt(number);
         } catch (Throwable e) {
-            String message = String.format("sqrt(%s)", number);
-            logError(message, e);
+            handleError(e, "sqrt(%s)", number);
             return null;
         }
     }
@@ -399,8 +371,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return BigDecimalUtil.log(number);
         } catch (Throwable e) {
-            String message = String.format("log(%s)", number);
-            logError(message, e);
+            handleError(e, "log(%s)", number);
             return null;
         }
     }
@@ -410,8 +381,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return BigDecimalUtil.exp(number);
         } catch (Throwable e) {
-            String message = String.format("exp(%s)", number);
-            logError(message, e);
+            handleError(e, "exp(%s)", number);
             return null;
         }
     }
@@ -421,8 +391,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return BigDecimalUtil.odd(number);
         } catch (Throwable e) {
-            String message = String.format("odd(%s)", number);
-            logError(message, e);
+            handleError(e, "odd(%s)", number);
             return null;
         }
     }
@@ -432,8 +401,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return BigDecimalUtil.even(number);
         } catch (Throwable e) {
-            String message = String.format("odd(%s)", number);
-            logError(message, e);
+            handleError(e, "odd(%s)", number);
             return null;
         }
     }
@@ -447,8 +415,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return min(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("min(%s)", args);
-            logError(message, e);
+            handleError(e, "min(%s)", args);
             return null;
         }
     }
@@ -462,8 +429,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return max(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("max(%s)", args);
-            logError(message, e);
+            handleError(e, "max(%s)", args);
             return null;
         }
     }
@@ -477,8 +443,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return sum(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("sum(%s)", args);
-            logError(message, e);
+            handleError(e, "sum(%s)", args);
             return null;
         }
     }
@@ -488,8 +453,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return BigDecimalUtil.mean(list);
         } catch (Throwable e) {
-            String message = String.format("mean(%s)", list);
-            logError(message, e);
+            handleError(e, "mean(%s)", list);
             return null;
         }
     }
@@ -503,8 +467,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return mean(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("mean(%s)", args);
-            logError(message, e);
+            handleError(e, "mean(%s)", args);
             return null;
         }
     }
@@ -605,11 +568,9 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         }
 
         try {
-            String expression = String.format("replace(/root, '%s', '%s', '%s')", pattern, replacement, flags);
-            return evaluateXPath(input, expression);
+            return RegexUtil.replace(input, pattern, replacement, flags);
         } catch (Throwable e) {
-            String message = String.format("replace(%s, %s, %s, %s)", input, pattern, replacement, flags);
-            logError(message, e);
+            handleError(e, "replace(%s, %s, %s, %s)", input, pattern, replacement, flags);
             return null;
         }
     }
@@ -629,12 +590,9 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         }
 
         try {
-            String expression = String.format("/root[matches(., '%s', '%s')]", pattern, flags);
-            String value = evaluateXPath(input, expression);
-            return input.equals(value);
+            return RegexUtil.matches(input, pattern, flags);
         } catch (Throwable e) {
-            String message = String.format("matches(%s, %s, %s)", input, pattern, flags);
-            logError(message, e);
+            handleError(e, "matches(%s, %s, %s)", input, pattern, flags);
             return null;
         }
     }
@@ -644,26 +602,11 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return StringUtil.split(string, delimiter);
         } catch (Throwable e) {
-            String message = String.format("split(%s, %s)", string, delimiter);
-            logError(message, e);
+            handleError(e, "split(%s, %s)", string, delimiter);
             return null;
         }
     }
 
-    private String evaluateXPath(String input, String expression) throws ParserConfigurationException, SAXException, IOException, XPathExpressionException {
-        // Read document
-        String xml = "<root>" + input + "</root>";
-        DocumentBuilderFactory documentBuilderFactory = new DocumentBuilderFactoryImpl();
-        DocumentBuilder docBuilder = documentBuilderFactory.newDocumentBuilder();
-        InputStream inputStream = new ByteArrayInputStream(xml.getBytes());
-        Document document = docBuilder.parse(inputStream);
-
-        // Evaluate xpath
-        XPathFactory xPathFactory = new XPathFactoryImpl();
-        XPath xPath = xPathFactory.newXPath();
-        return xPath.evaluate(expression, document.getDocumentElement());
-    }
-
     //
     // Boolean functions
     //
@@ -692,8 +635,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
                 return null;
             }
         } catch (Throwable e) {
-            String message = String.format("and(%s)", list);
-            logError(message, e);
+            handleError(e, "and(%s)", list);
             return null;
         }
     }
@@ -707,8 +649,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return all(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("and(%s)", args);
-            logError(message, e);
+            handleError(e, "and(%s)", args);
             return null;
         }
     }
@@ -738,8 +679,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
                 return null;
             }
         } catch (Throwable e) {
-            String message = String.format("or(%s)", list);
-            logError(message, e);
+            handleError(e, "or(%s)", list);
             return null;
         }
     }
@@ -753,8 +693,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return any(Arrays.asList(args));
         } catch (Throwable e) {
-            String message = String.format("or(%s)", args);
-            logError(message, e);
+            handleError(e, "or(%s)", args);
             return null;
         }
     }
@@ -771,8 +710,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return BigDecimal.valueOf(date.getYear());
         } catch (Exception e) {
-            String message = String.format("year(%s)", date);
-            logError(message, e);
+            handleError(e, "year(%s)", date);
             return null;
         }
     }
@@ -781,8 +719,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return BigDecimal.valueOf(date.getMonth().getValue());
         } catch (Exception e) {
-            String message = String.format("month(%s)", date);
-            logError(message, e);
+            handleError(e, "month(%s)", date);
             return null;
         }
     }
@@ -791,8 +728,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return BigDecimal.valueOf(date.getDayOfMonth());
         } catch (Exception e) {
-            String message = String.format("day(%s)", date);
-            logError(message, e);
+            handleError(e, "day(%s)", date);
             return null;
         }
     }
@@ -801,8 +737,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return BigDecimal.valueOf(date.getDayOfWeek().getValue());
         } catch (Exception e) {
-            String message = String.format("day(%s)", date);
-            logError(message, e);
+            handleError(e, "day(%s)", date);
             return null;
         }
     }
@@ -897,8 +832,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return BigDecimalUtil.min(list);
         } catch (Throwable e) {
-            String message = String.format("min(%s)", list);
-            logError(message, e);
+            handleError(e, "min(%s)", list);
             return null;
         }
     }
@@ -908,8 +842,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return BigDecimalUtil.max(list);
         } catch (Throwable e) {
-            String message = String.format("max(%s)", list);
-            logError(message, e);
+            handleError(e, "max(%s)", list);
             return null;
         }
     }
@@ -919,8 +852,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return BigDecimalUtil.sum(list);
         } catch (Throwable e) {
-            String message = String.format("sum(%s)", list);
-            logError(message, e);
+            handleError(e, "sum(%s)", list);
             return null;
         }
     }
@@ -1094,8 +1026,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return BigDecimalUtil.product(list);
         } catch (Throwable e) {
-            String message = String.format("product(%s)", list);
-            logError(message, e);
+            handleError(e, "product(%s)", list);
             return null;
         }
     }
@@ -1109,8 +1040,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return product(Arrays.asList(numbers));
         } catch (Throwable e) {
-            String message = String.format("sum(%s)", numbers);
-            logError(message, e);
+            handleError(e, "sum(%s)", numbers);
             return null;
         }
     }
@@ -1120,8 +1050,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return BigDecimalUtil.median(list);
         } catch (Throwable e){
-            String message = String.format("median(%s)", list);
-            logError(message, e);
+            handleError(e, "median(%s)", list);
             return null;
         }
     }
@@ -1135,8 +1064,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return median(Arrays.asList(numbers));
         } catch (Throwable e) {
-            String message = String.format("median(%s)", numbers);
-            logError(message, e);
+            handleError(e, "median(%s)", numbers);
             return null;
         }
     }
@@ -1146,8 +1074,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return BigDecimalUtil.stddev(list);
         } catch (Throwable e) {
-            String message = String.format("stddev(%s)", list);
-            logError(message, e);
+            handleError(e, "stddev(%s)", list);
             return null;
         }
     }
@@ -1161,8 +1088,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return stddev(Arrays.asList(numbers));
         } catch (Throwable e) {
-            String message = String.format("stddev(%s)", numbers);
-            logError(message, e);
+            handleError(e, "stddev(%s)", numbers);
             return null;
         }
     }
@@ -1172,8 +1098,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return BigDecimalUtil.mode(list);
         } catch (Throwable e) {
-            String message = String.format("mode(%s)", list);
-            logError(message, e);
+            handleError(e, "mode(%s)", list);
             return null;
         }
     }
@@ -1187,8 +1112,7 @@ public class UniformJavaTimeFEELLib extends BaseFEELLib<BigDecimal, ZonedDateTim
         try {
             return mode(Arrays.asList(numbers));
         } catch (Throwable e) {
-            String message = String.format("mode(%s)", numbers);
-            logError(message, e);
+            handleError(e, "mode(%s)", numbers);
             return null;
         }
     }
@@ -0,0 +1,84 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel.lib.error;
+
+import org.slf4j.Logger;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Counts the errors per function and logs only a sample of them, without stack traces (available at debug level).
+// The first 'logFirst' errors of each function are logged, then one in 'logEvery'
+public class CountingFEELErrorHandler implements FEELErrorHandler {
+    private final int logFirst;
+    private final int logEvery;
+    // Keys are the message formats, they are constants
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public CountingFEELErrorHandler() {
+        this(10, 1000);
+    }
+
+    public CountingFEELErrorHandler(int logFirst, int logEvery) {
+        this.logFirst = logFirst;
+        this.logEvery = logEvery;
+    }
+
+    @Override
+    public void handleError(Logger logger, Throwable e, String format, Object... args) {
+        LongAdder counter = counters.get(format);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(format, k -> new LongAdder());
+        }
+        counter.increment();
+
+        long count = counter.sum();
+        if (count <= logFirst || (logEvery > 0 && count % logEvery == 0)) {
+            String message = String.format("%s (error %d for '%s')", FEELErrorHandler.message(format, args), count, functionName(format));
+            if (e == null) {
+                logger.error(message);
+            } else if (logger.isDebugEnabled()) {
+                logger.debug(message, e);
+            } else {
+                logger.error(String.format("%s: %s", message, e));
+            }
+        }
+    }
+
+    public long getErrorCount() {
+        long result = 0;
+        for (LongAdder counter : counters.values()) {
+            result += counter.sum();
+        }
+        return result;
+    }
+
+    public Map<String, Long> getErrorCounts() {
+        Map<String, Long> result = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+            result.merge(functionName(entry.getKey()), entry.getValue().sum(), Long::sum);
+        }
+        return result;
+    }
+
+    public void reset() {
+        counters.clear();
+    }
+
+    private String functionName(String format) {
+        int index = format.indexOf('(');
+        return index == -1 ? format : format.substring(0, index);
+    }
+}
@@ -0,0 +1,25 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel.lib.error;
+
+import org.slf4j.Logger;
+
+// Called when a FEEL function fails. The message is formatted (String.format) only when needed.
+// The function returns null (FEEL semantics) unless the handler throws an exception
+public interface FEELErrorHandler {
+    void handleError(Logger logger, Throwable e, String format, Object... args);
+
+    static String message(String format, Object... args) {
+        return args == null || args.length == 0 ? format : String.format(format, args);
+    }
+}
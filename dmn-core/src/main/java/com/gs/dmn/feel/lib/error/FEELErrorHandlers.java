@@ -0,0 +1,53 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel.lib.error;
+
+import com.gs.dmn.runtime.DMNRuntimeException;
+
+// The FEEL types are shared by all the libs, the error handler is global.
+// The default handler can be set with the system property 'jdmn.feel.errorHandler' (class name)
+public class FEELErrorHandlers {
+    public static final String ERROR_HANDLER_PROPERTY = "jdmn.feel.errorHandler";
+
+    private static volatile FEELErrorHandler errorHandler = makeDefaultErrorHandler();
+
+    public static FEELErrorHandler getErrorHandler() {
+        return errorHandler;
+    }
+
+    public static void setErrorHandler(FEELErrorHandler errorHandler) {
+        if (errorHandler == null) {
+            throw new DMNRuntimeException("Missing FEEL error handler");
+        }
+        FEELErrorHandlers.errorHandler = errorHandler;
+    }
+
+    public static void resetErrorHandler() {
+        FEELErrorHandlers.errorHandler = makeDefaultErrorHandler();
+    }
+
+    private static FEELErrorHandler makeDefaultErrorHandler() {
+        String className = System.getProperty(ERROR_HANDLER_PROPERTY);
+        if (className == null || className.trim().isEmpty()) {
+            return new LoggingFEELErrorHandler();
+        }
+        try {
+            return (FEELErrorHandler) Class.forName(className.trim()).newInstance();
+        } catch (Exception e) {
+            throw new DMNRuntimeException(String.format("Cannot create FEEL error handler '%s'", className), e);
+        }
+    }
+
+    private FEELErrorHandlers() {
+    }
+}
@@ -0,0 +1,29 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel.lib.error;
+
+import com.gs.dmn.runtime.DMNRuntimeException;
+import org.slf4j.Logger;
+
+// Fails the evaluation instead of returning null
+public class StrictFEELErrorHandler implements FEELErrorHandler {
+    @Override
+    public void handleError(Logger logger, Throwable e, String format, Object... args) {
+        String message = FEELErrorHandler.message(format, args);
+        if (e == null) {
+            throw new DMNRuntimeException(message);
+        } else {
+            throw new DMNRuntimeException(message, e);
+        }
+    }
+}
@@ -12,6 +12,7 @@
  */
 package com.gs.dmn.feel.lib.type;
 
+import com.gs.dmn.feel.lib.error.FEELErrorHandlers;
 import org.slf4j.Logger;
 
 public abstract class BaseType {
@@ -22,10 +23,19 @@ public abstract class BaseType {
     }
 
     protected void logError(String message) {
-        logger.error(message);
+        FEELErrorHandlers.getErrorHandler().handleError(logger, null, message);
     }
 
     protected void logError(String message, Throwable e) {
-        logger.error(message, e);
+        FEELErrorHandlers.getErrorHandler().handleError(logger, e, message);
+    }
+
+    // The message is formatted by the error handler, only when needed
+    protected void handleError(String format, Object... args) {
+        FEELErrorHandlers.getErrorHandler().handleError(logger, null, format, args);
+    }
+
+    protected void handleError(Throwable e, String format, Object... args) {
+        FEELErrorHandlers.getErrorHandler().handleError(logger, e, format, args);
     }
 }
@@ -13,6 +13,7 @@
 package com.gs.dmn.feel.lib.type;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface BooleanType {
     Boolean booleanNot(Object operand);
@@ -29,6 +30,10 @@ public interface BooleanType {
 
     Boolean binaryBooleanAnd(Object first, Object second);
 
+    Boolean booleanSome(Stream<?> operands);
+
+    Boolean booleanEvery(Stream<?> operands);
+
     Boolean booleanEqual(Boolean first, Boolean second);
 
     Boolean booleanNotEqual(Boolean first, Boolean second);
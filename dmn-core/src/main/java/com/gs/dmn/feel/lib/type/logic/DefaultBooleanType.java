@@ -16,7 +16,9 @@ import com.gs.dmn.feel.lib.type.BaseType;
 import com.gs.dmn.feel.lib.type.BooleanType;
 import org.slf4j.Logger;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
@@ -110,6 +112,37 @@ public class DefaultBooleanType extends BaseType implements BooleanType {
         }
     }
 
+    // Consumes the stream until the first true, same result as or() applied to all operands
+    @Override
+    public Boolean booleanSome(Stream<?> operands) {
+        return quantify(operands, TRUE);
+    }
+
+    // Consumes the stream until the first false, same result as and() applied to all operands
+    @Override
+    public Boolean booleanEvery(Stream<?> operands) {
+        return quantify(operands, FALSE);
+    }
+
+    private Boolean quantify(Stream<?> operands, Boolean decisiveValue) {
+        if (operands == null) {
+            return null;
+        }
+
+        Boolean otherValue = !decisiveValue;
+        boolean undecided = false;
+        Iterator<?> iterator = operands.iterator();
+        while (iterator.hasNext()) {
+            Object operand = iterator.next();
+            if (operand == decisiveValue) {
+                return decisiveValue;
+            } else if (operand != otherValue) {
+                undecided = true;
+            }
+        }
+        return undecided ? null : otherValue;
+    }
+
     @Override
     public Boolean booleanEqual(Boolean first, Boolean second) {
         if (first == null && second == null) {
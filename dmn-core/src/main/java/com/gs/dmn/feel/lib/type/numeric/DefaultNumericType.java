@@ -41,8 +41,7 @@ public class DefaultNumericType extends BaseType implements NumericType<BigDecim
         try {
             return first.add(second, MATH_CONTEXT);
         } catch (Throwable e) {
-            String message = String.format("numericAdd(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "numericAdd(%s, %s)", first, second);
             return null;
         }
     }
@@ -56,8 +55,7 @@ public class DefaultNumericType extends BaseType implements NumericType<BigDecim
         try {
             return first.subtract(second, MATH_CONTEXT);
         } catch (Throwable e) {
-            String message = String.format("numericSubtract(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "numericSubtract(%s, %s)", first, second);
             return null;
         }
     }
@@ -71,8 +69,7 @@ public class DefaultNumericType extends BaseType implements NumericType<BigDecim
         try {
             return first.multiply(second, MATH_CONTEXT);
         } catch (Throwable e) {
-            String message = String.format("numericMultiply(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "numericMultiply(%s, %s)", first, second);
             return null;
         }
     }
@@ -82,8 +79,7 @@ public class DefaultNumericType extends BaseType implements NumericType<BigDecim
         try {
             return BigDecimalUtil.numericDivide(first, second);
         } catch (Throwable e) {
-            String message = String.format("numericDivide(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "numericDivide(%s, %s)", first, second);
             return null;
         }
     }
@@ -97,8 +93,7 @@ public class DefaultNumericType extends BaseType implements NumericType<BigDecim
         try {
             return first.negate(MATH_CONTEXT);
         } catch (Throwable e) {
-            String message = String.format("numericUnaryMinus(%s)", first);
-            logError(message, e);
+            handleError(e, "numericUnaryMinus(%s)", first);
             return null;
         }
     }
@@ -112,8 +107,7 @@ public class DefaultNumericType extends BaseType implements NumericType<BigDecim
         try {
             return numericExponentiation(first, second.intValue());
         } catch (Throwable e) {
-            String message = String.format("numericExponentiation(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "numericExponentiation(%s, %s)", first, second);
             return null;
         }
     }
@@ -133,8 +127,7 @@ public class DefaultNumericType extends BaseType implements NumericType<BigDecim
                 return BigDecimal.ONE.divide(temp, MATH_CONTEXT);
             }
         } catch (Throwable e) {
-            String message = String.format("numericExponentiation(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "numericExponentiation(%s, %s)", first, second);
             return null;
         }
     }
@@ -36,8 +36,7 @@ public class DoubleNumericType extends BaseType implements NumericType<Double> {
         try {
             return first + second;
         } catch (Throwable e) {
-            String message = String.format("numericAdd(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "numericAdd(%s, %s)", first, second);
             return null;
         }
     }
@@ -51,8 +50,7 @@ public class DoubleNumericType extends BaseType implements NumericType<Double> {
         try {
             return first - second;
         } catch (Throwable e) {
-            String message = String.format("numericSubtract(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "numericSubtract(%s, %s)", first, second);
             return null;
         }
     }
@@ -66,8 +64,7 @@ public class DoubleNumericType extends BaseType implements NumericType<Double> {
         try {
             return first * second;
         } catch (Throwable e) {
-            String message = String.format("numericMultiply(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "numericMultiply(%s, %s)", first, second);
             return null;
         }
     }
@@ -77,8 +74,7 @@ public class DoubleNumericType extends BaseType implements NumericType<Double> {
         try {
             return DoubleUtil.numericDivide(first, second);
         } catch (Throwable e) {
-            String message = String.format("numericDivide(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "numericDivide(%s, %s)", first, second);
             return null;
         }
     }
@@ -92,8 +88,7 @@ public class DoubleNumericType extends BaseType implements NumericType<Double> {
         try {
             return - first;
         } catch (Throwable e) {
-            String message = String.format("numericUnaryMinus(%s)", first);
-            logError(message, e);
+            handleError(e, "numericUnaryMinus(%s)", first);
             return null;
         }
     }
@@ -115,8 +110,7 @@ public class DoubleNumericType extends BaseType implements NumericType<Double> {
         try {
             return Math.pow(first, (double)second);
         } catch (Throwable e) {
-            String message = String.format("numericExponentiation(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "numericExponentiation(%s, %s)", first, second);
             return null;
         }
     }
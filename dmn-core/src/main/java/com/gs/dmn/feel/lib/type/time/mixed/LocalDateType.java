@@ -73,8 +73,7 @@ public class LocalDateType extends JavaTimeCalendarType implements DateType<Loca
         try {
             return toDuration(first, second);
         } catch (Throwable e) {
-            String message = String.format("dateSubtract(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "dateSubtract(%s, %s)", first, second);
             return null;
         }
     }
@@ -88,8 +87,7 @@ public class LocalDateType extends JavaTimeCalendarType implements DateType<Loca
         try {
             return date.plus(toTemporalPeriod(duration));
         } catch (Throwable e) {
-            String message = String.format("dateAdd(%s, %s)", date, duration);
-            logError(message, e);
+            handleError(e, "dateAdd(%s, %s)", date, duration);
             return null;
         }
     }
@@ -103,8 +101,7 @@ public class LocalDateType extends JavaTimeCalendarType implements DateType<Loca
         try {
             return date.minus(toTemporalPeriod(duration));
         } catch (Throwable e) {
-            String message = String.format("dateSubtract(%s, %s)", date, duration);
-            logError(message, e);
+            handleError(e, "dateSubtract(%s, %s)", date, duration);
             return null;
         }
     }
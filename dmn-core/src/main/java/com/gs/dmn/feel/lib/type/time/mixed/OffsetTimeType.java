@@ -74,8 +74,7 @@ public class OffsetTimeType extends JavaTimeCalendarType implements TimeType<Off
         try {
             return toDuration(first, second);
         } catch (Throwable e) {
-            String message = String.format("timeSubtract(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "timeSubtract(%s, %s)", first, second);
             return null;
         }
     }
@@ -89,8 +88,7 @@ public class OffsetTimeType extends JavaTimeCalendarType implements TimeType<Off
         try {
             return time.plus(toTemporalDuration(duration));
         } catch (Throwable e) {
-            String message = String.format("timeAdd(%s, %s)", time, duration);
-            logError(message, e);
+            handleError(e, "timeAdd(%s, %s)", time, duration);
             return null;
         }
     }
@@ -104,8 +102,7 @@ public class OffsetTimeType extends JavaTimeCalendarType implements TimeType<Off
         try {
             return time.minus(toTemporalDuration(duration));
         } catch (Throwable e) {
-            String message = String.format("timeSubtract(%s, %s)", time, duration);
-            logError(message, e);
+            handleError(e, "timeSubtract(%s, %s)", time, duration);
             return null;
         }
     }
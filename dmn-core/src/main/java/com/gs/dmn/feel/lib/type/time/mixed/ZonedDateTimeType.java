@@ -73,8 +73,7 @@ public class ZonedDateTimeType extends JavaTimeCalendarType implements DateTimeT
         try {
             return toDuration(first, second);
         } catch (Throwable e) {
-            String message = String.format("dateTimeSubtract(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "dateTimeSubtract(%s, %s)", first, second);
             return null;
         }
     }
@@ -91,8 +90,7 @@ public class ZonedDateTimeType extends JavaTimeCalendarType implements DateTimeT
                     .plus(toTemporalDuration(duration))
                     ;
         } catch (Throwable e) {
-            String message = String.format("dateTimeSubtract(%s, %s)", dateTime, duration);
-            logError(message, e);
+            handleError(e, "dateTimeSubtract(%s, %s)", dateTime, duration);
             return null;
         }
     }
@@ -109,8 +107,7 @@ public class ZonedDateTimeType extends JavaTimeCalendarType implements DateTimeT
                     .minus(toTemporalDuration(duration))
                     ;
         } catch (Throwable e) {
-            String message = String.format("dateTimeSubtract(%s, %s)", dateTime, duration);
-            logError(message, e);
+            handleError(e, "dateTimeSubtract(%s, %s)", dateTime, duration);
             return null;
         }
     }
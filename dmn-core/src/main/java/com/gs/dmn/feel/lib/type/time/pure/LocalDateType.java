@@ -73,8 +73,7 @@ public class LocalDateType extends JavaTimeType implements DateType<LocalDate, T
         try {
             return Period.between(first, second);
         } catch (Throwable e) {
-            String message = String.format("dateSubtract(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "dateSubtract(%s, %s)", first, second);
             return null;
         }
     }
@@ -88,8 +87,7 @@ public class LocalDateType extends JavaTimeType implements DateType<LocalDate, T
         try {
             return date.plus(duration);
         } catch (Throwable e) {
-            String message = String.format("dateAdd(%s, %s)", date, duration);
-            logError(message, e);
+            handleError(e, "dateAdd(%s, %s)", date, duration);
             return null;
         }
     }
@@ -103,8 +101,7 @@ public class LocalDateType extends JavaTimeType implements DateType<LocalDate, T
         try {
             return date.minus(duration);
         } catch (Throwable e) {
-            String message = String.format("dateSubtract(%s, %s)", date, duration);
-            logError(message, e);
+            handleError(e, "dateSubtract(%s, %s)", date, duration);
             return null;
         }
     }
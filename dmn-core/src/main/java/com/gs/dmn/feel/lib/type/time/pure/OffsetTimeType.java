@@ -72,8 +72,7 @@ public class OffsetTimeType extends JavaTimeType implements TimeType<OffsetTime,
         try {
             return java.time.Duration.between(first, second);
         } catch (Throwable e) {
-            String message = String.format("timeSubtract(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "timeSubtract(%s, %s)", first, second);
             return null;
         }
     }
@@ -87,8 +86,7 @@ public class OffsetTimeType extends JavaTimeType implements TimeType<OffsetTime,
         try {
             return time.plus(duration);
         } catch (Throwable e) {
-            String message = String.format("timeAdd(%s, %s)", time, duration);
-            logError(message, e);
+            handleError(e, "timeAdd(%s, %s)", time, duration);
             return null;
         }
     }
@@ -102,8 +100,7 @@ public class OffsetTimeType extends JavaTimeType implements TimeType<OffsetTime,
         try {
             return time.minus(duration);
         } catch (Throwable e) {
-            String message = String.format("timeSubtract(%s, %s)", time, duration);
-            logError(message, e);
+            handleError(e, "timeSubtract(%s, %s)", time, duration);
             return null;
         }
     }
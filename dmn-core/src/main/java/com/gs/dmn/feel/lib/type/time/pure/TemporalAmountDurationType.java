@@ -115,8 +115,7 @@ public class TemporalAmountDurationType extends BaseType implements DurationType
         try {
             return plus(first, second);
         } catch (Throwable e) {
-            String message = String.format("durationAdd(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "durationAdd(%s, %s)", first, second);
             return null;
         }
     }
@@ -130,8 +129,7 @@ public class TemporalAmountDurationType extends BaseType implements DurationType
         try {
             return minus(first, second);
         } catch (Throwable e) {
-            String message = String.format("durationSubtract(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "durationSubtract(%s, %s)", first, second);
             return null;
         }
     }
@@ -145,8 +143,7 @@ public class TemporalAmountDurationType extends BaseType implements DurationType
         try {
             return multiply(first, second.intValue());
         } catch (Throwable e) {
-            String message = String.format("durationMultiply(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "durationMultiply(%s, %s)", first, second);
             return null;
         }
     }
@@ -160,8 +157,7 @@ public class TemporalAmountDurationType extends BaseType implements DurationType
         try {
             return divide(first, second.intValue());
         } catch (Throwable e) {
-            String message = String.format("durationDivide(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "durationDivide(%s, %s)", first, second);
             return null;
         }
     }
@@ -74,8 +74,7 @@ public class ZonedDateTimeType extends JavaTimeType implements DateTimeType<Zone
         try {
             return Duration.between(first, second);
         } catch (Throwable e) {
-            String message = String.format("dateTimeSubtract(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "dateTimeSubtract(%s, %s)", first, second);
             return null;
         }
     }
@@ -89,8 +88,7 @@ public class ZonedDateTimeType extends JavaTimeType implements DateTimeType<Zone
         try {
             return dateTime.plus(duration);
         } catch (Throwable e) {
-            String message = String.format("dateTimeSubtract(%s, %s)", dateTime, duration);
-            logError(message, e);
+            handleError(e, "dateTimeSubtract(%s, %s)", dateTime, duration);
             return null;
         }
     }
@@ -104,8 +102,7 @@ public class ZonedDateTimeType extends JavaTimeType implements DateTimeType<Zone
         try {
             return dateTime.minus(duration);
         } catch (Throwable e) {
-            String message = String.format("dateTimeSubtract(%s, %s)", dateTime, duration);
-            logError(message, e);
+            handleError(e, "dateTimeSubtract(%s, %s)", dateTime, duration);
             return null;
         }
     }
@@ -73,8 +73,7 @@ public class ZonedDateTimeType extends JavaTimeCalendarType implements DateTimeT
             long durationInMilliSeconds = getDurationInMilliSeconds(first, second);
             return this.datatypeFactory.newDuration(durationInMilliSeconds);
         } catch (Throwable e) {
-            String message = String.format("dateTimeSubtract(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "dateTimeSubtract(%s, %s)", first, second);
             return null;
         }
     }
@@ -110,8 +109,7 @@ public class ZonedDateTimeType extends JavaTimeCalendarType implements DateTimeT
                         .plusSeconds(seconds);
             }
         } catch (Throwable e) {
-            String message = String.format("dateTimeSubtract(%s, %s)", dateTime, duration);
-            logError(message, e);
+            handleError(e, "dateTimeSubtract(%s, %s)", dateTime, duration);
             return null;
         }
     }
@@ -147,8 +145,7 @@ public class ZonedDateTimeType extends JavaTimeCalendarType implements DateTimeT
                         .minusSeconds(seconds);
             }
         } catch (Throwable e) {
-            String message = String.format("dateTimeSubtract(%s, %s)", dateTime, duration);
-            logError(message, e);
+            handleError(e, "dateTimeSubtract(%s, %s)", dateTime, duration);
             return null;
         }
     }
@@ -75,8 +75,7 @@ public class ZonedDateType extends JavaTimeCalendarType implements DateType<Zone
             long durationInMilliSeconds = getDurationInMilliSeconds(first, second);
             return datatypeFactory.newDuration(durationInMilliSeconds);
         } catch (Throwable e) {
-            String message = String.format("dateSubtract(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "dateSubtract(%s, %s)", first, second);
             return null;
         }
     }
@@ -103,8 +102,7 @@ public class ZonedDateType extends JavaTimeCalendarType implements DateType<Zone
                         .plusDays(days);
             }
         } catch (Throwable e) {
-            String message = String.format("dateAdd(%s, %s)", date, duration);
-            logError(message, e);
+            handleError(e, "dateAdd(%s, %s)", date, duration);
             return null;
         }
     }
@@ -131,8 +129,7 @@ public class ZonedDateType extends JavaTimeCalendarType implements DateType<Zone
                         .minusDays(days);
             }
         } catch (Throwable e) {
-            String message = String.format("dateSubtract(%s, %s)", date, duration);
-            logError(message, e);
+            handleError(e, "dateSubtract(%s, %s)", date, duration);
             return null;
         }
     }
@@ -77,8 +77,7 @@ public class ZonedTimeType extends JavaTimeCalendarType implements TimeType<Zone
             }
             return datatypeFactory.newDuration(durationInMilliSeconds);
         } catch (Throwable e) {
-            String message = String.format("timeSubtract(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "timeSubtract(%s, %s)", first, second);
             return null;
         }
     }
@@ -105,8 +104,7 @@ public class ZonedTimeType extends JavaTimeCalendarType implements TimeType<Zone
                         .plusSeconds(seconds);
             }
         } catch (Throwable e) {
-            String message = String.format("timeAdd(%s, %s)", time, duration);
-            logError(message, e);
+            handleError(e, "timeAdd(%s, %s)", time, duration);
             return null;
         }
     }
@@ -133,8 +131,7 @@ public class ZonedTimeType extends JavaTimeCalendarType implements TimeType<Zone
                         .minusSeconds(seconds);
             }
         } catch (Throwable e) {
-            String message = String.format("timeSubtract(%s, %s)", time, duration);
-            logError(message, e);
+            handleError(e, "timeSubtract(%s, %s)", time, duration);
             return null;
         }
     }
@@ -72,8 +72,7 @@ public class DefaultDateTimeType extends DefaultXMLCalendarType implements DateT
         try {
             return datatypeFactory.newDuration(getDurationInMilliSeconds(first, second));
         } catch (Throwable e) {
-            String message = String.format("dateTimeSubtract(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "dateTimeSubtract(%s, %s)", first, second);
             return null;
         }
     }
@@ -89,8 +88,7 @@ public class DefaultDateTimeType extends DefaultXMLCalendarType implements DateT
             clone.add(duration);
             return clone;
         } catch (Throwable e) {
-            String message = String.format("dateTimeSubtract(%s, %s)", xmlGregorianCalendar, duration);
-            logError(message, e);
+            handleError(e, "dateTimeSubtract(%s, %s)", xmlGregorianCalendar, duration);
             return null;
         }
     }
@@ -106,8 +104,7 @@ public class DefaultDateTimeType extends DefaultXMLCalendarType implements DateT
             clone.add(duration.negate());
             return clone;
         } catch (Throwable e) {
-            String message = String.format("dateTimeSubtract(%s, %s)", xmlGregorianCalendar, duration);
-            logError(message, e);
+            handleError(e, "dateTimeSubtract(%s, %s)", xmlGregorianCalendar, duration);
             return null;
         }
     }
@@ -72,8 +72,7 @@ public class DefaultDateType extends DefaultXMLCalendarType implements DateType<
         try {
             return datatypeFactory.newDuration(getDurationInMilliSeconds(first, second));
         } catch (Throwable e) {
-            String message = String.format("dateSubtract(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "dateSubtract(%s, %s)", first, second);
             return null;
         }
     }
@@ -89,8 +88,7 @@ public class DefaultDateType extends DefaultXMLCalendarType implements DateType<
             clone.add(duration);
             return clone;
         } catch (Throwable e) {
-            String message = String.format("dateAdd(%s, %s)", date, duration);
-            logError(message, e);
+            handleError(e, "dateAdd(%s, %s)", date, duration);
             return null;
         }
     }
@@ -106,8 +104,7 @@ public class DefaultDateType extends DefaultXMLCalendarType implements DateType<
             clone.add(duration.negate());
             return clone;
         } catch (Throwable e) {
-            String message = String.format("dateSubtract(%s, %s)", date, duration);
-            logError(message, e);
+            handleError(e, "dateSubtract(%s, %s)", date, duration);
             return null;
         }
     }
@@ -112,8 +112,7 @@ public class DefaultDurationType extends BaseType implements DurationType<Durati
         try {
             return first.add(second);
         } catch (Throwable e) {
-            String message = String.format("durationAdd(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "durationAdd(%s, %s)", first, second);
             return null;
         }
     }
@@ -127,8 +126,7 @@ public class DefaultDurationType extends BaseType implements DurationType<Durati
         try {
             return first.subtract(second);
         } catch (Throwable e) {
-            String message = String.format("durationSubtract(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "durationSubtract(%s, %s)", first, second);
             return null;
         }
     }
@@ -142,8 +140,7 @@ public class DefaultDurationType extends BaseType implements DurationType<Durati
         try {
             return first.multiply(second);
         } catch (Throwable e) {
-            String message = String.format("durationMultiply(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "durationMultiply(%s, %s)", first, second);
             return null;
         }
     }
@@ -157,8 +154,7 @@ public class DefaultDurationType extends BaseType implements DurationType<Durati
         try {
             return first.multiply(BigDecimal.ONE.divide(second));
         } catch (Throwable e) {
-            String message = String.format("durationDivide(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "durationDivide(%s, %s)", first, second);
             return null;
         }
     }
@@ -71,8 +71,7 @@ public class DefaultTimeType extends DefaultXMLCalendarType implements TimeType<
         try {
             return datatypeFactory.newDuration(getDurationInMilliSeconds(first, second));
         } catch (Throwable e) {
-            String message = String.format("timeSubtract(%s, %s)", first, second);
-            logError(message, e);
+            handleError(e, "timeSubtract(%s, %s)", first, second);
             return null;
         }
     }
@@ -88,8 +87,7 @@ public class DefaultTimeType extends DefaultXMLCalendarType implements TimeType<
             clone.add(duration);
             return clone;
         } catch (Throwable e) {
-            String message = String.format("timeAdd(%s, %s)", time, duration);
-            logError(message, e);
+            handleError(e, "timeAdd(%s, %s)", time, duration);
             return null;
         }
     }
@@ -105,8 +103,7 @@ public class DefaultTimeType extends DefaultXMLCalendarType implements TimeType<
             clone.add(duration.negate());
             return clone;
         } catch (Throwable e) {
-            String message = String.format("timeSubtract(%s, %s)", time, duration);
-            logError(message, e);
+            handleError(e, "timeSubtract(%s, %s)", time, duration);
             return null;
         }
     }
@@ -22,20 +22,26 @@ import com.gs.dmn.feel.analysis.syntax.ast.FEELContext;
 import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
 import com.gs.dmn.feel.analysis.syntax.ast.expression.Name;
 import com.gs.dmn.feel.analysis.syntax.ast.expression.QualifiedName;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.arithmetic.Addition;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.arithmetic.ArithmeticExpression;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.arithmetic.ArithmeticNegation;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.arithmetic.Exponentiation;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.arithmetic.Multiplication;
 import com.gs.dmn.feel.analysis.syntax.ast.expression.literal.DateTimeLiteral;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.literal.NumericLiteral;
 import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.transformation.DMNToJavaTransformer;
 import com.gs.dmn.transformation.basic.BasicDMN2JavaTransformer;
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static com.gs.dmn.feel.analysis.semantics.type.DateTimeType.DATE_AND_TIME;
 import static com.gs.dmn.feel.analysis.semantics.type.DateType.DATE;
 import static com.gs.dmn.feel.analysis.semantics.type.DurationType.DAYS_AND_TIME_DURATION;
 import static com.gs.dmn.feel.analysis.semantics.type.DurationType.YEARS_AND_MONTHS_DURATION;
+import static com.gs.dmn.feel.analysis.semantics.type.NumberType.NUMBER;
 import static com.gs.dmn.feel.analysis.semantics.type.TimeType.TIME;
 
 public abstract class AbstractFEELToJavaVisitor extends AbstractAnalysisVisitor {
@@ -57,6 +63,16 @@ public abstract class AbstractFEELToJavaVisitor extends AbstractAnalysisVisitor
         put("distinct values", "distinctValues");
     }};
 
+    private static final List<String> PRIMITIVE_DOUBLE_ARITHMETIC_OPERATORS = Arrays.asList("+", "-", "*");
+    private static final Map<String, String> PRIMITIVE_DOUBLE_COMPARISON_OPERATORS = new LinkedHashMap<String, String>() {{
+        put("=", "==");
+        put("!=", "!=");
+        put("<", "<");
+        put("<=", "<=");
+        put(">", ">");
+        put(">=", ">=");
+    }};
+
     public AbstractFEELToJavaVisitor(BasicDMN2JavaTransformer dmnTransformer) {
         super(dmnTransformer);
     }
@@ -111,22 +127,48 @@ public abstract class AbstractFEELToJavaVisitor extends AbstractAnalysisVisitor
     }
 
     protected Object makeCondition(String feelOperator, Expression leftOperand, Expression rightOperand, FEELContext context) {
+        return makeCondition(feelOperator, leftOperand, rightOperand, "", context);
+    }
+
+    protected Object makeCondition(String feelOperator, Expression leftOperand, Expression rightOperand, String libReceiver, FEELContext context) {
+        if (isPrimitiveDouble(leftOperand) && isPrimitiveDouble(rightOperand)) {
+            Set<String> variables = new LinkedHashSet<>();
+            String leftOpd = primitiveDouble(leftOperand, variables, context);
+            String rightOpd = primitiveDouble(rightOperand, variables, context);
+            if (PRIMITIVE_DOUBLE_ARITHMETIC_OPERATORS.contains(feelOperator)) {
+                // Arithmetic with a null operand is null
+                return nullGuard(variables, String.format("Double.valueOf(%s)", infixExpression(feelOperator, leftOpd, rightOpd)), "null");
+            } else if (PRIMITIVE_DOUBLE_COMPARISON_OPERATORS.containsKey(feelOperator)) {
+                // Comparisons with null operands keep the semantics of the lib
+                String comparison = String.format("Boolean.valueOf(Double.compare(%s, %s) %s 0)", leftOpd, rightOpd, PRIMITIVE_DOUBLE_COMPARISON_OPERATORS.get(feelOperator));
+                return variables.isEmpty() ? comparison : nullGuard(variables, comparison, makeLibCondition(feelOperator, leftOperand, rightOperand, libReceiver, context));
+            }
+        }
+
+        return makeLibCondition(feelOperator, leftOperand, rightOperand, libReceiver, context);
+    }
+
+    private String makeLibCondition(String feelOperator, Expression leftOperand, Expression rightOperand, String libReceiver, FEELContext context) {
         String leftOpd = (String) leftOperand.accept(this, context);
         String rightOpd = (String) rightOperand.accept(this, context);
         JavaOperator javaOperator = OperatorDecisionTable.javaOperator(feelOperator, leftOperand.getType(), rightOperand.getType());
-        return makeCondition(feelOperator, leftOpd, rightOpd, javaOperator);
+        return makeCondition(feelOperator, leftOpd, rightOpd, javaOperator, libReceiver);
     }
 
     protected String makeCondition(String feelOperator, String leftOpd, String rightOpd, JavaOperator javaOperator) {
+        return makeCondition(feelOperator, leftOpd, rightOpd, javaOperator, "");
+    }
+
+    protected String makeCondition(String feelOperator, String leftOpd, String rightOpd, JavaOperator javaOperator, String libReceiver) {
         if (javaOperator == null) {
             throw new DMNRuntimeException(String.format("Operator '%s' cannot be applied to '%s' and '%s'", feelOperator, leftOpd, rightOpd));
         } else {
             if (javaOperator.getCardinality() == 2) {
                 if (javaOperator.getNotation() == JavaOperator.Notation.FUNCTIONAL) {
                     if (javaOperator.getAssociativity() == JavaOperator.Associativity.LEFT_RIGHT) {
-                        return functionalExpression(javaOperator.getName(), leftOpd, rightOpd);
+                        return functionalExpression(libReceiver + javaOperator.getName(), leftOpd, rightOpd);
                     } else {
-                        return functionalExpression(javaOperator.getName(), rightOpd, leftOpd);
+                        return functionalExpression(libReceiver + javaOperator.getName(), rightOpd, leftOpd);
                     }
                 } else {
                     if (javaOperator.getAssociativity() == JavaOperator.Associativity.LEFT_RIGHT) {
@@ -141,6 +183,117 @@ public abstract class AbstractFEELToJavaVisitor extends AbstractAnalysisVisitor
         }
     }
 
+    //
+    // Numbers are generated as primitive doubles in the double dialect: literals, number variables and the +, - and *
+    // arithmetic on them. The result is boxed only once, when it is used by a non primitive expression.
+    // Variables can be null, the primitive code is guarded by null checks on them.
+    //
+    protected boolean isPrimitiveDouble(Expression expression) {
+        if (!dmnTransformer.isDoubleNumberType()) {
+            return false;
+        }
+        if (expression instanceof NumericLiteral) {
+            return primitiveDoubleLiteral((NumericLiteral) expression) != null;
+        } else if (expression instanceof Name) {
+            return isPrimitiveDoubleVariable((Name) expression);
+        } else if (expression instanceof ArithmeticNegation) {
+            return isPrimitiveDouble(((ArithmeticNegation) expression).getLeftOperand());
+        } else if (expression instanceof Addition || expression instanceof Multiplication) {
+            Expression leftOperand = ((ArithmeticExpression) expression).getLeftOperand();
+            Expression rightOperand = ((ArithmeticExpression) expression).getRightOperand();
+            String operator = ((ArithmeticExpression) expression).getOperator();
+            return PRIMITIVE_DOUBLE_ARITHMETIC_OPERATORS.contains(operator) && isPrimitiveDouble(leftOperand) && isPrimitiveDouble(rightOperand);
+        } else {
+            return false;
+        }
+    }
+
+    // Variables generated as plain Java variables. The input entry place holder and the lazy values are expressions
+    private boolean isPrimitiveDoubleVariable(Name name) {
+        String feelName = name.getName();
+        return name.getType() == NUMBER
+                && !DMNToJavaTransformer.INPUT_ENTRY_PLACE_HOLDER.equals(feelName)
+                && !dmnTransformer.isLazyEvaluated(feelName);
+    }
+
+    // Collects the Java variables to check for null
+    protected String primitiveDouble(Expression expression, Set<String> variables, FEELContext context) {
+        if (expression instanceof NumericLiteral) {
+            return primitiveDoubleLiteral((NumericLiteral) expression);
+        } else if (expression instanceof Name) {
+            // Iteration variables can be typed Object
+            String variable = (String) expression.accept(this, context);
+            variables.add(variable);
+            return String.format("((Double) %s)", variable);
+        } else if (expression instanceof ArithmeticNegation) {
+            return String.format("-(%s)", primitiveDouble(((ArithmeticNegation) expression).getLeftOperand(), variables, context));
+        } else if (expression instanceof Addition || expression instanceof Multiplication) {
+            String leftOpd = primitiveDouble(((ArithmeticExpression) expression).getLeftOperand(), variables, context);
+            String rightOpd = primitiveDouble(((ArithmeticExpression) expression).getRightOperand(), variables, context);
+            return infixExpression(((ArithmeticExpression) expression).getOperator(), leftOpd, rightOpd);
+        } else {
+            throw new DMNRuntimeException(String.format("'%s' is not a primitive double expression", expression));
+        }
+    }
+
+    protected String boxedPrimitiveDouble(Expression expression, FEELContext context) {
+        Set<String> variables = new LinkedHashSet<>();
+        String primitive = primitiveDouble(expression, variables, context);
+        return nullGuard(variables, String.format("Double.valueOf(%s)", primitive), "null");
+    }
+
+    private String nullGuard(Set<String> variables, String value, String nullValue) {
+        if (variables.isEmpty()) {
+            return value;
+        }
+        String condition = variables.stream().map(v -> String.format("%s != null", v)).collect(Collectors.joining(" && "));
+        return String.format("(%s ? %s : %s)", condition, value, nullValue);
+    }
+
+    private String primitiveDoubleLiteral(NumericLiteral element) {
+        try {
+            double value = Double.parseDouble(element.getValue());
+            if (Double.isInfinite(value) || Double.isNaN(value)) {
+                return null;
+            }
+            return Double.toString(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    //
+    // Literals and arithmetic on literals are hoisted in static fields of the generated class when constant pooling is on
+    //
+    protected boolean isPooledConstant(Expression expression) {
+        if (!dmnTransformer.isPoolingConstants()) {
+            return false;
+        }
+        if (expression instanceof NumericLiteral || expression instanceof DateTimeLiteral) {
+            return true;
+        } else if (expression instanceof ArithmeticNegation) {
+            return isPooledConstant(((ArithmeticNegation) expression).getLeftOperand());
+        } else if (expression instanceof Addition || expression instanceof Multiplication || expression instanceof Exponentiation) {
+            return isPooledConstant(((ArithmeticExpression) expression).getLeftOperand()) && isPooledConstant(((ArithmeticExpression) expression).getRightOperand());
+        } else {
+            return false;
+        }
+    }
+
+    // Receiver of the lib calls generated for an expression. The static initializers of the pooled constants have no
+    // decision instance, their lib calls are qualified with the lib constant. The operands are already pooled.
+    protected String libReceiver(Expression expression) {
+        return isPooledConstant(expression) ? dmnTransformer.constantLibVariableName() + "." : "";
+    }
+
+    // The lib calls in javaCode must be generated with libReceiver(expression)
+    protected String hoistConstant(Expression expression, String javaCode) {
+        if (!isPooledConstant(expression)) {
+            return javaCode;
+        }
+        return dmnTransformer.constant(dmnTransformer.toQualifiedJavaType(expression.getType()), javaCode);
+    }
+
     protected String makeSafeAccessor(String javaType, String source, String accessorMethod) {
         return String.format("((%s)(%s != null ? %s.%s : null))", javaType, source, source, accessorMethod);
     }
@@ -165,14 +318,15 @@ public abstract class AbstractFEELToJavaVisitor extends AbstractAnalysisVisitor
     protected Object dateTimeLiteralToJava(DateTimeLiteral element) {
         Type type = element.getType();
         String value = element.getValue();
+        String libReceiver = libReceiver(element);
         if (type == DATE) {
-            return String.format("date(%s)", value);
+            return String.format("%sdate(%s)", libReceiver, value);
         } else if (type == TIME) {
-            return String.format("time(%s)", value);
+            return String.format("%stime(%s)", libReceiver, value);
         } else if (type == DATE_AND_TIME) {
-            return String.format("dateAndTime(%s)", value);
+            return String.format("%sdateAndTime(%s)", libReceiver, value);
         } else if (type == DAYS_AND_TIME_DURATION || type == YEARS_AND_MONTHS_DURATION) {
-            return String.format("duration(%s)", value);
+            return String.format("%sduration(%s)", libReceiver, value);
         } else {
             throw new DMNRuntimeException("Illegal date literal kind '" + type + "'. Expected 'date', 'time', 'date and time' or 'duration'.");
         }
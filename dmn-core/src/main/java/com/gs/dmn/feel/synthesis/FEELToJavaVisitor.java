@@ -223,6 +223,10 @@ public class FEELToJavaVisitor extends AbstractFEELToJavaVisitor {
         FEELContext forContext = FEELContext.makeContext(forEnvironment);
         forContext.getEnvironment().addDeclaration(environmentFactory.makeVariableDeclaration(ForExpression.PARTIAL_PARAMTER_NAME, element.getType()));
 
+        if (dmnTransformer.isStreamingEvaluation()) {
+            return String.format("%s.collect(Collectors.toList())", iterationStream(element.getIterators(), element.getBody(), forContext));
+        }
+
         // Add code for each iterator
         StringBuilder result = new StringBuilder();
         List<Iterator> iterators = element.getIterators();
@@ -247,6 +251,23 @@ public class FEELToJavaVisitor extends AbstractFEELToJavaVisitor {
         return result.toString();
     }
 
+    // Stream of body values, the outer iterators are flat-mapped into the inner ones
+    private String iterationStream(List<Iterator> iterators, Expression bodyExpression, FEELContext context) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < iterators.size(); i++) {
+            Iterator it = iterators.get(i);
+            String domain = (String) it.getDomain().accept(this, context);
+            String operator = i == iterators.size() - 1 ? "map" : "flatMap";
+            result.append(String.format("%s.stream().%s(%s -> ", domain, operator, it.getName()));
+        }
+        String body = (String) bodyExpression.accept(this, context);
+        result.append(body);
+        for (int i = 0; i < iterators.size(); i++) {
+            result.append(")");
+        }
+        return result.toString();
+    }
+
     @Override
     public Object visit(Iterator element, FEELContext context) {
         throw new UnsupportedOperationException("FEEL '" + element.getClass().getSimpleName() + "' is not supported yet");
@@ -294,6 +315,19 @@ public class FEELToJavaVisitor extends AbstractFEELToJavaVisitor {
 
     @Override
     public Object visit(QuantifiedExpression element, FEELContext context) {
+        if (dmnTransformer.isStreamingEvaluation()) {
+            // Stop at the first decisive value
+            String predicate = element.getPredicate();
+            String stream = iterationStream(element.getIterators(), element.getBody(), context);
+            if ("some".equals(predicate)) {
+                return String.format("booleanSome(%s)", stream);
+            } else if ("every".equals(predicate)) {
+                return String.format("booleanEvery(%s)", stream);
+            } else {
+                throw new UnsupportedOperationException("Predicate '" + predicate + "' is not supported yet");
+            }
+        }
+
         ForExpression forExpression = element.toForExpression();
         String forList = (String) forExpression.accept(this, context);
         // Add boolean predicate
@@ -451,7 +485,7 @@ public class FEELToJavaVisitor extends AbstractFEELToJavaVisitor {
         Expression leftOperand = element.getLeftOperand();
         Expression rightOperand = element.getRightOperand();
         String feelOperator = element.getOperator();
-        return makeCondition(feelOperator, leftOperand, rightOperand, context);
+        return hoistConstant(element, (String) makeCondition(feelOperator, leftOperand, rightOperand, libReceiver(element), context));
     }
 
     @Override
@@ -459,21 +493,24 @@ public class FEELToJavaVisitor extends AbstractFEELToJavaVisitor {
         Expression leftOperand = element.getLeftOperand();
         Expression rightOperand = element.getRightOperand();
         String feelOperator = element.getOperator();
-        return makeCondition(feelOperator, leftOperand, rightOperand, context);
+        return hoistConstant(element, (String) makeCondition(feelOperator, leftOperand, rightOperand, libReceiver(element), context));
     }
 
     @Override
     public Object visit(Exponentiation element, FEELContext context) {
         String leftOpd = (String) element.getLeftOperand().accept(this, context);
         String rightOpd = (String) element.getRightOperand().accept(this, context);
-        return String.format("numericExponentiation(%s, %s)", leftOpd, rightOpd);
+        return hoistConstant(element, String.format("%snumericExponentiation(%s, %s)", libReceiver(element), leftOpd, rightOpd));
     }
 
     @Override
     public Object visit(ArithmeticNegation element, FEELContext context) {
+        if (isPrimitiveDouble(element)) {
+            return hoistConstant(element, boxedPrimitiveDouble(element, context));
+        }
         Expression leftOperand = element.getLeftOperand();
         String leftOpd = (String) leftOperand.accept(this, context);
-        return String.format("numericUnaryMinus(%s)", leftOpd);
+        return hoistConstant(element, String.format("%snumericUnaryMinus(%s)", libReceiver(element), leftOpd));
     }
 
     //
@@ -536,7 +573,10 @@ public class FEELToJavaVisitor extends AbstractFEELToJavaVisitor {
     //
     @Override
     public Object visit(NumericLiteral element, FEELContext context) {
-        return String.format("number(\"%s\")", element.getValue());
+        if (isPrimitiveDouble(element)) {
+            return hoistConstant(element, boxedPrimitiveDouble(element, context));
+        }
+        return hoistConstant(element, String.format("%snumber(\"%s\")", libReceiver(element), element.getValue()));
     }
 
     @Override
@@ -552,7 +592,7 @@ public class FEELToJavaVisitor extends AbstractFEELToJavaVisitor {
 
     @Override
     public Object visit(DateTimeLiteral element, FEELContext context) {
-        return dateTimeLiteralToJava(element);
+        return hoistConstant(element, (String) dateTimeLiteralToJava(element));
     }
 
     @Override
@@ -204,7 +204,7 @@ class SimpleExpressionsToJavaVisitor extends FEELToJavaVisitor {
         Expression leftOperand = element.getLeftOperand();
         Expression rightOperand = element.getRightOperand();
         String feelOperator = element.getOperator();
-        return makeCondition(feelOperator, leftOperand, rightOperand, context);
+        return hoistConstant(element, (String) makeCondition(feelOperator, leftOperand, rightOperand, libReceiver(element), context));
     }
 
     @Override
@@ -212,21 +212,24 @@ class SimpleExpressionsToJavaVisitor extends FEELToJavaVisitor {
         Expression leftOperand = element.getLeftOperand();
         Expression rightOperand = element.getRightOperand();
         String feelOperator = element.getOperator();
-        return makeCondition(feelOperator, leftOperand, rightOperand, context);
+        return hoistConstant(element, (String) makeCondition(feelOperator, leftOperand, rightOperand, libReceiver(element), context));
     }
 
     @Override
     public Object visit(Exponentiation element, FEELContext context) {
         String leftOpd = (String) element.getLeftOperand().accept(this, context);
         String rightOpd = (String) element.getRightOperand().accept(this, context);
-        return String.format("numericExponentiation(%s, %s)", leftOpd, rightOpd);
+        return hoistConstant(element, String.format("%snumericExponentiation(%s, %s)", libReceiver(element), leftOpd, rightOpd));
     }
 
     @Override
     public Object visit(ArithmeticNegation element, FEELContext context) {
+        if (isPrimitiveDouble(element)) {
+            return hoistConstant(element, boxedPrimitiveDouble(element, context));
+        }
         Expression leftOperand = element.getLeftOperand();
         String leftOpd = (String) leftOperand.accept(this, context);
-        return String.format("numericUnaryMinus(%s)", leftOpd);
+        return hoistConstant(element, String.format("%snumericUnaryMinus(%s)", libReceiver(element), leftOpd));
     }
 
     //
@@ -248,7 +251,10 @@ class SimpleExpressionsToJavaVisitor extends FEELToJavaVisitor {
     //
     @Override
     public Object visit(NumericLiteral element, FEELContext context) {
-        return String.format("number(\"%s\")", element.getValue());
+        if (isPrimitiveDouble(element)) {
+            return hoistConstant(element, boxedPrimitiveDouble(element, context));
+        }
+        return hoistConstant(element, String.format("%snumber(\"%s\")", libReceiver(element), element.getValue()));
     }
 
     @Override
@@ -264,7 +270,7 @@ class SimpleExpressionsToJavaVisitor extends FEELToJavaVisitor {
 
     @Override
     public Object visit(DateTimeLiteral element, FEELContext context) {
-        return dateTimeLiteralToJava(element);
+        return hoistConstant(element, (String) dateTimeLiteralToJava(element));
     }
 
     @Override
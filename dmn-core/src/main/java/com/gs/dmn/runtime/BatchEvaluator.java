@@ -0,0 +1,92 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Evaluates a decision for a batch of input tuples and returns the results in input order.
+// The evaluator is shared by all the tuples (e.g. a generated decision with the same listener and annotation set,
+// or an interpreter), so it must be thread safe when an executor is used.
+public class BatchEvaluator {
+    public static <I, O> List<O> evaluate(Iterator<I> inputs, Function<I, O> evaluator) {
+        List<O> results = new ArrayList<>();
+        while (inputs.hasNext()) {
+            results.add(evaluator.apply(inputs.next()));
+        }
+        return results;
+    }
+
+    public static <I, O> List<O> evaluate(Stream<I> inputs, Function<I, O> evaluator) {
+        return inputs.map(evaluator).collect(Collectors.toList());
+    }
+
+    public static <I, O> List<O> evaluate(List<I> inputs, Function<I, O> evaluator) {
+        return evaluate(inputs.iterator(), evaluator);
+    }
+
+    // The inputs are split in at most 'parallelism' contiguous chunks, one task per chunk
+    public static <I, O> List<O> evaluate(List<I> inputs, Function<I, O> evaluator, Executor executor, int parallelism) {
+        int size = inputs.size();
+        int chunks = Math.min(Math.max(parallelism, 1), size);
+        if (executor == null || chunks <= 1) {
+            return evaluate(inputs, evaluator);
+        }
+
+        int chunkSize = (size + chunks - 1) / chunks;
+        List<FutureTask<List<O>>> tasks = new ArrayList<>();
+        for (int start = 0; start < size; start += chunkSize) {
+            List<I> chunk = inputs.subList(start, Math.min(start + chunkSize, size));
+            FutureTask<List<O>> task = new FutureTask<>(() -> evaluate(chunk, evaluator));
+            tasks.add(task);
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // Run by the caller below
+            }
+        }
+        // Run the chunks not started yet in the current thread
+        for (FutureTask<List<O>> task : tasks) {
+            task.run();
+        }
+        List<O> results = new ArrayList<>(size);
+        for (FutureTask<List<O>> task : tasks) {
+            results.addAll(waitFor(task));
+        }
+        return results;
+    }
+
+    public static <I, O> List<O> evaluate(List<I> inputs, Function<I, O> evaluator, Executor executor) {
+        return evaluate(inputs, evaluator, executor, Runtime.getRuntime().availableProcessors());
+    }
+
+    private static <O> List<O> waitFor(FutureTask<List<O>> task) {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new DMNRuntimeException("Cannot evaluate batch", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DMNRuntimeException("Interrupted while evaluating batch", e);
+        }
+    }
+}
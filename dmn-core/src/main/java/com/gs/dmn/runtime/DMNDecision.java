@@ -12,5 +12,31 @@
  */
 package com.gs.dmn.runtime;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
 public interface DMNDecision<NUMBER, DATE, TIME, DATE_TIME, DURATION> {
+    // Used by the code generated with 'parallelDecisions' to evaluate independent sub-decisions.
+    // Override in the decision base class to use a different executor
+    default Executor getExecutor() {
+        return ForkJoinPool.commonPool();
+    }
+
+    // Waits for a sub-decision evaluated in parallel and rethrows its exception as in sequential evaluation
+    default <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw e;
+            }
+        }
+    }
 }
@@ -0,0 +1,361 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime;
+
+import javax.xml.datatype.DatatypeConstants;
+import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.namespace.QName;
+import java.math.BigDecimal;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.Temporal;
+import java.util.*;
+
+// Selects the rules of a decision table that can match a list of input values. Used by the interpreter and by the
+// generated decision tables.
+// Only input entries made of equality tests, comparisons and ranges on literals of one kind (string, boolean, number,
+// date, date and time) are indexed. Every other entry, null inputs and inputs of a different kind than the literals
+// keep the rule as candidate, so candidate rules must still be fully evaluated.
+// Equality lookups are hash lookups. Range lookups binary search the ranges sorted by lower bound and scan
+// every range starting at or below the input, so they are linear in the number of ranges when ranges overlap
+// (e.g. open-ended '< x' / '> x' comparisons). Candidate sets are BitSets, linear in the number of rules anyway.
+// Dates are compared by epoch day and date times by epoch second. The bounds are widened by a slack, values without
+// time zone are compared as UTC.
+public class DecisionTableIndex {
+    private enum Kind {
+        STRING, BOOLEAN, NUMBER, DATE, DATE_TIME
+    }
+
+    private static final BigDecimal DATE_SLACK = BigDecimal.ONE;
+    private static final BigDecimal DATE_TIME_SLACK = BigDecimal.valueOf(2 * 24 * 3600);
+    // Local date time followed by an optional offset and an optional zone id, ISO_DATE_TIME requires an offset before the zone
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = new DateTimeFormatterBuilder()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+            .optionalStart().appendOffsetId().optionalEnd()
+            .optionalStart().appendLiteral('[').parseCaseSensitive().appendZoneRegionId().appendLiteral(']').optionalEnd()
+            .toFormatter();
+
+    public static Test equal(Object value) {
+        return new Test(value, value, true);
+    }
+
+    // Bounds are inclusive, null bounds are unbounded
+    public static Test range(Object low, Object high) {
+        return new Test(low, high, false);
+    }
+
+    // Date literals of the generated code, null when not indexed
+    public static LocalDate date(String text) {
+        try {
+            return LocalDate.parse(text);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    // Date and time literals of the generated code, null when not indexed
+    public static Temporal dateTime(String text) {
+        String isoText = text.contains("@") ? text.replace('@', '[') + "]" : text;
+        try {
+            return ZonedDateTime.parse(isoText, DATE_TIME_FORMATTER);
+        } catch (DateTimeParseException e) {
+            // No time zone
+        }
+        try {
+            return LocalDateTime.parse(isoText);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static Kind kind(Object value) {
+        if (value instanceof String) {
+            return Kind.STRING;
+        } else if (value instanceof Boolean) {
+            return Kind.BOOLEAN;
+        } else if (value instanceof BigDecimal) {
+            return Kind.NUMBER;
+        } else if (value instanceof Double && !((Double) value).isNaN() && !((Double) value).isInfinite()) {
+            return Kind.NUMBER;
+        } else if (value instanceof LocalDate) {
+            return Kind.DATE;
+        } else if (value instanceof LocalDateTime || value instanceof OffsetDateTime || value instanceof ZonedDateTime) {
+            return Kind.DATE_TIME;
+        } else if (value instanceof XMLGregorianCalendar) {
+            try {
+                QName schemaType = ((XMLGregorianCalendar) value).getXMLSchemaType();
+                return DatatypeConstants.DATE.equals(schemaType) ? Kind.DATE : DatatypeConstants.DATETIME.equals(schemaType) ? Kind.DATE_TIME : null;
+            } catch (IllegalStateException e) {
+                return null;
+            }
+        } else {
+            return null;
+        }
+    }
+
+    // FEEL equality of numbers does not depend on scale. Returns null when the value cannot be indexed
+    private static Object key(Kind kind, Object value) {
+        try {
+            switch (kind) {
+                case NUMBER:
+                    BigDecimal number = value instanceof Double ? BigDecimal.valueOf((Double) value) : (BigDecimal) value;
+                    return number.signum() == 0 ? BigDecimal.ZERO : number.stripTrailingZeros();
+                case DATE:
+                    return BigDecimal.valueOf(epochDay(value));
+                case DATE_TIME:
+                    return BigDecimal.valueOf(epochSecond(value));
+                default:
+                    return value;
+            }
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static long epochDay(Object value) {
+        if (value instanceof LocalDate) {
+            return ((LocalDate) value).toEpochDay();
+        }
+        XMLGregorianCalendar calendar = (XMLGregorianCalendar) value;
+        return LocalDate.of(calendar.getYear(), calendar.getMonth(), calendar.getDay()).toEpochDay();
+    }
+
+    private static long epochSecond(Object value) {
+        if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).toEpochSecond(ZoneOffset.UTC);
+        } else if (value instanceof OffsetDateTime) {
+            return ((OffsetDateTime) value).toEpochSecond();
+        } else if (value instanceof ZonedDateTime) {
+            return ((ZonedDateTime) value).toEpochSecond();
+        }
+        XMLGregorianCalendar calendar = (XMLGregorianCalendar) value;
+        long localSecond = LocalDateTime.of(calendar.getYear(), calendar.getMonth(), calendar.getDay(), calendar.getHour(), calendar.getMinute(), calendar.getSecond()).toEpochSecond(ZoneOffset.UTC);
+        int timezone = calendar.getTimezone();
+        return timezone == DatatypeConstants.FIELD_UNDEFINED ? localSecond : localSecond - timezone * 60L;
+    }
+
+    private final int ruleCount;
+    private final List<ColumnIndex> columns;
+
+    private DecisionTableIndex(int ruleCount, List<ColumnIndex> columns) {
+        this.ruleCount = ruleCount;
+        this.columns = columns;
+    }
+
+    public boolean isIndexed() {
+        return columns.stream().anyMatch(ColumnIndex::isIndexed);
+    }
+
+    // One value per input column
+    public BitSet candidates(Object... inputValues) {
+        BitSet result = new BitSet(ruleCount);
+        result.set(0, ruleCount);
+        for (int column = 0; column < columns.size() && column < inputValues.length; column++) {
+            ColumnIndex columnIndex = columns.get(column);
+            if (columnIndex.isIndexed()) {
+                columnIndex.filter(inputValues[column], result);
+            }
+        }
+        return result;
+    }
+
+    public static class Test {
+        private final Object low;
+        private final Object high;
+        private final boolean equality;
+
+        private Test(Object low, Object high, boolean equality) {
+            this.low = low;
+            this.high = high;
+            this.equality = equality;
+        }
+    }
+
+    public static class Builder {
+        private final int ruleCount;
+        private final List<ColumnIndex> columns = new ArrayList<>();
+
+        public Builder(int ruleCount, int columnCount) {
+            this.ruleCount = ruleCount;
+            for (int column = 0; column < columnCount; column++) {
+                this.columns.add(new ColumnIndex(ruleCount));
+            }
+        }
+
+        // The tests of an input entry, the entry is not indexed when a test is null or not supported
+        public Builder entry(int rule, int column, Test... tests) {
+            this.columns.get(column).add(rule, tests);
+            return this;
+        }
+
+        public DecisionTableIndex build() {
+            this.columns.forEach(ColumnIndex::build);
+            return new DecisionTableIndex(ruleCount, columns);
+        }
+    }
+
+    private static class ColumnIndex {
+        private final int ruleCount;
+        private final Map<Kind, BitSet> rulesByKind = new EnumMap<>(Kind.class);
+        private final Map<Object, BitSet> rulesByKey = new HashMap<>();
+        private final Map<Kind, List<Range>> rangeLists = new EnumMap<>(Kind.class);
+        // Rules that cannot be excluded for an input of a given kind
+        private final Map<Kind, BitSet> unfilteredRules = new EnumMap<>(Kind.class);
+        private final Map<Kind, Range[]> ranges = new EnumMap<>(Kind.class);
+
+        private ColumnIndex(int ruleCount) {
+            this.ruleCount = ruleCount;
+        }
+
+        private boolean isIndexed() {
+            return !rulesByKind.isEmpty();
+        }
+
+        private void add(int rule, Test[] tests) {
+            if (tests == null || tests.length == 0) {
+                return;
+            }
+
+            Kind entryKind = null;
+            List<Object> keys = new ArrayList<>();
+            List<Range> entryRanges = new ArrayList<>();
+            for (Test test : tests) {
+                if (test == null) {
+                    return;
+                }
+                Kind testKind = kind(test.low != null ? test.low : test.high);
+                if (testKind == null || (entryKind != null && entryKind != testKind)) {
+                    return;
+                }
+                if (test.low != null && kind(test.low) != testKind || test.high != null && kind(test.high) != testKind) {
+                    return;
+                }
+                Object low = test.low == null ? null : key(testKind, test.low);
+                Object high = test.high == null ? null : key(testKind, test.high);
+                if (test.low != null && low == null || test.high != null && high == null) {
+                    return;
+                }
+                if (test.equality && testKind != Kind.DATE && testKind != Kind.DATE_TIME) {
+                    keys.add(low);
+                } else if (testKind == Kind.NUMBER) {
+                    entryRanges.add(new Range((BigDecimal) low, (BigDecimal) high, rule));
+                } else if (testKind == Kind.DATE || testKind == Kind.DATE_TIME) {
+                    BigDecimal slack = testKind == Kind.DATE ? DATE_SLACK : DATE_TIME_SLACK;
+                    entryRanges.add(new Range(low == null ? null : ((BigDecimal) low).subtract(slack), high == null ? null : ((BigDecimal) high).add(slack), rule));
+                } else {
+                    // Comparisons of strings and booleans
+                    return;
+                }
+                entryKind = testKind;
+            }
+
+            rulesByKind.computeIfAbsent(entryKind, k -> new BitSet(ruleCount)).set(rule);
+            for (Object key : keys) {
+                rulesByKey.computeIfAbsent(key, k -> new BitSet(ruleCount)).set(rule);
+            }
+            if (!entryRanges.isEmpty()) {
+                rangeLists.computeIfAbsent(entryKind, k -> new ArrayList<>()).addAll(entryRanges);
+            }
+        }
+
+        private void build() {
+            for (Kind kind : Kind.values()) {
+                BitSet rules = new BitSet(ruleCount);
+                rules.set(0, ruleCount);
+                BitSet kindRules = rulesByKind.get(kind);
+                if (kindRules != null) {
+                    rules.andNot(kindRules);
+                }
+                unfilteredRules.put(kind, rules);
+            }
+            for (Map.Entry<Kind, List<Range>> entry : rangeLists.entrySet()) {
+                Range[] kindRanges = entry.getValue().toArray(new Range[0]);
+                Arrays.sort(kindRanges, (r1, r2) -> compareLow(r1.low, r2.low));
+                ranges.put(entry.getKey(), kindRanges);
+            }
+            rangeLists.clear();
+        }
+
+        private void filter(Object value, BitSet result) {
+            Kind kind = kind(value);
+            if (kind == null) {
+                return;
+            }
+            Object key = key(kind, value);
+            if (key == null) {
+                return;
+            }
+
+            BitSet candidates = (BitSet) unfilteredRules.get(kind).clone();
+            if (kind != Kind.DATE && kind != Kind.DATE_TIME) {
+                BitSet matchingRules = rulesByKey.get(key);
+                if (matchingRules != null) {
+                    candidates.or(matchingRules);
+                }
+            }
+            Range[] kindRanges = ranges.get(kind);
+            if (kindRanges != null) {
+                // Linear in the number of ranges starting at or below the input
+                BigDecimal number = (BigDecimal) key;
+                int count = countLowerOrEqual(kindRanges, number);
+                for (int i = 0; i < count; i++) {
+                    Range range = kindRanges[i];
+                    if (range.high == null || range.high.compareTo(number) >= 0) {
+                        candidates.set(range.rule);
+                    }
+                }
+            }
+            result.and(candidates);
+        }
+
+        // Number of ranges with low <= value, ranges are sorted by low
+        private static int countLowerOrEqual(Range[] ranges, BigDecimal value) {
+            int low = 0;
+            int high = ranges.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (compareLow(ranges[middle].low, value) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        // null is minus infinity
+        private static int compareLow(BigDecimal first, BigDecimal second) {
+            if (first == null) {
+                return second == null ? 0 : -1;
+            } else if (second == null) {
+                return 1;
+            } else {
+                return first.compareTo(second);
+            }
+        }
+    }
+
+    private static class Range {
+        private final BigDecimal low;
+        private final BigDecimal high;
+        private final int rule;
+
+        private Range(BigDecimal low, BigDecimal high, int rule) {
+            this.low = low;
+            this.high = high;
+            this.rule = rule;
+        }
+    }
+}
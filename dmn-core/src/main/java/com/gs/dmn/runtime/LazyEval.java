@@ -22,7 +22,7 @@ import java.util.function.Supplier;
  */
 public final class LazyEval<T> {
     private T value;
-    private boolean isValueSet = false;
+    private volatile boolean isValueSet = false;
     private final Supplier<T> supplier;
 
     public LazyEval(Supplier<T> supplier) {
@@ -33,8 +33,12 @@ public final class LazyEval<T> {
         return isValueSet? value : compute();
     }
 
-    private T compute() {
-        isValueSet = true;
-        return value = supplier.get();
+    // Lazy values can be shared by sub-decisions evaluated in parallel
+    private synchronized T compute() {
+        if (!isValueSet) {
+            value = supplier.get();
+            isValueSet = true;
+        }
+        return value;
     }
 }
\ No newline at end of file
@@ -28,7 +28,7 @@ public class AnnotationSet extends LinkedList<Annotation> {
         }
     }
 
-    public void addAnnotation(String decisionName, int ruleIndex, String annotation) {
+    public synchronized void addAnnotation(String decisionName, int ruleIndex, String annotation) {
         if (!StringUtils.isBlank(annotation)) {
             Annotation element = new Annotation(decisionName, ruleIndex, annotation);
             this.add(element);
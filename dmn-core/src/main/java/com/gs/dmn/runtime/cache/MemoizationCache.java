@@ -0,0 +1,250 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.cache;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// Decision results shared between requests, keyed by decision name and input fingerprint.
+// The entries are split in independently locked segments, each one bounded to its share of the maximum size.
+// The input values must implement equals() / hashCode(), otherwise lookups only miss.
+public class MemoizationCache {
+    public enum EvictionPolicy {
+        LRU, LFU
+    }
+
+    private static final Object MISSING = new Object();
+
+    private final Set<String> cachedElements;
+    private final long timeToLiveNanos;
+    private final LongSupplier clock;
+    private final Segment[] segments;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public MemoizationCache(int maximumSize) {
+        this(maximumSize, EvictionPolicy.LRU, 0, TimeUnit.MILLISECONDS, null);
+    }
+
+    // cachedElements restricts the cache to some decisions (e.g. DMNModelRepository.computeCachedElements()), null means all.
+    // A timeToLive <= 0 means the entries do not expire.
+    public MemoizationCache(int maximumSize, EvictionPolicy evictionPolicy, long timeToLive, TimeUnit timeUnit, Set<String> cachedElements) {
+        this(maximumSize, evictionPolicy, timeToLive, timeUnit, cachedElements, Runtime.getRuntime().availableProcessors(), System::nanoTime);
+    }
+
+    MemoizationCache(int maximumSize, EvictionPolicy evictionPolicy, long timeToLive, TimeUnit timeUnit, Set<String> cachedElements, int concurrencyLevel, LongSupplier clock) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal maximum size '%d'", maximumSize));
+        }
+        this.cachedElements = cachedElements == null ? null : new HashSet<>(cachedElements);
+        this.timeToLiveNanos = timeToLive <= 0 ? 0 : timeUnit.toNanos(timeToLive);
+        this.clock = clock;
+        int segmentCount = Math.max(1, Math.min(concurrencyLevel, maximumSize));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            int segmentSize = maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0);
+            this.segments[i] = new Segment(segmentSize, evictionPolicy);
+        }
+    }
+
+    public boolean isCached(String decisionName) {
+        return cachedElements == null || cachedElements.contains(decisionName);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T computeIfAbsent(String decisionName, List<Object> inputs, Supplier<T> supplier) {
+        if (!isCached(decisionName)) {
+            return supplier.get();
+        }
+        Key key = new Key(decisionName, inputs);
+        Object value = get(key);
+        if (value == MISSING) {
+            value = supplier.get();
+            put(key, value);
+        }
+        return (T) value;
+    }
+
+    // View used as the cache of one request, the inputs are the arguments of the top level decision
+    public Cache scope(Object... inputs) {
+        return new RequestCache(Arrays.asList(inputs));
+    }
+
+    public CacheStatistics getStatistics() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return new CacheStatistics(hitCount.sum(), missCount.sum(), evictionCount.sum(), size);
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    private Object get(Key key) {
+        Object value = segmentFor(key).get(key, clock.getAsLong());
+        if (value == MISSING) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return value;
+    }
+
+    private void put(Key key, Object value) {
+        long now = clock.getAsLong();
+        long expiresAt = timeToLiveNanos == 0 ? Long.MAX_VALUE : now + timeToLiveNanos;
+        segmentFor(key).put(key, value, expiresAt);
+    }
+
+    private Segment segmentFor(Key key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[(hash & 0x7fffffff) % segments.length];
+    }
+
+    private class Segment {
+        private final int maximumSize;
+        private final EvictionPolicy evictionPolicy;
+        private final LinkedHashMap<Key, Entry> entries;
+
+        private Segment(int maximumSize, EvictionPolicy evictionPolicy) {
+            this.maximumSize = maximumSize;
+            this.evictionPolicy = evictionPolicy;
+            this.entries = new LinkedHashMap<>(16, 0.75f, evictionPolicy == EvictionPolicy.LRU);
+        }
+
+        private synchronized Object get(Key key, long now) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return MISSING;
+            }
+            if (entry.expiresAt <= now) {
+                entries.remove(key);
+                evictionCount.increment();
+                return MISSING;
+            }
+            entry.frequency++;
+            return entry.value;
+        }
+
+        private synchronized void put(Key key, Object value, long expiresAt) {
+            Entry previous = entries.put(key, new Entry(value, expiresAt));
+            if (previous == null && entries.size() > maximumSize) {
+                entries.remove(victim(key));
+                evictionCount.increment();
+            }
+        }
+
+        // LRU: eldest in access order, LFU: least frequently used, oldest first for ties.
+        // The new entry is the last one and never the first one when the segment is full.
+        private Key victim(Key newKey) {
+            Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+            Map.Entry<Key, Entry> victim = iterator.next();
+            if (evictionPolicy == EvictionPolicy.LFU) {
+                while (iterator.hasNext()) {
+                    Map.Entry<Key, Entry> candidate = iterator.next();
+                    if (candidate.getKey() != newKey && candidate.getValue().frequency < victim.getValue().frequency) {
+                        victim = candidate;
+                    }
+                }
+            }
+            return victim.getKey();
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+
+        private synchronized void clear() {
+            entries.clear();
+        }
+    }
+
+    private static class Entry {
+        private final Object value;
+        private final long expiresAt;
+        private int frequency;
+
+        private Entry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static class Key {
+        private final String decisionName;
+        private final List<Object> inputs;
+        private final int hash;
+
+        private Key(String decisionName, List<Object> inputs) {
+            this.decisionName = decisionName;
+            this.inputs = inputs;
+            this.hash = 31 * decisionName.hashCode() + inputs.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return decisionName.equals(key.decisionName) && inputs.equals(key.inputs);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    // Results read from the shared cache are kept locally, so that a lookup after contains() cannot see an eviction
+    private class RequestCache extends ScopedCache {
+        private final List<Object> inputs;
+
+        private RequestCache(List<Object> inputs) {
+            this.inputs = inputs;
+        }
+
+        @Override
+        public boolean contains(String decisionName) {
+            if (super.contains(decisionName)) {
+                return true;
+            }
+            if (!isCached(decisionName)) {
+                return false;
+            }
+            Object value = get(new Key(decisionName, inputs));
+            if (value == MISSING) {
+                return false;
+            }
+            super.bind(decisionName, value);
+            return true;
+        }
+
+        @Override
+        public void bind(String decisionName, Object value) {
+            super.bind(decisionName, value);
+            if (isCached(decisionName)) {
+                put(new Key(decisionName, inputs), value);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Thread safe cache for the decisions evaluated in one request
+public class ScopedCache implements Cache {
+    private static final Object NULL = new Object();
+
+    private final Map<String, Object> bindings = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean contains(String key) {
+        return bindings.containsKey(key);
+    }
+
+    @Override
+    public void bind(String key, Object value) {
+        bindings.put(key, value == null ? NULL : value);
+    }
+
+    @Override
+    public Object lookup(String key) {
+        Object value = bindings.get(key);
+        return value == NULL ? null : value;
+    }
+
+    @Override
+    public void clear() {
+        bindings.clear();
+    }
+}
@@ -27,19 +27,17 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
 public class JavaxToolsCompiler extends JavaCompilerImpl {
-    private final File classesDir;
-
     public JavaxToolsCompiler() {
-        this(new File("."));
     }
 
+    // Classes are compiled in memory, the folder is not used any more
+    @Deprecated
     public JavaxToolsCompiler(File classesDir) {
-        this.classesDir = classesDir;
+        this();
     }
 
     @Override
@@ -86,39 +84,37 @@ public class JavaxToolsCompiler extends JavaCompilerImpl {
         String classText = ((JavaxToolsClassData)classData).getClassText();
         String qualifiedClassName = StringUtils.isBlank(packageName) ? className : packageName + "." + className;
 
-        // Initialize compiler
+        // Every class is compiled in memory and loaded by its own class loader.
+        // Classes with the same name can be compiled concurrently
         javax.tools.JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
         DiagnosticCollector<JavaFileObject> diagnosticCollector = new DiagnosticCollector<>();
-        StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnosticCollector, null, null);
-        fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singleton(classesDir));
-
-        // Create java source file
-        StringWriter writer = new StringWriter();
-        PrintWriter out = new PrintWriter(writer);
-        out.println(classText);
-        out.close();
-        JavaFileObject file = new JavaSourceFromString(qualifiedClassName, writer.toString());
-
-        // Compile
-        String[] compileOptions = new String[] {
-                // set target folder
-                "-d", classesDir.getAbsolutePath(),
-                // set compiler's classpath to be same as the runtime's
-                "-classpath", System.getProperty("java.class.path")
-        };
-        Iterable<? extends JavaFileObject> compilationUnits = Arrays.asList(file);
-        CompilationTask task = compiler.getTask(null, fileManager, diagnosticCollector, Arrays.asList(compileOptions), null, compilationUnits);
-        task.call();
-
-        // Check diagnostics
-        List<Diagnostic<? extends JavaFileObject>> errors = diagnosticCollector.getDiagnostics().stream().filter(d -> d.getKind() == Diagnostic.Kind.ERROR).collect(Collectors.toList());
-        if (!errors.isEmpty()) {
-            throw new DMNRuntimeException(errors.toString());
+        try (MemoryJavaFileManager fileManager = new MemoryJavaFileManager(compiler.getStandardFileManager(diagnosticCollector, null, null))) {
+            // Create java source file
+            StringWriter writer = new StringWriter();
+            PrintWriter out = new PrintWriter(writer);
+            out.println(classText);
+            out.close();
+            JavaFileObject file = new JavaSourceFromString(qualifiedClassName, writer.toString());
+
+            // Compile
+            String[] compileOptions = new String[] {
+                    // set compiler's classpath to be same as the runtime's
+                    "-classpath", System.getProperty("java.class.path")
+            };
+            Iterable<? extends JavaFileObject> compilationUnits = Arrays.asList(file);
+            CompilationTask task = compiler.getTask(null, fileManager, diagnosticCollector, Arrays.asList(compileOptions), null, compilationUnits);
+            task.call();
+
+            // Check diagnostics
+            List<Diagnostic<? extends JavaFileObject>> errors = diagnosticCollector.getDiagnostics().stream().filter(d -> d.getKind() == Diagnostic.Kind.ERROR).collect(Collectors.toList());
+            if (!errors.isEmpty()) {
+                throw new DMNRuntimeException(errors.toString());
+            }
+
+            // Load generated class
+            ClassLoader classLoader = fileManager.getClassLoader(StandardLocation.CLASS_OUTPUT);
+            return classLoader.loadClass(qualifiedClassName);
         }
-
-        // Load generated class
-        ClassLoader classLoader = fileManager.getClassLoader(StandardLocation.CLASS_OUTPUT);
-        return classLoader.loadClass(qualifiedClassName);
     }
 
     public static void main(String args[]) throws Exception {
@@ -129,7 +125,7 @@ public class JavaxToolsCompiler extends JavaCompilerImpl {
                         "    }" +
                         "}";
         JavaxToolsClassData compilerArgs = new JavaxToolsClassData(null, "HelloWorld", text);
-        Class<?> cls = new JavaxToolsCompiler(new File(".")).compile(compilerArgs);
+        Class<?> cls = new JavaxToolsCompiler().compile(compilerArgs);
 
         try {
             cls.getDeclaredMethod("main", new Class[]{String[].class})
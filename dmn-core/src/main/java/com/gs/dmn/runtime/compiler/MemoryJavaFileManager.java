@@ -0,0 +1,51 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.compiler;
+
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Keeps the compiled classes in memory and loads them with a class loader of their own
+class MemoryJavaFileManager extends ForwardingJavaFileManager<JavaFileManager> {
+    private final Map<String, JavaClassFromBytes> classes = new LinkedHashMap<>();
+
+    MemoryJavaFileManager(JavaFileManager fileManager) {
+        super(fileManager);
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind, FileObject sibling) {
+        JavaClassFromBytes file = new JavaClassFromBytes(className);
+        classes.put(className, file);
+        return file;
+    }
+
+    @Override
+    public ClassLoader getClassLoader(Location location) {
+        return new ClassLoader(MemoryJavaFileManager.class.getClassLoader()) {
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                JavaClassFromBytes file = classes.get(name);
+                if (file == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                byte[] bytes = file.getBytes();
+                return defineClass(name, bytes, 0, bytes.length);
+            }
+        };
+    }
+}
@@ -19,23 +19,44 @@ import java.util.Arrays;
 import java.util.stream.Collectors;
 
 public class DefaultExternalFunctionExecutor implements ExternalFunctionExecutor {
+    // Generated decisions create an executor per call. The classes are resolved by this class loader,
+    // so the shared cache does not keep classes of other class loaders alive
+    private static final MethodDispatchCache SHARED_METHOD_DISPATCH_CACHE = new MethodDispatchCache();
+
+    private final MethodDispatchCache methodDispatchCache;
+
+    public DefaultExternalFunctionExecutor() {
+        this(SHARED_METHOD_DISPATCH_CACHE);
+    }
+
+    public DefaultExternalFunctionExecutor(MethodDispatchCache methodDispatchCache) {
+        this.methodDispatchCache = methodDispatchCache;
+    }
+
     @Override
     public Object execute(String className, String methodName, Object[] args) {
         try {
-            Class<?> cls = Class.forName(className);
-            Method[] methods = cls.getMethods();
-            for(Method m: methods) {
-                if (methodName.equals(m.getName())) {
-                    Object instance = cls.newInstance();
-                    return m.invoke(instance, args);
-                }
+            MethodDispatchCache.Invoker invoker = methodDispatchCache.invoker(Arrays.asList(className, methodName), () -> Class.forName(className), cls -> resolveMethod(cls, methodName));
+            if (invoker == null) {
+                throw new DMNRuntimeException(String.format("Cannot execute external function '%s.%s(%s)'", className, methodName, argsToString(args)));
             }
-            throw new DMNRuntimeException(String.format("Cannot execute external function '%s.%s(%s)'", className, methodName, argsToString(args)));
+            Object instance = invoker.isStatic() ? null : methodDispatchCache.receiver(invoker.getTargetClass());
+            return invoker.invoke(instance, args);
         } catch (Exception e) {
             throw new DMNRuntimeException(String.format("Cannot execute external function '%s.%s(%s)'", className, methodName, argsToString(args)), e);
         }
     }
 
+    private Method resolveMethod(Class<?> cls, String methodName) {
+        Method[] methods = cls.getMethods();
+        for(Method m: methods) {
+            if (methodName.equals(m.getName())) {
+                return m;
+            }
+        }
+        return null;
+    }
+
     private String argsToString(Object[] args) {
         return Arrays.stream(args).map(o -> o == null ? "null" : o.toString()).collect(Collectors.joining(", "));
     }
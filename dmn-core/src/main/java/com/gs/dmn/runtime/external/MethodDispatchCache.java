@@ -0,0 +1,124 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.external;
+
+import com.gs.dmn.runtime.DMNRuntimeException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+// Methods resolved by reflection are cached (e.g. by class, method name and argument classes) as method handles.
+// The receivers of the instance methods of external classes are created once per class and reused.
+// A cache is owned by an interpreter or an executor, so the classes it refers to can be unloaded with its owner.
+// Lookups by class name happen only when a key is missed.
+public class MethodDispatchCache {
+    // (receiver, arguments) -> result, the receiver is ignored by static methods
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final ConcurrentMap<List<Object>, Invoker> invokers = new ConcurrentHashMap<>();
+    private final ClassValue<Object> receivers = new ClassValue<Object>() {
+        @Override
+        protected Object computeValue(Class<?> type) {
+            try {
+                return type.newInstance();
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new DMNRuntimeException(String.format("Cannot instantiate class '%s'", type.getName()), e);
+            }
+        }
+    };
+
+    // Returns null when the resolver cannot find a method, misses are not cached
+    public Invoker invoker(List<Object> key, Callable<Class<?>> classResolver, MethodResolver methodResolver) throws Exception {
+        Invoker invoker = invokers.get(key);
+        if (invoker == null) {
+            Class<?> cls = classResolver.call();
+            Method method = methodResolver.resolve(cls);
+            if (method == null) {
+                return null;
+            }
+            invoker = new Invoker(cls, method, makeHandle(method));
+            Invoker existingInvoker = invokers.putIfAbsent(key, invoker);
+            if (existingInvoker != null) {
+                invoker = existingInvoker;
+            }
+        }
+        return invoker;
+    }
+
+    // Receivers are keyed by class, i.e. by name and class loader
+    public Object receiver(Class<?> cls) {
+        return receivers.get(cls);
+    }
+
+    private static MethodHandle makeHandle(Method method) throws IllegalAccessException {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            method.setAccessible(true);
+            handle = MethodHandles.lookup().unreflect(method);
+        }
+        // Variable arguments are passed in an array, as for Method.invoke()
+        handle = handle.asFixedArity();
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE);
+    }
+
+    public interface MethodResolver {
+        Method resolve(Class<?> cls) throws Exception;
+    }
+
+    public static class Invoker {
+        private final Class<?> targetClass;
+        private final Method method;
+        private final MethodHandle handle;
+
+        private Invoker(Class<?> targetClass, Method method, MethodHandle handle) {
+            this.targetClass = targetClass;
+            this.method = method;
+            this.handle = handle;
+        }
+
+        // The class the method was resolved in, receivers of instance methods are instances of this class
+        public Class<?> getTargetClass() {
+            return targetClass;
+        }
+
+        public Method getMethod() {
+            return method;
+        }
+
+        public boolean isStatic() {
+            return Modifier.isStatic(method.getModifiers());
+        }
+
+        public Object invoke(Object receiver, Object... args) {
+            try {
+                return (Object) handle.invokeExact(receiver, args);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new DMNRuntimeException(String.format("Cannot invoke method '%s'", method.getName()), e);
+            }
+        }
+    }
+}
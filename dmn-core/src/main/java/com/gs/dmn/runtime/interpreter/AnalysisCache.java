@@ -0,0 +1,105 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.interpreter;
+
+import com.gs.dmn.feel.analysis.semantics.environment.Environment;
+import com.gs.dmn.feel.analysis.semantics.type.Type;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.function.FunctionDefinition;
+import com.gs.dmn.feel.analysis.syntax.ast.test.UnaryTests;
+import com.gs.dmn.runtime.DecisionTableIndex;
+import com.gs.dmn.runtime.Pair;
+import com.gs.dmn.runtime.listener.DRGElement;
+import org.omg.spec.dmn._20180521.model.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Results of the semantic analysis of the FEEL fragments in a DMN model.
+// JAXB elements do not override equals() / hashCode(), so the maps are keyed by element identity.
+public class AnalysisCache {
+    private final Map<TDMNElement, Expression> expressions = new ConcurrentHashMap<>();
+    private final Map<TUnaryTests, UnaryTests> unaryTests = new ConcurrentHashMap<>();
+    private final Map<TContext, Pair<Environment, Map<TContextEntry, Expression>>> contextEnvironments = new ConcurrentHashMap<>();
+    private final Map<TNamedElement, Type> outputTypes = new ConcurrentHashMap<>();
+    private final Map<TDecisionTable, DecisionTableIndex> decisionTableIndexes = new ConcurrentHashMap<>();
+    private final Map<TDecision, Pair<List<TDecision>, List<TDecision>>> parallelSchedules = new ConcurrentHashMap<>();
+    private final Map<TDRGElement, DRGElement> drgElementAnnotations = new ConcurrentHashMap<>();
+    private final Map<TDRGElement, List<String>> argumentNames = new ConcurrentHashMap<>();
+    private final Map<FunctionDefinition, Class<?>> lambdaClasses = new ConcurrentHashMap<>();
+
+    public Expression expression(TLiteralExpression element, Supplier<Expression> analyzer) {
+        return lookup(expressions, element, analyzer);
+    }
+
+    public UnaryTests unaryTests(TUnaryTests element, Supplier<UnaryTests> analyzer) {
+        return lookup(unaryTests, element, analyzer);
+    }
+
+    public Pair<Environment, Map<TContextEntry, Expression>> contextEnvironment(TContext element, Supplier<Pair<Environment, Map<TContextEntry, Expression>>> analyzer) {
+        return lookup(contextEnvironments, element, analyzer);
+    }
+
+    public Type outputType(TNamedElement element, Supplier<Type> analyzer) {
+        return lookup(outputTypes, element, analyzer);
+    }
+
+    public DecisionTableIndex decisionTableIndex(TDecisionTable element, Supplier<DecisionTableIndex> analyzer) {
+        return lookup(decisionTableIndexes, element, analyzer);
+    }
+
+    public Pair<List<TDecision>, List<TDecision>> parallelSchedule(TDecision element, Supplier<Pair<List<TDecision>, List<TDecision>>> analyzer) {
+        return lookup(parallelSchedules, element, analyzer);
+    }
+
+    public DRGElement drgElementAnnotation(TDRGElement element, Supplier<DRGElement> analyzer) {
+        return lookup(drgElementAnnotations, element, analyzer);
+    }
+
+    public List<String> argumentNames(TDRGElement element, Supplier<List<String>> analyzer) {
+        return lookup(argumentNames, element, analyzer);
+    }
+
+    public Class<?> lambdaClass(FunctionDefinition element, Supplier<Class<?>> compiler) {
+        return lookup(lambdaClasses, element, compiler);
+    }
+
+    public void clear() {
+        expressions.clear();
+        unaryTests.clear();
+        contextEnvironments.clear();
+        outputTypes.clear();
+        decisionTableIndexes.clear();
+        parallelSchedules.clear();
+        drgElementAnnotations.clear();
+        argumentNames.clear();
+        lambdaClasses.clear();
+    }
+
+    // Analysis can be re-entrant, use get / putIfAbsent instead of computeIfAbsent
+    private <K, V> V lookup(Map<K, V> map, K key, Supplier<V> analyzer) {
+        V value = map.get(key);
+        if (value == null) {
+            value = analyzer.get();
+            if (value != null) {
+                V previous = map.putIfAbsent(key, value);
+                if (previous != null) {
+                    value = previous;
+                }
+            }
+        }
+        return value;
+    }
+}
@@ -19,12 +19,14 @@ import com.gs.dmn.feel.analysis.semantics.type.ListType;
 import com.gs.dmn.feel.analysis.semantics.type.Type;
 import com.gs.dmn.feel.analysis.syntax.ast.FEELContext;
 import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
+import com.gs.dmn.feel.analysis.syntax.ast.test.IndexedTest;
 import com.gs.dmn.feel.analysis.syntax.ast.test.UnaryTests;
 import com.gs.dmn.feel.interpreter.FEELInterpreter;
 import com.gs.dmn.feel.interpreter.FEELInterpreterImpl;
 import com.gs.dmn.feel.lib.FEELLib;
 import com.gs.dmn.runtime.*;
 import com.gs.dmn.runtime.annotation.HitPolicy;
+import com.gs.dmn.runtime.external.MethodDispatchCache;
 import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironment;
 import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironmentFactory;
 import com.gs.dmn.runtime.listener.Arguments;
@@ -38,24 +40,46 @@ import org.slf4j.LoggerFactory;
 
 import javax.xml.bind.JAXBElement;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.Collectors;
 
+// Thread safe: the model and the analysis results are shared between calls,
+// the evaluation state lives in the RuntimeEnvironment of each call (bindings and event listener).
+// When an executor is provided, independent required decisions are evaluated in parallel and the event listener must be thread safe.
 public class DMNInterpreter {
     private static final Logger LOGGER = LoggerFactory.getLogger(DMNInterpreter.class);
-    protected static EventListener EVENT_LISTENER = new LoggingEventListener(LOGGER);
-    protected final RuntimeEnvironmentFactory runtimeEnvironmentFactory = RuntimeEnvironmentFactory.instance();
-    private final DMNModelRepository dmnModelRepository;
-    private final EnvironmentFactory environmentFactory;
+    // Used by the interpreters created without an event listener
+    private static volatile EventListener DEFAULT_EVENT_LISTENER = new LoggingEventListener(LOGGER);
 
+    // Not thread safe, pass the listener to the constructor or to evaluate() instead
+    @Deprecated
     public static void setEventListener(EventListener eventListener) {
-        EVENT_LISTENER = eventListener;
+        DEFAULT_EVENT_LISTENER = eventListener;
     }
 
+    protected final RuntimeEnvironmentFactory runtimeEnvironmentFactory = RuntimeEnvironmentFactory.instance();
+    private final DMNModelRepository dmnModelRepository;
+    private final EnvironmentFactory environmentFactory;
+
     private final BasicDMN2JavaTransformer basicDMNTransformer;
     private final FEELLib feelLib;
     private final FEELInterpreter feelInterpreter;
+    private final AnalysisCache analysisCache = new AnalysisCache();
+    private final MethodDispatchCache methodDispatchCache = new MethodDispatchCache();
+    private final EventListener eventListener;
+    private final Executor executor;
 
     public DMNInterpreter(BasicDMN2JavaTransformer basicDMNTransformer, FEELLib feelLib) {
+        this(basicDMNTransformer, feelLib, null);
+    }
+
+    public DMNInterpreter(BasicDMN2JavaTransformer basicDMNTransformer, FEELLib feelLib, EventListener eventListener) {
+        this(basicDMNTransformer, feelLib, eventListener, null);
+    }
+
+    public DMNInterpreter(BasicDMN2JavaTransformer basicDMNTransformer, FEELLib feelLib, EventListener eventListener, Executor executor) {
+        this.eventListener = eventListener;
+        this.executor = executor;
         this.basicDMNTransformer = basicDMNTransformer;
         this.dmnModelRepository = basicDMNTransformer.getDMNModelRepository();
         this.environmentFactory = basicDMNTransformer.getEnvironmentFactory();
@@ -71,12 +95,47 @@ public class DMNInterpreter {
         return feelLib;
     }
 
+    public AnalysisCache getAnalysisCache() {
+        return analysisCache;
+    }
+
+    // Shared by the FEEL interpreters of this interpreter
+    public MethodDispatchCache getMethodDispatchCache() {
+        return methodDispatchCache;
+    }
+
+    public Object evaluate(String drgElementName, RuntimeEnvironment runtimeEnvironment, EventListener eventListener) {
+        runtimeEnvironment.setEventListener(eventListener);
+        return evaluate(drgElementName, runtimeEnvironment);
+    }
+
     public Object evaluate(String drgElementName, RuntimeEnvironment runtimeEnvironment) {
         TDRGElement drgElement = dmnModelRepository.findDRGElementByName(drgElementName);
         evaluate(drgElement, runtimeEnvironment);
         return runtimeEnvironment.lookupBinding(drgElementName);
     }
 
+    // Evaluates a DRG element for a batch of inputs, the results are in the order of the environments
+    public List<Object> evaluate(String drgElementName, List<RuntimeEnvironment> runtimeEnvironments) {
+        return evaluate(drgElementName, runtimeEnvironments, null);
+    }
+
+    // The listener is shared by all the evaluations, it must be thread safe when an executor is provided
+    public List<Object> evaluate(String drgElementName, List<RuntimeEnvironment> runtimeEnvironments, EventListener eventListener, Executor executor) {
+        if (eventListener != null) {
+            runtimeEnvironments.forEach(e -> e.setEventListener(eventListener));
+        }
+        return evaluate(drgElementName, runtimeEnvironments, executor);
+    }
+
+    private List<Object> evaluate(String drgElementName, List<RuntimeEnvironment> runtimeEnvironments, Executor executor) {
+        TDRGElement drgElement = dmnModelRepository.findDRGElementByName(drgElementName);
+        return BatchEvaluator.evaluate(runtimeEnvironments, runtimeEnvironment -> {
+            evaluate(drgElement, runtimeEnvironment);
+            return runtimeEnvironment.lookupBinding(drgElementName);
+        }, executor);
+    }
+
     private void evaluate(TDRGElement drgElement, RuntimeEnvironment runtimeEnvironment) {
         if (drgElement instanceof TInputData) {
         } else if (drgElement instanceof TBusinessKnowledgeModel) {
@@ -94,18 +153,16 @@ public class DMNInterpreter {
         long startTime_ = System.currentTimeMillis();
         DRGElement drgElementAnnotation = makeDRGElementAnnotation(bkm, bkmRuntimeEnvironment);
         com.gs.dmn.runtime.listener.Arguments decisionArguments = makeArguments(bkm, bkmRuntimeEnvironment);
-        EVENT_LISTENER.startDRGElement(drgElementAnnotation, decisionArguments);
+        eventListener(bkmRuntimeEnvironment).startDRGElement(drgElementAnnotation, decisionArguments);
 
         // Bind parameters
-        Environment bkmEnvironment = environmentFactory.makeEnvironment(context.getEnvironment());
+        // The body is analyzed in the BKM environment (parameters and required BKMs), not in the caller's environment,
+        // the analysis is cached per BKM and shared by all callers
+        Environment bkmEnvironment = basicDMNTransformer.makeEnvironment(bkm);
         List<TInformationItem> formalParameterList = bkm.getEncapsulatedLogic().getFormalParameter();
         for (int i = 0; i < formalParameterList.size(); i++) {
             TInformationItem param = formalParameterList.get(i);
-            String name = param.getName();
-            Type type = basicDMNTransformer.toFEELType(QualifiedName.toQualifiedName(param.getTypeRef()));
-            Object value = argList.get(i);
-            bkmEnvironment.addDeclaration(environmentFactory.makeVariableDeclaration(name, type));
-            bkmRuntimeEnvironment.bind(name, value);
+            bkmRuntimeEnvironment.bind(param.getName(), argList.get(i));
         }
 
         // Execute function body
@@ -113,7 +170,7 @@ public class DMNInterpreter {
         Object output = evaluateExpression(expression, bkmEnvironment, bkmRuntimeEnvironment, bkm, drgElementAnnotation);
 
         // Decision end
-        EVENT_LISTENER.endDRGElement(drgElementAnnotation, decisionArguments, output, (System.currentTimeMillis() - startTime_));
+        eventListener(bkmRuntimeEnvironment).endDRGElement(drgElementAnnotation, decisionArguments, output, (System.currentTimeMillis() - startTime_));
 
         return output;
     }
@@ -172,7 +229,7 @@ public class DMNInterpreter {
         long startTime_ = System.currentTimeMillis();
         DRGElement drgElementAnnotation = makeDRGElementAnnotation(decision, runtimeEnvironment);
         com.gs.dmn.runtime.listener.Arguments decisionArguments = makeArguments(decision, runtimeEnvironment);
-        EVENT_LISTENER.startDRGElement(drgElementAnnotation, decisionArguments);
+        eventListener(runtimeEnvironment).startDRGElement(drgElementAnnotation, decisionArguments);
 
         // Check if has already been evaluated
         String decisionName = decision.getName();
@@ -181,39 +238,148 @@ public class DMNInterpreter {
             // Retrieve value from environment
             output = runtimeEnvironment.lookupBinding(decisionName);
         } else {
-            // Evaluate dependencies
-            evaluateInformationRequirementList(decision.getInformationRequirement(), runtimeEnvironment);
-            evaluateBKMRequirements(decision.getKnowledgeRequirement(), runtimeEnvironment);
-
-            // Evaluate expression
-            TExpression expression = dmnModelRepository.expression(decision);
-            Environment environment = basicDMNTransformer.makeEnvironment(decision);
-            output = evaluateExpression(expression, environment, runtimeEnvironment, decision, drgElementAnnotation);
-
-            // Set variable
-            runtimeEnvironment.bind(decisionName, output);
+            output = evaluateDecisionValue(decision, drgElementAnnotation, runtimeEnvironment);
         }
 
         // Decision end
-        EVENT_LISTENER.endDRGElement(drgElementAnnotation, decisionArguments, output, (System.currentTimeMillis() - startTime_));
+        eventListener(runtimeEnvironment).endDRGElement(drgElementAnnotation, decisionArguments, output, (System.currentTimeMillis() - startTime_));
+    }
+
+    private Object evaluateDecisionValue(TDecision decision, DRGElement drgElementAnnotation, RuntimeEnvironment runtimeEnvironment) {
+        // Evaluate dependencies
+        evaluateInformationRequirementList(decision, runtimeEnvironment);
+        evaluateBKMRequirements(decision.getKnowledgeRequirement(), runtimeEnvironment);
+
+        // Evaluate expression
+        TExpression expression = dmnModelRepository.expression(decision);
+        Environment environment = basicDMNTransformer.makeEnvironment(decision);
+        Object output = evaluateExpression(expression, environment, runtimeEnvironment, decision, drgElementAnnotation);
+
+        // Set variable
+        runtimeEnvironment.bind(decision.getName(), output);
+        return output;
     }
 
     protected boolean dagOptimisation() {
         return true;
     }
 
-    private void evaluateInformationRequirementList(List<TInformationRequirement> informationRequirementList, RuntimeEnvironment runtimeEnvironment) {
-        for (TInformationRequirement informationRequirement : informationRequirementList) {
+    private void evaluateInformationRequirementList(TDecision decision, RuntimeEnvironment runtimeEnvironment) {
+        List<TDecision> requiredDecisions = new ArrayList<>();
+        for (TInformationRequirement informationRequirement : decision.getInformationRequirement()) {
             TDMNElementReference requiredInput = informationRequirement.getRequiredInput();
             TDMNElementReference requiredDecision = informationRequirement.getRequiredDecision();
             if (requiredInput != null) {
             } else if (requiredDecision != null) {
                 TDecision child = dmnModelRepository.findDecisionById(requiredDecision.getHref());
-                evaluateDecision(child, runtimeEnvironment);
+                requiredDecisions.add(child);
             } else {
                 handleError("Incorrect InformationRequirement. Missing required input and decision");
             }
         }
+
+        if (executor != null && requiredDecisions.size() > 1) {
+            Pair<List<TDecision>, List<TDecision>> schedule = analysisCache.parallelSchedule(decision, () -> makeParallelSchedule(requiredDecisions));
+            for (TDecision child : schedule.getLeft()) {
+                if (requiredDecisions.contains(child)) {
+                    evaluateDecision(child, runtimeEnvironment);
+                } else if (!runtimeEnvironment.isBound(child.getName())) {
+                    // Not required by this decision, the branches fire the start and end events when they reach it
+                    evaluateDecisionValue(child, makeDRGElementAnnotation(child, runtimeEnvironment), runtimeEnvironment);
+                }
+            }
+            if (schedule.getRight().size() > 1) {
+                evaluateDecisionsInParallel(schedule.getRight(), runtimeEnvironment);
+            } else {
+                for (TDecision child : schedule.getRight()) {
+                    evaluateDecision(child, runtimeEnvironment);
+                }
+            }
+        } else {
+            for (TDecision child : requiredDecisions) {
+                evaluateDecision(child, runtimeEnvironment);
+            }
+        }
+    }
+
+    // Required decisions used by other required decisions and sub-decisions used by several branches are evaluated first,
+    // the remaining required decisions are independent
+    private Pair<List<TDecision>, List<TDecision>> makeParallelSchedule(List<TDecision> requiredDecisions) {
+        Set<TDecision> sharedDecisions = new LinkedHashSet<>();
+        for (TDecision child : requiredDecisions) {
+            Collection<TDecision> subDecisions = dmnModelRepository.allSubDecisions(child);
+            for (TDecision sibling : requiredDecisions) {
+                if (subDecisions.contains(sibling)) {
+                    sharedDecisions.add(sibling);
+                }
+            }
+        }
+        List<TDecision> sequential = new ArrayList<>();
+        List<TDecision> parallel = new ArrayList<>();
+        for (TDecision child : requiredDecisions) {
+            if (sharedDecisions.contains(child)) {
+                sequential.add(child);
+            } else {
+                parallel.add(child);
+            }
+        }
+
+        // Sub-decisions reachable from more than one independent branch would be evaluated once per branch
+        if (!dagOptimisation()) {
+            return new Pair<>(sequential, parallel);
+        }
+        Set<TDecision> reached = new LinkedHashSet<>();
+        for (TDecision child : parallel) {
+            for (TDecision subDecision : dmnModelRepository.allSubDecisions(child)) {
+                if (!reached.add(subDecision) && !sequential.contains(subDecision)) {
+                    sequential.add(subDecision);
+                }
+            }
+        }
+        return new Pair<>(sequential, parallel);
+    }
+
+    private void evaluateDecisionsInParallel(List<TDecision> decisions, RuntimeEnvironment runtimeEnvironment) {
+        // Each task binds its results in a child environment, the parent is only read until all tasks are done
+        List<FutureTask<Object>> tasks = new ArrayList<>();
+        for (TDecision child : decisions) {
+            RuntimeEnvironment childEnvironment = runtimeEnvironmentFactory.makeEnvironment(runtimeEnvironment);
+            FutureTask<Object> task = new FutureTask<>(() -> {
+                evaluateDecision(child, childEnvironment);
+                return childEnvironment.lookupBinding(child.getName());
+            });
+            tasks.add(task);
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // Run by the caller below
+            }
+        }
+        // Run the tasks not started yet in the current thread, a saturated executor cannot block the evaluation
+        for (FutureTask<Object> task : tasks) {
+            task.run();
+        }
+        for (int i = 0; i < decisions.size(); i++) {
+            runtimeEnvironment.bind(decisions.get(i).getName(), waitFor(tasks.get(i), decisions.get(i)));
+        }
+    }
+
+    private Object waitFor(FutureTask<Object> task, TDecision decision) {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            handleError(String.format("Cannot evaluate decision '%s'", decision.getName()), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            handleError(String.format("Interrupted while evaluating decision '%s'", decision.getName()), e);
+        }
+        return null;
     }
 
     //
@@ -248,12 +414,13 @@ public class DMNInterpreter {
     }
 
     private Object evaluateLiteralExpression(TLiteralExpression expression, Environment environment, RuntimeEnvironment runtimeEnvironment, TDRGElement element, DRGElement elementAnnotation) {
-        String text = expression.getText();
-        Object value = evaluateLiteralExpression(text, environment, runtimeEnvironment, element);
+        FEELContext context = FEELContext.makeContext(environment, runtimeEnvironment);
+        Expression feelExpression = analyzeExpression(expression, context);
+        Object value = feelInterpreter.evaluateExpression(feelExpression, context);
         if (element == null) {
             return value;
         } else {
-            Type expectedType = basicDMNTransformer.drgElementOutputFEELType(element, environment);
+            Type expectedType = analysisCache.outputType(element, () -> basicDMNTransformer.drgElementOutputFEELType(element, environment));
             if (expectedType != null) {
                 return convertExpression(value, expectedType);
             } else {
@@ -305,7 +472,7 @@ public class DMNInterpreter {
 
     private Object evaluateContextExpression(TContext context, Environment environment, RuntimeEnvironment runtimeEnvironment, TDRGElement element, DRGElement elementAnnotation) {
         // Make context environment
-        Pair<Environment, Map<TContextEntry, Expression>> pair = basicDMNTransformer.makeContextEnvironment(context, environment);
+        Pair<Environment, Map<TContextEntry, Expression>> pair = analysisCache.contextEnvironment(context, () -> basicDMNTransformer.makeContextEnvironment(context, environment));
         Environment contextEnvironment = pair.getLeft();
         Map<TContextEntry, Expression> literalExpressionMap = pair.getRight();
 
@@ -415,14 +582,18 @@ public class DMNInterpreter {
         List<InputClausePair> inputClauseList = new ArrayList<>();
         for (TInputClause inputClause : decisionTable.getInput()) {
             TLiteralExpression inputExpression = inputClause.getInputExpression();
-            String inputExpressionText = inputExpression.getText();
             FEELContext feelContext = FEELContext.makeContext(environment, runtimeEnvironment);
-            Expression expression = feelInterpreter.analyzeExpression(inputExpressionText, feelContext);
+            Expression expression = analyzeExpression(inputExpression, feelContext);
             Object inputExpressionValue = feelInterpreter.evaluateExpression(expression, feelContext);
             inputClauseList.add(new InputClausePair(expression, inputExpressionValue));
         }
 
+        // Select the rules that can match
+        DecisionTableIndex index = analysisCache.decisionTableIndex(decisionTable, () -> makeDecisionTableIndex(element, decisionTable, inputClauseList, environment, runtimeEnvironment));
+        BitSet candidateRules = index.candidates(inputClauseList.stream().map(InputClausePair::getValue).toArray());
+
         // Evaluate rules
+        EventListener listener = eventListener(runtimeEnvironment);
         List<TDecisionRule> ruleList = decisionTable.getRule();
         RuleOutputList ruleOutputList = new RuleOutputList();
         for (int i = 0; i < ruleList.size(); i++) {
@@ -430,31 +601,76 @@ public class DMNInterpreter {
             Rule ruleAnnotation = makeRuleAnnotation(rule, i);
 
             // Rule start
-            EVENT_LISTENER.startRule(elementAnnotation, ruleAnnotation);
+            listener.startRule(elementAnnotation, ruleAnnotation);
 
-            InterpretedRuleOutput ruleOutput = evaluateRule(element, decisionTable, rule, inputClauseList, environment, runtimeEnvironment, elementAnnotation, ruleAnnotation);
+            InterpretedRuleOutput ruleOutput;
+            if (candidateRules.get(i)) {
+                ruleOutput = evaluateRule(element, decisionTable, rule, inputClauseList, environment, runtimeEnvironment, elementAnnotation, ruleAnnotation);
+            } else {
+                ruleOutput = new InterpretedRuleOutput(false, null);
+            }
             ruleOutputList.add(ruleOutput);
 
             // Rule end
-            EVENT_LISTENER.endRule(elementAnnotation, ruleAnnotation, ruleOutput);
+            listener.endRule(elementAnnotation, ruleAnnotation, ruleOutput);
         }
 
         // Return results based on hit policy
         return applyHitPolicy(element, decisionTable, ruleOutputList, environment, runtimeEnvironment, elementAnnotation);
     }
 
+    private DecisionTableIndex makeDecisionTableIndex(TDRGElement element, TDecisionTable decisionTable, List<InputClausePair> inputClauseList, Environment environment, RuntimeEnvironment runtimeEnvironment) {
+        List<TDecisionRule> ruleList = decisionTable.getRule();
+        DecisionTableIndex.Builder builder = new DecisionTableIndex.Builder(ruleList.size(), inputClauseList.size());
+        FEELContext literalContext = FEELContext.makeContext(environment, runtimeEnvironment);
+        for (int rule = 0; rule < ruleList.size(); rule++) {
+            List<TUnaryTests> inputEntry = ruleList.get(rule).getInputEntry();
+            for (int index = 0; index < inputEntry.size() && index < inputClauseList.size(); index++) {
+                Expression inputExpression = inputClauseList.get(index).getExpression();
+                Environment inputEntryEnvironment = basicDMNTransformer.makeInputEntryEnvironment(element, inputExpression);
+                RuntimeEnvironment inputEntryRuntimeEnvironment = runtimeEnvironmentFactory.makeInputEntryEnvironment(inputClauseList, runtimeEnvironment, index);
+                FEELContext context = FEELContext.makeContext(inputEntryEnvironment, inputEntryRuntimeEnvironment);
+                List<IndexedTest> indexedTests;
+                try {
+                    indexedTests = IndexedTest.indexedTests(analyzeUnaryTests(inputEntry.get(index), context), inputExpression.getType());
+                } catch (Exception e) {
+                    // Not indexed, the error is reported if the rule is evaluated
+                    indexedTests = null;
+                }
+                if (indexedTests != null) {
+                    DecisionTableIndex.Test[] tests = indexedTests.stream().map(t -> makeIndexTest(t, literalContext)).toArray(DecisionTableIndex.Test[]::new);
+                    builder.entry(rule, index, tests);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    // Returns null when a literal cannot be evaluated, the entry is not indexed
+    private DecisionTableIndex.Test makeIndexTest(IndexedTest test, FEELContext literalContext) {
+        try {
+            Object low = test.getLow() == null ? null : feelInterpreter.evaluateExpression(test.getLow(), literalContext);
+            if (test.isEquality()) {
+                return DecisionTableIndex.equal(low);
+            }
+            Object high = test.getHigh() == null ? null : feelInterpreter.evaluateExpression(test.getHigh(), literalContext);
+            return DecisionTableIndex.range(low, high);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     private InterpretedRuleOutput evaluateRule(TDRGElement element, TDecisionTable decisionTable, TDecisionRule rule, List<InputClausePair> inputClauseList, Environment environment, RuntimeEnvironment runtimeEnvironment, DRGElement elementAnnotation, Rule ruleAnnotation) {
         // Check tests
         List<TUnaryTests> inputEntry = rule.getInputEntry();
         boolean ruleMatched = true;
         for (int index = 0; index < inputEntry.size(); index++) {
             TUnaryTests unaryTest = inputEntry.get(index);
-            String text = unaryTest.getText();
             Environment inputEntryEnvironment = basicDMNTransformer.makeInputEntryEnvironment(element, inputClauseList.get(index).getExpression());
             RuntimeEnvironment inputEntryRuntimeEnvironment = runtimeEnvironmentFactory.makeInputEntryEnvironment(inputClauseList, runtimeEnvironment, index);
             FEELContext context = FEELContext.makeContext(inputEntryEnvironment, inputEntryRuntimeEnvironment);
-            Expression ast = feelInterpreter.analyzeUnaryTests(text, context);
-            Object testMatched = feelInterpreter.evaluateUnaryTests((UnaryTests) ast, context);
+            UnaryTests ast = analyzeUnaryTests(unaryTest, context);
+            Object testMatched = feelInterpreter.evaluateUnaryTests(ast, context);
             if (isFalse(testMatched)) {
                 ruleMatched = false;
                 break;
@@ -464,7 +680,7 @@ public class DMNInterpreter {
         // Compute output
         if (ruleMatched) {
             // Rule match
-            EVENT_LISTENER.matchRule(elementAnnotation, ruleAnnotation);
+            eventListener(runtimeEnvironment).matchRule(elementAnnotation, ruleAnnotation);
 
             THitPolicy hitPolicy = decisionTable.getHitPolicy();
             if (dmnModelRepository.isCompoundDecisionTable(element)) {
@@ -501,6 +717,14 @@ public class DMNInterpreter {
 
     }
 
+    private Expression analyzeExpression(TLiteralExpression expression, FEELContext context) {
+        return analysisCache.expression(expression, () -> feelInterpreter.analyzeExpression(expression.getText(), context));
+    }
+
+    private UnaryTests analyzeUnaryTests(TUnaryTests unaryTests, FEELContext context) {
+        return analysisCache.unaryTests(unaryTests, () -> feelInterpreter.analyzeUnaryTests(unaryTests.getText(), context));
+    }
+
     private Object convertExpression(Object value, Type expectedType) {
         if (value == null) {
             return null;
@@ -615,20 +839,29 @@ public class DMNInterpreter {
     //
     // Logging
     //
+    private EventListener eventListener(RuntimeEnvironment runtimeEnvironment) {
+        EventListener listener = runtimeEnvironment.getEventListener();
+        if (listener != null) {
+            return listener;
+        }
+        return this.eventListener == null ? DEFAULT_EVENT_LISTENER : this.eventListener;
+    }
+
     protected DRGElement makeDRGElementAnnotation(TDRGElement element, RuntimeEnvironment runtimeEnvironment) {
-        return new DRGElement(null,
+        // The model namespace distinguishes the elements with the same name in different models
+        return analysisCache.drgElementAnnotation(element, () -> new DRGElement(dmnModelRepository.getDefinitions().getNamespace(),
                 dmnModelRepository.name(element),
                 dmnModelRepository.label(element),
                 basicDMNTransformer.elementKind(element),
                 basicDMNTransformer.expressionKind(element),
                 basicDMNTransformer.hitPolicy(element),
                 dmnModelRepository.rulesCount(element)
-        );
+        ));
     }
 
     private Arguments makeArguments(TDRGElement element, RuntimeEnvironment runtimeEnvironment) {
         Arguments arguments = new Arguments();
-        List<String> parameters = basicDMNTransformer.drgElementArgumentNameList(element, false);
+        List<String> parameters = analysisCache.argumentNames(element, () -> basicDMNTransformer.drgElementArgumentNameList(element, false));
         parameters.forEach(p -> arguments.put(p, runtimeEnvironment.lookupBinding(p)));
         return arguments;
     }
@@ -12,11 +12,21 @@
  */
 package com.gs.dmn.runtime.interpreter.environment;
 
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.Map;
 
+// Most environments hold a few bindings (function parameters, iterators, input entries, context entries).
+// They are stored in a frame of slots searched linearly, keys are compared by reference first.
+// Frames with more than MAX_SLOTS bindings switch to a hash map.
+// Names bound inside a FEEL expression can also be looked up by (depth, slot), see LexicalAddressVisitor
 public class Environment<K, V> {
-    private final Map<K, V> bindings = new LinkedHashMap<>();
+    private static final int MAX_SLOTS = 8;
+    private static final Object NOT_FOUND = new Object();
+
+    private Object[] keys;
+    private Object[] values;
+    private int size;
+    private Map<K, V> bindings;
 
     private final Environment<K, V> parent;
 
@@ -29,39 +39,108 @@ public class Environment<K, V> {
     }
 
     public void bind(K key, V value) {
-        bindings.put(normalize(key), value);
+        key = normalize(key);
+        if (bindings != null) {
+            bindings.put(key, value);
+            return;
+        }
+
+        int index = slot(key);
+        if (index != -1) {
+            values[index] = value;
+        } else if (keys == null) {
+            keys = new Object[2];
+            values = new Object[2];
+            addSlot(key, value);
+        } else if (size < keys.length) {
+            addSlot(key, value);
+        } else if (size < MAX_SLOTS) {
+            Object[] newKeys = new Object[keys.length * 2];
+            Object[] newValues = new Object[keys.length * 2];
+            System.arraycopy(keys, 0, newKeys, 0, size);
+            System.arraycopy(values, 0, newValues, 0, size);
+            keys = newKeys;
+            values = newValues;
+            addSlot(key, value);
+        } else {
+            bindings = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                bindings.put((K) keys[i], (V) values[i]);
+            }
+            bindings.put(key, value);
+            keys = null;
+            values = null;
+            size = 0;
+        }
     }
 
     public V lookupBinding(K key) {
-        if (isLocalBound(key)) {
-            return lookupLocalBinding(key);
-        } else {
-            if (parent != null) {
-                return parent.lookupBinding(key);
-            } else {
-                return null;
+        key = normalize(key);
+        for (Environment<K, V> environment = this; environment != null; environment = environment.parent) {
+            Object value = environment.lookupLocalBinding(key);
+            if (value != NOT_FOUND) {
+                return (V) value;
+            }
+        }
+        return null;
+    }
+
+    // Looks up the binding at the coordinates computed by the static analysis, the key is checked before the value is used.
+    // Falls back to the lookup by key when the frame differs (e.g. frame switched to a map, binding not made yet)
+    public V lookupBinding(K key, int depth, int slot) {
+        Environment<K, V> environment = this;
+        for (int i = 0; i < depth && environment != null; i++) {
+            environment = environment.parent;
+        }
+        if (environment != null && slot < environment.size) {
+            Object slotKey = environment.keys[slot];
+            if (slotKey == key || key != null && key.equals(slotKey)) {
+                return (V) environment.values[slot];
             }
         }
+        return lookupBinding(key);
     }
 
     public boolean isBound(K key) {
-        if (isLocalBound(key)) {
-            return true;
-        } else {
-            if (parent != null) {
-                return parent.isBound(key);
-            } else {
-                return false;
+        key = normalize(key);
+        for (Environment<K, V> environment = this; environment != null; environment = environment.parent) {
+            if (environment.lookupLocalBinding(key) != NOT_FOUND) {
+                return true;
             }
         }
+        return false;
+    }
+
+    // One search per environment, null values are valid bindings
+    private Object lookupLocalBinding(K key) {
+        if (bindings != null) {
+            V value = bindings.get(key);
+            return value != null || bindings.containsKey(key) ? value : NOT_FOUND;
+        }
+        int index = slot(key);
+        return index == -1 ? NOT_FOUND : values[index];
     }
 
-    private V lookupLocalBinding(K key) {
-        return bindings.get(normalize(key));
+    private int slot(K key) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        if (key != null) {
+            for (int i = 0; i < size; i++) {
+                if (key.equals(keys[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
     }
 
-    private boolean isLocalBound(K key) {
-        return bindings.containsKey(normalize(key));
+    private void addSlot(K key, V value) {
+        keys[size] = key;
+        values[size] = value;
+        size++;
     }
 
     private K normalize(K key) {
@@ -12,8 +12,29 @@
  */
 package com.gs.dmn.runtime.interpreter.environment;
 
+import com.gs.dmn.runtime.listener.EventListener;
+
 public class RuntimeEnvironment extends Environment<String, Object> {
+    private EventListener eventListener;
+
     RuntimeEnvironment(Environment<String, Object> parent) {
         super(parent);
     }
+
+    // Listener of the current evaluation, inherited from the parent environments
+    public EventListener getEventListener() {
+        if (eventListener != null) {
+            return eventListener;
+        }
+        Environment<String, Object> parent = getParent();
+        if (parent instanceof RuntimeEnvironment) {
+            return ((RuntimeEnvironment) parent).getEventListener();
+        } else {
+            return null;
+        }
+    }
+
+    public void setEventListener(EventListener eventListener) {
+        this.eventListener = eventListener;
+    }
 }
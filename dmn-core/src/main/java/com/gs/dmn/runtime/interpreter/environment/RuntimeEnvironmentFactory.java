@@ -37,7 +37,7 @@ public class RuntimeEnvironmentFactory {
 
     public RuntimeEnvironment makeInputEntryEnvironment(List<InputClausePair> inputClauseList, RuntimeEnvironment runtimeEnvironment, int index) {
         RuntimeEnvironment inputEntryRuntimeEnvironment = makeEnvironment(runtimeEnvironment);
-        runtimeEnvironment.bind(DMNToJavaTransformer.INPUT_ENTRY_PLACE_HOLDER, inputClauseList.get(index).getValue());
+        inputEntryRuntimeEnvironment.bind(DMNToJavaTransformer.INPUT_ENTRY_PLACE_HOLDER, inputClauseList.get(index).getValue());
         return inputEntryRuntimeEnvironment;
     }
 
@@ -0,0 +1,102 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.listener;
+
+import java.util.Arrays;
+
+// Snapshot of the metrics of a DRG element. Bucket i of the latency histogram counts the durations d with 2^(i-1) <= d < 2^i nanoseconds
+public class DRGElementMetrics {
+    private final String namespace;
+    private final String name;
+    private final long invocationCount;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long[] latencyHistogram;
+    private final long[] ruleHitCounts;
+    private final long noMatchCount;
+
+    public DRGElementMetrics(String namespace, String name, long invocationCount, long totalNanos, long maxNanos, long[] latencyHistogram, long[] ruleHitCounts, long noMatchCount) {
+        this.namespace = namespace;
+        this.name = name;
+        this.invocationCount = invocationCount;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.latencyHistogram = latencyHistogram;
+        this.ruleHitCounts = ruleHitCounts;
+        this.noMatchCount = noMatchCount;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getInvocationCount() {
+        return invocationCount;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getMeanNanos() {
+        return invocationCount == 0 ? 0 : totalNanos / invocationCount;
+    }
+
+    // Upper bound of the bucket containing the percentile, e.g. getPercentileNanos(0.99)
+    public long getPercentileNanos(double percentile) {
+        long timedCount = Arrays.stream(latencyHistogram).sum();
+        if (timedCount == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile * timedCount);
+        long count = 0;
+        for (int i = 0; i < latencyHistogram.length; i++) {
+            count += latencyHistogram[i];
+            if (count >= Math.max(rank, 1)) {
+                return Math.min((1L << i) - 1, maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    public long[] getLatencyHistogram() {
+        return latencyHistogram.clone();
+    }
+
+    public long[] getRuleHitCounts() {
+        return ruleHitCounts.clone();
+    }
+
+    public long getRuleHitCount(int ruleIndex) {
+        return ruleIndex >= 0 && ruleIndex < ruleHitCounts.length ? ruleHitCounts[ruleIndex] : 0;
+    }
+
+    // Decision tables evaluated without any matched rule (output is the default value or null)
+    public long getNoMatchCount() {
+        return noMatchCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DRGElementMetrics(%s, %s, count=%d, mean=%dns, max=%dns, p99=%dns, ruleHits=%s, noMatch=%d)",
+                namespace, name, invocationCount, getMeanNanos(), maxNanos, getPercentileNanos(0.99), Arrays.toString(ruleHitCounts), noMatchCount);
+    }
+}
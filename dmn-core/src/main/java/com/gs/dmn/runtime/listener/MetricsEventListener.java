@@ -0,0 +1,267 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.listener;
+
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.runtime.annotation.ExpressionKind;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// Records per DRG element latency histograms (nanoseconds), invocation counts, rule hits and decision tables without matches.
+// Counters are striped (LongAdder), the elements being evaluated are tracked per thread. Thread safe.
+public class MetricsEventListener implements SimpleEventListener, MetricsEventListenerMXBean {
+    private static final int HISTOGRAM_SIZE = 64;
+
+    private final ConcurrentMap<DRGElement, ElementCounters> countersByElement = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ElementCounters> countersByName = new ConcurrentHashMap<>();
+    private final ThreadLocal<CallStack> callStack = ThreadLocal.withInitial(CallStack::new);
+
+    @Override
+    public void startDRGElement(DRGElement element, Arguments arguments) {
+        callStack.get().push(counters(element), element, System.nanoTime());
+    }
+
+    @Override
+    public void endDRGElement(DRGElement element, Arguments arguments, Object output, long duration) {
+        long endTime = System.nanoTime();
+        Frame frame = callStack.get().pop(element);
+        if (frame == null) {
+            // Start event not received
+            counters(element).invocationCount.increment();
+        } else {
+            frame.counters.record(endTime - frame.startTime, frame.matched);
+        }
+    }
+
+    @Override
+    public void startRule(DRGElement element, Rule rule) {
+    }
+
+    @Override
+    public void matchRule(DRGElement element, Rule rule) {
+        Frame frame = callStack.get().find(element);
+        ElementCounters counters = frame == null ? counters(element) : frame.counters;
+        if (frame != null) {
+            frame.matched = true;
+        }
+        counters.recordRuleHit(rule.getIndex());
+    }
+
+    @Override
+    public void endRule(DRGElement element, Rule rule, Object result) {
+    }
+
+    public DRGElementMetrics snapshot(String name) {
+        ElementCounters counters = countersByName.get(name);
+        return counters == null ? null : counters.snapshot();
+    }
+
+    public List<DRGElementMetrics> snapshot() {
+        List<DRGElementMetrics> result = new ArrayList<>();
+        for (ElementCounters counters : countersByName.values()) {
+            result.add(counters.snapshot());
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getInvocationCounts() {
+        return collect(DRGElementMetrics::getInvocationCount);
+    }
+
+    @Override
+    public Map<String, Long> getMeanNanos() {
+        return collect(DRGElementMetrics::getMeanNanos);
+    }
+
+    @Override
+    public Map<String, Long> getMaxNanos() {
+        return collect(DRGElementMetrics::getMaxNanos);
+    }
+
+    @Override
+    public Map<String, Long> getNoMatchCounts() {
+        return collect(DRGElementMetrics::getNoMatchCount);
+    }
+
+    @Override
+    public void reset() {
+        countersByName.values().forEach(ElementCounters::reset);
+    }
+
+    // e.g. "com.gs.dmn:type=MetricsEventListener,name=lending"
+    public ObjectName registerMBean(String objectName) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(objectName);
+            server.registerMBean(this, name);
+            return name;
+        } catch (Exception e) {
+            throw new DMNRuntimeException(String.format("Cannot register MBean '%s'", objectName), e);
+        }
+    }
+
+    private Map<String, Long> collect(Function<DRGElementMetrics, Long> metric) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (DRGElementMetrics metrics : snapshot()) {
+            result.put(key(metrics.getNamespace(), metrics.getName()), metric.apply(metrics));
+        }
+        return result;
+    }
+
+    // Elements with the same name in different models have different counters, e.g. "model.Decision"
+    private static String key(String namespace, String name) {
+        return namespace == null ? name : namespace + "." + name;
+    }
+
+    private ElementCounters counters(DRGElement element) {
+        ElementCounters counters = countersByElement.get(element);
+        if (counters == null) {
+            // Annotations are shared constants, fall back on the name for the other instances
+            counters = countersByName.computeIfAbsent(key(element.getNamespace(), element.getName()), k -> new ElementCounters(element));
+            countersByElement.putIfAbsent(element, counters);
+        }
+        return counters;
+    }
+
+    private static class ElementCounters {
+        private final String namespace;
+        private final String name;
+        private final boolean decisionTable;
+        private final LongAdder invocationCount = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder[] latencyHistogram = new LongAdder[HISTOGRAM_SIZE];
+        private final LongAdder[] ruleHitCounts;
+        private final LongAdder noMatchCount = new LongAdder();
+
+        ElementCounters(DRGElement element) {
+            this.namespace = element.getNamespace();
+            this.name = element.getName();
+            this.decisionTable = element.getExpressionKind() == ExpressionKind.DECISION_TABLE;
+            for (int i = 0; i < HISTOGRAM_SIZE; i++) {
+                this.latencyHistogram[i] = new LongAdder();
+            }
+            this.ruleHitCounts = new LongAdder[Math.max(element.getRulesCount(), 0)];
+            for (int i = 0; i < ruleHitCounts.length; i++) {
+                this.ruleHitCounts[i] = new LongAdder();
+            }
+        }
+
+        void record(long nanos, boolean matched) {
+            nanos = Math.max(nanos, 0);
+            invocationCount.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            latencyHistogram[HISTOGRAM_SIZE - Long.numberOfLeadingZeros(nanos)].increment();
+            if (decisionTable && !matched) {
+                noMatchCount.increment();
+            }
+        }
+
+        void recordRuleHit(int ruleIndex) {
+            if (ruleIndex >= 0 && ruleIndex < ruleHitCounts.length) {
+                ruleHitCounts[ruleIndex].increment();
+            }
+        }
+
+        void reset() {
+            invocationCount.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+            for (LongAdder bucket : latencyHistogram) {
+                bucket.reset();
+            }
+            for (LongAdder ruleHitCount : ruleHitCounts) {
+                ruleHitCount.reset();
+            }
+            noMatchCount.reset();
+        }
+
+        DRGElementMetrics snapshot() {
+            long[] histogram = new long[HISTOGRAM_SIZE];
+            for (int i = 0; i < HISTOGRAM_SIZE; i++) {
+                histogram[i] = latencyHistogram[i].sum();
+            }
+            long[] ruleHits = new long[ruleHitCounts.length];
+            for (int i = 0; i < ruleHits.length; i++) {
+                ruleHits[i] = ruleHitCounts[i].sum();
+            }
+            return new DRGElementMetrics(namespace, name, invocationCount.sum(), totalNanos.sum(), maxNanos.get(), histogram, ruleHits, noMatchCount.sum());
+        }
+    }
+
+    private static class Frame {
+        private ElementCounters counters;
+        private DRGElement element;
+        private long startTime;
+        private boolean matched;
+    }
+
+    // Elements being evaluated by the current thread, the frames are reused
+    private static class CallStack {
+        private Frame[] frames = new Frame[16];
+        private int size = 0;
+
+        void push(ElementCounters counters, DRGElement element, long startTime) {
+            if (size == frames.length) {
+                Frame[] newFrames = new Frame[2 * size];
+                System.arraycopy(frames, 0, newFrames, 0, size);
+                frames = newFrames;
+            }
+            Frame frame = frames[size];
+            if (frame == null) {
+                frame = new Frame();
+                frames[size] = frame;
+            }
+            frame.counters = counters;
+            frame.element = element;
+            frame.startTime = startTime;
+            frame.matched = false;
+            size++;
+        }
+
+        // Frames above the element were not ended (e.g. exceptions) and are dropped
+        Frame pop(DRGElement element) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (frames[i].element == element) {
+                    size = i;
+                    Frame frame = frames[i];
+                    frame.element = null;
+                    return frame;
+                }
+            }
+            return null;
+        }
+
+        Frame find(DRGElement element) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (frames[i].element == element) {
+                    return frames[i];
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.listener;
+
+import java.util.Map;
+
+// Metrics keyed by DRG element name
+public interface MetricsEventListenerMXBean {
+    Map<String, Long> getInvocationCounts();
+
+    Map<String, Long> getMeanNanos();
+
+    Map<String, Long> getMaxNanos();
+
+    Map<String, Long> getNoMatchCounts();
+
+    void reset();
+}
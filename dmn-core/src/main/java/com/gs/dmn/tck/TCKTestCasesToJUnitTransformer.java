@@ -60,7 +60,10 @@ public class TCKTestCasesToJUnitTransformer extends AbstractDMNTransformer {
             logger.info("Processing TCK TestCases ...");
 
             TestCases testCases = testCasesReader.read(child);
-            testCases = (TestCases) dmnTransformer.transform(basicTransformer.getDMNModelRepository(), testCases).getRight();
+            // DMN transformers are not required to be thread safe, the first call can also transform the shared repository
+            synchronized (this.dmnTransformer) {
+                testCases = (TestCases) dmnTransformer.transform(basicTransformer.getDMNModelRepository(), testCases).getRight();
+            }
 
             String javaClassName = testClassName(testCases, basicTransformer);
             processTemplate(testCases, templateProvider.testBaseTemplatePath(), templateProvider.testTemplateName(), basicTransformer, outputPath, javaClassName);
@@ -141,6 +141,23 @@ public class TCKUtil {
         return dmnTransformer.isCaching(element);
     }
 
+    public boolean isDecisionGraph() {
+        return dmnTransformer.isDecisionGraph();
+    }
+
+    public String decisionGraphClassName() {
+        return dmnTransformer.decisionGraphClassName();
+    }
+
+    public String decisionGraphVariableName() {
+        return dmnTransformer.decisionGraphVariableName();
+    }
+
+    public String decisionGraphGetterName(ResultNode resultNode) {
+        TDecision decision = (TDecision) findDRGElementByName(resultNode.getName());
+        return dmnTransformer.decisionGraphGetterName(decision);
+    }
+
     public String drgElementSignatureExtraCache(String signature) {
         return dmnTransformer.drgElementSignatureExtraCache(signature);
     }
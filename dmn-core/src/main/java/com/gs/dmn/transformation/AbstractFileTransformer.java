@@ -19,15 +19,30 @@ import org.apache.commons.lang3.StringUtils;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 public abstract class AbstractFileTransformer implements FileTransformer {
     protected final Map<String, String> inputParameters;
     protected final BuildLogger logger;
+    private final int generationThreads;
 
     public AbstractFileTransformer(Map<String, String> inputParameters, BuildLogger logger) {
         this.inputParameters = inputParameters;
         this.logger = logger;
+        this.generationThreads = InputParamUtil.getOptionalIntParam(inputParameters, "generationThreads", 1);
+        if (this.generationThreads < 1) {
+            throw new DMNRuntimeException(String.format("Illegal value '%d' for 'generationThreads'. Expected a positive number", this.generationThreads));
+        }
+    }
+
+    public int getGenerationThreads() {
+        return generationThreads;
     }
 
     @Override
@@ -38,32 +53,68 @@ public abstract class AbstractFileTransformer implements FileTransformer {
         }
 
         File inputFile = inputPath.toFile();
-        transform(inputFile, inputFile, outputPath);
+        List<File> files = new ArrayList<>();
+        collectFiles(inputFile, files);
+        List<Runnable> tasks = new ArrayList<>();
+        for (File file : files) {
+            tasks.add(() -> transform(file, inputFile, outputPath));
+        }
+        executeTasks(tasks);
     }
 
-    private void transform(File inputFile, File inputRoot, Path outputPath) {
+    // Children are visited in name order, the generated sources do not depend on the file system or on the number of threads
+    private void collectFiles(File inputFile, List<File> files) {
         if (inputFile.isDirectory()) {
             if (shouldTransform(inputFile)) {
                 logger.info(String.format("Scanning folder '%s'", inputFile.getPath()));
-                File[] files = inputFile.listFiles();
-                if (files != null) {
-                    for (File child : files) {
-                        transform(child, inputRoot, outputPath);
+                File[] children = inputFile.listFiles();
+                if (children != null) {
+                    Arrays.sort(children, Comparator.comparing(File::getName));
+                    for (File child : children) {
+                        collectFiles(child, files);
                     }
                 }
             }
+        } else if (shouldTransform(inputFile)) {
+            files.add(inputFile);
+        }
+    }
+
+    private void transform(File inputFile, File inputRoot, Path outputPath) {
+        try {
+            logger.info(String.format("Transforming file '%s'", inputFile.getPath()));
+            transformFile(inputFile, inputRoot, outputPath);
+        } catch (Exception e) {
+            throw new DMNRuntimeException(String.format("Failed to process diagram '%s'", inputFile.getPath()), e);
+        }
+    }
+
+    // Runs independent tasks on 'generationThreads' threads. Nested calls share the pool of the enclosing call
+    protected void executeTasks(List<Runnable> tasks) {
+        if (generationThreads == 1 || tasks.size() <= 1) {
+            for (Runnable task : tasks) {
+                task.run();
+            }
+        } else if (ForkJoinTask.inForkJoinPool()) {
+            invokeAll(tasks);
         } else {
+            ForkJoinPool pool = new ForkJoinPool(generationThreads);
             try {
-                if (shouldTransform(inputFile)) {
-                    logger.info(String.format("Transforming file '%s'", inputFile.getPath()));
-                    transformFile(inputFile, inputRoot, outputPath);
-                }
-            } catch (Exception e) {
-                throw new DMNRuntimeException(String.format("Failed to process diagram '%s'", inputFile.getPath()), e);
+                pool.invoke(ForkJoinTask.adapt(() -> invokeAll(tasks)));
+            } finally {
+                pool.shutdown();
             }
         }
     }
 
+    private void invokeAll(List<Runnable> tasks) {
+        List<ForkJoinTask<?>> forkJoinTasks = new ArrayList<>();
+        for (Runnable task : tasks) {
+            forkJoinTasks.add(ForkJoinTask.adapt(task));
+        }
+        ForkJoinTask.invokeAll(forkJoinTasks);
+    }
+
     protected File outputFolder(File child, File root, Path outputPath) throws IOException {
         if (root.isDirectory()) {
             String relativePath = relativePath(root, child);
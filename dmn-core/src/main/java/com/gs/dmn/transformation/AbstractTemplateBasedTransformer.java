@@ -27,12 +27,15 @@ import java.io.Writer;
 import java.nio.file.Path;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class AbstractTemplateBasedTransformer extends AbstractFileTransformer {
     private static final Version VERSION = new Version("2.3.23");
     private static final JavaFormatter FORMATTER = new NopJavaFormatter();
 
     protected final TemplateProvider templateProvider;
+    // Configurations are thread safe and cache the parsed templates
+    private final Map<String, Configuration> configurations = new ConcurrentHashMap<>();
 
     public AbstractTemplateBasedTransformer(TemplateProvider templateProvider, Map<String, String> inputParameters, BuildLogger logger) {
         super(inputParameters, logger);
@@ -40,7 +43,7 @@ public abstract class AbstractTemplateBasedTransformer extends AbstractFileTrans
     }
 
     protected void processTemplate(String baseTemplatePath, String templateName, Map<String, Object> params, File outputFile, boolean formatOutput) throws IOException, TemplateException {
-        Configuration cfg = makeConfiguration(baseTemplatePath);
+        Configuration cfg = configurations.computeIfAbsent(baseTemplatePath, this::makeConfiguration);
         Template template = cfg.getTemplate("/" + templateName);
 
         try (Writer fileWriter = new FileWriter(outputFile)) {
@@ -44,16 +44,46 @@ public class DMNToJavaTransformer extends AbstractDMNTransformer {
     public static final String FREE_TEXT_LANGUAGE = "free_text";
     public static final List<String> SUPPORTED_LANGUAGES = Arrays.asList(DMNConstants.FEEL_11_NS, DMNConstants.FEEL_12_NS, DMNConstants.FEEL_12_PREFIX, FREE_TEXT_LANGUAGE);
 
+    public static final String BUILD_STATE_FILE_NAME = "jdmn-build-state.txt";
+
     protected final String dmnVersion;
     protected final String modelVersion;
     protected final String platformVersion;
 
+    private final boolean incremental;
+    private final String buildStateFile;
+    private IncrementalBuildState buildState;
+    private String settingsHash;
+
     public DMNToJavaTransformer(DMNDialectDefinition dialectDefinition, DMNValidator dmnValidator, DMNTransformer dmnTransformer, TemplateProvider templateProvider, LazyEvaluationDetector lazyEvaluationDetector, TypeDeserializationConfigurer typeDeserializationConfigurer, Map<String, String> inputParameters, BuildLogger logger) {
         super(dialectDefinition, dmnValidator, dmnTransformer, templateProvider, lazyEvaluationDetector, typeDeserializationConfigurer, inputParameters, logger);
 
         this.dmnVersion = InputParamUtil.getRequiredParam(inputParameters, "dmnVersion");
         this.modelVersion = InputParamUtil.getRequiredParam(inputParameters, "modelVersion");
         this.platformVersion = InputParamUtil.getRequiredParam(inputParameters, "platformVersion");
+        this.incremental = InputParamUtil.getOptionalBooleanParam(inputParameters, "incremental");
+        this.buildStateFile = InputParamUtil.getOptionalParam(inputParameters, "buildStateFile");
+    }
+
+    @Override
+    public void transform(Path inputPath, Path outputPath) {
+        if (!incremental) {
+            super.transform(inputPath, outputPath);
+            return;
+        }
+
+        // Unchanged files are skipped, the state is saved even when the build fails
+        File stateFile = buildStateFile == null ? new File(outputPath.toFile().getAbsoluteFile().getParentFile(), BUILD_STATE_FILE_NAME) : new File(buildStateFile);
+        this.buildState = new IncrementalBuildState(stateFile, logger);
+        this.settingsHash = this.buildState.settingsHash(generatorSettings());
+        try {
+            super.transform(inputPath, outputPath);
+            this.buildState.removeDeletedInputs(outputPath);
+        } finally {
+            this.buildState.save();
+            this.buildState = null;
+            this.settingsHash = null;
+        }
     }
 
     @Override
@@ -68,43 +98,106 @@ public class DMNToJavaTransformer extends AbstractDMNTransformer {
 
     @Override
     protected void transformFile(File file, File root, Path outputPath) {
+        String hash = null;
+        if (buildState != null) {
+            hash = buildState.hash(file);
+            if (buildState.isUpToDate(file, outputPath, settingsHash, hash)) {
+                logger.info(String.format("Skipping unchanged DMN '%s'", file.getPath()));
+                return;
+            }
+        }
+
         logger.info("Processing DMN ...");
 
         // Read and validate DMN
         DMNModelRepository repository = readDMN(file);
-        dmnTransformer.transform(repository);
+        // DMN transformers and validators are not required to be thread safe
+        synchronized (this.dmnTransformer) {
+            this.dmnTransformer.transform(repository);
+        }
         BasicDMN2JavaTransformer dmnTransformer = dialectDefinition.createBasicTransformer(repository, lazyEvaluationDetector, inputParameters);
         DMNModelRepository dmnModelRepository = dmnTransformer.getDMNModelRepository();
-        handleValidationErrors(this.dmnValidator.validate(dmnModelRepository));
+        List<String> errors;
+        synchronized (this.dmnValidator) {
+            errors = this.dmnValidator.validate(dmnModelRepository);
+        }
+        handleValidationErrors(errors);
 
         // Transform
-        transform(dmnTransformer, dmnModelRepository, outputPath);
+        List<String> generatedClasses = transform(dmnTransformer, dmnModelRepository, outputPath);
+
+        // Record generated files
+        if (buildState != null) {
+            List<String> generatedFiles = new ArrayList<>();
+            for (String qualifiedName : generatedClasses) {
+                generatedFiles.add(qualifiedName.replace('.', '/') + ".java");
+            }
+            buildState.update(file, outputPath, settingsHash, hash, generatedFiles);
+        }
+    }
+
+    // The generated code depends on the DMN file, on the generator components (classes and templates) and on the input parameters
+    protected String generatorSettings() {
+        List<Class<?>> components = Arrays.asList(
+                getClass(),
+                dialectDefinition.getClass(),
+                dmnValidator.getClass(),
+                dmnTransformer.getClass(),
+                templateProvider.getClass(),
+                lazyEvaluationDetector.getClass(),
+                typeDeserializationConfigurer.getClass()
+        );
+        List<Object> settings = Arrays.asList(
+                GeneratorFingerprint.of(components, templateProvider.baseTemplatePath()),
+                dialectDefinition.getClass().getName(),
+                dmnValidator.getClass().getName(),
+                dmnTransformer.getClass().getName(),
+                templateProvider.getClass().getName(),
+                lazyEvaluationDetector.getClass().getName(),
+                typeDeserializationConfigurer.getClass().getName(),
+                inputParameters == null ? null : new TreeMap<>(inputParameters)
+        );
+        return settings.toString();
     }
 
-    protected void transform(BasicDMN2JavaTransformer dmnTransformer, DMNModelRepository dmnModelRepository, Path outputPath) {
+    protected List<String> transform(BasicDMN2JavaTransformer dmnTransformer, DMNModelRepository dmnModelRepository, Path outputPath) {
+        // Class names are checked first, the templates are rendered afterwards (in parallel when 'generationThreads' > 1)
+        // Data types are generated before the DRG elements, as the type templates sort the item components in place
+        List<Runnable> typeTasks = new ArrayList<>();
+        List<Runnable> tasks = new ArrayList<>();
+
         // Generate data types
         List<String> generatedClasses = new ArrayList<>();
         List<TItemDefinition> itemDefinitions = dmnModelRepository.itemDefinitions();
-        transformItemDefinitionList(itemDefinitions, dmnTransformer, generatedClasses, outputPath);
+        transformItemDefinitionList(itemDefinitions, dmnTransformer, generatedClasses, outputPath, typeTasks);
 
         // Generate BKMs
         List<TBusinessKnowledgeModel> businessKnowledgeModels = dmnModelRepository.businessKnowledgeModels();
-        transformBKMList(businessKnowledgeModels, dmnTransformer, generatedClasses, outputPath);
+        transformBKMList(businessKnowledgeModels, dmnTransformer, generatedClasses, outputPath, tasks);
 
         // Generate decisions
         List<TDecision> decisions = dmnModelRepository.decisions();
-        transformDecisionList(decisions, dmnTransformer, generatedClasses, outputPath, decisionBaseClass);
+        transformDecisionList(decisions, dmnTransformer, generatedClasses, outputPath, decisionBaseClass, tasks);
+
+        // Generate decision graph
+        if (dmnTransformer.isDecisionGraph()) {
+            transformDecisionGraph(dmnTransformer, generatedClasses, outputPath, tasks);
+        }
+
+        executeTasks(typeTasks);
+        executeTasks(tasks);
+        return generatedClasses;
     }
 
-    private void transformItemDefinitionList(List<TItemDefinition> itemDefinitionList, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, Path outputPath) {
+    private void transformItemDefinitionList(List<TItemDefinition> itemDefinitionList, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, Path outputPath, List<Runnable> tasks) {
         if (itemDefinitionList != null) {
             for (TItemDefinition itemDefinition : itemDefinitionList) {
-                transformItemDefinition(itemDefinition, dmnTransformer, generatedClasses, outputPath);
+                transformItemDefinition(itemDefinition, dmnTransformer, generatedClasses, outputPath, tasks);
             }
         }
     }
 
-    private void transformItemDefinition(TItemDefinition itemDefinition, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, Path outputPath) {
+    private void transformItemDefinition(TItemDefinition itemDefinition, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, Path outputPath, List<Runnable> tasks) {
         if (itemDefinition == null) {
             return;
         }
@@ -113,64 +206,73 @@ public class DMNToJavaTransformer extends AbstractDMNTransformer {
         if (!dmnTransformer.getDMNModelRepository().isEmpty(itemDefinition.getItemComponent())) {
             String typePackageName = dmnTransformer.javaTypePackageName();
 
-            // Generate interface and class
+            // Generate interface and class, in this order (the class template sorts the item components)
+            List<Runnable> itemDefinitionTasks = new ArrayList<>();
             String javaInterfaceName = dmnTransformer.itemDefinitionJavaInterfaceName(itemDefinition);
-            transformItemDefinition(itemDefinition, dmnTransformer, templateProvider.baseTemplatePath(), templateProvider.itemDefinitionInterfaceTemplate(), generatedClasses, outputPath, typePackageName, javaInterfaceName);
-            transformItemDefinition(itemDefinition, dmnTransformer, templateProvider.baseTemplatePath(), templateProvider.itemDefinitionClassTemplate(), generatedClasses, outputPath, typePackageName, dmnTransformer.itemDefinitionJavaClassName(javaInterfaceName));
+            transformItemDefinition(itemDefinition, dmnTransformer, templateProvider.baseTemplatePath(), templateProvider.itemDefinitionInterfaceTemplate(), generatedClasses, outputPath, typePackageName, javaInterfaceName, itemDefinitionTasks);
+            transformItemDefinition(itemDefinition, dmnTransformer, templateProvider.baseTemplatePath(), templateProvider.itemDefinitionClassTemplate(), generatedClasses, outputPath, typePackageName, dmnTransformer.itemDefinitionJavaClassName(javaInterfaceName), itemDefinitionTasks);
+            tasks.add(() -> itemDefinitionTasks.forEach(Runnable::run));
 
             // Process children
-            transformItemDefinitionList(itemDefinition.getItemComponent(), dmnTransformer, generatedClasses, outputPath);
+            transformItemDefinitionList(itemDefinition.getItemComponent(), dmnTransformer, generatedClasses, outputPath, tasks);
         }
     }
 
-    private void transformItemDefinition(TItemDefinition itemDefinition, BasicDMN2JavaTransformer dmnTransformer, String baseTemplatePath, String itemDefinitionTemplate, List<String> generatedClasses, Path outputPath, String typePackageName, String typeName) {
+    private void transformItemDefinition(TItemDefinition itemDefinition, BasicDMN2JavaTransformer dmnTransformer, String baseTemplatePath, String itemDefinitionTemplate, List<String> generatedClasses, Path outputPath, String typePackageName, String typeName, List<Runnable> tasks) {
         String qualifiedName = dmnTransformer.qualifiedName(typePackageName, typeName);
         if (generatedClasses.contains(qualifiedName)) {
             logger.warn(String.format("Class '%s' has already been generated", typeName));
         } else {
-            processTemplate(itemDefinition, baseTemplatePath, itemDefinitionTemplate, dmnTransformer, outputPath, typePackageName, typeName);
+            tasks.add(() -> processTemplate(itemDefinition, baseTemplatePath, itemDefinitionTemplate, dmnTransformer, outputPath, typePackageName, typeName));
             generatedClasses.add(qualifiedName);
         }
     }
 
-    private void transformBKMList(List<TBusinessKnowledgeModel> bkmList, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, Path outputPath) {
+    private void transformBKMList(List<TBusinessKnowledgeModel> bkmList, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, Path outputPath, List<Runnable> tasks) {
         for (TBusinessKnowledgeModel bkm : bkmList) {
-            transformBKM(bkm, dmnTransformer, generatedClasses, outputPath, decisionBaseClass);
+            transformBKM(bkm, dmnTransformer, generatedClasses, outputPath, decisionBaseClass, tasks);
         }
     }
 
-    private void transformBKM(TBusinessKnowledgeModel bkm, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, Path outputPath, String decisionBaseClass) {
+    private void transformBKM(TBusinessKnowledgeModel bkm, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, Path outputPath, String decisionBaseClass, List<Runnable> tasks) {
         String bkmPackageName = dmnTransformer.javaRootPackageName();
         String bkmClassName = dmnTransformer.drgElementClassName(bkm);
         checkDuplicate(generatedClasses, bkmPackageName, bkmClassName, dmnTransformer);
-        processTemplate(bkm, templateProvider.baseTemplatePath(), templateProvider.bkmTemplateName(), dmnTransformer, outputPath, bkmPackageName, bkmClassName, decisionBaseClass);
+        tasks.add(() -> processTemplate(bkm, templateProvider.baseTemplatePath(), templateProvider.bkmTemplateName(), dmnTransformer, outputPath, bkmPackageName, bkmClassName, decisionBaseClass));
 
         if (dmnTransformer.getDMNModelRepository().isDecisionTableExpression(bkm)) {
             String decisionRuleOutputClassName = dmnTransformer.ruleOutputClassName(bkm);
             checkDuplicate(generatedClasses, bkmPackageName, decisionRuleOutputClassName, dmnTransformer);
-            processTemplate(bkm, templateProvider.baseTemplatePath(), templateProvider.decisionTableRuleOutputTemplate(), dmnTransformer, outputPath, bkmPackageName, decisionRuleOutputClassName, decisionBaseClass);
+            tasks.add(() -> processTemplate(bkm, templateProvider.baseTemplatePath(), templateProvider.decisionTableRuleOutputTemplate(), dmnTransformer, outputPath, bkmPackageName, decisionRuleOutputClassName, decisionBaseClass));
         }
     }
 
-    private void transformDecisionList(List<TDecision> decisions, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, Path outputPath, String decisionBaseClass) {
+    private void transformDecisionList(List<TDecision> decisions, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, Path outputPath, String decisionBaseClass, List<Runnable> tasks) {
         for (TDecision decision : decisions) {
-            transformDecision(decision, dmnTransformer, generatedClasses, outputPath, decisionBaseClass);
+            transformDecision(decision, dmnTransformer, generatedClasses, outputPath, decisionBaseClass, tasks);
         }
     }
 
-    private void transformDecision(TDecision decision, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, Path outputPath, String decisionBaseClass) {
+    private void transformDecision(TDecision decision, BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, Path outputPath, String decisionBaseClass, List<Runnable> tasks) {
         String decisionPackageName = dmnTransformer.javaRootPackageName();
         String decisionClassName = dmnTransformer.drgElementClassName(decision);
         checkDuplicate(generatedClasses, decisionPackageName, decisionClassName, dmnTransformer);
-        processTemplate(decision, templateProvider.baseTemplatePath(), templateProvider.decisionTemplateName(), dmnTransformer, outputPath, decisionPackageName, decisionClassName, decisionBaseClass);
+        tasks.add(() -> processTemplate(decision, templateProvider.baseTemplatePath(), templateProvider.decisionTemplateName(), dmnTransformer, outputPath, decisionPackageName, decisionClassName, decisionBaseClass));
 
         if (dmnTransformer.getDMNModelRepository().isDecisionTableExpression(decision)) {
             String decisionRuleOutputClassName = dmnTransformer.ruleOutputClassName(decision);
             checkDuplicate(generatedClasses, decisionPackageName, decisionRuleOutputClassName, dmnTransformer);
-            processTemplate(decision, templateProvider.baseTemplatePath(), templateProvider.decisionTableRuleOutputTemplate(), dmnTransformer, outputPath, decisionPackageName, decisionRuleOutputClassName, decisionBaseClass);
+            tasks.add(() -> processTemplate(decision, templateProvider.baseTemplatePath(), templateProvider.decisionTableRuleOutputTemplate(), dmnTransformer, outputPath, decisionPackageName, decisionRuleOutputClassName, decisionBaseClass));
         }
     }
 
+    private void transformDecisionGraph(BasicDMN2JavaTransformer dmnTransformer, List<String> generatedClasses, Path outputPath, List<Runnable> tasks) {
+        String graphPackageName = dmnTransformer.javaRootPackageName();
+        String graphClassName = dmnTransformer.decisionGraphClassName();
+        checkDuplicate(generatedClasses, graphPackageName, graphClassName, dmnTransformer);
+        tasks.add(() -> processTemplate(templateProvider.baseTemplatePath(), templateProvider.decisionGraphTemplateName(), dmnTransformer, outputPath, graphPackageName, graphClassName));
+    }
+
     private void checkDuplicate(List<String> generatedClasses, String pkg, String className, BasicDMN2JavaTransformer dmnTransformer) {
         String qualifiedName = dmnTransformer.qualifiedName(pkg, className);
         if (generatedClasses.contains(qualifiedName)) {
@@ -208,7 +310,12 @@ public class DMNToJavaTransformer extends AbstractDMNTransformer {
             File outputFile = makeOutputFile(outputPath, relativeFilePath, javaClassName, fileExtension);
 
             // Process template
-            processTemplate(baseTemplatePath, templateName, params, outputFile, true);
+            dmnTransformer.startConstantPool();
+            try {
+                processTemplate(baseTemplatePath, templateName, params, outputFile, true);
+            } finally {
+                dmnTransformer.endConstantPool();
+            }
         } catch (Exception e) {
             throw new DMNRuntimeException(String.format("Cannot process template '%s' for BKMs", templateName), e);
         }
@@ -225,12 +332,35 @@ public class DMNToJavaTransformer extends AbstractDMNTransformer {
             File outputFile = makeOutputFile(outputPath, relativeFilePath, javaClassName, fileExtension);
 
             // Process template
-            processTemplate(baseTemplatePath, templateName, params, outputFile, true);
+            dmnTransformer.startConstantPool();
+            try {
+                processTemplate(baseTemplatePath, templateName, params, outputFile, true);
+            } finally {
+                dmnTransformer.endConstantPool();
+            }
         } catch (Exception e) {
             throw new DMNRuntimeException(String.format("Cannot process template '%s' for decision '%s'", templateName, decision.getName()), e);
         }
     }
 
+    private void processTemplate(String baseTemplatePath, String templateName, BasicDMN2JavaTransformer dmnTransformer, Path outputPath, String javaPackageName, String javaClassName) {
+        try {
+            // Make parameters
+            Map<String, Object> params = new HashMap<>();
+            addCommonParams(params, javaPackageName, javaClassName, dmnTransformer);
+
+            // Make output file
+            String relativeFilePath = javaPackageName.replace('.', '/');
+            String fileExtension = ".java";
+            File outputFile = makeOutputFile(outputPath, relativeFilePath, javaClassName, fileExtension);
+
+            // Process template
+            processTemplate(baseTemplatePath, templateName, params, outputFile, true);
+        } catch (Exception e) {
+            throw new DMNRuntimeException(String.format("Cannot process template '%s' for class '%s'", templateName, javaClassName), e);
+        }
+    }
+
     //
     // FreeMarker model methods
     //
@@ -0,0 +1,115 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.transformation;
+
+import com.gs.dmn.runtime.DMNRuntimeException;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Hashes the content of the jars and class folders the generator classes and templates are loaded from.
+// Implementation versions are not used, they are missing in reactor builds and do not change for SNAPSHOT builds.
+class GeneratorFingerprint {
+    // Jars do not change while loaded, the hash is reused unless the file is replaced
+    private static final Map<String, String> JAR_HASHES = new ConcurrentHashMap<>();
+
+    // Hashes each location once, the generator components are usually loaded from the same jar or folder
+    static List<String> of(List<Class<?>> classes, String templatePath) {
+        Set<URL> locations = new LinkedHashSet<>();
+        for (Class<?> cls : classes) {
+            CodeSource codeSource = cls.getProtectionDomain().getCodeSource();
+            // Bootstrap classes have no code source
+            if (codeSource != null && codeSource.getLocation() != null) {
+                locations.add(codeSource.getLocation());
+            }
+        }
+        if (!classes.isEmpty()) {
+            URL templates = templateLocation(classes.get(0), templatePath);
+            if (templates != null) {
+                locations.add(templates);
+            }
+        }
+        List<String> hashes = new ArrayList<>();
+        for (URL location : locations) {
+            hashes.add(ofLocation(location));
+        }
+        return hashes;
+    }
+
+    private static URL templateLocation(Class<?> cls, String templatePath) {
+        URL url = cls.getResource(templatePath);
+        if (url == null) {
+            return null;
+        }
+        try {
+            if ("jar".equals(url.getProtocol())) {
+                return ((JarURLConnection) url.openConnection()).getJarFileURL();
+            }
+            return url;
+        } catch (IOException e) {
+            throw new DMNRuntimeException(String.format("Cannot compute hash for '%s'", url), e);
+        }
+    }
+
+    private static String ofLocation(URL location) {
+        if (!"file".equals(location.getProtocol())) {
+            return location.toString();
+        }
+        try {
+            File file = Paths.get(location.toURI()).toFile();
+            if (file.isDirectory()) {
+                return ofFolder(file.toPath());
+            } else if (file.isFile()) {
+                String key = String.format("%s|%d|%d", file.getCanonicalPath(), file.lastModified(), file.length());
+                return JAR_HASHES.computeIfAbsent(key, k -> ofFile(file.toPath()));
+            } else {
+                return location.toString();
+            }
+        } catch (Exception e) {
+            throw new DMNRuntimeException(String.format("Cannot compute hash for '%s'", location), e);
+        }
+    }
+
+    private static String ofFolder(Path folder) throws IOException {
+        List<byte[]> parts = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList())) {
+                parts.add(folder.relativize(path).toString().getBytes(StandardCharsets.UTF_8));
+                parts.add(Files.readAllBytes(path));
+            }
+        }
+        return IncrementalBuildState.hash(parts.toArray(new byte[parts.size()][]));
+    }
+
+    private static String ofFile(Path file) {
+        try {
+            return IncrementalBuildState.hash(Files.readAllBytes(file));
+        } catch (IOException e) {
+            throw new DMNRuntimeException(String.format("Cannot compute hash for '%s'", file), e);
+        }
+    }
+
+    private GeneratorFingerprint() {
+    }
+}
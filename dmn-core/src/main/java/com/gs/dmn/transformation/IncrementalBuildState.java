@@ -0,0 +1,261 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.transformation;
+
+import com.gs.dmn.log.BuildLogger;
+import com.gs.dmn.runtime.DMNRuntimeException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.*;
+
+// Records the files generated from each input file, one line per input file, output folder and generator settings.
+// A file is up to date when the hash of its content and the hash of the settings did not change.
+// Several transformations (e.g. with different packages) can share the same output folder and state file. The entry
+// generating a file replaces the other entries of the same input file and output folder generating it.
+// The state file is written atomically, the changes are merged with the entries saved by the other transformations.
+public class IncrementalBuildState {
+    private static final String FIELD_SEPARATOR = "\t";
+    private static final String FILE_SEPARATOR = ",";
+
+    public static String hash(byte[]... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (byte[] part : parts) {
+                digest.update(part);
+            }
+            StringBuilder result = new StringBuilder();
+            for (byte b : digest.digest()) {
+                result.append(String.format("%02x", b));
+            }
+            return result.toString();
+        } catch (Exception e) {
+            throw new DMNRuntimeException("Cannot compute hash", e);
+        }
+    }
+
+    private final File stateFile;
+    private final BuildLogger logger;
+    private final Map<String, Entry> entries = new TreeMap<>();
+    // Changes made by this build, merged into the state file when saved
+    private final Map<String, Entry> updatedEntries = new LinkedHashMap<>();
+    private final Set<String> removedEntries = new LinkedHashSet<>();
+
+    public IncrementalBuildState(File stateFile, BuildLogger logger) {
+        this.stateFile = stateFile;
+        this.logger = logger;
+        synchronized (IncrementalBuildState.class) {
+            this.entries.putAll(load());
+        }
+    }
+
+    public File getStateFile() {
+        return stateFile;
+    }
+
+    public String hash(File inputFile) {
+        try {
+            return hash(Files.readAllBytes(inputFile.toPath()));
+        } catch (IOException e) {
+            throw new DMNRuntimeException(String.format("Cannot compute hash for '%s'", inputFile.getPath()), e);
+        }
+    }
+
+    public String settingsHash(String settings) {
+        return hash(settings.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public synchronized boolean isUpToDate(File inputFile, Path outputPath, String settingsHash, String hash) {
+        Entry entry = entries.get(new Entry(canonicalPath(inputFile), canonicalPath(outputPath.toFile()), settingsHash, hash, null).key());
+        if (entry == null || !hash.equals(entry.hash)) {
+            return false;
+        }
+        for (String relativePath : entry.files) {
+            if (!outputPath.resolve(relativePath).toFile().exists()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Deletes the files generated by the previous build that are not generated anymore (e.g. for deleted DRG elements)
+    // and by the entries replaced by this one (e.g. for other settings)
+    public synchronized void update(File inputFile, Path outputPath, String settingsHash, String hash, List<String> generatedFiles) {
+        Entry newEntry = new Entry(canonicalPath(inputFile), canonicalPath(outputPath.toFile()), settingsHash, hash, new ArrayList<>(generatedFiles));
+        List<String> oldFiles = new ArrayList<>();
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (entry.key().equals(newEntry.key())) {
+                oldFiles.addAll(entry.files);
+            } else if (entry.inputPath.equals(newEntry.inputPath) && entry.outputFolder.equals(newEntry.outputFolder) && !Collections.disjoint(entry.files, generatedFiles)) {
+                oldFiles.addAll(entry.files);
+                it.remove();
+                remove(entry.key());
+            }
+        }
+        entries.put(newEntry.key(), newEntry);
+        updatedEntries.put(newEntry.key(), newEntry);
+        removedEntries.remove(newEntry.key());
+        deleteFiles(outputPath, oldFiles, filesIn(newEntry.outputFolder));
+    }
+
+    // Deletes the files generated in the output folder from input files that do not exist anymore
+    public synchronized void removeDeletedInputs(Path outputPath) {
+        String outputFolder = canonicalPath(outputPath.toFile());
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry entry = it.next();
+            if (outputFolder.equals(entry.outputFolder) && !new File(entry.inputPath).exists()) {
+                logger.info(String.format("Removing files generated from deleted file '%s'", entry.inputPath));
+                it.remove();
+                remove(entry.key());
+                deleteFiles(outputPath, entry.files, filesIn(outputFolder));
+            }
+        }
+    }
+
+    public synchronized void save() {
+        synchronized (IncrementalBuildState.class) {
+            Map<String, Entry> merged = load();
+            merged.keySet().removeAll(removedEntries);
+            merged.putAll(updatedEntries);
+            StringBuilder content = new StringBuilder();
+            for (Entry entry : merged.values()) {
+                content.append(entry.line()).append("\n");
+            }
+            write(content.toString());
+        }
+        updatedEntries.clear();
+        removedEntries.clear();
+    }
+
+    private Map<String, Entry> load() {
+        Map<String, Entry> result = new TreeMap<>();
+        if (!stateFile.isFile()) {
+            return result;
+        }
+        try {
+            for (String line : Files.readAllLines(stateFile.toPath(), StandardCharsets.UTF_8)) {
+                Entry entry = Entry.parse(line);
+                if (entry != null) {
+                    result.put(entry.key(), entry);
+                }
+            }
+        } catch (IOException e) {
+            // A corrupted state triggers a full build
+            logger.warn(String.format("Cannot read build state '%s'. Generating all files", stateFile.getPath()));
+            result.clear();
+        }
+        return result;
+    }
+
+    // The readers never see a partially written state
+    private void write(String content) {
+        Path statePath = stateFile.getAbsoluteFile().toPath();
+        try {
+            Files.createDirectories(statePath.getParent());
+            Path tempPath = Files.createTempFile(statePath.getParent(), stateFile.getName(), ".tmp");
+            try {
+                Files.write(tempPath, content.getBytes(StandardCharsets.UTF_8));
+                try {
+                    Files.move(tempPath, statePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempPath, statePath, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tempPath);
+            }
+        } catch (IOException e) {
+            throw new DMNRuntimeException(String.format("Cannot write build state '%s'", stateFile.getPath()), e);
+        }
+    }
+
+    private void remove(String key) {
+        updatedEntries.remove(key);
+        removedEntries.add(key);
+    }
+
+    // Files generated in the output folder by the current entries
+    private Set<String> filesIn(String outputFolder) {
+        Set<String> files = new HashSet<>();
+        for (Entry entry : entries.values()) {
+            if (outputFolder.equals(entry.outputFolder)) {
+                files.addAll(entry.files);
+            }
+        }
+        return files;
+    }
+
+    private void deleteFiles(Path outputPath, List<String> files, Set<String> excluded) {
+        for (String relativePath : files) {
+            if (!excluded.contains(relativePath)) {
+                File file = outputPath.resolve(relativePath).toFile();
+                if (file.exists()) {
+                    logger.info(String.format("Removing stale file '%s'", file.getPath()));
+                    if (!file.delete()) {
+                        logger.warn(String.format("Cannot delete stale file '%s'", file.getPath()));
+                    }
+                }
+            }
+        }
+    }
+
+    private String canonicalPath(File file) {
+        try {
+            return file.getCanonicalPath();
+        } catch (IOException e) {
+            return file.getAbsolutePath();
+        }
+    }
+
+    private static class Entry {
+        private final String inputPath;
+        private final String outputFolder;
+        private final String settingsHash;
+        private final String hash;
+        private final List<String> files;
+
+        // Returns null for lines in another format, their files are generated again
+        private static Entry parse(String line) {
+            String[] fields = line.split(FIELD_SEPARATOR, -1);
+            if (fields.length != 5) {
+                return null;
+            }
+            List<String> files = fields[4].isEmpty() ? new ArrayList<>() : Arrays.asList(fields[4].split(FILE_SEPARATOR));
+            return new Entry(fields[2], fields[3], fields[1], fields[0], files);
+        }
+
+        private Entry(String inputPath, String outputFolder, String settingsHash, String hash, List<String> files) {
+            this.inputPath = inputPath;
+            this.outputFolder = outputFolder;
+            this.settingsHash = settingsHash;
+            this.hash = hash;
+            this.files = files;
+        }
+
+        private String key() {
+            return String.join(FIELD_SEPARATOR, settingsHash, inputPath, outputFolder);
+        }
+
+        private String line() {
+            return String.join(FIELD_SEPARATOR, hash, settingsHash, inputPath, outputFolder, String.join(FILE_SEPARATOR, files));
+        }
+    }
+}
@@ -37,4 +37,16 @@ public class InputParamUtil {
         String param = InputParamUtil.getOptionalParam(parameters, paramKey);
         return param != null && Boolean.parseBoolean(param);
     }
+
+    public static int getOptionalIntParam(Map<String, String> parameters, String paramKey, int defaultValue) {
+        String param = InputParamUtil.getOptionalParam(parameters, paramKey);
+        if (param == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(param.trim());
+        } catch (NumberFormatException e) {
+            throw new DMNRuntimeException(String.format("Illegal value '%s' for '%s'. Expected an integer", param, paramKey), e);
+        }
+    }
 }
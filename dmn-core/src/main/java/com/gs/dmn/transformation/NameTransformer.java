@@ -46,6 +46,7 @@ public abstract class NameTransformer extends SimpleDMNTransformer<TestCases> {
     @Override
     public DMNModelRepository transform(DMNModelRepository repository) {
         transformDefinitions(repository.getDefinitions());
+        repository.clearCaches();
         this.transformDefinition = false;
         return repository;
     }
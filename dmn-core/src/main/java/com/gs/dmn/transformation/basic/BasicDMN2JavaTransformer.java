@@ -50,8 +50,11 @@ import org.slf4j.LoggerFactory;
 
 import javax.xml.bind.JAXBElement;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import static com.gs.dmn.feel.analysis.semantics.type.NumberType.NUMBER;
 import static com.gs.dmn.serialization.DMNConstants.FEEL_12_PREFIX;
 
 public class BasicDMN2JavaTransformer {
@@ -63,6 +66,14 @@ public class BasicDMN2JavaTransformer {
     protected final FEELTranslator feelTranslator;
     private final String javaRootPackage;
     private final boolean caching;
+    private final boolean parallelDecisions;
+    private final boolean lowAllocation;
+    private final boolean constantPooling;
+    private final boolean decisionGraph;
+    private final boolean eventListenerGuard;
+    private final boolean inputExpressionCaching;
+    private final boolean streamingEvaluation;
+    private final boolean compiledLambdas;
 
     private final ContextToJavaTransformer contextToJavaTransformer;
     private final DecisionTableToJavaTransformer decisionTableToJavaTransformer;
@@ -74,12 +85,28 @@ public class BasicDMN2JavaTransformer {
     private final LazyEvaluationOptimisation lazyEvaluationOptimisation;
     private final Set<String> cachedElements;
 
+    // Environments depend only on the model, they are built once and shared (read only) by all the threads
+    private final Map<TDRGElement, Environment> environments = new ConcurrentHashMap<>();
+    private final Map<Pair<TDRGElement, Expression>, Environment> inputEntryEnvironments = new ConcurrentHashMap<>();
+
+    // Constants of the class being generated by the current thread: initializer -> field name
+    private final ThreadLocal<Map<String, String>> constantNames = new ThreadLocal<>();
+    private final ThreadLocal<List<String>> constantDeclarations = new ThreadLocal<>();
+
     public BasicDMN2JavaTransformer(DMNModelRepository dmnModelRepository, EnvironmentFactory environmentFactory, FEELTypeTranslator feelTypeTranslator, LazyEvaluationDetector lazyEvaluationDetector, Map<String, String> inputParameters) {
         this.dmnModelRepository = dmnModelRepository;
         this.environmentFactory = environmentFactory;
         this.feelTypeTranslator = feelTypeTranslator;
         this.javaRootPackage = InputParamUtil.getOptionalParam(inputParameters, "javaRootPackage");
         this.caching = InputParamUtil.getOptionalBooleanParam(inputParameters, "caching");
+        this.parallelDecisions = InputParamUtil.getOptionalBooleanParam(inputParameters, "parallelDecisions");
+        this.lowAllocation = InputParamUtil.getOptionalBooleanParam(inputParameters, "lowAllocation");
+        this.constantPooling = InputParamUtil.getOptionalBooleanParam(inputParameters, "constantPooling");
+        this.decisionGraph = InputParamUtil.getOptionalBooleanParam(inputParameters, "decisionGraph");
+        this.eventListenerGuard = InputParamUtil.getOptionalBooleanParam(inputParameters, "eventListenerGuard");
+        this.inputExpressionCaching = InputParamUtil.getOptionalBooleanParam(inputParameters, "inputExpressionCaching");
+        this.streamingEvaluation = InputParamUtil.getOptionalBooleanParam(inputParameters, "streamingEvaluation");
+        this.compiledLambdas = InputParamUtil.getOptionalBooleanParam(inputParameters, "compiledLambdas");
         this.feelTranslator = new FEELTranslatorImpl(this);
 
         this.contextToJavaTransformer = new ContextToJavaTransformer(this);
@@ -395,6 +422,42 @@ public class BasicDMN2JavaTransformer {
         return !this.dmnModelRepository.directSubDecisions(decision).isEmpty();
     }
 
+    //
+    // Decision graph related functions
+    //
+    public boolean isDecisionGraph() {
+        return decisionGraph;
+    }
+
+    public String decisionGraphClassName() {
+        return "DecisionGraph";
+    }
+
+    public String decisionGraphVariableName() {
+        return "decisionGraph_";
+    }
+
+    // Sub-decisions come before the decisions requiring them
+    public List<TDecision> decisionGraphDecisions() {
+        return this.dmnModelRepository.topologicalSort();
+    }
+
+    public String decisionGraphGetterName(TDecision decision) {
+        return String.format("get%s", drgElementClassName(decision));
+    }
+
+    public String decisionGraphConstructorArgumentList(TDecision decision) {
+        List<TDecision> subDecisions = dmnModelRepository.directSubDecisions(decision);
+        subDecisions.sort(Comparator.comparing(TNamedElement::getName));
+        return subDecisions.stream().map(d -> String.format("this.%s", drgElementVariableName(d))).collect(Collectors.joining(", "));
+    }
+
+    public String decisionGraphTopologicalConstructorArgumentList(TDecision decision) {
+        List<TDecision> subDecisions = dmnModelRepository.topologicalSort(decision);
+        subDecisions.sort(Comparator.comparing(TNamedElement::getName));
+        return subDecisions.stream().map(d -> String.format("this.%s", drgElementVariableName(d))).collect(Collectors.joining(", "));
+    }
+
     //
     // Evaluate method related functions
     //
@@ -764,6 +827,10 @@ public class BasicDMN2JavaTransformer {
         return LazyEval.class.getName();
     }
 
+    public String completableFutureClassName() {
+        return CompletableFuture.class.getName();
+    }
+
     public String contextClassName() {
         return Context.class.getName();
     }
@@ -788,6 +855,16 @@ public class BasicDMN2JavaTransformer {
         return NopEventListener.class.getName();
     }
 
+    // Events are built and fired only when a listener other than NopEventListener is registered
+    public boolean isEventListenerGuard() {
+        return eventListenerGuard;
+    }
+
+    // Subclasses of NopEventListener (e.g. adapters overriding some callbacks) receive the events
+    public String eventListenerEnabledCondition() {
+        return String.format("%s.getClass() != %s.class", eventListenerVariableName(), NopEventListener.class.getName());
+    }
+
     public String loggingEventListenerClassName() {
         return LoggingEventListener.class.getName();
     }
@@ -851,6 +928,86 @@ public class BasicDMN2JavaTransformer {
         return caching;
     }
 
+    public boolean isParallelDecisions() {
+        return parallelDecisions;
+    }
+
+    public boolean isLowAllocation() {
+        return lowAllocation;
+    }
+
+    // Decision table input expressions are evaluated once per call and passed to the rules
+    public boolean isInputExpressionCaching() {
+        return inputExpressionCaching;
+    }
+
+    // Quantified and for expressions are generated as streams, some / every stop at the first decisive value
+    public boolean isStreamingEvaluation() {
+        return streamingEvaluation;
+    }
+
+    // FEEL lambdas passed to built-in functions (e.g. sort comparators) are compiled by the interpreter instead of interpreted
+    public boolean isCompiledLambdas() {
+        return compiledLambdas;
+    }
+
+    // FIRST and UNIQUE tables can be evaluated without collecting the rule outputs
+    public boolean isShortCircuitSingleHit(THitPolicy hitPolicy) {
+        return lowAllocation && (hitPolicy == null || hitPolicy == THitPolicy.FIRST || hitPolicy == THitPolicy.UNIQUE);
+    }
+
+    public boolean isConstantPooling() {
+        return constantPooling;
+    }
+
+    //
+    // Constant pool of the generated class: literals and constant expressions are evaluated once, in static fields
+    //
+    public void startConstantPool() {
+        if (constantPooling) {
+            this.constantNames.set(new LinkedHashMap<>());
+            this.constantDeclarations.set(new ArrayList<>());
+        }
+    }
+
+    public void endConstantPool() {
+        this.constantNames.remove();
+        this.constantDeclarations.remove();
+    }
+
+    public boolean isPoolingConstants() {
+        return constantNames.get() != null;
+    }
+
+    // Lib calls in the initializer must be qualified with constantLibVariableName()
+    public String constant(String javaType, String initializer) {
+        if (!isPoolingConstants()) {
+            throw new DMNRuntimeException(String.format("Cannot pool constant '%s' outside a generated class", initializer));
+        }
+        Map<String, String> names = constantNames.get();
+        String name = names.get(initializer);
+        if (name == null) {
+            name = String.format("CONSTANT_%d", names.size());
+            names.put(initializer, name);
+            constantDeclarations.get().add(String.format("private static final %s %s = %s;", javaType, name, initializer));
+        }
+        return name;
+    }
+
+    public List<String> constantDeclarations() {
+        List<String> declarations = constantDeclarations.get();
+        return declarations == null ? new ArrayList<>() : declarations;
+    }
+
+    public String constantLibVariableName() {
+        return "CONSTANT_LIB";
+    }
+
+    // Dialects mapping FEEL numbers to Double can use primitive arithmetic for non-null numbers
+    public boolean isDoubleNumberType() {
+        return Double.class.getName().equals(feelTypeTranslator.toQualifiedJavaType(NUMBER.getName()));
+    }
+
     public boolean isCaching(String element) {
         if (!caching) {
             return false;
@@ -927,6 +1084,14 @@ public class BasicDMN2JavaTransformer {
         return "drgRuleMetadata";
     }
 
+    public String drgRuleMetadataConstantName(int ruleIndex) {
+        return "DRG_RULE_METADATA_" + ruleIndex;
+    }
+
+    public String noMatchRuleOutputConstantName() {
+        return "NO_MATCH_RULE_OUTPUT";
+    }
+
     public String assertClassName() {
         return Assert.class.getName();
     }
@@ -946,6 +1111,22 @@ public class BasicDMN2JavaTransformer {
         return decisionTableToJavaTransformer.condition(element, rule);
     }
 
+    public List<String> inputExpressionDeclarations(TDRGElement element) {
+        return decisionTableToJavaTransformer.inputExpressionDeclarations(element);
+    }
+
+    public boolean isDecisionTableIndexed(TDRGElement element) {
+        return decisionTableToJavaTransformer.isDecisionTableIndexed(element);
+    }
+
+    public String decisionTableIndexDeclaration(TDRGElement element) {
+        return decisionTableToJavaTransformer.decisionTableIndexDeclaration(element);
+    }
+
+    public String candidateRulesDeclaration(TDRGElement element) {
+        return decisionTableToJavaTransformer.candidateRulesDeclaration(element);
+    }
+
     public String outputEntryToJava(TDRGElement element, TLiteralExpression outputEntryExpression, int outputIndex) {
         return decisionTableToJavaTransformer.outputEntryToJava(element, outputEntryExpression, outputIndex);
     }
@@ -1070,16 +1251,16 @@ public class BasicDMN2JavaTransformer {
         return decisionTableToJavaTransformer.ruleSignature(decision);
     }
 
-    public String ruleArgumentList(TDecision decision) {
-        return decisionTableToJavaTransformer.ruleArgumentList(decision);
+    public String ruleArgumentList(TDecision decision, int ruleIndex) {
+        return decisionTableToJavaTransformer.ruleArgumentList(decision, ruleIndex);
     }
 
     public String ruleSignature(TBusinessKnowledgeModel bkm) {
         return decisionTableToJavaTransformer.ruleSignature(bkm);
     }
 
-    public String ruleArgumentList(TBusinessKnowledgeModel bkm) {
-        return decisionTableToJavaTransformer.ruleArgumentList(bkm);
+    public String ruleArgumentList(TBusinessKnowledgeModel bkm, int ruleIndex) {
+        return decisionTableToJavaTransformer.ruleArgumentList(bkm, ruleIndex);
     }
 
     public String hitPolicyAnnotationClassName() {
@@ -1448,6 +1629,19 @@ public class BasicDMN2JavaTransformer {
     // Environment related functions
     //
     public Environment makeEnvironment(TDRGElement element) {
+        // Not computeIfAbsent, the environments are built recursively
+        Environment environment = environments.get(element);
+        if (environment == null) {
+            environment = makeElementEnvironment(element);
+            Environment existingEnvironment = environments.putIfAbsent(element, environment);
+            if (existingEnvironment != null) {
+                environment = existingEnvironment;
+            }
+        }
+        return environment;
+    }
+
+    private Environment makeElementEnvironment(TDRGElement element) {
         if (element instanceof TBusinessKnowledgeModel) {
             return makeBKMEnvironment((TBusinessKnowledgeModel) element);
         } else if (element instanceof TDecision) {
@@ -1463,7 +1657,7 @@ public class BasicDMN2JavaTransformer {
         functionDefinition.getFormalParameter().forEach(
                 p -> bkmEnvironment.addDeclaration(environmentFactory.makeVariableDeclaration(p.getName(), toFEELType(QualifiedName.toQualifiedName(p.getTypeRef())))));
         getDMNModelRepository().allKnowledgeModels(bkm).forEach(
-                e -> bkmEnvironment.addDeclaration(makeBusinessKnowledgeModelDeclaration(e, makeBKMEnvironment(e))));
+                e -> bkmEnvironment.addDeclaration(makeBusinessKnowledgeModelDeclaration(e, makeEnvironment(e))));
         bkmEnvironment.addDeclaration(makeBusinessKnowledgeModelDeclaration(bkm, bkmEnvironment));
         return bkmEnvironment;
     }
@@ -1482,14 +1676,22 @@ public class BasicDMN2JavaTransformer {
         getDMNModelRepository().allInputDatas(decision).forEach(
                 id -> decisionEnvironment.addDeclaration(makeVariableDeclaration(id, id.getVariable(), decisionEnvironment)));
         getDMNModelRepository().allKnowledgeModels(decision).forEach(
-                bkm -> decisionEnvironment.addDeclaration(makeBusinessKnowledgeModelDeclaration(bkm, makeBKMEnvironment(bkm))));
+                bkm -> decisionEnvironment.addDeclaration(makeBusinessKnowledgeModelDeclaration(bkm, makeEnvironment(bkm))));
         decisionEnvironment.addDeclaration(makeVariableDeclaration(decision, decision.getVariable(), decisionEnvironment));
         return decisionEnvironment;
     }
 
     public Environment makeInputEntryEnvironment(TDRGElement element, Expression inputExpression) {
-        Environment environment = environmentFactory.makeEnvironment(makeEnvironment(element), inputExpression);
-        environment.addDeclaration(DMNToJavaTransformer.INPUT_ENTRY_PLACE_HOLDER, environmentFactory.makeVariableDeclaration(DMNToJavaTransformer.INPUT_ENTRY_PLACE_HOLDER, inputExpression.getType()));
+        Pair<TDRGElement, Expression> key = new Pair<>(element, inputExpression);
+        Environment environment = inputEntryEnvironments.get(key);
+        if (environment == null) {
+            environment = environmentFactory.makeEnvironment(makeEnvironment(element), inputExpression);
+            environment.addDeclaration(DMNToJavaTransformer.INPUT_ENTRY_PLACE_HOLDER, environmentFactory.makeVariableDeclaration(DMNToJavaTransformer.INPUT_ENTRY_PLACE_HOLDER, inputExpression.getType()));
+            Environment existingEnvironment = inputEntryEnvironments.putIfAbsent(key, environment);
+            if (existingEnvironment != null) {
+                environment = existingEnvironment;
+            }
+        }
         return environment;
     }
 
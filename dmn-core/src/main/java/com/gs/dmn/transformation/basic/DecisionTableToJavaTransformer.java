@@ -15,12 +15,22 @@ package com.gs.dmn.transformation.basic;
 import com.gs.dmn.DMNModelRepository;
 import com.gs.dmn.feel.analysis.semantics.environment.Environment;
 import com.gs.dmn.feel.analysis.semantics.environment.EnvironmentFactory;
+import com.gs.dmn.feel.analysis.semantics.type.DateTimeType;
+import com.gs.dmn.feel.analysis.semantics.type.DateType;
 import com.gs.dmn.feel.analysis.semantics.type.ListType;
 import com.gs.dmn.feel.analysis.semantics.type.Type;
 import com.gs.dmn.feel.analysis.syntax.ast.FEELContext;
 import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.Name;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.literal.BooleanLiteral;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.literal.DateTimeLiteral;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.literal.NumericLiteral;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.literal.StringLiteral;
+import com.gs.dmn.feel.analysis.syntax.ast.test.IndexedTest;
+import com.gs.dmn.feel.analysis.syntax.ast.test.UnaryTests;
 import com.gs.dmn.feel.synthesis.FEELTranslator;
 import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.runtime.DecisionTableIndex;
 import com.gs.dmn.runtime.Pair;
 import com.gs.dmn.runtime.RuleOutput;
 import com.gs.dmn.runtime.RuleOutputList;
@@ -31,15 +41,26 @@ import org.apache.commons.lang3.StringUtils;
 import org.omg.spec.dmn._20180521.model.*;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static com.gs.dmn.transformation.DMNToJavaTransformer.DECISION_RULE_OUTPUT_CLASS_SUFFIX;
 
 public class DecisionTableToJavaTransformer {
+    private static final String DECISION_TABLE_INDEX_CONSTANT = "DECISION_TABLE_INDEX_";
+    private static final String CANDIDATE_RULES_VARIABLE = "candidateRules_";
+    private static final String CANDIDATE_RULE_VARIABLE = "candidateRule_";
+
     private final BasicDMN2JavaTransformer dmnTransformer;
     private final DMNModelRepository dmnModelRepository;
     private final FEELTranslator feelTranslator;
     private final EnvironmentFactory environmentFactory;
+    // Input expressions are analyzed once per input clause, the input entry environments are memoized by them
+    private final Map<Pair<TDRGElement, String>, Expression> inputExpressions = new ConcurrentHashMap<>();
+    // Variables holding the values of the input expressions when they are evaluated once per call
+    private final Map<Pair<TDRGElement, Integer>, Expression> inputExpressionVariables = new ConcurrentHashMap<>();
+    // Java expressions building the rule indexes, empty when no input entry is indexed
+    private final Map<TDRGElement, Optional<String>> decisionTableIndexes = new ConcurrentHashMap<>();
 
     DecisionTableToJavaTransformer(BasicDMN2JavaTransformer dmnTransformer) {
         this.dmnTransformer = dmnTransformer;
@@ -264,11 +285,12 @@ public class DecisionTableToJavaTransformer {
             String parameterJavaType = dmnTransformer.lazyEvaluationType(element, dmnTransformer.parameterJavaType(element));
             parameters.add(new Pair<>(parameterName, parameterJavaType));
         }
+        parameters.addAll(inputExpressionParameters(decision));
         String signature = parameters.stream().map(p -> String.format("%s %s", p.getRight(), p.getLeft())).collect(Collectors.joining(", "));
         return dmnTransformer.augmentSignature(signature);
     }
 
-    public String ruleArgumentList(TDecision decision) {
+    public String ruleArgumentList(TDecision decision, int ruleIndex) {
         Set<TDRGElement> elementSet = new LinkedHashSet<>();
         this.dmnModelRepository.collectInputs(decision, elementSet);
         List<TDRGElement> elements = new ArrayList<>(elementSet);
@@ -279,6 +301,7 @@ public class DecisionTableToJavaTransformer {
             String argumentName = ruleArgumentName(element);
             arguments.add(argumentName);
         }
+        arguments.addAll(inputExpressionArguments(decision, ruleIndex));
         String argumentList = arguments.stream().collect(Collectors.joining(", "));
         return dmnTransformer.augmentArgumentList(argumentList);
     }
@@ -291,17 +314,19 @@ public class DecisionTableToJavaTransformer {
             String parameterJavaType = dmnTransformer.parameterJavaType(element);
             parameters.add(new Pair<>(parameterName, parameterJavaType));
         }
+        parameters.addAll(inputExpressionParameters(bkm));
         String signature = parameters.stream().map(p -> String.format("%s %s", p.getRight(), p.getLeft())).collect(Collectors.joining(", "));
         return dmnTransformer.augmentSignature(signature);
     }
 
-    public String ruleArgumentList(TBusinessKnowledgeModel bkm) {
+    public String ruleArgumentList(TBusinessKnowledgeModel bkm, int ruleIndex) {
         List<String> arguments = new ArrayList<>();
         List<TInformationItem> formalParameters = bkm.getEncapsulatedLogic().getFormalParameter();
         for (TNamedElement element : formalParameters) {
             String argumentName = ruleArgumentName(element);
             arguments.add(argumentName);
         }
+        arguments.addAll(inputExpressionArguments(bkm, ruleIndex));
         String argumentList = arguments.stream().collect(Collectors.joining(", "));
         return dmnTransformer.augmentArgumentList(argumentList);
     }
@@ -340,13 +365,14 @@ public class DecisionTableToJavaTransformer {
                 String condition = condition(element, decisionTable, inputEntry, i);
                 conditionParts.add(condition);
             }
+            String candidate = isDecisionTableIndexed(element) ? String.format("%s && ", CANDIDATE_RULE_VARIABLE) : "";
             if (conditionParts.size() == 1) {
-                return String.format("Boolean.TRUE == %s", conditionParts.get(0));
+                return String.format("%sBoolean.TRUE == %s", candidate, conditionParts.get(0));
             } else {
                 String indent3tabs = "            ";
                 String indent2tabs = "        ";
                 String operands = conditionParts.stream().collect(Collectors.joining(",\n" + indent3tabs));
-                return String.format("Boolean.TRUE == booleanAnd(\n%s%s\n%s)", indent3tabs, operands, indent2tabs);
+                return String.format("%sBoolean.TRUE == booleanAnd(\n%s%s\n%s)", candidate, indent3tabs, operands, indent2tabs);
             }
         }
         throw new DMNRuntimeException("Cannot build condition for " + decisionTable.getClass().getSimpleName());
@@ -357,17 +383,19 @@ public class DecisionTableToJavaTransformer {
         String inputExpressionText = tInputClause.getInputExpression().getText();
         String inputEntryText = inputEntry.getText();
         try {
-            return inputEntryToJava(element, inputExpressionText, inputEntryText);
+            return inputEntryToJava(element, inputExpressionText, inputEntryText, inputEntryIndex);
         } catch (Exception e) {
             throw new DMNRuntimeException(String.format("Cannot build condition for input clause '%s' for entry '%s'", inputExpressionText, inputEntryText), e);
         }
     }
 
-    private String inputEntryToJava(TDRGElement element, String inputExpressionText, String inputEntryText) {
+    private String inputEntryToJava(TDRGElement element, String inputExpressionText, String inputEntryText, int inputEntryIndex) {
         // Analyze input expression
-        Environment inputExpressionEnvironment = dmnTransformer.makeEnvironment(element);
-        FEELContext inputExpressionContext = FEELContext.makeContext(inputExpressionEnvironment);
-        Expression inputExpression = feelTranslator.analyzeSimpleExpressions(inputExpressionText, inputExpressionContext);
+        Expression inputExpression = analyzeInputExpression(element, inputExpressionText);
+        if (dmnTransformer.isInputExpressionCaching()) {
+            // Refer to the variable holding the value of the input expression
+            inputExpression = inputExpressionVariable(element, inputExpression, inputEntryIndex);
+        }
 
         // Generate code for input entry
         Environment inputEntryEnvironment = dmnTransformer.makeInputEntryEnvironment(element, inputExpression);
@@ -375,6 +403,206 @@ public class DecisionTableToJavaTransformer {
         return feelTranslator.unaryTestsToJava(inputEntryText, inputEntryContext);
     }
 
+    private Expression analyzeInputExpression(TDRGElement element, String inputExpressionText) {
+        Pair<TDRGElement, String> key = new Pair<>(element, inputExpressionText);
+        Expression inputExpression = inputExpressions.get(key);
+        if (inputExpression == null) {
+            Environment inputExpressionEnvironment = dmnTransformer.makeEnvironment(element);
+            FEELContext inputExpressionContext = FEELContext.makeContext(inputExpressionEnvironment);
+            inputExpression = feelTranslator.analyzeSimpleExpressions(inputExpressionText, inputExpressionContext);
+            Expression existingExpression = inputExpressions.putIfAbsent(key, inputExpression);
+            if (existingExpression != null) {
+                inputExpression = existingExpression;
+            }
+        }
+        return inputExpression;
+    }
+
+    private Expression inputExpressionVariable(TDRGElement element, Expression inputExpression, int inputIndex) {
+        Pair<TDRGElement, Integer> key = new Pair<>(element, inputIndex);
+        Expression variable = inputExpressionVariables.get(key);
+        if (variable == null) {
+            variable = new Name(inputExpressionVariableName(inputIndex));
+            variable.setType(inputExpression.getType());
+            Expression existingVariable = inputExpressionVariables.putIfAbsent(key, variable);
+            if (existingVariable != null) {
+                variable = existingVariable;
+            }
+        }
+        return variable;
+    }
+
+    //
+    // Input expressions evaluated once per call
+    //
+    public List<String> inputExpressionDeclarations(TDRGElement element) {
+        List<String> declarations = new ArrayList<>();
+        if (dmnTransformer.isInputExpressionCaching()) {
+            TDecisionTable decisionTable = (TDecisionTable) dmnModelRepository.expression(element);
+            if (!decisionTable.getRule().isEmpty()) {
+                FEELContext context = FEELContext.makeContext(dmnTransformer.makeEnvironment(element));
+                List<TInputClause> inputClauses = decisionTable.getInput();
+                for (int i = 0; i < inputClauses.size(); i++) {
+                    String inputExpressionText = inputClauses.get(i).getInputExpression().getText();
+                    try {
+                        Expression inputExpression = analyzeInputExpression(element, inputExpressionText);
+                        String javaType = dmnTransformer.toJavaType(inputExpression.getType());
+                        String javaExpression = feelTranslator.simpleExpressionsToJava(inputExpression, context);
+                        declarations.add(String.format("%s %s = %s;", javaType, inputExpressionVariableName(i), javaExpression));
+                    } catch (Exception e) {
+                        throw new DMNRuntimeException(String.format("Cannot build declaration for input expression '%s'", inputExpressionText), e);
+                    }
+                }
+            }
+        }
+        return declarations;
+    }
+
+    private List<Pair<String, String>> inputExpressionParameters(TDRGElement element) {
+        List<Pair<String, String>> parameters = new ArrayList<>();
+        if (dmnTransformer.isInputExpressionCaching()) {
+            TDecisionTable decisionTable = (TDecisionTable) dmnModelRepository.expression(element);
+            List<TInputClause> inputClauses = decisionTable.getInput();
+            for (int i = 0; i < inputClauses.size(); i++) {
+                Expression inputExpression = analyzeInputExpression(element, inputClauses.get(i).getInputExpression().getText());
+                parameters.add(new Pair<>(inputExpressionVariableName(i), dmnTransformer.toJavaType(inputExpression.getType())));
+            }
+            if (isDecisionTableIndexed(element)) {
+                parameters.add(new Pair<>(CANDIDATE_RULE_VARIABLE, "boolean"));
+            }
+        }
+        return parameters;
+    }
+
+    private List<String> inputExpressionArguments(TDRGElement element, int ruleIndex) {
+        List<String> arguments = new ArrayList<>();
+        if (dmnTransformer.isInputExpressionCaching()) {
+            TDecisionTable decisionTable = (TDecisionTable) dmnModelRepository.expression(element);
+            for (int i = 0; i < decisionTable.getInput().size(); i++) {
+                arguments.add(inputExpressionVariableName(i));
+            }
+            if (isDecisionTableIndexed(element)) {
+                arguments.add(String.format("%s.get(%d)", CANDIDATE_RULES_VARIABLE, ruleIndex));
+            }
+        }
+        return arguments;
+    }
+
+    private String inputExpressionVariableName(int inputIndex) {
+        return String.format("inputExpression%d_", inputIndex);
+    }
+
+    //
+    // Rule index, selects the candidate rules from the values of the input expressions evaluated once per call
+    //
+    public boolean isDecisionTableIndexed(TDRGElement element) {
+        return decisionTableIndex(element) != null;
+    }
+
+    public String decisionTableIndexDeclaration(TDRGElement element) {
+        String className = DecisionTableIndex.class.getName();
+        return String.format("private static final %s %s = %s;", className, DECISION_TABLE_INDEX_CONSTANT, decisionTableIndex(element));
+    }
+
+    public String candidateRulesDeclaration(TDRGElement element) {
+        TDecisionTable decisionTable = (TDecisionTable) dmnModelRepository.expression(element);
+        List<String> inputExpressionVariables = new ArrayList<>();
+        for (int i = 0; i < decisionTable.getInput().size(); i++) {
+            inputExpressionVariables.add(inputExpressionVariableName(i));
+        }
+        String arguments = String.join(", ", inputExpressionVariables);
+        return String.format("%s %s = %s.candidates(%s);", BitSet.class.getName(), CANDIDATE_RULES_VARIABLE, DECISION_TABLE_INDEX_CONSTANT, arguments);
+    }
+
+    private String decisionTableIndex(TDRGElement element) {
+        Optional<String> index = decisionTableIndexes.get(element);
+        if (index == null) {
+            index = Optional.ofNullable(makeDecisionTableIndex(element));
+            Optional<String> existingIndex = decisionTableIndexes.putIfAbsent(element, index);
+            if (existingIndex != null) {
+                index = existingIndex;
+            }
+        }
+        return index.orElse(null);
+    }
+
+    private String makeDecisionTableIndex(TDRGElement element) {
+        if (!dmnTransformer.isInputExpressionCaching()) {
+            return null;
+        }
+        TExpression expression = dmnModelRepository.expression(element);
+        if (!(expression instanceof TDecisionTable)) {
+            return null;
+        }
+        TDecisionTable decisionTable = (TDecisionTable) expression;
+        List<TInputClause> inputClauses = decisionTable.getInput();
+        List<TDecisionRule> rules = decisionTable.getRule();
+        List<String> entries = new ArrayList<>();
+        for (int i = 0; i < rules.size(); i++) {
+            List<TUnaryTests> inputEntries = rules.get(i).getInputEntry();
+            for (int j = 0; j < inputEntries.size() && j < inputClauses.size(); j++) {
+                String tests = indexedTestsToJava(element, inputClauses.get(j), inputEntries.get(j));
+                if (tests != null) {
+                    entries.add(String.format(".entry(%d, %d, %s)", i, j, tests));
+                }
+            }
+        }
+        if (entries.isEmpty()) {
+            return null;
+        }
+        String indent3tabs = "\n            ";
+        return String.format("new %s.Builder(%d, %d)%s%s%s.build()",
+                DecisionTableIndex.class.getName(), rules.size(), inputClauses.size(),
+                indent3tabs, String.join(indent3tabs, entries), indent3tabs);
+    }
+
+    private String indexedTestsToJava(TDRGElement element, TInputClause inputClause, TUnaryTests inputEntry) {
+        try {
+            Expression inputExpression = analyzeInputExpression(element, inputClause.getInputExpression().getText());
+            Environment inputEntryEnvironment = dmnTransformer.makeInputEntryEnvironment(element, inputExpression);
+            UnaryTests unaryTests = feelTranslator.analyzeUnaryTests(inputEntry.getText(), FEELContext.makeContext(inputEntryEnvironment));
+            List<IndexedTest> tests = IndexedTest.indexedTests(unaryTests, inputExpression.getType());
+            if (tests == null) {
+                return null;
+            }
+            List<String> javaTests = new ArrayList<>();
+            for (IndexedTest test : tests) {
+                javaTests.add(indexedTestToJava(test));
+            }
+            return String.join(", ", javaTests);
+        } catch (Exception e) {
+            // Not indexed, the errors are reported when the condition is generated
+            return null;
+        }
+    }
+
+    private String indexedTestToJava(IndexedTest test) {
+        String className = DecisionTableIndex.class.getName();
+        if (test.isEquality()) {
+            return String.format("%s.equal(%s)", className, indexKeyToJava(test.getLow()));
+        } else {
+            return String.format("%s.range(%s, %s)", className, indexKeyToJava(test.getLow()), indexKeyToJava(test.getHigh()));
+        }
+    }
+
+    private String indexKeyToJava(Expression literal) {
+        String className = DecisionTableIndex.class.getName();
+        if (literal == null) {
+            return "null";
+        } else if (literal instanceof StringLiteral) {
+            return dmnTransformer.escapeInString(((StringLiteral) literal).getValue());
+        } else if (literal instanceof NumericLiteral) {
+            return String.format("new java.math.BigDecimal(\"%s\")", ((NumericLiteral) literal).getValue());
+        } else if (literal instanceof BooleanLiteral) {
+            return "true".equals(((BooleanLiteral) literal).getValue()) ? "Boolean.TRUE" : "Boolean.FALSE";
+        } else if (literal instanceof DateTimeLiteral && literal.getType() == DateType.DATE) {
+            return String.format("%s.date(%s)", className, ((DateTimeLiteral) literal).getValue());
+        } else if (literal instanceof DateTimeLiteral && literal.getType() == DateTimeType.DATE_AND_TIME) {
+            return String.format("%s.dateTime(%s)", className, ((DateTimeLiteral) literal).getValue());
+        }
+        throw new DMNRuntimeException(String.format("Cannot index '%s'", literal));
+    }
+
     public String outputEntryToJava(TDRGElement element, TLiteralExpression outputEntryExpression, int outputIndex) {
         TExpression tExpression = dmnModelRepository.expression(element);
         if (tExpression instanceof TDecisionTable) {
@@ -38,6 +38,11 @@ public class DagTemplateProvider implements TemplateProvider {
         return "dag/decision.ftl";
     }
 
+    @Override
+    public String decisionGraphTemplateName() {
+        return "dag/decisionGraph.ftl";
+    }
+
     @Override
     public String decisionTableRuleOutputTemplate() {
         return "tree/decisionTableRuleOutput.ftl";
@@ -19,6 +19,7 @@ public interface TemplateProvider {
     String bkmTemplateName();
     String decisionTableRuleOutputTemplate();
     String decisionTemplateName();
+    String decisionGraphTemplateName();
 
     String testBaseTemplatePath();
     String testTemplateName();
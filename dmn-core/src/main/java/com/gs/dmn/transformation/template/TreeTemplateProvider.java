@@ -38,6 +38,11 @@ public class TreeTemplateProvider implements TemplateProvider {
         return "tree/decision.ftl";
     }
 
+    @Override
+    public String decisionGraphTemplateName() {
+        return "tree/decisionGraph.ftl";
+    }
+
     @Override
     public String decisionTableRuleOutputTemplate() {
         return "tree/decisionTableRuleOutput.ftl";
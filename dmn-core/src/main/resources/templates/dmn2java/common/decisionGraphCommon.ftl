@@ -0,0 +1,31 @@
+<#--
+    The decision graph class, shared by the tree and dag templates.
+    constructorArgumentList - the transformer method returning the sub-decisions passed to the constructor of a decision
+-->
+<#macro decisionGraphClass constructorArgumentList>
+@javax.annotation.Generated(value = {"decisionGraph.ftl", "${modelRepository.name(modelRepository.definitions)}"})
+public class ${javaClassName} {
+    <#list transformer.decisionGraphDecisions()>
+        <#items as decision>
+    private final ${transformer.qualifiedName(javaPackageName, transformer.drgElementClassName(decision))} ${transformer.drgElementVariableName(decision)};
+        </#items>
+    </#list>
+
+    // Each decision is created once and shared by the decisions requiring it. The decisions are stateless, the graph can be used by several threads
+    public ${javaClassName}() {
+    <#list transformer.decisionGraphDecisions()>
+        <#items as decision>
+        this.${transformer.drgElementVariableName(decision)} = ${transformer.constructor(transformer.qualifiedName(javaPackageName, transformer.drgElementClassName(decision)), constructorArgumentList(decision))};
+        </#items>
+    </#list>
+    }
+    <#list transformer.decisionGraphDecisions()>
+        <#items as decision>
+
+    public ${transformer.qualifiedName(javaPackageName, transformer.drgElementClassName(decision))} ${transformer.decisionGraphGetterName(decision)}() {
+        return this.${transformer.drgElementVariableName(decision)};
+    }
+        </#items>
+    </#list>
+}
+</#macro>
@@ -69,4 +69,5 @@ public class ${javaClassName} extends ${decisionBaseClass} {
         <@applyMethodBody drgElement />
     }
     <@evaluateExpressionMethod drgElement />
+    <@addConstantFields />
 }
@@ -0,0 +1,8 @@
+<#include "../common/decisionGraphCommon.ftl">
+<#if javaPackageName?has_content>
+package ${javaPackageName};
+</#if>
+
+import java.util.*;
+
+<@decisionGraphClass constructorArgumentList=transformer.decisionGraphTopologicalConstructorArgumentList/>
\ No newline at end of file
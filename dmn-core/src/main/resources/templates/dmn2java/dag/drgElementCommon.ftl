@@ -25,6 +25,19 @@
         }
 </#macro>
 
+<#--
+    Constant pool
+-->
+<#macro addConstantFields>
+    <#if transformer.isPoolingConstants() && transformer.constantDeclarations()?has_content>
+
+    private static final ${decisionBaseClass} ${transformer.constantLibVariableName()} = new ${decisionBaseClass}();
+    <#list transformer.constantDeclarations() as declaration>
+    ${declaration}
+    </#list>
+    </#if>
+</#macro>
+
 <#---
     Evaluate method
 -->
@@ -84,8 +97,11 @@ import static ${transformer.qualifiedName(javaPackageName, transformer.drgElemen
     Decision table
 -->
 <#macro addEvaluateDecisionTableMethod drgElement>
-    protected ${transformer.drgElementOutputType(drgElement)} evaluate(${transformer.drgElementEvaluateSignature(drgElement)}) {
     <#assign expression = modelRepository.expression(drgElement)>
+    <#if transformer.isShortCircuitSingleHit(expression.hitPolicy)>
+    <@addEvaluateShortCircuitDecisionTableMethod drgElement/>
+    <#else>
+    protected ${transformer.drgElementOutputType(drgElement)} evaluate(${transformer.drgElementEvaluateSignature(drgElement)}) {
         <@collectRuleResults drgElement expression />
 
         // Return results based on hit policy
@@ -132,26 +148,115 @@ import static ${transformer.qualifiedName(javaPackageName, transformer.drgElemen
     </#if>
     }
 
+    </#if>
+</#macro>
+
+<#--
+    FIRST and UNIQUE decision tables without RuleOutputList
+-->
+<#macro addEvaluateShortCircuitDecisionTableMethod drgElement>
+    <#assign expression = modelRepository.expression(drgElement)>
+    protected ${transformer.drgElementOutputType(drgElement)} evaluate(${transformer.drgElementEvaluateSignature(drgElement)}) {
+        <@evaluateInputExpressions drgElement />
+        ${transformer.abstractRuleOutputClassName()} ruleOutput_ = null;
+    <#if modelRepository.isFirstSingleHit(expression.hitPolicy)>
+        // Apply rules until the first match
+        <#list expression.rule as rule>
+        <#if rule?is_first>
+        ruleOutput_ = rule${rule_index}(${transformer.drgElementArgumentsExtra(transformer.ruleArgumentList(drgElement, rule_index))});
+        <#else>
+        if (!ruleOutput_.isMatched()) {
+            ruleOutput_ = rule${rule_index}(${transformer.drgElementArgumentsExtra(transformer.ruleArgumentList(drgElement, rule_index))});
+        }
+        </#if>
+        </#list>
+        boolean matched_ = ruleOutput_ != null && ruleOutput_.isMatched();
+    <#else>
+        // Apply rules and count the matches
+        int matchedRules_ = 0;
+        <#list expression.rule as rule>
+        <#if rule?is_first>
+        ${transformer.abstractRuleOutputClassName()} tempRuleOutput_ = rule${rule_index}(${transformer.drgElementArgumentsExtra(transformer.ruleArgumentList(drgElement, rule_index))});
+        <#else>
+        tempRuleOutput_ = rule${rule_index}(${transformer.drgElementArgumentsExtra(transformer.ruleArgumentList(drgElement, rule_index))});
+        </#if>
+        if (tempRuleOutput_.isMatched()) {
+            matchedRules_++;
+            ruleOutput_ = tempRuleOutput_;
+        }
+        </#list>
+        boolean matched_ = matchedRules_ != 0;
+        if (matchedRules_ > 1) {
+            // Several rules matched
+            ruleOutput_ = null;
+        }
+    </#if>
+
+        // Return results based on hit policy
+        ${transformer.drgElementOutputType(drgElement)} output_;
+        if (!matched_) {
+            // Default value
+            output_ = ${transformer.defaultValue(drgElement)};
+        } else {
+            <#if modelRepository.isCompoundDecisionTable(drgElement)>
+            output_ = toDecisionOutput((${transformer.ruleOutputClassName(drgElement)})ruleOutput_);
+            <#else>
+            output_ = ruleOutput_ == null ? null : ((${transformer.ruleOutputClassName(drgElement)})ruleOutput_).${transformer.getter(drgElement, expression.output[0])};
+            </#if>
+        }
+
+        return output_;
+    }
+
 </#macro>
 
 <#macro addRuleMethods drgElement>
     <#assign expression = modelRepository.expression(drgElement)>
+    <#if transformer.isLowAllocation()>
+    private static final ${transformer.ruleOutputClassName(drgElement)} ${transformer.noMatchRuleOutputConstantName()} = new ${transformer.ruleOutputClassName(drgElement)}(false);
+
+    </#if>
+    <#if transformer.isDecisionTableIndexed(drgElement)>
+    ${transformer.decisionTableIndexDeclaration(drgElement)}
+
+    </#if>
     <#list expression.rule>
         <#items as rule>
+    <#if transformer.isLowAllocation()>
+    private static final ${transformer.drgRuleMetadataClassName()} ${transformer.drgRuleMetadataConstantName(rule_index)} = new ${transformer.drgRuleMetadataClassName()}(${rule_index}, "${transformer.annotationEscapedText(rule)}");
+
+    </#if>
     @${transformer.ruleAnnotationClassName()}(index = ${rule_index}, annotation = "${transformer.annotationEscapedText(rule)}")
     public ${transformer.abstractRuleOutputClassName()} rule${rule_index}(${transformer.drgElementSignatureExtra(transformer.ruleSignature(drgElement))}) {
         // Rule metadata
+        <#if transformer.isEventListenerGuard()>
+        boolean listenerEnabled_ = ${transformer.eventListenerEnabledCondition()};
+        </#if>
+        <#if transformer.isLowAllocation()>
+        ${transformer.drgRuleMetadataClassName()} ${transformer.drgRuleMetadataFieldName()} = ${transformer.drgRuleMetadataConstantName(rule_index)};
+        <#elseif transformer.isEventListenerGuard()>
+        ${transformer.drgRuleMetadataClassName()} ${transformer.drgRuleMetadataFieldName()} = listenerEnabled_ ? new ${transformer.drgRuleMetadataClassName()}(${rule_index}, "${transformer.annotationEscapedText(rule)}") : null;
+        <#else>
         ${transformer.drgRuleMetadataClassName()} ${transformer.drgRuleMetadataFieldName()} = new ${transformer.drgRuleMetadataClassName()}(${rule_index}, "${transformer.annotationEscapedText(rule)}");
+        </#if>
 
         <@startRule drgElement rule_index />
 
         // Apply rule
+        <#if transformer.isLowAllocation()>
+        ${transformer.ruleOutputClassName(drgElement)} output_ = ${transformer.noMatchRuleOutputConstantName()};
+        <#else>
         ${transformer.ruleOutputClassName(drgElement)} output_ = new ${transformer.ruleOutputClassName(drgElement)}(false);
+        </#if>
         if (${transformer.condition(drgElement, rule)}) {
             <@matchRule drgElement rule_index />
 
             // Compute output
+            <#if transformer.isLowAllocation()>
+            output_ = new ${transformer.ruleOutputClassName(drgElement)}(true);
+            <#else>
             output_.setMatched(true);
+            </#if>
             <#list expression.output as output>
             output_.${transformer.setter(drgElement, output)}(${transformer.outputEntryToJava(drgElement, rule.outputEntry[output_index], output_index)});
                 <#if modelRepository.isOutputOrderHit(expression.hitPolicy) && transformer.priority(drgElement, rule.outputEntry[output_index], output_index)?exists>
@@ -171,7 +276,23 @@ import static ${transformer.qualifiedName(javaPackageName, transformer.drgElemen
     </#list>
 </#macro>
 
+<#macro evaluateInputExpressions drgElement>
+    <#list transformer.inputExpressionDeclarations(drgElement)>
+        // Evaluate input expressions
+        <#items as declaration>
+        ${declaration}
+        </#items>
+
+    </#list>
+    <#if transformer.isDecisionTableIndexed(drgElement)>
+        // Select the candidate rules
+        ${transformer.candidateRulesDeclaration(drgElement)}
+
+    </#if>
+</#macro>
+
 <#macro collectRuleResults drgElement expression>
+        <@evaluateInputExpressions drgElement />
         // Apply rules and collect results
         ${transformer.ruleOutputListClassName()} ruleOutputList_ = new ${transformer.ruleOutputListClassName()}();
     <#assign expression = modelRepository.expression(drgElement)>
@@ -179,18 +300,18 @@ import static ${transformer.qualifiedName(javaPackageName, transformer.drgElemen
         <#items as rule>
         <#if modelRepository.isFirstSingleHit(expression.hitPolicy) && modelRepository.atLeastTwoRules(expression)>
         <#if rule?is_first>
-        ${transformer.abstractRuleOutputClassName()} tempRuleOutput_ = rule${rule_index}(${transformer.drgElementArgumentsExtra(transformer.ruleArgumentList(drgElement))});
+        ${transformer.abstractRuleOutputClassName()} tempRuleOutput_ = rule${rule_index}(${transformer.drgElementArgumentsExtra(transformer.ruleArgumentList(drgElement, rule_index))});
         ruleOutputList_.add(tempRuleOutput_);
         boolean matched_ = tempRuleOutput_.isMatched();
         <#else >
         if (!matched_) {
-            tempRuleOutput_ = rule${rule_index}(${transformer.drgElementArgumentsExtra(transformer.ruleArgumentList(drgElement))});
+            tempRuleOutput_ = rule${rule_index}(${transformer.drgElementArgumentsExtra(transformer.ruleArgumentList(drgElement, rule_index))});
             ruleOutputList_.add(tempRuleOutput_);
             matched_ = tempRuleOutput_.isMatched();
         }
         </#if>
         <#else >
-        ruleOutputList_.add(rule${rule_index}(${transformer.drgElementArgumentsExtra(transformer.ruleArgumentList(drgElement))}));
+        ruleOutputList_.add(rule${rule_index}(${transformer.drgElementArgumentsExtra(transformer.ruleArgumentList(drgElement, rule_index))}));
         </#if>
         </#items>
     </#list>
@@ -237,6 +358,9 @@ import static ${transformer.qualifiedName(javaPackageName, transformer.drgElemen
     Evaluate all sub-decisions
 -->
 <#macro applySubDecisions drgElement>
+    <#if transformer.isParallelDecisions()>
+    <@applySubDecisionsInParallel drgElement/>
+    <#else>
     <#list modelRepository.topologicalSortWithMarkers(drgElement)>
             //
             // Evaluate child decisions
@@ -257,6 +381,46 @@ import static ${transformer.qualifiedName(javaPackageName, transformer.drgElemen
         </#if>
     </#items>
 
+    </#list>
+    </#if>
+</#macro>
+
+<#--
+    Evaluate sub-decisions level by level, the decisions in a level are independent and evaluated in parallel
+-->
+<#macro applySubDecisionsInParallel drgElement>
+    <#list modelRepository.topologicalSortLevels(drgElement)>
+            //
+            // Evaluate child decisions in parallel
+            //
+    <#items as level>
+        <#list level as subDecision>
+
+            <@startDRGElement subDecision/>
+        </#list>
+        <#if level?size gt 1>
+
+            <#list level as subDecision>
+            <#if !transformer.isLazyEvaluated(subDecision)>
+            ${transformer.completableFutureClassName()}<${transformer.drgElementOutputType(subDecision)}> ${transformer.drgElementVariableName(subDecision)}Future_ = ${transformer.completableFutureClassName()}.supplyAsync(() -> this.${transformer.drgElementVariableName(subDecision)}.evaluate(${transformer.drgElementEvaluateArgumentList(subDecision)}), getExecutor());
+            </#if>
+            </#list>
+        </#if>
+        <#list level as subDecision>
+
+            // ${transformer.evaluateElementCommentText(subDecision)}
+        <#if transformer.isLazyEvaluated(subDecision)>
+            ${transformer.lazyEvalClassName()}<${transformer.drgElementOutputType(subDecision)}> ${transformer.drgElementVariableName(subDecision)} = new ${transformer.lazyEvalClassName()}<>(() -> this.${transformer.drgElementVariableName(subDecision)}.evaluate(${transformer.drgElementEvaluateArgumentList(subDecision)}));
+        <#elseif level?size gt 1>
+            ${transformer.drgElementOutputType(subDecision)} ${transformer.drgElementVariableName(subDecision)} = join(${transformer.drgElementVariableName(subDecision)}Future_);
+        <#else>
+            ${transformer.drgElementOutputType(subDecision)} ${transformer.drgElementVariableName(subDecision)} = this.${transformer.drgElementVariableName(subDecision)}.evaluate(${transformer.drgElementEvaluateArgumentList(subDecision)});
+        </#if>
+
+            <@endDRGElement subDecision transformer.drgElementVariableName(subDecision) />
+        </#list>
+    </#items>
+
     </#list>
 </#macro>
 
@@ -265,19 +429,53 @@ import static ${transformer.qualifiedName(javaPackageName, transformer.drgElemen
 -->
 <#macro startDRGElement drgElement>
             // ${transformer.startElementCommentText(drgElement)}
+            <#if transformer.isEventListenerGuard()>
+            boolean ${transformer.drgElementVariableName(drgElement)}ListenerEnabled_ = ${transformer.eventListenerEnabledCondition()};
+            long ${transformer.drgElementVariableName(drgElement)}StartTime_ = 0L;
+            ${transformer.argumentsClassName()} ${transformer.drgElementVariableName(drgElement)}Arguments_ = null;
+            if (${transformer.drgElementVariableName(drgElement)}ListenerEnabled_) {
+                ${transformer.drgElementVariableName(drgElement)}StartTime_ = System.currentTimeMillis();
+                ${transformer.drgElementVariableName(drgElement)}Arguments_ = new ${transformer.argumentsClassName()}();
+                <#list transformer.drgElementArgumentNameList(drgElement)>
+                <#items as arg>
+                ${transformer.drgElementVariableName(drgElement)}Arguments_.put("${arg}", ${arg});
+                </#items>
+                </#list>
+                ${transformer.eventListenerVariableName()}.startDRGElement(<@drgElementAnnotation drgElement/>, ${transformer.drgElementVariableName(drgElement)}Arguments_);
+            }
+            <#else>
             long ${transformer.drgElementVariableName(drgElement)}StartTime_ = System.currentTimeMillis();
+            <#if transformer.isLowAllocation()>
+            ${transformer.argumentsClassName()} ${transformer.drgElementVariableName(drgElement)}Arguments_ = null;
+            if (${transformer.eventListenerEnabledCondition()}) {
+                ${transformer.drgElementVariableName(drgElement)}Arguments_ = new ${transformer.argumentsClassName()}();
+                <#list transformer.drgElementArgumentNameList(drgElement)>
+                <#items as arg>
+                ${transformer.drgElementVariableName(drgElement)}Arguments_.put("${arg}", ${arg});
+                </#items>
+                </#list>
+            }
+            <#else>
             ${transformer.argumentsClassName()} ${transformer.drgElementVariableName(drgElement)}Arguments_ = new ${transformer.argumentsClassName()}();
             <#list transformer.drgElementArgumentNameList(drgElement)>
             <#items as arg>
             ${transformer.drgElementVariableName(drgElement)}Arguments_.put("${arg}", ${arg});
             </#items>
             </#list>
+            </#if>
             ${transformer.eventListenerVariableName()}.startDRGElement(<@drgElementAnnotation drgElement/>, ${transformer.drgElementVariableName(drgElement)}Arguments_);
+            </#if>
 </#macro>
 
 <#macro endDRGElement drgElement output>
             // ${transformer.endElementCommentText(drgElement)}
+            <#if transformer.isEventListenerGuard()>
+            if (${transformer.drgElementVariableName(drgElement)}ListenerEnabled_) {
+                ${transformer.eventListenerVariableName()}.endDRGElement(<@drgElementAnnotation drgElement/>, ${transformer.drgElementVariableName(drgElement)}Arguments_, ${output}, (System.currentTimeMillis() - ${transformer.drgElementVariableName(drgElement)}StartTime_));
+            }
+            <#else>
             ${transformer.eventListenerVariableName()}.endDRGElement(<@drgElementAnnotation drgElement/>, ${transformer.drgElementVariableName(drgElement)}Arguments_, ${output}, (System.currentTimeMillis() - ${transformer.drgElementVariableName(drgElement)}StartTime_));
+            </#if>
 </#macro>
 
 <#macro endDRGElementAndReturn drgElement output>
@@ -288,17 +486,35 @@ import static ${transformer.qualifiedName(javaPackageName, transformer.drgElemen
 
 <#macro startRule drgElement rule_index>
         // Rule start
+        <#if transformer.isEventListenerGuard()>
+        if (listenerEnabled_) {
+            ${transformer.eventListenerVariableName()}.startRule(<@drgElementAnnotation drgElement/>, <@ruleAnnotation/>);
+        }
+        <#else>
         ${transformer.eventListenerVariableName()}.startRule(<@drgElementAnnotation drgElement/>, <@ruleAnnotation/>);
+        </#if>
 </#macro>
 
 <#macro matchRule drgElement rule_index>
             // Rule match
+            <#if transformer.isEventListenerGuard()>
+            if (listenerEnabled_) {
+                ${transformer.eventListenerVariableName()}.matchRule(<@drgElementAnnotation drgElement/>, <@ruleAnnotation/>);
+            }
+            <#else>
             ${transformer.eventListenerVariableName()}.matchRule(<@drgElementAnnotation drgElement/>, <@ruleAnnotation/>);
+            </#if>
 </#macro>
 
 <#macro endRule drgElement rule_index output>
         // Rule end
+        <#if transformer.isEventListenerGuard()>
+        if (listenerEnabled_) {
+            ${transformer.eventListenerVariableName()}.endRule(<@drgElementAnnotation drgElement/>, <@ruleAnnotation/>, ${output});
+        }
+        <#else>
         ${transformer.eventListenerVariableName()}.endRule(<@drgElementAnnotation drgElement/>, <@ruleAnnotation/>, ${output});
+        </#if>
 </#macro>
 
 <#macro drgElementAnnotation drgElement>${transformer.qualifiedName(javaPackageName, transformer.drgElementClassName(drgElement))}.${transformer.drgElementMetadataFieldName()}</#macro>
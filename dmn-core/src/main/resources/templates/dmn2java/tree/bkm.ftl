@@ -41,4 +41,5 @@ public class ${javaClassName} extends ${decisionBaseClass} {
         <@applyMethodBody drgElement />
     }
     <@evaluateExpressionMethod drgElement />
+    <@addConstantFields />
 }
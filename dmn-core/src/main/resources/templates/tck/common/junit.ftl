@@ -7,6 +7,10 @@ import java.util.stream.Collectors;
 
 @javax.annotation.Generated(value = {"junit.ftl", "${testCases.modelName}"})
 public class ${testClassName} extends ${decisionBaseClass} {
+    <#if tckUtil.isDecisionGraph()>
+    private final ${tckUtil.qualifiedName(packageName, tckUtil.decisionGraphClassName())} ${tckUtil.decisionGraphVariableName()} = new ${tckUtil.qualifiedName(packageName, tckUtil.decisionGraphClassName())}();
+
+    </#if>
     <@addTestCases />
 }
 <#macro addTestCases>
@@ -45,7 +49,11 @@ public class ${testClassName} extends ${decisionBaseClass} {
     <#list testCase.resultNode>
         <#items as result>
         // Check ${result.name}
+        <#if tckUtil.isDecisionGraph()>
+        checkValues(${tckUtil.toJavaExpression(testCases, result)}, ${tckUtil.decisionGraphVariableName()}.${tckUtil.decisionGraphGetterName(result)}().apply(${tckUtil.drgElementArgumentsExtraCache(tckUtil.drgElementArgumentsExtra(tckUtil.drgElementArgumentList(result)))}));
+        <#else>
         checkValues(${tckUtil.toJavaExpression(testCases, result)}, new ${tckUtil.qualifiedName(packageName, tckUtil.drgElementClassName(result))}().apply(${tckUtil.drgElementArgumentsExtraCache(tckUtil.drgElementArgumentsExtra(tckUtil.drgElementArgumentList(result)))}));
+        </#if>
         </#items>
     </#list>
 </#macro>
\ No newline at end of file
@@ -14,11 +14,13 @@ package com.gs.dmn;
 
 import com.gs.dmn.log.BuildLogger;
 import com.gs.dmn.log.Slf4jBuildLogger;
+import com.gs.dmn.runtime.DMNRuntimeException;
 import com.gs.dmn.serialization.DMNReader;
 import org.junit.Before;
 import org.junit.Test;
 import org.omg.spec.dmn._20180521.model.TDMNElement;
 import org.omg.spec.dmn._20180521.model.TDecision;
+import org.omg.spec.dmn._20180521.model.TInputData;
 import org.omg.spec.dmn._20180521.model.TNamedElement;
 import org.slf4j.LoggerFactory;
 
@@ -29,6 +31,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 public class DMNModelRepositoryTest {
     private static final BuildLogger LOGGER = new Slf4jBuildLogger(LoggerFactory.getLogger(DMNModelRepositoryTest.class));
@@ -50,6 +53,27 @@ public class DMNModelRepositoryTest {
         assertEquals("BureauCallType", decision.getName());
     }
 
+    @Test
+    public void testFindDecisionByHref() {
+        TDecision decision = dmnModelRepository.findDecisionById("#d_BureauCallType");
+        assertEquals("d_BureauCallType", decision.getId());
+    }
+
+    @Test(expected = DMNRuntimeException.class)
+    public void testFindDecisionByIdOfInputData() {
+        TInputData inputData = dmnModelRepository.inputDatas().get(0);
+        dmnModelRepository.findDecisionById(inputData.getId());
+    }
+
+    @Test
+    public void testFindDRGElementByNameAfterRename() {
+        TDecision decision = dmnModelRepository.findDecisionById("d_BureauCallType");
+        decision.setName("NewBureauCallType");
+        dmnModelRepository.clearCaches();
+
+        assertSame(decision, dmnModelRepository.findDRGElementByName("NewBureauCallType"));
+    }
+
     @Test
     public void testTopologicalSort() {
         TDMNElement root = dmnModelRepository.findDRGElementByName("Strategy");
@@ -0,0 +1,93 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.feel.analysis.semantics.environment.Environment;
+import com.gs.dmn.feel.analysis.semantics.environment.EnvironmentFactory;
+import com.gs.dmn.feel.analysis.syntax.ast.FEELContext;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
+import com.gs.dmn.feel.synthesis.FEELTranslator;
+import com.gs.dmn.feel.synthesis.FEELTranslatorImpl;
+import com.gs.dmn.transformation.basic.BasicDMN2JavaTransformer;
+import com.gs.dmn.transformation.lazy.NopLazyEvaluationDetector;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.gs.dmn.feel.analysis.semantics.type.NumberType.NUMBER;
+import static org.junit.Assert.assertEquals;
+
+public class ConstantPoolingFEELTranslatorTest {
+    private final BasicDMN2JavaTransformer dmnTransformer = makeTransformer();
+    private final EnvironmentFactory environmentFactory = dmnTransformer.getEnvironmentFactory();
+    private final FEELTranslator feelTranslator = new FEELTranslatorImpl(dmnTransformer);
+
+    @Before
+    public void setUp() {
+        dmnTransformer.startConstantPool();
+    }
+
+    @After
+    public void tearDown() {
+        dmnTransformer.endConstantPool();
+    }
+
+    @Test
+    public void testLibCallsOfPooledConstantsAreQualified() {
+        assertEquals("CONSTANT_3", translate("1 + 2 * 1"));
+        assertEquals("CONSTANT_6", translate("-(1 + 2) ** 2"));
+        assertEquals("CONSTANT_7", translate("date(\"2018-01-01\")"));
+        assertEquals("asList(CONSTANT_8, CONSTANT_9)", translate("[1 - 2, -2]"));
+        assertEquals(Arrays.asList(
+                "private static final java.math.BigDecimal CONSTANT_0 = CONSTANT_LIB.number(\"1\");",
+                "private static final java.math.BigDecimal CONSTANT_1 = CONSTANT_LIB.number(\"2\");",
+                "private static final java.math.BigDecimal CONSTANT_2 = CONSTANT_LIB.numericMultiply(CONSTANT_1, CONSTANT_0);",
+                "private static final java.math.BigDecimal CONSTANT_3 = CONSTANT_LIB.numericAdd(CONSTANT_0, CONSTANT_2);",
+                "private static final java.math.BigDecimal CONSTANT_4 = CONSTANT_LIB.numericAdd(CONSTANT_0, CONSTANT_1);",
+                "private static final java.math.BigDecimal CONSTANT_5 = CONSTANT_LIB.numericUnaryMinus(CONSTANT_4);",
+                "private static final java.math.BigDecimal CONSTANT_6 = CONSTANT_LIB.numericExponentiation(CONSTANT_5, CONSTANT_1);",
+                "private static final javax.xml.datatype.XMLGregorianCalendar CONSTANT_7 = CONSTANT_LIB.date(\"2018-01-01\");",
+                "private static final java.math.BigDecimal CONSTANT_8 = CONSTANT_LIB.numericSubtract(CONSTANT_0, CONSTANT_1);",
+                "private static final java.math.BigDecimal CONSTANT_9 = CONSTANT_LIB.numericUnaryMinus(CONSTANT_1);"
+        ), dmnTransformer.constantDeclarations());
+    }
+
+    @Test
+    public void testLibCallsOfOtherExpressionsAreNotQualified() {
+        assertEquals("numericAdd(x, CONSTANT_0)", translate("x + 1"));
+        assertEquals("numericMultiply(numericUnaryMinus(x), CONSTANT_0)", translate("-x * 1"));
+        assertEquals(Arrays.asList(
+                "private static final java.math.BigDecimal CONSTANT_0 = CONSTANT_LIB.number(\"1\");"
+        ), dmnTransformer.constantDeclarations());
+    }
+
+    private static BasicDMN2JavaTransformer makeTransformer() {
+        Map<String, String> inputParameters = new LinkedHashMap<>();
+        inputParameters.put("constantPooling", "true");
+        return new StandardDMNDialectDefinition().createBasicTransformer(new DMNModelRepository(), new NopLazyEvaluationDetector(), inputParameters);
+    }
+
+    private String translate(String text) {
+        Environment environment = environmentFactory.makeEnvironment();
+        environment.addDeclaration("x", environmentFactory.makeVariableDeclaration("x", NUMBER));
+        FEELContext context = FEELContext.makeContext(environment);
+        Expression expression = feelTranslator.analyzeExpression(text, context);
+        return feelTranslator.expressionToJava(expression, context);
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.DoubleMixedJavaTimeDMNDialectDefinition;
+import com.gs.dmn.feel.analysis.semantics.environment.Environment;
+import com.gs.dmn.feel.analysis.semantics.environment.EnvironmentFactory;
+import com.gs.dmn.feel.analysis.syntax.ast.FEELContext;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
+import com.gs.dmn.feel.synthesis.FEELTranslator;
+import com.gs.dmn.feel.synthesis.FEELTranslatorImpl;
+import com.gs.dmn.runtime.interpreter.DMNInterpreter;
+import com.gs.dmn.transformation.basic.BasicDMN2JavaTransformer;
+import org.junit.Test;
+
+import static com.gs.dmn.feel.analysis.semantics.type.NumberType.NUMBER;
+import static org.junit.Assert.assertEquals;
+
+public class DoubleMixedFEELTranslatorTest {
+    private final DMNInterpreter dmnInterpreter = new DoubleMixedJavaTimeDMNDialectDefinition().createDMNInterpreter(new DMNModelRepository());
+    private final BasicDMN2JavaTransformer dmnTransformer = dmnInterpreter.getBasicDMNTransformer();
+    private final EnvironmentFactory environmentFactory = dmnTransformer.getEnvironmentFactory();
+    private final FEELTranslator feelTranslator = new FEELTranslatorImpl(dmnTransformer);
+
+    @Test
+    public void testPrimitiveArithmeticForNonNullNumbers() {
+        assertEquals("Double.valueOf(1.0)", translate("1"));
+        assertEquals("Double.valueOf(-(1.5))", translate("-1.5"));
+        assertEquals("Double.valueOf((1.0) + ((2.0) * (3.0)))", translate("1 + 2 * 3"));
+        assertEquals("Boolean.valueOf(Double.compare((1.0) - (2.0), 3.0) < 0)", translate("1 - 2 < 3"));
+    }
+
+    @Test
+    public void testNullGuardedArithmeticForNumberVariables() {
+        assertEquals("(x != null ? Double.valueOf((((Double) x)) + (1.0)) : null)", translate("x + 1"));
+        assertEquals("(x != null && y != null ? Double.valueOf((-(((Double) x))) * ((((Double) y)) - (((Double) x)))) : null)", translate("-x * (y - x)"));
+        assertEquals("(x != null ? Boolean.valueOf(Double.compare(((Double) x), (1.0) * (2.0)) < 0) : numericLessThan(x, Double.valueOf((1.0) * (2.0))))", translate("x < 1 * 2"));
+        assertEquals("(x != null && y != null ? Boolean.valueOf(Double.compare(((Double) x), ((Double) y)) == 0) : numericEqual(x, y))", translate("x = y"));
+    }
+
+    @Test
+    public void testBoxedArithmeticForOtherOperators() {
+        assertEquals("numericDivide(Double.valueOf(1.0), Double.valueOf(2.0))", translate("1 / 2"));
+        assertEquals("numericDivide(x, Double.valueOf(2.0))", translate("x / 2"));
+        assertEquals("numericAdd(numericDivide(x, Double.valueOf(2.0)), Double.valueOf(1.0))", translate("x / 2 + 1"));
+    }
+
+    private String translate(String text) {
+        Environment environment = environmentFactory.makeEnvironment();
+        environment.addDeclaration("x", environmentFactory.makeVariableDeclaration("x", NUMBER));
+        environment.addDeclaration("y", environmentFactory.makeVariableDeclaration("y", NUMBER));
+        FEELContext context = FEELContext.makeContext(environment);
+        Expression expression = feelTranslator.analyzeExpression(text, context);
+        return feelTranslator.expressionToJava(expression, context);
+    }
+}
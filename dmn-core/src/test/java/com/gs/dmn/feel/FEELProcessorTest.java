@@ -12,18 +12,32 @@
  */
 package com.gs.dmn.feel;
 
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
 import com.gs.dmn.feel.analysis.semantics.SemanticError;
 import com.gs.dmn.feel.analysis.semantics.type.*;
+import com.gs.dmn.feel.analysis.syntax.ast.FEELContext;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.function.FunctionDefinition;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.function.FunctionInvocation;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.function.PositionalParameters;
+import com.gs.dmn.feel.interpreter.FEELInterpreter;
 import com.gs.dmn.feel.interpreter.FEELInterpreterImpl;
+import com.gs.dmn.feel.lib.error.CountingFEELErrorHandler;
+import com.gs.dmn.feel.lib.error.FEELErrorHandlers;
 import com.gs.dmn.feel.synthesis.FEELTranslatorImpl;
 import com.gs.dmn.runtime.Context;
 import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.runtime.interpreter.DMNInterpreter;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironmentFactory;
+import com.gs.dmn.transformation.lazy.NopLazyEvaluationDetector;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.gs.dmn.feel.analysis.semantics.type.BooleanType.BOOLEAN;
@@ -31,6 +45,7 @@ import static com.gs.dmn.feel.analysis.semantics.type.DateType.DATE;
 import static com.gs.dmn.feel.analysis.semantics.type.NumberType.NUMBER;
 import static com.gs.dmn.feel.analysis.semantics.type.StringType.STRING;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 
 public class FEELProcessorTest extends AbstractFEELProcessorTest {
     @Before
@@ -486,6 +501,89 @@ public class FEELProcessorTest extends AbstractFEELProcessorTest {
                 true);
     }
 
+    @Test
+    public void testQuantifiedExpressionStopsAtDecisiveValue() {
+        List<EnvironmentEntry> entries = Arrays.asList(
+                new EnvironmentEntry("input", NUMBER, lib.number("1")));
+
+        CountingFEELErrorHandler errorHandler = new CountingFEELErrorHandler();
+        FEELErrorHandlers.setErrorHandler(errorHandler);
+        try {
+            // number("abc") is not evaluated
+            doExpressionTest(entries, "", "some x in [\"1\", \"abc\"] satisfies number(x, \",\", \".\") > 0",
+                    "QuantifiedExpression(some, Iterator(x in ExpressionIteratorDomain(ListLiteral(StringLiteral(\"1\"),StringLiteral(\"abc\")))) -> Relational(>,FunctionInvocation(Name(number) -> PositionalParameters(Name(x), StringLiteral(\",\"), StringLiteral(\".\"))),NumericLiteral(0)))",
+                    "boolean",
+                    null,
+                    true,
+                    true);
+            doExpressionTest(entries, "", "every x in [\"-1\", \"abc\"] satisfies number(x, \",\", \".\") > 0",
+                    "QuantifiedExpression(every, Iterator(x in ExpressionIteratorDomain(ListLiteral(StringLiteral(\"-1\"),StringLiteral(\"abc\")))) -> Relational(>,FunctionInvocation(Name(number) -> PositionalParameters(Name(x), StringLiteral(\",\"), StringLiteral(\".\"))),NumericLiteral(0)))",
+                    "boolean",
+                    null,
+                    false,
+                    false);
+            assertEquals(0, errorHandler.getErrorCount());
+        } finally {
+            FEELErrorHandlers.resetErrorHandler();
+        }
+    }
+
+    @Test
+    public void testCountOfFilterExpression() {
+        List<EnvironmentEntry> entries = Arrays.asList(
+                new EnvironmentEntry("input", NUMBER, lib.number("1")));
+
+        doExpressionTest(entries, "", "count([1, 2, 3][item > input])",
+                "FunctionInvocation(Name(count) -> PositionalParameters(FilterExpression(ListLiteral(NumericLiteral(1),NumericLiteral(2),NumericLiteral(3)), Relational(>,Name(item),Name(input)))))",
+                "number",
+                null,
+                lib.count(Arrays.asList(lib.number("2"), lib.number("3"))),
+                lib.number("2"));
+    }
+
+    @Test
+    public void testAggregationsOfFilterExpression() {
+        List<EnvironmentEntry> entries = Arrays.asList(
+                new EnvironmentEntry("input", NUMBER, lib.number("1")));
+
+        doExpressionTest(entries, "", "sum([1, 2, 3][item > input])",
+                "FunctionInvocation(Name(sum) -> PositionalParameters(FilterExpression(ListLiteral(NumericLiteral(1),NumericLiteral(2),NumericLiteral(3)), Relational(>,Name(item),Name(input)))))",
+                "number",
+                null,
+                lib.sum(Arrays.asList(lib.number("2"), lib.number("3"))),
+                lib.number("5"));
+        doExpressionTest(entries, "", "min([3, 2, 1][item > input])",
+                "FunctionInvocation(Name(min) -> PositionalParameters(FilterExpression(ListLiteral(NumericLiteral(3),NumericLiteral(2),NumericLiteral(1)), Relational(>,Name(item),Name(input)))))",
+                "number",
+                null,
+                lib.min(Arrays.asList(lib.number("3"), lib.number("2"))),
+                lib.number("2"));
+        doExpressionTest(entries, "", "max([1, 3, 2][item > input])",
+                "FunctionInvocation(Name(max) -> PositionalParameters(FilterExpression(ListLiteral(NumericLiteral(1),NumericLiteral(3),NumericLiteral(2)), Relational(>,Name(item),Name(input)))))",
+                "number",
+                null,
+                lib.max(Arrays.asList(lib.number("3"), lib.number("2"))),
+                lib.number("3"));
+
+        // Same null semantics as the lib functions: no matching items
+        doExpressionTest(entries, "", "sum([1, 2, 3][item > 10])",
+                "FunctionInvocation(Name(sum) -> PositionalParameters(FilterExpression(ListLiteral(NumericLiteral(1),NumericLiteral(2),NumericLiteral(3)), Relational(>,Name(item),NumericLiteral(10)))))",
+                "number",
+                null,
+                lib.sum(Arrays.asList()),
+                null);
+        // null items
+        List<EnvironmentEntry> nullEntries = Arrays.asList(
+                new EnvironmentEntry("input", NUMBER, lib.number("1")),
+                new EnvironmentEntry("list", ListType.NUMBER_LIST, Arrays.asList(lib.number("1"), null, lib.number("3"))));
+        doExpressionTest(nullEntries, "", "max(list[item = null or item > input])",
+                "FunctionInvocation(Name(max) -> PositionalParameters(FilterExpression(Name(list), Disjunction(Relational(=,Name(item),NullLiteral()),Relational(>,Name(item),Name(input))))))",
+                "number",
+                null,
+                lib.max(Arrays.asList(null, lib.number("3"))),
+                null);
+    }
+
     @Override
     @Test
     public void testComparisonExpression() {
@@ -1443,11 +1541,29 @@ public class FEELProcessorTest extends AbstractFEELProcessorTest {
                 "FunctionInvocation(Name(sort) -> PositionalParameters(ListLiteral(NumericLiteral(3),NumericLiteral(1),NumericLiteral(4),NumericLiteral(5),NumericLiteral(2)), FunctionDefinition(FormalParameter(x, number),FormalParameter(y, number), Relational(<,Name(x),Name(y)), false)))",
                 "ListType(AnyType)",
                 "sort(asList(number(\"3\"), number(\"1\"), number(\"4\"), number(\"5\"), number(\"2\")), new com.gs.dmn.runtime.LambdaExpression<Boolean>() {public Boolean apply(Object... args) {java.math.BigDecimal x = (java.math.BigDecimal)args[0]; java.math.BigDecimal y = (java.math.BigDecimal)args[1];return numericLessThan(x, y);}})",
-                null,
-                null
+                lib.asList(lib.number("1"), lib.number("2"), lib.number("3"), lib.number("4"), lib.number("5")),
+                lib.asList(lib.number("1"), lib.number("2"), lib.number("3"), lib.number("4"), lib.number("5"))
         );
     }
 
+    @Test
+    public void testSortInvocationWithCompiledLambda() {
+        Map<String, String> inputParameters = new LinkedHashMap<>();
+        inputParameters.put("compiledLambdas", "true");
+        DMNInterpreter compiledDMNInterpreter = new DMNInterpreter(new StandardDMNDialectDefinition().createBasicTransformer(new DMNModelRepository(), new NopLazyEvaluationDetector(), inputParameters), lib);
+        FEELInterpreter compiledFEELInterpreter = new FEELInterpreterImpl(compiledDMNInterpreter);
+        FEELContext context = FEELContext.makeContext(environmentFactory.makeEnvironment(), RuntimeEnvironmentFactory.instance().makeEnvironment());
+
+        FunctionInvocation expression = (FunctionInvocation) compiledFEELInterpreter.analyzeExpression("sort([3,1,4,5,2], function(x: feel.number, y: feel.number) x < y)", context);
+        for (int i = 0; i < 2; i++) {
+            assertEquals(lib.asList(lib.number("1"), lib.number("2"), lib.number("3"), lib.number("4"), lib.number("5")), compiledFEELInterpreter.evaluateExpression(expression, context));
+        }
+
+        // Compiled once per function definition
+        FunctionDefinition functionDefinition = (FunctionDefinition) ((PositionalParameters) expression.getParameters()).getParameters().get(1);
+        assertNotNull(compiledDMNInterpreter.getAnalysisCache().lambdaClass(functionDefinition, () -> null));
+    }
+
     @Test
     public void testPathExpression() {
         ItemDefinitionType type = new ItemDefinitionType("PrivateFundRequirements").addMember("HierarchyNode", Arrays.asList(), STRING);
@@ -17,6 +17,7 @@ import com.gs.dmn.feel.analysis.syntax.ast.expression.function.PositionalSignatu
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 
@@ -39,4 +40,17 @@ public class EnvironmentTest {
         String functionName = "date";
         assertEquals(functionName, environment.lookupFunctionDeclaration(functionName, new PositionalSignature(Arrays.asList(StringType.STRING))).getName());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testLookupFunctionDeclarationDeclaredInParent() {
+        // Memoized environments are looked up many times
+        Environment parent = environmentFactory.makeEnvironment();
+        Declaration date = parent.lookupFunctionDeclaration("date", new PositionalSignature(Arrays.asList(StringType.STRING)));
+        Environment environment = environmentFactory.makeEnvironment(parent);
+        environment.addDeclaration(date);
+
+        List<Declaration> declarations = environment.lookupFunctionDeclaration("date");
+        assertEquals(declarations, environment.lookupFunctionDeclaration("date"));
+        assertEquals(parent.lookupFunctionDeclaration("date").size() + 1, declarations.size());
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel.interpreter;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.feel.analysis.semantics.environment.Environment;
+import com.gs.dmn.feel.analysis.semantics.environment.EnvironmentFactory;
+import com.gs.dmn.feel.analysis.syntax.ast.FEELContext;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.Name;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.arithmetic.Addition;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.textual.ForExpression;
+import com.gs.dmn.runtime.interpreter.DMNInterpreter;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironment;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironmentFactory;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static com.gs.dmn.feel.analysis.semantics.type.NumberType.NUMBER;
+import static org.junit.Assert.assertEquals;
+
+public class LexicalAddressVisitorTest {
+    private final DMNInterpreter dmnInterpreter = new StandardDMNDialectDefinition().createDMNInterpreter(new DMNModelRepository());
+    private final EnvironmentFactory environmentFactory = dmnInterpreter.getBasicDMNTransformer().getEnvironmentFactory();
+    private final FEELInterpreter feelInterpreter = new FEELInterpreterImpl(dmnInterpreter);
+
+    @Test
+    public void testIteratorsAreAddressed() {
+        FEELContext context = makeContext();
+        Expression expression = feelInterpreter.analyzeExpression("for x in [1, 2], y in [10, 20] return x + y + a", context);
+
+        Addition body = (Addition) ((ForExpression) expression).getBody();
+        Addition left = (Addition) body.getLeftOperand();
+        assertAddress(0, 1, (Name) left.getLeftOperand());
+        assertAddress(0, 2, (Name) left.getRightOperand());
+        assertAddress(-1, -1, (Name) body.getRightOperand());
+
+        assertEquals(Arrays.asList(number(111), number(121), number(112), number(122)), feelInterpreter.evaluateExpression(expression, context));
+    }
+
+    @Test
+    public void testNestedScopes() {
+        FEELContext context = makeContext();
+
+        assertEquals(Arrays.asList(number(3), number(4)), feelInterpreter.evaluateExpression("{b: a - 98, c: for i in [1, 2] return b + i}.c", context));
+        assertEquals(Arrays.asList(number(2), number(3)), feelInterpreter.evaluateExpression("[1, 2, 3][item > a - 99]", context));
+        assertEquals(true, feelInterpreter.evaluateExpression("some x in [1, 2] satisfies every y in [x] satisfies y = 2", context));
+        assertEquals(number(5), feelInterpreter.evaluateExpression("{f: function(x) x + b, b: 1, r: f(4)}.r", context));
+    }
+
+    private void assertAddress(int depth, int slot, Name name) {
+        assertEquals(name.getName(), depth, name.getDepth());
+        assertEquals(name.getName(), slot, name.getSlot());
+    }
+
+    private FEELContext makeContext() {
+        Environment environment = environmentFactory.makeEnvironment();
+        environment.addDeclaration(environmentFactory.makeVariableDeclaration("a", NUMBER));
+        RuntimeEnvironment runtimeEnvironment = RuntimeEnvironmentFactory.instance().makeEnvironment();
+        runtimeEnvironment.bind("a", number(100));
+        return FEELContext.makeContext(environment, runtimeEnvironment);
+    }
+
+    private BigDecimal number(int value) {
+        return BigDecimal.valueOf(value);
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel.interpreter;
+
+import com.gs.dmn.runtime.DMNRuntimeException;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class MemberAccessorCacheTest {
+    private final MemberAccessorCache cache = new MemberAccessorCache(name -> "get" + StringUtils.capitalize(name));
+
+    @Test
+    public void testPublicClass() {
+        Function<Object, Object> accessor = cache.accessor(Person.class, "name");
+        assertEquals("Joe", accessor.apply(new Person("Joe", 30)));
+        assertEquals("Ann", accessor.apply(new Person("Ann", 40)));
+        assertEquals(40, cache.accessor(Person.class, "age").apply(new Person("Ann", 40)));
+    }
+
+    @Test
+    public void testNonPublicClass() {
+        assertEquals("Joe", cache.accessor(HiddenPerson.class, "name").apply(new HiddenPerson("Joe")));
+    }
+
+    @Test
+    public void testAccessorsAreCached() {
+        assertSame(cache.accessor(Person.class, "name"), cache.accessor(Person.class, "name"));
+    }
+
+    @Test(expected = DMNRuntimeException.class)
+    public void testMissingMember() {
+        cache.accessor(Person.class, "missing");
+    }
+
+    public static class Person {
+        private final String name;
+        private final int age;
+
+        public Person(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+    }
+
+    static class HiddenPerson {
+        private final String name;
+
+        HiddenPerson(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
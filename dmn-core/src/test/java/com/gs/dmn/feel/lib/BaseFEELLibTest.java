@@ -130,6 +130,8 @@ public abstract class BaseFEELLibTest<NUMBER, DATE, TIME, DATE_TIME, DURATION> e
         assertEquals("b", getLib().replace("AAAA", "A+", "b"));
         assertEquals("bbbb", getLib().replace("AAAA", "A+?", "b"));
         assertEquals("carted", getLib().replace("darted", "^(.*?)d(.*)$", "$1c$2"));
+        assertEquals("a*b", getLib().replace("a.b", ".", "*", "q"));
+        assertEquals("<b>", getLib().replace("<a>", "a", "b"));
     }
 
     @Test
@@ -154,6 +156,12 @@ public abstract class BaseFEELLibTest<NUMBER, DATE, TIME, DATE_TIME, DURATION> e
         assertTrue(getLib().matches(input, "^Kaum.*gesehen,$", "m"));
         assertFalse(getLib().matches(input, "^Kaum.*gesehen,$"));
         assertTrue(getLib().matches(input, "kiki", "i"));
+
+        assertTrue(getLib().matches("helloworld", "hello world", "x"));
+        assertFalse(getLib().matches("abc", "a.c", "q"));
+        assertTrue(getLib().matches("a<b & c>d", "b & c"));
+        assertFalse(getLib().matches("abc", "x"));
+        assertNull(getLib().matches("abc", "(", ""));
     }
 
     @Test
@@ -24,6 +24,7 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.*;
 
@@ -543,6 +544,36 @@ public abstract class FEELOperatorsTest<NUMBER, DATE, TIME, DATE_TIME, DURATION>
         assertNull(getLib().booleanAnd("123", "123"));
     }
 
+    @Test
+    public void testBooleanSome() {
+        assertFalse(getLib().booleanSome(Stream.of()));
+        assertFalse(getLib().booleanSome(Stream.of(Boolean.FALSE, Boolean.FALSE)));
+        assertTrue(getLib().booleanSome(Stream.of(Boolean.TRUE)));
+        assertTrue(getLib().booleanSome(Stream.of(Boolean.FALSE, null, Boolean.TRUE)));
+        assertNull(getLib().booleanSome(Stream.of(Boolean.FALSE, null)));
+        assertNull(getLib().booleanSome(null));
+
+        // Stops at the first true
+        List<Object> visited = new ArrayList<>();
+        assertTrue(getLib().booleanSome(Stream.of(Boolean.FALSE, Boolean.TRUE, Boolean.FALSE).peek(visited::add)));
+        assertEquals(2, visited.size());
+    }
+
+    @Test
+    public void testBooleanEvery() {
+        assertTrue(getLib().booleanEvery(Stream.of()));
+        assertTrue(getLib().booleanEvery(Stream.of(Boolean.TRUE, Boolean.TRUE)));
+        assertFalse(getLib().booleanEvery(Stream.of(Boolean.FALSE)));
+        assertFalse(getLib().booleanEvery(Stream.of(Boolean.TRUE, null, Boolean.FALSE)));
+        assertNull(getLib().booleanEvery(Stream.of(Boolean.TRUE, null)));
+        assertNull(getLib().booleanEvery(null));
+
+        // Stops at the first false
+        List<Object> visited = new ArrayList<>();
+        assertFalse(getLib().booleanEvery(Stream.of(Boolean.TRUE, Boolean.FALSE, Boolean.TRUE).peek(visited::add)));
+        assertEquals(2, visited.size());
+    }
+
     //
     // List operator functions
     //
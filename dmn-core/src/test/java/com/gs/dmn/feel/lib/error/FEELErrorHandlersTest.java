@@ -0,0 +1,73 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.feel.lib.error;
+
+import com.gs.dmn.feel.lib.DefaultFEELLib;
+import com.gs.dmn.runtime.DMNRuntimeException;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class FEELErrorHandlersTest {
+    private final DefaultFEELLib lib = new DefaultFEELLib();
+
+    @After
+    public void tearDown() {
+        FEELErrorHandlers.resetErrorHandler();
+    }
+
+    @Test
+    public void testDefaultHandlerReturnsNull() {
+        assertTrue(FEELErrorHandlers.getErrorHandler() instanceof LoggingFEELErrorHandler);
+        assertNull(lib.number("abc"));
+    }
+
+    @Test
+    public void testCountingHandler() {
+        CountingFEELErrorHandler handler = new CountingFEELErrorHandler(1, 0);
+        FEELErrorHandlers.setErrorHandler(handler);
+
+        for (int i = 0; i < 5; i++) {
+            assertNull(lib.number("abc"));
+        }
+        assertNull(lib.number(""));
+
+        assertEquals(5, handler.getErrorCount());
+        Map<String, Long> counts = handler.getErrorCounts();
+        assertEquals(Long.valueOf(5), counts.get("number"));
+        assertEquals(1, counts.size());
+
+        handler.reset();
+        assertEquals(0, handler.getErrorCount());
+    }
+
+    @Test
+    public void testStrictHandler() {
+        FEELErrorHandlers.setErrorHandler(new StrictFEELErrorHandler());
+        try {
+            lib.number("abc");
+            fail();
+        } catch (DMNRuntimeException e) {
+            assertEquals("number(abc)", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testMessageIsFormattedOnlyWithArguments() {
+        assertEquals("100%", FEELErrorHandler.message("100%"));
+        assertEquals("f(1)", FEELErrorHandler.message("f(%s)", 1));
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+
+public class BatchEvaluatorTest {
+    private final List<Integer> inputs = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+    private final List<Integer> expected = inputs.stream().map(i -> i * 2).collect(Collectors.toList());
+
+    @Test
+    public void testSequential() {
+        assertEquals(expected, BatchEvaluator.evaluate(inputs, i -> i * 2));
+        assertEquals(expected, BatchEvaluator.evaluate(inputs.iterator(), i -> i * 2));
+        assertEquals(expected, BatchEvaluator.evaluate(inputs.stream(), i -> i * 2));
+        assertEquals(new ArrayList<>(), BatchEvaluator.evaluate(new ArrayList<Integer>(), i -> i * 2, null, 4));
+    }
+
+    @Test
+    public void testParallelKeepsInputOrder() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            assertEquals(expected, BatchEvaluator.evaluate(inputs, i -> i * 2, executor, 4));
+            assertEquals(expected, BatchEvaluator.evaluate(inputs, i -> i * 2, executor, 7));
+            assertEquals(expected, BatchEvaluator.evaluate(inputs, i -> i * 2, executor));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expected = DMNRuntimeException.class)
+    public void testParallelPropagatesErrors() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            BatchEvaluator.evaluate(inputs, i -> {
+                if (i == 900) {
+                    throw new DMNRuntimeException("Error");
+                }
+                return i;
+            }, executor, 2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime;
+
+import org.junit.Test;
+
+import javax.xml.datatype.DatatypeFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.gs.dmn.runtime.DecisionTableIndex.*;
+import static org.junit.Assert.*;
+
+public class DecisionTableIndexTest {
+    @Test
+    public void testNumberColumn() {
+        DecisionTableIndex index = new DecisionTableIndex.Builder(5, 1)
+                .entry(0, 0, equal(new BigDecimal("1")), equal(new BigDecimal("2")))
+                .entry(1, 0, range(new BigDecimal("3"), new BigDecimal("5")))
+                .entry(2, 0, range(new BigDecimal("10"), null))
+                .build();
+
+        assertTrue(index.isIndexed());
+        assertEquals(Arrays.asList(0, 3, 4), candidates(index, new BigDecimal("1")));
+        assertEquals(Arrays.asList(0, 3, 4), candidates(index, new BigDecimal("1.00")));
+        assertEquals(Arrays.asList(0, 3, 4), candidates(index, 1.0));
+        assertEquals(Arrays.asList(1, 3, 4), candidates(index, new BigDecimal("5")));
+        assertEquals(Arrays.asList(2, 3, 4), candidates(index, new BigDecimal("20")));
+        assertEquals(Arrays.asList(3, 4), candidates(index, new BigDecimal("7")));
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), candidates(index, (Object) null));
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), candidates(index, "1"));
+    }
+
+    @Test
+    public void testSeveralColumns() {
+        DecisionTableIndex index = new DecisionTableIndex.Builder(3, 2)
+                .entry(0, 0, equal("a"), equal("b"))
+                .entry(0, 1, equal(Boolean.TRUE))
+                .entry(1, 0, equal("c"))
+                .entry(2, 1, equal(Boolean.FALSE))
+                .build();
+
+        assertEquals(Arrays.asList(0), candidates(index, "a", true));
+        assertEquals(Arrays.asList(1), candidates(index, "c", true));
+        assertEquals(Arrays.asList(1, 2), candidates(index, "c", false));
+        assertEquals(Arrays.asList(0, 2), candidates(index, "b", null));
+    }
+
+    @Test
+    public void testDateColumn() throws Exception {
+        DecisionTableIndex index = new DecisionTableIndex.Builder(3, 1)
+                .entry(0, 0, equal(date("2018-01-01")))
+                .entry(1, 0, range(date("2018-02-01"), date("2018-02-28")))
+                .entry(2, 0, range(null, date("2017-12-01")))
+                .build();
+
+        // Bounds are widened by one day
+        assertEquals(Arrays.asList(0), candidates(index, LocalDate.parse("2018-01-01")));
+        assertEquals(Arrays.asList(0), candidates(index, LocalDate.parse("2018-01-02")));
+        assertEquals(Arrays.asList(1), candidates(index, LocalDate.parse("2018-02-15")));
+        assertEquals(Arrays.asList(2), candidates(index, LocalDate.parse("2017-06-01")));
+        assertEquals(Arrays.asList(), candidates(index, LocalDate.parse("2018-06-01")));
+        assertEquals(Arrays.asList(1), candidates(index, DatatypeFactory.newInstance().newXMLGregorianCalendar("2018-02-15")));
+        assertEquals(Arrays.asList(0, 1, 2), candidates(index, new BigDecimal("1")));
+    }
+
+    @Test
+    public void testDateTimeColumn() throws Exception {
+        DecisionTableIndex index = new DecisionTableIndex.Builder(2, 1)
+                .entry(0, 0, equal(dateTime("2018-01-01T10:00:00Z")))
+                .entry(1, 0, range(dateTime("2018-03-01T00:00:00@Europe/Paris"), null))
+                .build();
+
+        assertEquals(Arrays.asList(0), candidates(index, ZonedDateTime.parse("2018-01-01T10:00:00Z")));
+        assertEquals(Arrays.asList(0), candidates(index, DatatypeFactory.newInstance().newXMLGregorianCalendar("2018-01-01T12:00:00+02:00")));
+        assertEquals(Arrays.asList(1), candidates(index, ZonedDateTime.parse("2019-01-01T00:00:00Z")));
+        assertEquals(Arrays.asList(), candidates(index, ZonedDateTime.parse("2018-02-01T00:00:00Z")));
+    }
+
+    @Test
+    public void testUnsupportedEntriesAreNotIndexed() {
+        DecisionTableIndex index = new DecisionTableIndex.Builder(2, 1)
+                .entry(0, 0, range("a", "c"))
+                .entry(1, 0, equal("a"), equal(new BigDecimal("1")))
+                .build();
+
+        assertFalse(index.isIndexed());
+        assertNull(date("2018-13-01"));
+        assertNull(dateTime("10:00:00"));
+    }
+
+    private List<Integer> candidates(DecisionTableIndex index, Object... values) {
+        return index.candidates(values).stream().boxed().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.cache;
+
+import com.gs.dmn.runtime.cache.MemoizationCache.EvictionPolicy;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class MemoizationCacheTest {
+    private final AtomicLong time = new AtomicLong();
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    @Test
+    public void testComputeIfAbsent() {
+        MemoizationCache cache = new MemoizationCache(10);
+
+        assertEquals("a1", evaluate(cache, "a", 1));
+        assertEquals("a1", evaluate(cache, "a", 1));
+        assertEquals("b1", evaluate(cache, "b", 1));
+        assertEquals("a2", evaluate(cache, "a", 2));
+        assertNull(cache.computeIfAbsent("c", Arrays.asList(1), () -> { evaluations.incrementAndGet(); return null; }));
+        assertNull(cache.computeIfAbsent("c", Arrays.asList(1), () -> { evaluations.incrementAndGet(); return null; }));
+
+        assertEquals(4, evaluations.get());
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals(2, statistics.getHitCount());
+        assertEquals(4, statistics.getMissCount());
+        assertEquals(4, statistics.getSize());
+    }
+
+    @Test
+    public void testLRUEviction() {
+        MemoizationCache cache = new MemoizationCache(2, EvictionPolicy.LRU, 0, TimeUnit.MILLISECONDS, null, 1, time::get);
+
+        evaluate(cache, "a", 1);
+        evaluate(cache, "a", 2);
+        evaluate(cache, "a", 1);
+        evaluate(cache, "a", 3);
+
+        assertEquals(1, cache.getStatistics().getEvictionCount());
+        evaluations.set(0);
+        evaluate(cache, "a", 1);
+        evaluate(cache, "a", 3);
+        assertEquals(0, evaluations.get());
+        evaluate(cache, "a", 2);
+        assertEquals(1, evaluations.get());
+    }
+
+    @Test
+    public void testLFUEviction() {
+        MemoizationCache cache = new MemoizationCache(2, EvictionPolicy.LFU, 0, TimeUnit.MILLISECONDS, null, 1, time::get);
+
+        evaluate(cache, "a", 1);
+        evaluate(cache, "a", 1);
+        evaluate(cache, "a", 1);
+        evaluate(cache, "a", 2);
+        evaluate(cache, "a", 2);
+        evaluate(cache, "a", 3);
+
+        evaluations.set(0);
+        evaluate(cache, "a", 1);
+        evaluate(cache, "a", 3);
+        assertEquals(0, evaluations.get());
+        evaluate(cache, "a", 2);
+        assertEquals(1, evaluations.get());
+    }
+
+    @Test
+    public void testTimeToLive() {
+        MemoizationCache cache = new MemoizationCache(10, EvictionPolicy.LRU, 10, TimeUnit.NANOSECONDS, null, 1, time::get);
+
+        evaluate(cache, "a", 1);
+        time.set(9);
+        evaluate(cache, "a", 1);
+        assertEquals(1, evaluations.get());
+        time.set(10);
+        evaluate(cache, "a", 1);
+        assertEquals(2, evaluations.get());
+        assertEquals(1, cache.getStatistics().getEvictionCount());
+    }
+
+    @Test
+    public void testCachedElements() {
+        MemoizationCache cache = new MemoizationCache(10, EvictionPolicy.LRU, 0, TimeUnit.MILLISECONDS, Collections.singleton("a"));
+
+        evaluate(cache, "b", 1);
+        evaluate(cache, "b", 1);
+        assertEquals(2, evaluations.get());
+        assertTrue(cache.isCached("a"));
+        assertFalse(cache.isCached("b"));
+    }
+
+    @Test
+    public void testScope() {
+        MemoizationCache cache = new MemoizationCache(10);
+
+        Cache request1 = cache.scope("x", 1);
+        assertFalse(request1.contains("a"));
+        request1.bind("a", "value");
+        assertTrue(request1.contains("a"));
+        assertEquals("value", request1.lookup("a"));
+
+        Cache request2 = cache.scope("x", 1);
+        assertTrue(request2.contains("a"));
+        cache.clear();
+        assertEquals("value", request2.lookup("a"));
+
+        assertFalse(cache.scope("x", 2).contains("a"));
+    }
+
+    private Object evaluate(MemoizationCache cache, String decisionName, int input) {
+        return cache.computeIfAbsent(decisionName, Arrays.asList(input), () -> {
+            evaluations.incrementAndGet();
+            return decisionName + input;
+        });
+    }
+}
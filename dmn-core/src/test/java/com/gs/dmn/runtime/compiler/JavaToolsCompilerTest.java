@@ -14,6 +14,8 @@ package com.gs.dmn.runtime.compiler;
 
 import org.junit.Test;
 
+import java.util.function.Supplier;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
@@ -34,6 +36,20 @@ public class JavaToolsCompilerTest extends AbstractCompilerTest {
         assertNotNull(cls);
     }
 
+    @Test
+    public void testCompileInMemoryWithNestedClasses() throws Exception {
+        String text =
+                "package com.gs.dmn.runtime;" +
+                "public class Outer implements java.util.function.Supplier<Object> {" +
+                "    public Object get() {" +
+                "        return new java.util.function.Supplier<Object>() { public Object get() { return \"abc\"; } }.get();" +
+                "    }" +
+                "}";
+        Class<?> cls = getCompiler().compile(new JavaxToolsClassData("com.gs.dmn.runtime", "Outer", text));
+
+        assertEquals("abc", ((Supplier<?>) cls.newInstance()).get());
+    }
+
     @Override
     protected JavaCompiler getCompiler() {
         return new JavaxToolsCompiler();
@@ -0,0 +1,88 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.external;
+
+import com.gs.dmn.runtime.DMNRuntimeException;
+import org.junit.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class DefaultExternalFunctionExecutorTest {
+    private final ExternalFunctionExecutor executor = new DefaultExternalFunctionExecutor();
+
+    @Test
+    public void testStaticMethod() {
+        assertEquals("101", executor.execute("java.lang.Integer", "toBinaryString", new Object[]{5}));
+        assertEquals("11", executor.execute("java.lang.Integer", "toBinaryString", new Object[]{3}));
+    }
+
+    @Test
+    public void testInstanceMethod() {
+        assertEquals("", executor.execute("java.lang.StringBuilder", "toString", new Object[]{}));
+    }
+
+    @Test(expected = DMNRuntimeException.class)
+    public void testMissingMethod() {
+        executor.execute("java.lang.Math", "missing", new Object[]{1});
+    }
+
+    @Test
+    public void testInvokersAndReceiversAreReused() throws Exception {
+        MethodDispatchCache cache = new MethodDispatchCache();
+        MethodDispatchCache.Invoker invoker = cache.invoker(Arrays.asList("java.lang.String", "length"), () -> String.class, cls -> cls.getMethod("length"));
+        assertSame(invoker, cache.invoker(Arrays.asList("java.lang.String", "length"), () -> { throw new AssertionError(); }, cls -> null));
+        assertSame(String.class, invoker.getTargetClass());
+        assertEquals(3, invoker.invoke("abc"));
+
+        Object receiver = cache.receiver(Object.class);
+        assertSame(receiver, cache.receiver(Object.class));
+
+        assertNull(cache.invoker(Arrays.asList("java.lang.String", "missing"), () -> String.class, cls -> null));
+    }
+
+    @Test
+    public void testClassesAreResolvedOnceByExecutor() throws Exception {
+        MethodDispatchCache cache = new MethodDispatchCache();
+        ExternalFunctionExecutor executor = new DefaultExternalFunctionExecutor(cache);
+        assertEquals("", executor.execute("java.lang.StringBuilder", "toString", new Object[]{}));
+
+        MethodDispatchCache.Invoker invoker = cache.invoker(Arrays.asList("java.lang.StringBuilder", "toString"), () -> { throw new AssertionError(); }, cls -> null);
+        assertSame(StringBuilder.class, invoker.getTargetClass());
+        assertEquals("", executor.execute("java.lang.StringBuilder", "toString", new Object[]{}));
+    }
+
+    @Test
+    public void testReceiversAreKeyedByClassLoader() throws Exception {
+        URL location = Receiver.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{location}, null)) {
+            Class<?> otherReceiverClass = classLoader.loadClass(Receiver.class.getName());
+            assertNotSame(Receiver.class, otherReceiverClass);
+
+            MethodDispatchCache cache = new MethodDispatchCache();
+            Object receiver = cache.receiver(Receiver.class);
+            Object otherReceiver = cache.receiver(otherReceiverClass);
+            assertSame(Receiver.class, receiver.getClass());
+            assertSame(otherReceiverClass, otherReceiver.getClass());
+        }
+    }
+
+    public static class Receiver {
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.interpreter.environment;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class RuntimeEnvironmentTest {
+    private final RuntimeEnvironmentFactory factory = RuntimeEnvironmentFactory.instance();
+
+    @Test
+    public void testBindAndLookup() {
+        RuntimeEnvironment environment = factory.makeEnvironment();
+        environment.bind("a", 1);
+        environment.bind(new String("b"), 2);
+
+        assertEquals(1, environment.lookupBinding("a"));
+        assertEquals(2, environment.lookupBinding("b"));
+        assertNull(environment.lookupBinding("c"));
+        assertFalse(environment.isBound("c"));
+
+        environment.bind("a", 3);
+        assertEquals(3, environment.lookupBinding("a"));
+    }
+
+    @Test
+    public void testNullValues() {
+        RuntimeEnvironment parent = factory.makeEnvironment();
+        parent.bind("a", 1);
+        RuntimeEnvironment child = factory.makeEnvironment(parent);
+        child.bind("a", null);
+
+        assertTrue(child.isBound("a"));
+        assertNull(child.lookupBinding("a"));
+    }
+
+    @Test
+    public void testNestedEnvironments() {
+        RuntimeEnvironment parent = factory.makeEnvironment();
+        parent.bind("a", 1);
+        parent.bind("b", 2);
+        RuntimeEnvironment child = factory.makeEnvironment(parent);
+        child.bind("b", 3);
+
+        assertEquals(1, child.lookupBinding("a"));
+        assertEquals(3, child.lookupBinding("b"));
+        assertEquals(2, parent.lookupBinding("b"));
+        assertTrue(child.isBound("a"));
+    }
+
+    @Test
+    public void testLargeEnvironments() {
+        RuntimeEnvironment environment = factory.makeEnvironment();
+        for (int i = 0; i < 20; i++) {
+            environment.bind("v" + i, i);
+        }
+        environment.bind("v3", null);
+
+        for (int i = 0; i < 20; i++) {
+            if (i == 3) {
+                assertTrue(environment.isBound("v3"));
+                assertNull(environment.lookupBinding("v3"));
+            } else {
+                assertEquals(i, environment.lookupBinding("v" + i));
+            }
+        }
+        assertFalse(environment.isBound("v20"));
+    }
+
+    @Test
+    public void testLookupByAddress() {
+        RuntimeEnvironment parent = factory.makeEnvironment();
+        parent.bind("a", 1);
+        parent.bind("b", 2);
+        RuntimeEnvironment child = factory.makeEnvironment(parent);
+        child.bind("c", 3);
+
+        assertEquals(2, child.lookupBinding("b", 1, 1));
+        assertEquals(3, child.lookupBinding("c", 0, 0));
+        // Falls back to the lookup by key when the slot holds another binding
+        assertEquals(1, child.lookupBinding("a", 1, 1));
+        assertEquals(2, child.lookupBinding("b", 0, 5));
+    }
+}
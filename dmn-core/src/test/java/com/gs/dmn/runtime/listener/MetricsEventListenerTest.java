@@ -0,0 +1,110 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.listener;
+
+import com.gs.dmn.runtime.annotation.DRGElementKind;
+import com.gs.dmn.runtime.annotation.ExpressionKind;
+import com.gs.dmn.runtime.annotation.HitPolicy;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class MetricsEventListenerTest {
+    private final DRGElement table = new DRGElement("model", "Table", "", DRGElementKind.DECISION, ExpressionKind.DECISION_TABLE, HitPolicy.FIRST, 3);
+    private final DRGElement literal = new DRGElement("model", "Literal", "", DRGElementKind.DECISION, ExpressionKind.LITERAL_EXPRESSION, HitPolicy.UNKNOWN, 0);
+    private final Rule rule1 = new Rule(1, "");
+
+    @Test
+    public void testCounters() {
+        MetricsEventListener listener = new MetricsEventListener();
+        for (int i = 0; i < 10; i++) {
+            listener.startDRGElement(literal, null);
+            listener.startDRGElement(table, null);
+            if (i % 2 == 0) {
+                listener.startRule(table, rule1);
+                listener.matchRule(table, rule1);
+                listener.endRule(table, rule1, null);
+            }
+            listener.endDRGElement(table, null, null, 0);
+            listener.endDRGElement(literal, null, null, 0);
+        }
+
+        DRGElementMetrics tableMetrics = listener.snapshot("model.Table");
+        assertEquals(10, tableMetrics.getInvocationCount());
+        assertEquals(5, tableMetrics.getRuleHitCount(1));
+        assertEquals(0, tableMetrics.getRuleHitCount(0));
+        assertEquals(5, tableMetrics.getNoMatchCount());
+        assertTrue(tableMetrics.getTotalNanos() >= tableMetrics.getMaxNanos());
+        assertTrue(tableMetrics.getPercentileNanos(0.5) <= tableMetrics.getMaxNanos());
+
+        DRGElementMetrics literalMetrics = listener.snapshot("model.Literal");
+        assertEquals(10, literalMetrics.getInvocationCount());
+        assertEquals(0, literalMetrics.getNoMatchCount());
+        assertTrue(literalMetrics.getTotalNanos() >= tableMetrics.getTotalNanos());
+        assertEquals(2, listener.snapshot().size());
+
+        listener.reset();
+        assertEquals(0, listener.snapshot("model.Table").getInvocationCount());
+        assertEquals(0, listener.snapshot("model.Table").getRuleHitCount(1));
+    }
+
+    @Test
+    public void testMissingEndEvent() {
+        MetricsEventListener listener = new MetricsEventListener();
+        listener.startDRGElement(literal, null);
+        listener.startDRGElement(table, null);
+        listener.endDRGElement(literal, null, null, 0);
+
+        assertEquals(1, listener.snapshot("model.Literal").getInvocationCount());
+        assertEquals(0, listener.snapshot("model.Table").getInvocationCount());
+    }
+
+    @Test
+    public void testSameNameInDifferentModels() {
+        DRGElement otherLiteral = new DRGElement("other", "Literal", "", DRGElementKind.DECISION, ExpressionKind.LITERAL_EXPRESSION, HitPolicy.UNKNOWN, 0);
+        MetricsEventListener listener = new MetricsEventListener();
+        listener.startDRGElement(literal, null);
+        listener.endDRGElement(literal, null, null, 0);
+        listener.startDRGElement(otherLiteral, null);
+        listener.endDRGElement(otherLiteral, null, null, 0);
+        listener.startDRGElement(otherLiteral, null);
+        listener.endDRGElement(otherLiteral, null, null, 0);
+
+        assertEquals(1, listener.snapshot("model.Literal").getInvocationCount());
+        assertEquals(2, listener.snapshot("other.Literal").getInvocationCount());
+        assertEquals(Long.valueOf(2), listener.getInvocationCounts().get("other.Literal"));
+    }
+
+    @Test
+    public void testMBean() throws Exception {
+        MetricsEventListener listener = new MetricsEventListener();
+        listener.startDRGElement(literal, null);
+        listener.endDRGElement(literal, null, null, 0);
+
+        ObjectName name = listener.registerMBean("com.gs.dmn:type=MetricsEventListener,name=test");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            assertTrue(server.isRegistered(name));
+            assertNotNull(server.getAttribute(name, "InvocationCounts"));
+            Map<String, Long> counts = listener.getInvocationCounts();
+            assertEquals(Long.valueOf(1), counts.get("model.Literal"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
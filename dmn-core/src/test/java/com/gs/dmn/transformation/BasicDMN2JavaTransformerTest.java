@@ -15,6 +15,9 @@ package com.gs.dmn.transformation;
 import com.gs.dmn.DMNModelRepository;
 import com.gs.dmn.dialect.DMNDialectDefinition;
 import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.feel.analysis.semantics.environment.Environment;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.Expression;
+import com.gs.dmn.feel.analysis.syntax.ast.expression.Name;
 import com.gs.dmn.log.BuildLogger;
 import com.gs.dmn.log.Slf4jBuildLogger;
 import com.gs.dmn.serialization.DMNReader;
@@ -30,6 +33,7 @@ import java.util.LinkedHashMap;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 public class BasicDMN2JavaTransformerTest {
     private static final BuildLogger LOGGER = new Slf4jBuildLogger(LoggerFactory.getLogger(BasicDMN2JavaTransformerTest.class));
@@ -108,6 +112,18 @@ public class BasicDMN2JavaTransformerTest {
         assertEquals("asList(\"\", \"\", \"\")", dmnTransformer.annotation(decision, "[string(-), string(-), string(-)]"));
     }
 
+    @Test
+    public void testEnvironmentIsMemoized() {
+        TDecision decision = dmnTransformer.getDMNModelRepository().findDecisionById(href);
+        Environment environment = dmnTransformer.makeEnvironment(decision);
+        assertSame(environment, dmnTransformer.makeEnvironment(decision));
+
+        Expression inputExpression = new Name("RequestedProduct");
+        Environment inputEntryEnvironment = dmnTransformer.makeInputEntryEnvironment(decision, inputExpression);
+        assertSame(environment, inputEntryEnvironment.getParent());
+        assertSame(inputEntryEnvironment, dmnTransformer.makeInputEntryEnvironment(decision, inputExpression));
+    }
+
     @Test
     public void testEscapeInString() {
         assertNull(dmnTransformer.escapeInString(null));
@@ -0,0 +1,95 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.transformation;
+
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.serialization.DefaultTypeDeserializationConfigurer;
+import com.gs.dmn.transformation.lazy.NopLazyEvaluationDetector;
+import com.gs.dmn.transformation.template.DagTemplateProvider;
+import com.gs.dmn.transformation.template.TemplateProvider;
+import com.gs.dmn.transformation.template.TreeTemplateProvider;
+import com.gs.dmn.validation.DefaultDMNValidator;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DecisionGraphDMNToJavaTransformerTest extends AbstractFileTransformerTest {
+    private final File rootFolder = new File("target/decision-graph");
+    private final File inputFolder = new File(rootFolder, "input");
+    private final File outputFolder = new File(rootFolder, "output");
+
+    @Before
+    public void setUp() throws Exception {
+        FileUtils.deleteDirectory(rootFolder);
+        FileUtils.copyFile(new File(resource("tck/cl3/input/0004-lending.dmn")), new File(inputFolder, "0004-lending.dmn"));
+    }
+
+    @Test
+    public void testTreeGraph() throws Exception {
+        String graph = transform(new TreeTemplateProvider());
+
+        // Direct sub-decisions
+        assertConstructedOnce(graph, "this.strategy = new com.gs.dmn.tck.graph.Strategy(this.bureauCallType, this.eligibility);");
+        assertConstructedOnce(graph, "this.applicationRiskScore = new com.gs.dmn.tck.graph.ApplicationRiskScore();");
+        assertCommonMembers(graph);
+    }
+
+    @Test
+    public void testDagGraph() throws Exception {
+        String graph = transform(new DagTemplateProvider());
+
+        // All sub-decisions
+        assertConstructedOnce(graph, "this.strategy = new com.gs.dmn.tck.graph.Strategy(this.applicationRiskScore, this.bureauCallType, this.eligibility, this.preBureauAffordability, this.preBureauRiskCategory, this.requiredMonthlyInstallment);");
+        assertConstructedOnce(graph, "this.applicationRiskScore = new com.gs.dmn.tck.graph.ApplicationRiskScore();");
+        assertCommonMembers(graph);
+    }
+
+    private void assertCommonMembers(String graph) {
+        assertTrue(graph.contains("@javax.annotation.Generated(value = {\"decisionGraph.ftl\", \"Lending1\"})"));
+        assertTrue(graph.contains("private final com.gs.dmn.tck.graph.Strategy strategy;"));
+        assertTrue(graph.contains("public com.gs.dmn.tck.graph.Strategy getStrategy() {"));
+
+        // Sub-decisions are created before the decisions requiring them
+        assertTrue(graph.indexOf("this.applicationRiskScore = ") < graph.indexOf("this.preBureauRiskCategory = "));
+        assertTrue(graph.indexOf("this.preBureauRiskCategory = ") < graph.indexOf("this.bureauCallType = "));
+        assertTrue(graph.indexOf("this.eligibility = ") < graph.indexOf("this.strategy = "));
+    }
+
+    private void assertConstructedOnce(String graph, String statement) {
+        assertEquals(1, StringUtils.countMatches(graph, statement));
+    }
+
+    private String transform(TemplateProvider templateProvider) throws Exception {
+        FileTransformer transformer = new StandardDMNDialectDefinition().createDMNToJavaTransformer(new DefaultDMNValidator(LOGGER), new ToSimpleNameTransformer(LOGGER), templateProvider, new NopLazyEvaluationDetector(), new DefaultTypeDeserializationConfigurer(), makeInputParameters(), LOGGER);
+        transformer.transform(inputFolder.toPath(), outputFolder.toPath());
+        return FileUtils.readFileToString(new File(outputFolder, "com/gs/dmn/tck/graph/DecisionGraph.java"), "UTF-8");
+    }
+
+    private Map<String, String> makeInputParameters() {
+        return new LinkedHashMap<String, String>() {{
+            put("dmnVersion", "1.1");
+            put("modelVersion", "2.0");
+            put("platformVersion", "1.0");
+            put("javaRootPackage", "com.gs.dmn.tck.graph");
+            put("decisionGraph", "true");
+        }};
+    }
+}
@@ -0,0 +1,171 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.transformation;
+
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.serialization.DefaultTypeDeserializationConfigurer;
+import com.gs.dmn.transformation.lazy.NopLazyEvaluationDetector;
+import com.gs.dmn.transformation.template.TreeTemplateProvider;
+import com.gs.dmn.validation.DefaultDMNValidator;
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class IncrementalDMNToJavaTransformerTest extends AbstractFileTransformerTest {
+    private final File rootFolder = new File("target/incremental");
+    private final File inputFolder = new File(rootFolder, "input");
+    private final File outputFolder = new File(rootFolder, "output");
+    private final File stateFile = new File(rootFolder, DMNToJavaTransformer.BUILD_STATE_FILE_NAME);
+    private final File decisionFile = new File(outputFolder, "com/gs/dmn/tck/TotalVacationDays.java");
+
+    @Before
+    public void setUp() throws Exception {
+        FileUtils.deleteDirectory(rootFolder);
+        FileUtils.copyFile(new File(resource("tck/cl3/input/0020-vacation-days.dmn")), new File(inputFolder, "0020-vacation-days.dmn"));
+    }
+
+    @Test
+    public void testUnchangedFilesAreSkipped() throws Exception {
+        transform(makeInputParameters());
+        assertTrue(stateFile.isFile());
+        assertTrue(decisionFile.isFile());
+
+        FileUtils.write(decisionFile, "unchanged", "UTF-8");
+        transform(makeInputParameters());
+        assertEquals("unchanged", FileUtils.readFileToString(decisionFile, "UTF-8"));
+    }
+
+    @Test
+    public void testFilesAreGeneratedWhenSettingsChange() throws Exception {
+        transform(makeInputParameters());
+
+        FileUtils.write(decisionFile, "unchanged", "UTF-8");
+        Map<String, String> inputParameters = makeInputParameters();
+        inputParameters.put("lowAllocation", "true");
+        transform(inputParameters);
+        assertNotEquals("unchanged", FileUtils.readFileToString(decisionFile, "UTF-8"));
+    }
+
+    @Test
+    public void testFilesAreGeneratedWhenSettingsChangeBack() throws Exception {
+        Map<String, String> otherInputParameters = makeInputParameters();
+        otherInputParameters.put("lowAllocation", "true");
+        transform(makeInputParameters());
+        String content = FileUtils.readFileToString(decisionFile, "UTF-8");
+        transform(otherInputParameters);
+        assertNotEquals(content, FileUtils.readFileToString(decisionFile, "UTF-8"));
+
+        transform(makeInputParameters());
+        assertEquals(content, FileUtils.readFileToString(decisionFile, "UTF-8"));
+    }
+
+    @Test
+    public void testMissingFilesAreGenerated() throws Exception {
+        transform(makeInputParameters());
+
+        assertTrue(decisionFile.delete());
+        transform(makeInputParameters());
+        assertTrue(decisionFile.isFile());
+    }
+
+    @Test
+    public void testTransformationsSharingOutputFolderAreSkipped() throws Exception {
+        Map<String, String> otherInputParameters = makeInputParameters();
+        otherInputParameters.put("javaRootPackage", "com.gs.dmn.tck.other");
+        File otherDecisionFile = new File(outputFolder, "com/gs/dmn/tck/other/TotalVacationDays.java");
+        transform(makeInputParameters());
+        transform(otherInputParameters);
+        assertTrue(decisionFile.isFile());
+        assertTrue(otherDecisionFile.isFile());
+
+        FileUtils.write(decisionFile, "unchanged", "UTF-8");
+        FileUtils.write(otherDecisionFile, "unchanged", "UTF-8");
+        transform(makeInputParameters());
+        transform(otherInputParameters);
+        assertEquals("unchanged", FileUtils.readFileToString(decisionFile, "UTF-8"));
+        assertEquals("unchanged", FileUtils.readFileToString(otherDecisionFile, "UTF-8"));
+    }
+
+    @Test
+    public void testStateChangesAreMerged() {
+        File inputFile = new File(inputFolder, "0020-vacation-days.dmn");
+        IncrementalBuildState state1 = new IncrementalBuildState(stateFile, LOGGER);
+        IncrementalBuildState state2 = new IncrementalBuildState(stateFile, LOGGER);
+        state1.update(inputFile, outputFolder.toPath(), "settings1", "hash1", Arrays.asList());
+        state2.update(inputFile, outputFolder.toPath(), "settings2", "hash2", Arrays.asList());
+        state1.save();
+        state2.save();
+
+        IncrementalBuildState state = new IncrementalBuildState(stateFile, LOGGER);
+        assertTrue(state.isUpToDate(inputFile, outputFolder.toPath(), "settings1", "hash1"));
+        assertTrue(state.isUpToDate(inputFile, outputFolder.toPath(), "settings2", "hash2"));
+    }
+
+    @Test
+    public void testStateIsReplacedAtomically() throws Exception {
+        FileUtils.write(stateFile, "old format line\n", "UTF-8");
+        transform(makeInputParameters());
+
+        String[] files = rootFolder.list((dir, name) -> name.endsWith(".tmp"));
+        assertEquals(0, files.length);
+        assertFalse(FileUtils.readFileToString(stateFile, "UTF-8").contains("old format line"));
+        assertTrue(decisionFile.isFile());
+    }
+
+    @Test
+    public void testStaleFilesAreRemoved() throws Exception {
+        transform(makeInputParameters());
+
+        // Element removed from the model
+        File inputFile = new File(inputFolder, "0020-vacation-days.dmn");
+        IncrementalBuildState buildState = new IncrementalBuildState(stateFile, LOGGER);
+        buildState.update(inputFile, outputFolder.toPath(), settingsHash(makeInputParameters()), "hash", Arrays.asList("com/gs/dmn/tck/BaseVacationDays.java"));
+        assertFalse(decisionFile.exists());
+        assertTrue(new File(outputFolder, "com/gs/dmn/tck/BaseVacationDays.java").exists());
+
+        // Model removed
+        assertTrue(inputFile.delete());
+        buildState.removeDeletedInputs(outputFolder.toPath());
+        assertFalse(new File(outputFolder, "com/gs/dmn/tck/BaseVacationDays.java").exists());
+    }
+
+    private void transform(Map<String, String> inputParameters) {
+        FileTransformer transformer = new StandardDMNDialectDefinition().createDMNToJavaTransformer(new DefaultDMNValidator(LOGGER), new ToSimpleNameTransformer(LOGGER), new TreeTemplateProvider(), new NopLazyEvaluationDetector(), new DefaultTypeDeserializationConfigurer(), inputParameters, LOGGER);
+        Path inputPath = inputFolder.toPath();
+        transformer.transform(inputPath, outputFolder.toPath());
+    }
+
+    private String settingsHash(Map<String, String> inputParameters) {
+        DMNToJavaTransformer transformer = (DMNToJavaTransformer) new StandardDMNDialectDefinition().createDMNToJavaTransformer(new DefaultDMNValidator(LOGGER), new ToSimpleNameTransformer(LOGGER), new TreeTemplateProvider(), new NopLazyEvaluationDetector(), new DefaultTypeDeserializationConfigurer(), inputParameters, LOGGER);
+        return new IncrementalBuildState(stateFile, LOGGER).settingsHash(transformer.generatorSettings());
+    }
+
+    private Map<String, String> makeInputParameters() {
+        return new LinkedHashMap<String, String>() {{
+            put("dmnVersion", "1.1");
+            put("modelVersion", "2.0");
+            put("platformVersion", "1.0");
+            put("javaRootPackage", "com.gs.dmn.tck");
+            put("incremental", "true");
+            put("buildStateFile", stateFile.getPath());
+        }};
+    }
+}
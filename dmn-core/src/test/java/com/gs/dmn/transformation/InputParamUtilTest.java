@@ -69,4 +69,32 @@ public class InputParamUtilTest {
         }};
         assertFalse(InputParamUtil.getOptionalBooleanParam(params, "paramKey"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetOptionalIntParamWherePresent() {
+        Map<String, String> params = new HashMap<String, String>(){{
+            put("paramKey", "4");
+        }};
+        assertEquals(4, InputParamUtil.getOptionalIntParam(params, "paramKey", 1));
+    }
+
+    @Test
+    public void testGetOptionalIntParamWhereNotPresent() {
+        Map<String, String> params = new HashMap<String, String>(){{
+        }};
+        assertEquals(1, InputParamUtil.getOptionalIntParam(params, "paramKey", 1));
+    }
+
+    @Test
+    public void testGetOptionalIntParamWhereNotNumber() {
+        Map<String, String> params = new HashMap<String, String>(){{
+            put("paramKey", "abc");
+        }};
+        try {
+            InputParamUtil.getOptionalIntParam(params, "paramKey", 1);
+            fail();
+        } catch (RuntimeException e) {
+            assertEquals("Illegal value 'abc' for 'paramKey'. Expected an integer", e.getMessage());
+        }
+    }
+}
@@ -29,6 +29,7 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 
 import java.io.File;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @SuppressWarnings("CanBeFinal")
@@ -79,6 +80,7 @@ public class DMNToJavaMojo extends AbstractDMNMojo {
             LazyEvaluationDetector lazyEvaluationDetector = makeLazyEvaluationDetector(this.lazyEvaluationDetectors, logger, this.inputParameters);
             TypeDeserializationConfigurer typeDeserializationConfigurer = makeTypeDeserializationConfigurer(this.typeDeserializationConfigurer, logger);
             validateParameters(dmnDialect, dmnValidator, dmnTransformer, templateProvider, inputParameters);
+            Map<String, String> transformerParameters = addDefaultParameters(this.inputParameters);
 
             // Create transformer
             DMNToJavaTransformer transformer = dmnDialect.createDMNToJavaTransformer(
@@ -87,7 +89,7 @@ public class DMNToJavaMojo extends AbstractDMNMojo {
                     templateProvider,
                     lazyEvaluationDetector,
                     typeDeserializationConfigurer,
-                    inputParameters,
+                    transformerParameters,
                     logger
             );
 
@@ -102,6 +104,18 @@ public class DMNToJavaMojo extends AbstractDMNMojo {
         }
     }
 
+    // Incremental builds keep their state in the build directory, it is removed by 'mvn clean'
+    private Map<String, String> addDefaultParameters(Map<String, String> inputParameters) {
+        boolean incremental = InputParamUtil.getOptionalBooleanParam(inputParameters, "incremental");
+        if (incremental && InputParamUtil.getOptionalParam(inputParameters, "buildStateFile") == null) {
+            Map<String, String> result = new LinkedHashMap<>(inputParameters);
+            File stateFile = new File(this.project.getBuild().getDirectory(), DMNToJavaTransformer.BUILD_STATE_FILE_NAME);
+            result.put("buildStateFile", stateFile.getPath());
+            return result;
+        }
+        return inputParameters;
+    }
+
     private void validateParameters(DMNDialectDefinition dmnDialect, DMNValidator dmnValidator, DMNTransformer dmnTransformer, TemplateProvider templateProvider, Map<String, String> inputParameters) {
         boolean caching = InputParamUtil.getOptionalBooleanParam(inputParameters, "caching");
         if (templateProvider instanceof DagTemplateProvider && caching) {
@@ -15,6 +15,7 @@ package com.gs.dmn.maven;
 import com.gs.dmn.log.BuildLogger;
 import org.apache.maven.plugin.logging.Log;
 
+// Generation threads share the logger of the mojo
 public class MavenBuildLogger implements BuildLogger {
     private final Log logger;
 
@@ -23,22 +24,22 @@ public class MavenBuildLogger implements BuildLogger {
     }
 
     @Override
-    public void debug(String charSequence) {
+    public synchronized void debug(String charSequence) {
         this.logger.debug(charSequence);
     }
 
     @Override
-    public void info(String charSequence) {
+    public synchronized void info(String charSequence) {
         this.logger.info(charSequence);
     }
 
     @Override
-    public void warn(String charSequence) {
+    public synchronized void warn(String charSequence) {
         this.logger.warn(charSequence);
     }
 
     @Override
-    public void error(String charSequence) {
+    public synchronized void error(String charSequence) {
         this.logger.error(charSequence);
     }
 }
@@ -0,0 +1,247 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.interpreter;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.DMNDialectDefinition;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.feel.lib.StandardFEELLib;
+import com.gs.dmn.log.BuildLogger;
+import com.gs.dmn.log.Slf4jBuildLogger;
+import com.gs.dmn.runtime.Assert;
+import com.gs.dmn.runtime.Pair;
+import com.gs.dmn.runtime.interpreter.environment.RuntimeEnvironment;
+import com.gs.dmn.runtime.listener.Arguments;
+import com.gs.dmn.runtime.listener.DRGElement;
+import com.gs.dmn.runtime.listener.EventListener;
+import com.gs.dmn.runtime.listener.NopEventListener;
+import com.gs.dmn.runtime.listener.Rule;
+import com.gs.dmn.serialization.DMNConstants;
+import com.gs.dmn.serialization.DMNReader;
+import com.gs.dmn.tck.TCKUtil;
+import com.gs.dmn.tck.TestCasesReader;
+import com.gs.dmn.transformation.DMNTransformer;
+import com.gs.dmn.transformation.ToSimpleNameTransformer;
+import org.junit.Test;
+import org.omg.dmn.tck.marshaller._20160719.TestCases;
+import org.omg.dmn.tck.marshaller._20160719.TestCases.TestCase;
+import org.omg.dmn.tck.marshaller._20160719.TestCases.TestCase.ResultNode;
+import org.slf4j.LoggerFactory;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+// One interpreter shared by several threads must return the same results as a sequential evaluation
+public class ConcurrentDMNInterpreterTest {
+    private static final BuildLogger LOGGER = new Slf4jBuildLogger(LoggerFactory.getLogger(ConcurrentDMNInterpreterTest.class));
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 10;
+
+    private final DMNDialectDefinition dialectDefinition = new StandardDMNDialectDefinition();
+    private final DMNReader reader = new DMNReader(LOGGER, false);
+    private final TestCasesReader testCasesReader = new TestCasesReader(LOGGER);
+
+    @Test
+    public void testConcurrentEvaluation() throws Exception {
+        doTestDiagram("0004-lending", "-test-01");
+        doTestDiagram("0013-sort", "-test-01");
+        doTestDiagram("0017-tableTests", "-test-01");
+        doTestDiagram("0020-vacation-days", "-test-01");
+        doTestDiagram("0034-drg-scopes", "-test-01");
+    }
+
+    @Test
+    public void testParallelDecisions() throws Exception {
+        doTestParallelDecisions("0004-lending", "-test-01");
+        doTestParallelDecisions("0020-vacation-days", "-test-01");
+        doTestParallelDecisions("0034-drg-scopes", "-test-01");
+    }
+
+    @Test
+    public void testBatchEvaluation() throws Exception {
+        doTestBatchEvaluation("0004-lending", "-test-01");
+        doTestBatchEvaluation("0020-vacation-days", "-test-01");
+    }
+
+    private void doTestDiagram(String dmnFileName, String testSuffix) throws Exception {
+        // Evaluate sequentially
+        Pair<DMNModelRepository, TestCases> pair = readDiagram(dmnFileName, testSuffix);
+        DMNInterpreter interpreter = dialectDefinition.createDMNInterpreter(pair.getLeft());
+        List<Evaluation> evaluations = makeEvaluations(pair.getRight(), interpreter);
+
+        // Evaluate concurrently with the same interpreter
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                Random random = new Random(i);
+                futures.add(executor.submit(() -> {
+                    for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+                        List<Evaluation> shuffled = new ArrayList<>(evaluations);
+                        Collections.shuffle(shuffled, random);
+                        for (Evaluation evaluation : shuffled) {
+                            Result actual = evaluation.evaluate(interpreter);
+                            String message = String.format("Unexpected result for '%s' in '%s'", evaluation.decisionName, dmnFileName);
+                            Assert.assertEquals(message, evaluation.expected.output, actual.output);
+                            assertEquals(message, evaluation.expected.events, actual.events);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Independent sub-decisions evaluated on an executor must give the same results as a sequential evaluation
+    private void doTestParallelDecisions(String dmnFileName, String testSuffix) throws Exception {
+        Pair<DMNModelRepository, TestCases> pair = readDiagram(dmnFileName, testSuffix);
+        DMNInterpreter interpreter = dialectDefinition.createDMNInterpreter(pair.getLeft());
+        List<Evaluation> evaluations = makeEvaluations(pair.getRight(), interpreter);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            DMNInterpreter parallelInterpreter = new DMNInterpreter(interpreter.getBasicDMNTransformer(), interpreter.getFeelLib(), new NopEventListener(), executor);
+            for (Evaluation evaluation : evaluations) {
+                TCKUtil tckUtil = new TCKUtil(parallelInterpreter.getBasicDMNTransformer(), (StandardFEELLib) parallelInterpreter.getFeelLib());
+                CountingEventListener listener = new CountingEventListener();
+                Object actual = parallelInterpreter.evaluate(evaluation.decisionName, tckUtil.makeEnvironment(evaluation.testCase), listener);
+                String message = String.format("Unexpected result for '%s' in '%s'", evaluation.decisionName, dmnFileName);
+                Assert.assertEquals(message, evaluation.expected.output, actual);
+                // Sub-decisions shared by parallel branches are evaluated once
+                assertEquals(message, evaluation.expected.events, listener.events.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // A batch of environments must give the same results, in the same order, as evaluating them one by one
+    private void doTestBatchEvaluation(String dmnFileName, String testSuffix) throws Exception {
+        Pair<DMNModelRepository, TestCases> pair = readDiagram(dmnFileName, testSuffix);
+        DMNInterpreter interpreter = dialectDefinition.createDMNInterpreter(pair.getLeft());
+        List<Evaluation> evaluations = makeEvaluations(pair.getRight(), interpreter);
+
+        TCKUtil tckUtil = new TCKUtil(interpreter.getBasicDMNTransformer(), (StandardFEELLib) interpreter.getFeelLib());
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Evaluation evaluation : evaluations) {
+                List<RuntimeEnvironment> environments = new ArrayList<>();
+                for (int i = 0; i < ITERATIONS * THREADS; i++) {
+                    environments.add(tckUtil.makeEnvironment(evaluation.testCase));
+                }
+                List<Object> actual = interpreter.evaluate(evaluation.decisionName, environments, new NopEventListener(), executor);
+                assertEquals(environments.size(), actual.size());
+                for (Object output : actual) {
+                    String message = String.format("Unexpected result for '%s' in '%s'", evaluation.decisionName, dmnFileName);
+                    Assert.assertEquals(message, evaluation.expected.output, output);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Pair<DMNModelRepository, TestCases> readDiagram(String dmnFileName, String testSuffix) {
+        // Read and transform DMN file and test cases
+        URL dmnFileURL = getClass().getClassLoader().getResource("tck/cl3/" + dmnFileName + DMNConstants.DMN_FILE_EXTENSION);
+        DMNTransformer<TestCases> dmnTransformer = new ToSimpleNameTransformer(LOGGER);
+        DMNModelRepository repository = dmnTransformer.transform(reader.read(dmnFileURL));
+        URL testURL = getClass().getClassLoader().getResource("tck/cl3/standard/" + dmnFileName + testSuffix + TestCasesReader.TEST_FILE_EXTENSION);
+        return dmnTransformer.transform(repository, testCasesReader.read(testURL));
+    }
+
+    private List<Evaluation> makeEvaluations(TestCases testCases, DMNInterpreter interpreter) {
+        List<Evaluation> evaluations = new ArrayList<>();
+        for (TestCase testCase : testCases.getTestCase()) {
+            for (ResultNode resultNode : testCase.getResultNode()) {
+                Evaluation evaluation = new Evaluation(testCase, resultNode.getName());
+                evaluation.expected = evaluation.evaluate(interpreter);
+                evaluations.add(evaluation);
+            }
+        }
+        return evaluations;
+    }
+
+    private static class Evaluation {
+        private final TestCase testCase;
+        private final String decisionName;
+        private Result expected;
+
+        private Evaluation(TestCase testCase, String decisionName) {
+            this.testCase = testCase;
+            this.decisionName = decisionName;
+        }
+
+        private Result evaluate(DMNInterpreter interpreter) {
+            TCKUtil tckUtil = new TCKUtil(interpreter.getBasicDMNTransformer(), (StandardFEELLib) interpreter.getFeelLib());
+            RuntimeEnvironment runtimeEnvironment = tckUtil.makeEnvironment(testCase);
+            CountingEventListener listener = new CountingEventListener();
+            Object output = interpreter.evaluate(decisionName, runtimeEnvironment, listener);
+            return new Result(output, listener.events.get());
+        }
+    }
+
+    private static class Result {
+        private final Object output;
+        private final int events;
+
+        private Result(Object output, int events) {
+            this.output = output;
+            this.events = events;
+        }
+    }
+
+    private static class CountingEventListener implements EventListener {
+        private final AtomicInteger events = new AtomicInteger();
+
+        @Override
+        public void startDRGElement(DRGElement element, Arguments arguments) {
+            events.incrementAndGet();
+        }
+
+        @Override
+        public void endDRGElement(DRGElement element, Arguments arguments, Object output, long duration) {
+            events.incrementAndGet();
+        }
+
+        @Override
+        public void startRule(DRGElement element, Rule rule) {
+            events.incrementAndGet();
+        }
+
+        @Override
+        public void matchRule(DRGElement element, Rule rule) {
+            events.incrementAndGet();
+        }
+
+        @Override
+        public void endRule(DRGElement element, Rule rule, Object result) {
+            events.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.runtime.interpreter;
+
+import com.gs.dmn.DMNModelRepository;
+import com.gs.dmn.dialect.DMNDialectDefinition;
+import com.gs.dmn.dialect.StandardDMNDialectDefinition;
+import com.gs.dmn.feel.lib.StandardFEELLib;
+import com.gs.dmn.log.BuildLogger;
+import com.gs.dmn.log.Slf4jBuildLogger;
+import com.gs.dmn.runtime.Pair;
+import com.gs.dmn.runtime.listener.DRGElementMetrics;
+import com.gs.dmn.runtime.listener.MetricsEventListener;
+import com.gs.dmn.serialization.DMNConstants;
+import com.gs.dmn.serialization.DMNReader;
+import com.gs.dmn.tck.TCKUtil;
+import com.gs.dmn.tck.TestCasesReader;
+import com.gs.dmn.transformation.DMNTransformer;
+import com.gs.dmn.transformation.ToSimpleNameTransformer;
+import org.junit.Test;
+import org.omg.dmn.tck.marshaller._20160719.TestCases;
+import org.omg.dmn.tck.marshaller._20160719.TestCases.TestCase;
+import org.slf4j.LoggerFactory;
+
+import java.net.URL;
+
+import static org.junit.Assert.assertEquals;
+
+// Elements with the same name in different models are recorded separately
+public class MetricsDMNInterpreterTest {
+    private static final BuildLogger LOGGER = new Slf4jBuildLogger(LoggerFactory.getLogger(MetricsDMNInterpreterTest.class));
+
+    private final DMNDialectDefinition dialectDefinition = new StandardDMNDialectDefinition();
+    private final DMNReader reader = new DMNReader(LOGGER, false);
+    private final TestCasesReader testCasesReader = new TestCasesReader(LOGGER);
+
+    @Test
+    public void testMetricsOfTwoModels() {
+        Pair<DMNModelRepository, TestCases> pair1 = readDiagram("0020-vacation-days", "-test-01");
+        Pair<DMNModelRepository, TestCases> pair2 = readDiagram("0020-vacation-days", "-test-01");
+        String namespace1 = pair1.getLeft().getDefinitions().getNamespace();
+        String namespace2 = namespace1 + "/other";
+        pair2.getLeft().getDefinitions().setNamespace(namespace2);
+
+        String decisionName = pair1.getRight().getTestCase().get(0).getResultNode().get(0).getName();
+        MetricsEventListener listener = new MetricsEventListener();
+        evaluate(pair1, listener, 1);
+        evaluate(pair2, listener, 2);
+
+        DRGElementMetrics metrics1 = listener.snapshot(namespace1 + "." + decisionName);
+        DRGElementMetrics metrics2 = listener.snapshot(namespace2 + "." + decisionName);
+        assertEquals(namespace1, metrics1.getNamespace());
+        assertEquals(1, metrics1.getInvocationCount());
+        assertEquals(namespace2, metrics2.getNamespace());
+        assertEquals(2, metrics2.getInvocationCount());
+        assertEquals(Long.valueOf(2), listener.getInvocationCounts().get(namespace2 + "." + decisionName));
+    }
+
+    private void evaluate(Pair<DMNModelRepository, TestCases> pair, MetricsEventListener listener, int count) {
+        DMNInterpreter interpreter = dialectDefinition.createDMNInterpreter(pair.getLeft());
+        TCKUtil tckUtil = new TCKUtil(interpreter.getBasicDMNTransformer(), (StandardFEELLib) interpreter.getFeelLib());
+        TestCase testCase = pair.getRight().getTestCase().get(0);
+        for (int i = 0; i < count; i++) {
+            interpreter.evaluate(testCase.getResultNode().get(0).getName(), tckUtil.makeEnvironment(testCase), listener);
+        }
+    }
+
+    private Pair<DMNModelRepository, TestCases> readDiagram(String dmnFileName, String testSuffix) {
+        // Read and transform DMN file and test cases
+        URL dmnFileURL = getClass().getClassLoader().getResource("tck/cl3/" + dmnFileName + DMNConstants.DMN_FILE_EXTENSION);
+        DMNTransformer<TestCases> dmnTransformer = new ToSimpleNameTransformer(LOGGER);
+        DMNModelRepository repository = dmnTransformer.transform(reader.read(dmnFileURL));
+        URL testURL = getClass().getClassLoader().getResource("tck/cl3/standard/" + dmnFileName + testSuffix + TestCasesReader.TEST_FILE_EXTENSION);
+        return dmnTransformer.transform(repository, testCasesReader.read(testURL));
+    }
+}
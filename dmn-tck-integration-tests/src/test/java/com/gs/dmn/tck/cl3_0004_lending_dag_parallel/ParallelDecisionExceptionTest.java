@@ -0,0 +1,51 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.tck.cl3_0004_lending_dag_parallel;
+
+import com.gs.dmn.runtime.DMNRuntimeException;
+import com.gs.dmn.runtime.annotation.AnnotationSet;
+import com.gs.dmn.runtime.external.ExternalFunctionExecutor;
+import com.gs.dmn.runtime.listener.EventListener;
+import com.gs.dmn.tck.cl3_0004_lending_dag_parallel.type.TApplicantData;
+import com.gs.dmn.tck.cl3_0004_lending_dag_parallel.type.TBureauData;
+import com.gs.dmn.tck.cl3_0004_lending_dag_parallel.type.TRequestedProduct;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ParallelDecisionExceptionTest {
+    @Test
+    public void testChildExceptionIsNotWrapped() {
+        DMNRuntimeException exception = new DMNRuntimeException("Cannot evaluate 'RequiredMonthlyInstallment'");
+        RequiredMonthlyInstallment failingChild = new RequiredMonthlyInstallment() {
+            @Override
+            protected BigDecimal evaluate(TRequestedProduct requestedProduct, AnnotationSet annotationSet_, EventListener eventListener_, ExternalFunctionExecutor externalExecutor_) {
+                throw exception;
+            }
+        };
+        AtomicReference<Throwable> caught = new AtomicReference<>();
+        Routing routing = new Routing(new PostBureauAffordability(), new PostBureauRiskCategory(), new ApplicationRiskScore(), failingChild) {
+            @Override
+            public void logError(String message, Throwable e) {
+                caught.compareAndSet(null, e);
+            }
+        };
+
+        assertNull(routing.apply((TApplicantData) null, (TBureauData) null, (TRequestedProduct) null, new AnnotationSet()));
+        assertSame(exception, caught.get());
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright 2016 Goldman Sachs.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package com.gs.dmn.tck.cl3_0020_vacation_days_event_listener_guard;
+
+import com.gs.dmn.runtime.annotation.AnnotationSet;
+import com.gs.dmn.runtime.cache.DefaultCache;
+import com.gs.dmn.runtime.external.DefaultExternalFunctionExecutor;
+import com.gs.dmn.runtime.listener.Arguments;
+import com.gs.dmn.runtime.listener.DRGElement;
+import com.gs.dmn.runtime.listener.NopEventListener;
+import com.gs.dmn.runtime.listener.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class EventListenerGuardTest {
+    private final TotalVacationDays decision = new TotalVacationDays();
+
+    @Test
+    public void testNopEventListenerSubclassReceivesEvents() {
+        RecordingEventListener listener = new RecordingEventListener();
+        decision.apply("16", "1", new AnnotationSet(), listener, new DefaultExternalFunctionExecutor(), new DefaultCache());
+
+        assertTrue(listener.elements.contains("'Total Vacation Days'"));
+        assertTrue(listener.matchedRules > 0);
+        for (Arguments arguments : listener.arguments) {
+            assertNotNull(arguments);
+        }
+    }
+
+    private static class RecordingEventListener extends NopEventListener {
+        private final List<String> elements = new ArrayList<>();
+        private final List<Arguments> arguments = new ArrayList<>();
+        private int matchedRules;
+
+        @Override
+        public void startDRGElement(DRGElement element, Arguments arguments) {
+            this.elements.add(element.getName());
+            this.arguments.add(arguments);
+        }
+
+        @Override
+        public void matchRule(DRGElement element, Rule rule) {
+            matchedRules++;
+        }
+    }
+}